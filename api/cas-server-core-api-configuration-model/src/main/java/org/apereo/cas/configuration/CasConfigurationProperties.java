@@ -17,6 +17,7 @@ import org.apereo.cas.configuration.model.core.services.ServiceRegistryPropertie
 import org.apereo.cas.configuration.model.core.slo.SloProperties;
 import org.apereo.cas.configuration.model.core.sso.SsoProperties;
 import org.apereo.cas.configuration.model.core.standalone.StandaloneConfigurationProperties;
+import org.apereo.cas.configuration.model.core.startup.StartupProperties;
 import org.apereo.cas.configuration.model.core.util.TicketProperties;
 import org.apereo.cas.configuration.model.core.web.MessageBundleProperties;
 import org.apereo.cas.configuration.model.core.web.security.HttpRequestProperties;
@@ -33,6 +34,7 @@ import org.apereo.cas.configuration.model.support.geo.googlemaps.GoogleMapsPrope
 import org.apereo.cas.configuration.model.support.geo.maxmind.MaxmindProperties;
 import org.apereo.cas.configuration.model.support.interrupt.InterruptProperties;
 import org.apereo.cas.configuration.model.support.jpa.DatabaseProperties;
+import org.apereo.cas.configuration.model.support.quartz.SchedulerProperties;
 import org.apereo.cas.configuration.model.support.saml.SamlCoreProperties;
 import org.apereo.cas.configuration.model.support.saml.googleapps.GoogleAppsProperties;
 import org.apereo.cas.configuration.model.support.saml.mdui.SamlMetadataUIProperties;
@@ -126,6 +128,18 @@ public class CasConfigurationProperties implements Serializable {
     @NestedConfigurationProperty
     private HostProperties host = new HostProperties();
 
+    /**
+     * Startup profiling and lazy initialization of optional modules.
+     */
+    @NestedConfigurationProperty
+    private StartupProperties startup = new StartupProperties();
+
+    /**
+     * Coordination of background maintenance jobs.
+     */
+    @NestedConfigurationProperty
+    private SchedulerProperties scheduler = new SchedulerProperties();
+
     /**
      * Logout functionality.
      */
@@ -3,6 +3,8 @@ package org.apereo.cas.configuration.model.core.authentication;
 import org.apereo.cas.configuration.support.RequiresModule;
 import org.springframework.core.io.Resource;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -34,6 +36,29 @@ public class HttpClientProperties implements Serializable {
      */
     private String asyncTimeout = "PT5S";
 
+    /**
+     * Maximum number of connections pooled by the http client across all destinations.
+     */
+    private int maxPooledConnections = 100;
+
+    /**
+     * Maximum number of pooled connections to a single destination, i.e. route,
+     * unless overridden for the destination by {@link #routes}.
+     */
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * Connection limits and timeouts for individual destinations.
+     * Limiting the connections of slow or unreliable endpoints prevents them from exhausting the pool
+     * that is shared by all other destinations.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * Suspend requests to destination hosts that keep failing.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
     /**
      * Enable hostname verification when attempting to contact URL endpoints.
      * May also be set to {@code none} to disable verification.
@@ -62,6 +87,55 @@ public class HttpClientProperties implements Serializable {
      */
     private boolean authorityValidationRegExCaseSensitive = true;
 
+    @Getter
+    @Setter
+    public static class Route implements Serializable {
+
+        private static final long serialVersionUID = 5346419384713726085L;
+
+        /**
+         * Url of the destination, whose scheme, host and port identify the route,
+         * i.e. {@code https://app.example.org:8443}.
+         */
+        private String url;
+
+        /**
+         * Maximum number of pooled connections to the destination.
+         * Zero or less falls back to {@code maxConnectionsPerRoute}.
+         */
+        private int maxConnections;
+
+        /**
+         * Connection timeout for the destination.
+         * Blank falls back to the connection timeout of the http client.
+         */
+        private String connectionTimeout;
+
+        /**
+         * Read timeout for the destination.
+         * Blank falls back to the read timeout of the http client.
+         */
+        private String readTimeout;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker implements Serializable {
+
+        private static final long serialVersionUID = -4729167120434187630L;
+
+        /**
+         * Number of consecutive failed requests, i.e. connection errors, timeouts and server errors,
+         * after which requests to the host are suspended. Zero or less turns off circuit breaking.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * How long requests to a failing host are suspended before a single trial request is let through.
+         */
+        private String openDuration = "PT30S";
+    }
+
     @Getter
     @Setter
     public static class Truststore implements Serializable {
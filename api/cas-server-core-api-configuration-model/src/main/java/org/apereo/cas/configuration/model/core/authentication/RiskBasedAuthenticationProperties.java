@@ -47,6 +47,12 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private Response response = new Response();
 
+    /**
+     * Keep aggregated per-principal risk profiles, instead of examining
+     * the authentication history on every authentication attempt.
+     */
+    private Profile profile = new Profile();
+
     /**
      * The risk threshold factor beyond which the authentication
      * event may be considered risky.
@@ -117,6 +123,36 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         private int windowInHours = 2;
     }
 
+    @Getter
+    @Setter
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = -1825283627491857532L;
+
+        /**
+         * Calculate risk scores from aggregated per-principal profiles that are built once
+         * from the authentication history and then updated as authentication events are recorded.
+         */
+        private boolean enabled;
+
+        /**
+         * Authentication events lose half of their weight in a profile after this period,
+         * so that recent behavior counts more than older activity.
+         */
+        private String halfLife = "P15D";
+
+        /**
+         * Maximum number of principal profiles kept in memory.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Profiles are rebuilt from the authentication history after this period,
+         * picking up events that may have been recorded by other nodes in a cluster.
+         */
+        private String expireAfterWrite = "PT1H";
+    }
+
     @Getter
     @Setter
     public static class Response implements Serializable {
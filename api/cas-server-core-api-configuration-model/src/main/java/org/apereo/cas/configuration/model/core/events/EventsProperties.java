@@ -49,6 +49,41 @@ public class EventsProperties implements Serializable {
      * Track authentication events inside a mongodb instance.
      */
     private MongoDb mongo = new MongoDb();
+
+    /**
+     * Queue authentication events and save them in batches in the background.
+     */
+    private WriteBehind writeBehind = new WriteBehind();
+
+    @RequiresModule(name = "cas-server-core-events", automated = true)
+    @Getter
+    @Setter
+    public static class WriteBehind implements Serializable {
+
+        private static final long serialVersionUID = 2291866470843436513L;
+
+        /**
+         * Whether events should be queued and saved into the events repository in the background,
+         * rather than as part of the request that produced them.
+         */
+        private boolean enabled;
+
+        /**
+         * Maximum number of events that may be queued before the overflow policy applies.
+         */
+        private int queueCapacity = 10_000;
+
+        /**
+         * Maximum number of queued events to save in a single batch.
+         */
+        private int batchSize = 100;
+
+        /**
+         * Whether events should be dropped once the queue is full.
+         * Otherwise, events are saved directly as part of the request that produced them.
+         */
+        private boolean dropOnOverflow;
+    }
     
     @RequiresModule(name = "cas-server-support-events-jpa")
     @Getter
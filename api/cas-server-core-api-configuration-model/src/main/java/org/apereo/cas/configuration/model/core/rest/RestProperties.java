@@ -31,4 +31,9 @@ public class RestProperties implements Serializable {
      */
     private String attributeValue;
 
+    /**
+     * Maximum number of service tickets that may be issued or validated
+     * by a single call to the batch ticket endpoints.
+     */
+    private int maximumBatchSize = 100;
 }
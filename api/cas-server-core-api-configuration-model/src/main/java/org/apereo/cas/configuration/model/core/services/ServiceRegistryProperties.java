@@ -161,4 +161,18 @@ public class ServiceRegistryProperties implements Serializable {
      * </ul>
      */
     private ServiceManagementTypes managementType = ServiceManagementTypes.DEFAULT;
+
+    /**
+     * Duration for which positive service access decisions are remembered
+     * for the same registered service, principal and evaluated attributes, before the service
+     * access strategy is evaluated again. Only applies to access strategies whose
+     * decisions solely depend on principal attributes. A zero duration, which is the default,
+     * disables the cache.
+     */
+    private String accessDecisionCacheExpiration = "PT0S";
+
+    /**
+     * Maximum number of service access decisions to remember.
+     */
+    private long accessDecisionCacheMaximumSize = 10_000;
 }
@@ -0,0 +1,86 @@
+package org.apereo.cas.configuration.model.core.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link StartupProperties} that controls how the CAS
+ * application context is initialized and profiled at startup.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-webapp-config", automated = true)
+@Getter
+@Setter
+public class StartupProperties implements Serializable {
+
+    private static final long serialVersionUID = -2410932893124386217L;
+
+    /**
+     * Record how long each bean and configuration class takes to initialize.
+     */
+    private Timing timing = new Timing();
+
+    /**
+     * Defer the initialization of beans that are only used by optional modules.
+     */
+    private LazyInitialization lazyInitialization = new LazyInitialization();
+
+    @RequiresModule(name = "cas-server-webapp-config", automated = true)
+    @Getter
+    @Setter
+    public static class Timing implements Serializable {
+
+        private static final long serialVersionUID = 4781236549823710341L;
+
+        /**
+         * Whether startup timing should be recorded. The report is logged
+         * once the application context is refreshed, and is available via the {@code startup-report} endpoint.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of configuration classes and beans that are listed in the logged summary,
+         * slowest first.
+         */
+        private int summarySize = 20;
+    }
+
+    @RequiresModule(name = "cas-server-webapp-config", automated = true)
+    @Getter
+    @Setter
+    public static class LazyInitialization implements Serializable {
+
+        private static final long serialVersionUID = -8832217624532127043L;
+
+        /**
+         * Whether beans of the matching configuration classes should be initialized
+         * on first use rather than at startup.
+         */
+        private boolean enabled;
+
+        /**
+         * Regular expression patterns matched against the names of configuration classes
+         * whose beans may be initialized lazily. Beans of all other configuration classes remain eager.
+         */
+        private List<String> configurationClasses = Stream.of(
+            "org\\.apereo\\.cas\\.config\\.(SamlIdP|SamlMetadataUI|CasSamlSP).+",
+            "org\\.apereo\\.cas\\.config\\.(Pac4j|DelegatedAuthentication).+",
+            "org\\.apereo\\.cas\\.config\\.(DuoSecurity|GoogleAuthenticator|Authy|YubiKey|JpaYubiKey|MongoDbYubiKey|U2F|Swivel|Radius).+")
+            .collect(Collectors.toList());
+
+        /**
+         * Regular expression patterns matched against bean names that must always be initialized at startup,
+         * such as beans that schedule background jobs or register themselves elsewhere when created.
+         */
+        private List<String> eagerBeans = Stream.of(".*[Ss]cheduler.*", ".*[Cc]leaner.*", ".*WebflowConfigurer")
+            .collect(Collectors.toList());
+    }
+}
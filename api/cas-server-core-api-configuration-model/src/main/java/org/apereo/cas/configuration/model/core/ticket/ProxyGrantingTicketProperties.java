@@ -22,4 +22,17 @@ public class ProxyGrantingTicketProperties implements Serializable {
      * Maximum length of the proxy granting ticket, when generating one.
      */
     private int maxLength = 50;
+
+    /**
+     * How long proxy callback urls that are verified are remembered,
+     * so that repeated proxy requests skip contacting the callback url just to verify it.
+     * Zero turns off the cache.
+     */
+    private String callbackCacheExpiration = "PT5M";
+
+    /**
+     * Number of threads that deliver proxy-granting tickets to callback urls in the background,
+     * for services that are tagged to allow asynchronous delivery. Zero turns off asynchronous delivery.
+     */
+    private int asyncCallbackPoolSize = 10;
 }
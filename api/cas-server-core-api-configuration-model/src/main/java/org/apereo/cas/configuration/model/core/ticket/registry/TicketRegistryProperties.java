@@ -18,6 +18,9 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -119,6 +122,16 @@ public class TicketRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private ScheduledJobProperties cleaner = new ScheduledJobProperties("PT10S", "PT1M");
 
+    /**
+     * Settings for the near-cache that may be placed in front of remote ticket registries.
+     */
+    private NearCache nearCache = new NearCache();
+
+    /**
+     * Settings that control how the usage state of multi-use tickets is written into the ticket registry.
+     */
+    private UsageTracking usageTracking = new UsageTracking();
+
     @RequiresModule(name = "cas-server-core-tickets", automated = true)
     @Getter
     @Setter
@@ -161,4 +174,70 @@ public class TicketRegistryProperties implements Serializable {
             crypto.setEnabled(false);
         }
     }
+
+    @RequiresModule(name = "cas-server-core-tickets", automated = true)
+    @Getter
+    @Setter
+    public static class NearCache implements Serializable {
+
+        private static final long serialVersionUID = 2870346472947123596L;
+
+        /**
+         * Whether tickets read from a remote ticket registry should be kept in a local
+         * cache for a short period of time, to avoid repeated round trips to the registry
+         * when the same ticket is read several times in the same flow. Tickets that are changed
+         * on one node are evicted from the cache of other nodes via the cloud bus, if one is available.
+         * Otherwise, the time-to-live setting is the upper bound for how stale a cached ticket may be.
+         */
+        private boolean enabled;
+
+        /**
+         * Length of time tickets are kept in the cache after they are read or written.
+         */
+        private String timeToLive = "PT5S";
+
+        /**
+         * Maximum number of tickets kept in the cache.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Prefixes of ticket types that should be kept in the cache,
+         * such as {@code TGT}, {@code ST} or {@code PGT}.
+         */
+        private List<String> ticketTypes = Stream.of("TGT").collect(Collectors.toList());
+    }
+
+    @RequiresModule(name = "cas-server-core-tickets", automated = true)
+    @Getter
+    @Setter
+    public static class UsageTracking implements Serializable {
+
+        private static final long serialVersionUID = -3514392375069420458L;
+
+        /**
+         * Whether usage counts and last-used timestamps of tickets such as access tokens
+         * should be kept in memory and written into the ticket registry in batches,
+         * rather than writing the entire ticket back into the registry every time it is used.
+         */
+        private boolean deferred;
+
+        /**
+         * Maximum length of time usage state may be kept in memory before it is written into the registry.
+         * Tickets whose idle time-out is not longer than this period are always written immediately.
+         */
+        private String maximumStaleness = "PT5S";
+
+        /**
+         * Tickets that may only be used a limited number of times are written immediately
+         * once the number of uses they have left drops to this threshold.
+         */
+        private int remainingUsesThreshold = 1;
+
+        /**
+         * Maximum number of tickets whose usage state may be pending at any given time.
+         * Once exceeded, usage state is written immediately.
+         */
+        private int maximumPendingTickets = 10_000;
+    }
 }
@@ -40,6 +40,15 @@ public class HttpRequestProperties implements Serializable {
      */
     private String paramsToCheck = "ticket,service,renew,gateway,warn,method,target,SAMLart," + "pgtUrl,pgt,pgtId,pgtIou,targetService,entityId,token";
 
+    /**
+     * Whether lookups of tickets and registered services should be memoized
+     * for the duration of each request, so that repeated lookups of the same
+     * ticket or service in one request only reach the backend once.
+     * Tickets written directly to the ticket registry, bypassing the central authentication service,
+     * may be observed stale later on in the same request.
+     */
+    private boolean requestScopedLookups;
+
     /**
      * Custom response headers to inject into the response as needed.
      */
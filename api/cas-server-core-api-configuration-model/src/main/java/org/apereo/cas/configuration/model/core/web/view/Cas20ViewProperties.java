@@ -35,6 +35,13 @@ public class Cas20ViewProperties implements Serializable {
      */
     private boolean v3ForwardCompatible;
 
+    /**
+     * Whether validation responses should be written directly to the response stream,
+     * rather than being rendered via the success and failure view templates.
+     * When enabled, customizations made to the view templates are ignored.
+     */
+    private boolean streamResponse;
+
     /**
      * Proxy views and settings.
      */
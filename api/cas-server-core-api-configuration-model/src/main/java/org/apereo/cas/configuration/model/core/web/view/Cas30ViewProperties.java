@@ -52,4 +52,11 @@ public class Cas30ViewProperties implements Serializable {
      */
     private ValidationAttributesRendererTypes attributeRendererType = ValidationAttributesRendererTypes.DEFAULT;
 
+    /**
+     * Whether XML and JSON validation responses should be written directly to the response stream,
+     * rather than being rendered via the success and failure view templates or the JSON view model.
+     * When enabled, customizations made to the view templates are ignored.
+     */
+    private boolean streamResponse;
+
 }
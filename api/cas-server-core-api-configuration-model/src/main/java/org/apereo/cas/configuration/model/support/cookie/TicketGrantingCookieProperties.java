@@ -30,6 +30,18 @@ public class TicketGrantingCookieProperties extends CookieProperties {
     @NestedConfigurationProperty
     private EncryptionJwtSigningJwtCryptographyProperties crypto = new EncryptionJwtSigningJwtCryptographyProperties();
 
+    /**
+     * Time to keep cookie values that are successfully verified and decrypted,
+     * so that the same cookie presented with subsequent requests is not verified and decrypted again.
+     * A value of zero disables this behavior.
+     */
+    private String decodedValueCacheTimeToLive = "PT5M";
+
+    /**
+     * Maximum number of verified and decrypted cookie values to keep.
+     */
+    private long decodedValueCacheMaximumSize = 10_000;
+
     public TicketGrantingCookieProperties() {
         super.setName("TGC");
     }
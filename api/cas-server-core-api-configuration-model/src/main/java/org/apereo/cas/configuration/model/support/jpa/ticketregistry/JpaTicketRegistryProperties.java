@@ -39,6 +39,12 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
      */
     private String jpaLockingTimeout = DEFAULT_LOCK_TIMEOUT;
 
+    /**
+     * Maximum number of expired tickets that are removed by the cleaner
+     * in a single delete statement.
+     */
+    private int cleanupBatchSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.model.core.util.EncryptionJwtSigningJwtCrypt
 import org.apereo.cas.configuration.model.support.jpa.AbstractJpaProperties;
 import org.apereo.cas.configuration.model.support.mongo.SingleCollectionMongoDbProperties;
 import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.model.support.redis.BaseRedisProperties;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 import org.apereo.cas.configuration.support.SpringResourceProperties;
@@ -73,6 +74,11 @@ public class GAuthMultifactorProperties extends BaseMultifactorProviderPropertie
      */
     private Jpa jpa = new Jpa();
 
+    /**
+     * Keep tokens that are used to prevent replay attacks inside Redis.
+     */
+    private Redis redis = new Redis();
+
     /**
      * Store google authenticator devices inside a json file.
      */
@@ -140,4 +146,11 @@ public class GAuthMultifactorProperties extends BaseMultifactorProviderPropertie
     public static class Jpa extends AbstractJpaProperties {
         private static final long serialVersionUID = -2689797889546802618L;
     }
+
+    @RequiresModule(name = "cas-server-support-gauth-redis")
+    @Getter
+    @Setter
+    public static class Redis extends BaseRedisProperties {
+        private static final long serialVersionUID = -1260168413562781045L;
+    }
 }
@@ -54,6 +54,15 @@ public class TrustedDevicesMultifactorProperties implements Serializable {
      */
     private TimeUnit timeUnit = TimeUnit.DAYS;
 
+    /**
+     * Indicates how long positive trust decisions for a principal and device are cached locally,
+     * so that repeated logins from a trusted device skip the lookup against the storage backend.
+     * Records that are expired or removed through this CAS server are evicted from the cache right away;
+     * records removed elsewhere may continue to be trusted until the cached decision expires.
+     * A zero value turns off the cache.
+     */
+    private String cacheExpiration = "PT1M";
+
     /**
      * Store devices records via REST.
      */
@@ -1,9 +1,11 @@
 package org.apereo.cas.configuration.model.support.oauth;
 
+import org.apereo.cas.configuration.model.core.util.EncryptionJwtSigningJwtCryptographyProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import java.io.Serializable;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * This is {@link OAuthAccessTokenProperties}.
@@ -35,4 +37,41 @@ public class OAuthAccessTokenProperties implements Serializable {
      * should be released as part of this access token's validation.
      */
     private boolean releaseProtocolAttributes = true;
+
+    /**
+     * Settings that allow access tokens to be issued as signed JWTs,
+     * which may be validated without consulting the ticket registry.
+     */
+    private Jwt jwt = new Jwt();
+
+    @Getter
+    @Setter
+    public static class Jwt implements Serializable {
+
+        private static final long serialVersionUID = 5237961442085637814L;
+
+        /**
+         * Whether access tokens should be issued as signed JWTs.
+         * The access token is still tracked in the ticket registry so it can be refreshed and revoked,
+         * yet user profile and introspection requests that present the JWT are validated
+         * locally by verifying its signature and expiration.
+         */
+        private boolean enabled;
+
+        /**
+         * Whether JWT access tokens should be checked against the ticket registry
+         * to reject tokens that are revoked, or removed via logout, before they expire.
+         * Doing so costs a registry read, but no longer a registry write, for each validation.
+         */
+        private boolean revocationCheckEnabled;
+
+        /**
+         * Crypto settings that sign/encrypt access token JWTs.
+         * Tokens are always signed, and only encrypted if an encryption key is defined.
+         * Resource servers that validate tokens on their own need to be able to verify
+         * the signature; when OpenID Connect is turned on, tokens are signed with its keystore instead.
+         */
+        @NestedConfigurationProperty
+        private EncryptionJwtSigningJwtCryptographyProperties crypto = new EncryptionJwtSigningJwtCryptographyProperties();
+    }
 }
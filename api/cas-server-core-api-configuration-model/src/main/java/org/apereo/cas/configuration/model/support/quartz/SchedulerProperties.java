@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.support.quartz;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link SchedulerProperties} that controls how background
+ * maintenance jobs are coordinated across the nodes of a CAS cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiresModule(name = "cas-server-core-util", automated = true)
+@Getter
+@Setter
+public class SchedulerProperties implements Serializable {
+
+    private static final long serialVersionUID = 6349278913741254893L;
+
+    /**
+     * Maximum random delay applied to each job execution,
+     * so that nodes do not hit shared backends at the same instant.
+     */
+    private String maximumJitter = "PT0S";
+
+    /**
+     * Amount of time a node may hold the lock of a coordinated job.
+     * The lock is released once the job completes, and expires on its own
+     * if the node fails while holding it.
+     */
+    private String lockTimeout = "PT5M";
+
+    /**
+     * Number of shards that coordinated jobs capable of splitting their work are divided into.
+     * Typically matches the number of nodes in the cluster, each of which is assigned a distinct index.
+     * A value of 1 disables sharding, in which case such jobs run on one node at a time.
+     */
+    private int shardCount = 1;
+
+    /**
+     * The zero-based shard index assigned to this node.
+     */
+    private int shardIndex;
+}
@@ -35,4 +35,12 @@ public class SchedulingProperties implements Serializable {
      * This is the timeout between consecutive job’s executions.
      */
     private String repeatInterval = "PT2M";
+
+    /**
+     * Whether the job should run on only one node of the cluster at a time.
+     * This is only appropriate for jobs that operate on a store shared by all nodes,
+     * and requires a locking strategy that is able to coordinate nodes,
+     * such as one provided by the ticket registry. Otherwise, the job runs on every node.
+     */
+    private boolean coordinated;
 }
@@ -0,0 +1,34 @@
+package org.apereo.cas.configuration.model.support.services;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apereo.cas.configuration.support.SpringResourceProperties;
+
+/**
+ * This is {@link ResourceBasedServiceRegistryProperties}, capturing settings
+ * common to service registries that load definitions from files in a directory.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@Setter
+public class ResourceBasedServiceRegistryProperties extends SpringResourceProperties {
+
+    private static final long serialVersionUID = -5683412846213795013L;
+
+    /**
+     * Number of threads used to parse service definition files in parallel.
+     * Definition files that are unchanged since they were last parsed are not parsed again.
+     * A value of 1 or lower parses files one at a time.
+     */
+    private int loadThreads = 4;
+
+    /**
+     * Location of a file where a binary snapshot of all parsed service definitions is kept.
+     * If one exists upon startup, services are loaded from the snapshot, and the service definition
+     * files are checked against the snapshot in the background.
+     * Leave blank to disable snapshots.
+     */
+    private String snapshotLocation;
+}
@@ -1,7 +1,7 @@
 package org.apereo.cas.configuration.model.support.services.yaml;
 
 import org.apereo.cas.configuration.support.RequiresModule;
-import org.apereo.cas.configuration.support.SpringResourceProperties;
+import org.apereo.cas.configuration.model.support.services.ResourceBasedServiceRegistryProperties;
 import org.springframework.core.io.ClassPathResource;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +16,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-public class YamlServiceRegistryProperties extends SpringResourceProperties {
+public class YamlServiceRegistryProperties extends ResourceBasedServiceRegistryProperties {
 
     private static final long serialVersionUID = 4863603996990314548L;
 
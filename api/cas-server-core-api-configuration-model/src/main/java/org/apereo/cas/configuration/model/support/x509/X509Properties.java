@@ -142,6 +142,8 @@ public class X509Properties implements Serializable {
      * <li>{@code CRL}: The CRL URI(s) mentioned in the certificate cRLDistributionPoints extension field.
      * Caches are available to prevent excessive IO against CRL endpoints; CRL data is fetched if does not exist in the cache or if it is expired.</li>
      * <li>{@code RESOURCE}: A CRL hosted at a fixed location. The CRL is fetched at periodic intervals and cached.</li>
+     * <li>{@code OCSP}: The OCSP responder mentioned in the certificate authorityInfoAccess extension field.
+     * Responses are cached until their next update.</li>
      * </ul>
      */
     private String revocationChecker = "NONE";
@@ -258,6 +260,16 @@ public class X509Properties implements Serializable {
      */
     private Ldap ldap = new Ldap();
 
+    /**
+     * Settings for revocation checking via OCSP.
+     */
+    private Ocsp ocsp = new Ocsp();
+
+    /**
+     * Settings to prefetch CRLs when revocation checking is done via distribution points.
+     */
+    private CrlPrefetch crlPrefetch = new CrlPrefetch();
+
     /**
      * The compiled pattern supplied by the deployer.
      */
@@ -323,4 +335,82 @@ public class X509Properties implements Serializable {
         private String certificateAttribute = "certificateRevocationList";
     }
 
+    @Getter
+    @Setter
+    public static class Ocsp implements Serializable {
+
+        private static final long serialVersionUID = -2380212587224719378L;
+
+        /**
+         * Fixed OCSP responder to query for all certificates.
+         * If undefined, the responder mentioned in the certificate is used.
+         */
+        private String responderUrl;
+
+        /**
+         * Certificates of the issuers whose certificates are checked, which are needed to build OCSP requests.
+         * Issuer certificates that are not listed here are fetched from the CA issuers location
+         * mentioned in the certificate, if any.
+         */
+        private List<String> issuerCertificates = new ArrayList<>();
+
+        /**
+         * Connect and read timeout of requests to the responder.
+         */
+        private String timeout = "PT5S";
+
+        /**
+         * How long responses that do not specify a next update are cached.
+         */
+        private String defaultCacheDuration = "PT5M";
+
+        /**
+         * Maximum number of cached responses; the least recently used responses are evicted beyond it.
+         */
+        private int maximumCacheSize = 10_000;
+
+        /**
+         * If the OCSP status is unavailable and there is no fallback, activate the this policy.
+         * Accepted values are {@code ALLOW} and {@code DENY}.
+         */
+        private String unavailablePolicy = "DENY";
+
+        /**
+         * Revocation checker to consult if the OCSP status is unavailable.
+         * Accepted values are {@code NONE}, {@code CRL} and {@code RESOURCE}.
+         */
+        private String fallbackRevocationChecker = "NONE";
+    }
+
+    @Getter
+    @Setter
+    public static class CrlPrefetch implements Serializable {
+
+        private static final long serialVersionUID = 4815417286440398721L;
+
+        /**
+         * Whether CRLs of distribution points should be kept in a compact index and
+         * refreshed in the background ahead of their next update, instead of being cached
+         * and fetched again on expiration. When enabled, the cache settings do not apply to
+         * CRL distribution points.
+         */
+        private boolean enabled;
+
+        /**
+         * How long before the next update of a CRL it should be refreshed.
+         */
+        private String leadTime = "PT1H";
+
+        /**
+         * How often known distribution points are examined for refreshes.
+         */
+        private String refreshInterval = "PT5M";
+
+        /**
+         * Directory where the last good CRL of each distribution point is kept,
+         * so that it may be loaded back on startup. Leave blank to keep CRLs in memory only.
+         */
+        private String storageDirectory;
+    }
+
 }
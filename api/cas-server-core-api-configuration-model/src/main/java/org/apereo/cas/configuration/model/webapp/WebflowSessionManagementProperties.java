@@ -49,6 +49,31 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     private boolean storage;
 
+    /**
+     * Whether flow state that is kept on the client should be encoded in a compact format,
+     * recording class names in place of full class descriptors and compressing the result
+     * with a dictionary of common terms. Flow state encoded in the default format is still accepted.
+     * All CAS nodes must run the same version of CAS to decode each other's flow state,
+     * which is why this is turned off by default.
+     * Only relevant if session storage is done on the client.
+     */
+    private boolean compactClientState;
+
+    /**
+     * Controls whether spring webflow sessions are to be stored in the ticket registry.
+     * Each step of the flow is kept in the registry as a short-lived transient session ticket,
+     * which allows any CAS node that shares the registry to resume the flow without the need
+     * for sticky or replicated http sessions. Takes precedence over other storage options.
+     */
+    private boolean registryStorage;
+
+    /**
+     * Length of time each step of the flow remains in the ticket registry, after which
+     * the flow can no longer be resumed from that step.
+     * Only relevant if session storage is done in the ticket registry.
+     */
+    private String registryTimeout = "PT30M";
+
     /**
      * If sessions are to be replicated via Hazelcast, defines the location of a {@code hazelcast.xml}
      * file that defines how state should be replicated.
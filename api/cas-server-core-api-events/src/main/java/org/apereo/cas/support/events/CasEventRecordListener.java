@@ -0,0 +1,22 @@
+package org.apereo.cas.support.events;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link CasEventRecordListener} that is notified
+ * every time a CAS event is recorded into the {@link CasEventRepository},
+ * allowing consumers to keep derived state up to date without querying the repository.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@FunctionalInterface
+public interface CasEventRecordListener {
+
+    /**
+     * Handle the recorded event.
+     *
+     * @param event the event
+     */
+    void onEventRecorded(CasEvent event);
+}
@@ -70,6 +70,26 @@ public interface RegisteredServiceAccessStrategy extends Serializable, Ordered {
         return true;
     }
 
+    /**
+     * Indicates whether decisions produced by {@link #doPrincipalAttributesAllowServiceAccess(String, Map)}
+     * only depend on the configuration of this strategy and the principal attributes, and may
+     * as a result be remembered for a short while and reused for the same principal and attributes.
+     * Strategies that consult clocks, scripts or external systems must not be cacheable.
+     *
+     * @return true /false
+     */
+    @JsonIgnore
+    default boolean isPrincipalAccessDecisionCacheable() {
+        return false;
+    }
+
+    /**
+     * Initialize the strategy, typically once the owning registered service is loaded,
+     * by precompiling its rules so they can be reused for every subsequent decision.
+     */
+    default void initialize() {
+    }
+
     /**
      * Redirect the request to a separate and possibly external URL
      * in case authorization fails for this service. If no URL is
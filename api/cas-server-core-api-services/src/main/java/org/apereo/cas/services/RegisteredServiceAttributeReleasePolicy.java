@@ -53,6 +53,14 @@ public interface RegisteredServiceAttributeReleasePolicy extends Serializable {
     default void setAttributeFilter(RegisteredServiceAttributeFilter filter) {
     }
 
+    /**
+     * Initialize the policy, typically once the owning registered service is loaded,
+     * by precomputing its configuration into an immutable release plan
+     * that can be reused for every subsequent release.
+     */
+    default void initialize() {
+    }
+
     /**
      * Gets the attributes, having applied the filter.
      *
@@ -0,0 +1,43 @@
+package org.apereo.cas.services;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * This is {@link RegisteredServiceChangeSet} that describes the changes
+ * recorded by a {@link ServiceRegistry} since a given version.
+ * Saved services carry the current state of each definition that was
+ * created or modified, while deleted services are only noted by their identifier.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RegisteredServiceChangeSet implements Serializable {
+    private static final long serialVersionUID = 2904812339417528734L;
+
+    /**
+     * The registry version that reflects this change set,
+     * to be used when asking for the next set of changes.
+     */
+    private final long version;
+
+    private final Collection<RegisteredService> savedServices;
+
+    private final Collection<Long> deletedServices;
+
+    /**
+     * Whether this change set carries any changes at all.
+     *
+     * @return true if no services were saved or deleted.
+     */
+    public boolean isEmpty() {
+        return this.savedServices.isEmpty() && this.deletedServices.isEmpty();
+    }
+}
@@ -97,7 +97,12 @@ public interface RegisteredServiceProperty extends Serializable {
         /**
          * Whether CAS should inject xss protection headers into the response when this service is in process.
          */
-        HTTP_HEADER_ENABLE_XSS_PROTECTION("httpHeaderEnableXSSProtection", "true");
+        HTTP_HEADER_ENABLE_XSS_PROTECTION("httpHeaderEnableXSSProtection", "true"),
+        /**
+         * Whether proxy-granting tickets may be delivered to the proxy callback url in the background,
+         * after the validation response is returned to the service.
+         */
+        PROXY_CALLBACK_ASYNCHRONOUS_DELIVERY("proxyCallbackAsynchronousDelivery", "false");
 
 
         private final String propertyName;
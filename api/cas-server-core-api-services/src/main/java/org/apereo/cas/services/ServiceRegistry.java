@@ -1,6 +1,7 @@
 package org.apereo.cas.services;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Registry of all RegisteredServices.
@@ -89,6 +90,31 @@ public interface ServiceRegistry {
         return load().size();
     }
 
+    /**
+     * Return the current version of this registry, which changes every time a service definition
+     * is saved or deleted. Registries that are unable to track changes return a negative value,
+     * signaling that callers must fall back onto {@link #load()} to pick up changes.
+     *
+     * @return the version, or a negative value if changes are not tracked.
+     * @since 6.0.0
+     */
+    default long getVersion() {
+        return -1;
+    }
+
+    /**
+     * Collect the changes made to this registry after the given version.
+     * An empty result indicates that changes since the requested version are not (or no longer)
+     * known to the registry, in which case callers must fall back onto {@link #load()}.
+     *
+     * @param version the version previously obtained from this registry
+     * @return the change set, if the registry is able to produce one
+     * @since 6.0.0
+     */
+    default Optional<RegisteredServiceChangeSet> getChangesSince(final long version) {
+        return Optional.empty();
+    }
+
     /**
      * Returns the friendly name of this registry.
      *
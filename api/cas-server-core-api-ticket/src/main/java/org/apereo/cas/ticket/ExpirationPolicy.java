@@ -3,6 +3,7 @@ package org.apereo.cas.ticket;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import java.io.Serializable;
+import java.time.ZonedDateTime;
 
 /**
  * Strategy that determines if the ticket is expired. Implementations of the
@@ -34,6 +35,23 @@ public interface ExpirationPolicy extends Serializable {
         return getTimeToLive();
     }
 
+    /**
+     * Determine the time after which the ticket is known to be expired, based on the policy,
+     * so that stores can locate expired tickets without evaluating the policy for each ticket.
+     * The ticket may expire sooner, i.e. based on its usage, but may not remain valid past this time
+     * unless its state changes. By default, the time to live is counted from the last time the ticket was used.
+     *
+     * @param ticketState The snapshot of the current ticket state
+     * @return the expiration time, or null if the policy is unable to determine one ahead of time.
+     */
+    default ZonedDateTime getMaximumExpirationTime(final TicketState ticketState) {
+        final Long timeToLive = getTimeToLive(ticketState);
+        if (timeToLive == null || timeToLive <= 0 || timeToLive >= Integer.MAX_VALUE || ticketState.getLastTimeUsed() == null) {
+            return null;
+        }
+        return ticketState.getLastTimeUsed().plusSeconds(timeToLive);
+    }
+
     /**
      * Describes the time duration where this policy should consider the item alive.
      * Once this time passes, the item is considered expired and dead.
@@ -25,6 +25,16 @@ public interface TicketRegistry {
      */
     void addTicket(Ticket ticket);
 
+    /**
+     * Add the given tickets to the registry. Registries that are able to
+     * store several tickets in one operation should do so.
+     *
+     * @param tickets the tickets to add
+     */
+    default void addTickets(final Stream<? extends Ticket> tickets) {
+        tickets.forEach(this::addTicket);
+    }
+
     /**
      * Retrieve a ticket from the registry. If the ticket retrieved does not
      * match the expected class, an InvalidTicketException is thrown.
@@ -53,6 +63,17 @@ public interface TicketRegistry {
      */
     int deleteTicket(String ticketId);
 
+    /**
+     * Remove the given tickets from the registry. Registries that are able to
+     * remove several tickets in one operation should do so.
+     *
+     * @param ticketIds the ids of the tickets to delete
+     * @return the number of tickets deleted including children.
+     */
+    default int deleteTickets(final Stream<String> ticketIds) {
+        return ticketIds.mapToInt(this::deleteTicket).sum();
+    }
+
     /**
      * Delete all tickets from the registry.
      *
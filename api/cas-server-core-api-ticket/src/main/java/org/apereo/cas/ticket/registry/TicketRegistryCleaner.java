@@ -17,6 +17,22 @@ public interface TicketRegistryCleaner {
     default void clean() {
     }
 
+    /**
+     * Clean the portion of the ticket registry assigned to the given shard,
+     * allowing nodes in a cluster to clean the registry at the same time.
+     * Tickets are assigned to shards based on the hash code of their identifiers.
+     * Cleaners that are unable to split their work clean the entire registry
+     * as part of the first shard only.
+     *
+     * @param shardIndex the zero-based index of the shard
+     * @param shardCount the number of shards
+     */
+    default void clean(final int shardIndex, final int shardCount) {
+        if (shardIndex == 0) {
+            clean();
+        }
+    }
+
     /**
      * Cleans up after an already-expired ticket, by running the necessary processes
      * such as logout notifications and more.
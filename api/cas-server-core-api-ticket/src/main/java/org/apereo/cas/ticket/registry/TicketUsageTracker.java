@@ -0,0 +1,38 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketUsageTracker} that records the use of tickets
+ * which may be used more than once, such as access tokens, and makes sure the usage state
+ * of those tickets eventually reaches the ticket registry. Implementations may write
+ * each use back into the registry immediately, or coalesce several uses of the same ticket
+ * into a single write.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public interface TicketUsageTracker {
+
+    /**
+     * Record a use of the ticket by updating its state.
+     * If the ticket has expired as a result, it is removed from the registry.
+     *
+     * @param ticket the ticket
+     */
+    void update(Ticket ticket);
+
+    /**
+     * Record that the usage state of the ticket has already been updated,
+     * typically because one of its descendant tickets was used.
+     *
+     * @param ticket the ticket
+     */
+    void track(Ticket ticket);
+
+    /**
+     * Write all usage state that is pending into the registry.
+     */
+    default void flush() {
+    }
+}
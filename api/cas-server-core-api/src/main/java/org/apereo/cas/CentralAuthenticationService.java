@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import lombok.val;
 import org.apereo.cas.authentication.AuthenticationException;
 import org.apereo.cas.authentication.AuthenticationResult;
 import org.apereo.cas.authentication.principal.Service;
@@ -14,8 +15,11 @@ import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.validation.Assertion;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * CAS viewed as a set of services to generate and validate Tickets.
@@ -147,6 +151,29 @@ public interface CentralAuthenticationService {
     ServiceTicket grantServiceTicket(String ticketGrantingTicketId, Service service, AuthenticationResult authenticationResult)
         throws AuthenticationException, AbstractTicketException;
 
+    /**
+     * Grant a {@link ServiceTicket} for each of the given services from the same ticket-granting ticket.
+     * Tickets are granted on an all-or-nothing basis; if a ticket cannot be granted for any
+     * of the services, no tickets are granted and the error is thrown back to the caller.
+     * Implementations are expected to write the granted tickets into the ticket registry
+     * in a single operation where possible.
+     *
+     * @param ticketGrantingTicketId Proof of prior authentication.
+     * @param services               The target services of the service tickets.
+     * @param authenticationResult   The authentication context established if credentials provided
+     * @return the service tickets, in the same order as the services.
+     * @throws AuthenticationException on errors authenticating the credentials
+     * @throws AbstractTicketException if any of the tickets could not be created.
+     * @since 6.0.0
+     */
+    default List<ServiceTicket> grantServiceTickets(final String ticketGrantingTicketId, final List<Service> services,
+                                                    final AuthenticationResult authenticationResult)
+        throws AuthenticationException, AbstractTicketException {
+        return services.stream()
+            .map(service -> grantServiceTicket(ticketGrantingTicketId, service, authenticationResult))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Grant a {@link ProxyTicket} that may be used to access the given service
      * by authenticating the given credentials.
@@ -175,6 +202,27 @@ public interface CentralAuthenticationService {
      */
     Assertion validateServiceTicket(String serviceTicketId, Service service) throws AbstractTicketException;
 
+    /**
+     * Validate a collection of service tickets, each for its own service.
+     * Unlike {@link #validateServiceTicket(String, Service)}, tickets that cannot be validated
+     * do not fail the entire operation and are simply left out of the result.
+     *
+     * @param serviceTickets the service ticket identifiers mapped to the services wishing to validate them.
+     * @return the ticket validation assertions, keyed by service ticket identifier, for tickets that are valid.
+     * @since 6.0.0
+     */
+    default Map<String, Assertion> validateServiceTickets(final Map<String, Service> serviceTickets) {
+        val assertions = new LinkedHashMap<String, Assertion>();
+        serviceTickets.forEach((serviceTicketId, service) -> {
+            try {
+                assertions.put(serviceTicketId, validateServiceTicket(serviceTicketId, service));
+            } catch (final AbstractTicketException e) {
+                // tickets that fail validation are left out of the result
+            }
+        });
+        return assertions;
+    }
+
     /**
      * Destroy a TicketGrantingTicket and perform back channel logout. This has the effect of invalidating any
      * Ticket that was derived from the TicketGrantingTicket being destroyed. May throw an
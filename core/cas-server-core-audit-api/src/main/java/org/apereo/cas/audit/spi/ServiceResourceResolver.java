@@ -9,8 +9,12 @@ import org.apereo.cas.util.DigestUtils;
 import org.apereo.inspektr.audit.spi.AuditResourceResolver;
 import org.aspectj.lang.JoinPoint;
 
+import java.util.Collection;
+
 /**
  * Extracts the resource as a CAS service for the audit.
+ * When tickets are granted for a collection of services at once,
+ * a resource is produced for each service.
  *
  * @author Scott Battaglia
  * @since 3.1.2
@@ -20,17 +24,31 @@ public class ServiceResourceResolver implements AuditResourceResolver {
 
     @Override
     public String[] resolveFrom(final JoinPoint joinPoint, final Object retval) {
-        val service = (Service) AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
-        val builder = new StringBuilder(retval.toString())
-                .append(" for ")
-                .append(DigestUtils.abbreviate(service.getId()));
-
-        return new String[]{builder.toString()};
+        val arg = AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
+        if (arg instanceof Collection && retval instanceof Collection) {
+            val services = ((Collection<?>) arg).iterator();
+            return ((Collection<?>) retval).stream()
+                .map(ticket -> getResource(ticket, (Service) services.next()))
+                .toArray(String[]::new);
+        }
+        return new String[]{getResource(retval, (Service) arg)};
     }
 
     @Override
     public String[] resolveFrom(final JoinPoint joinPoint, final Exception ex) {
-        val service = (Service) AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
-        return new String[]{service.getId()};
+        val arg = AopUtils.unWrapJoinPoint(joinPoint).getArgs()[1];
+        if (arg instanceof Collection) {
+            return ((Collection<?>) arg).stream()
+                .map(service -> ((Service) service).getId())
+                .toArray(String[]::new);
+        }
+        return new String[]{((Service) arg).getId()};
+    }
+
+    private static String getResource(final Object retval, final Service service) {
+        return new StringBuilder(retval.toString())
+            .append(" for ")
+            .append(DigestUtils.abbreviate(service.getId()))
+            .toString();
     }
 }
@@ -12,10 +12,14 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the ResourceResolver that can determine the Ticket Id from
  * the first parameter of the method call as well as the returned value, typically assertion.
+ * When a collection of tickets is validated at once, the ticket ids are the keys of the first parameter
+ * and the assertions are the values of the returned map, keyed by ticket id.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
@@ -31,10 +35,22 @@ public class TicketValidationResourceResolver extends TicketAsFirstParameterReso
 
         val args = AopUtils.unWrapJoinPoint(joinPoint).getArgs();
         if (args != null && args.length > 0) {
+            if (args[0] instanceof Map) {
+                final Map<?, ?> assertions = object instanceof Map ? (Map<?, ?>) object : new HashMap<>();
+                ((Map<?, ?>) args[0]).keySet().forEach(ticketId -> {
+                    auditResourceResults.add(ticketId.toString());
+                    addAssertion(auditResourceResults, assertions.get(ticketId));
+                });
+                return auditResourceResults.toArray(new String[]{});
+            }
             val ticketId = args[0].toString();
             auditResourceResults.add(ticketId);
         }
+        addAssertion(auditResourceResults, object);
+        return auditResourceResults.toArray(new String[]{});
+    }
 
+    private void addAssertion(final List<String> auditResourceResults, final Object object) {
         if (object instanceof Assertion) {
             val assertion = Assertion.class.cast(object);
             val authn = assertion.getPrimaryAuthentication();
@@ -55,6 +71,5 @@ public class TicketValidationResourceResolver extends TicketAsFirstParameterReso
                 LOGGER.error(e.getMessage(), e);
             }
         }
-        return auditResourceResults.toArray(new String[]{});
     }
 }
@@ -2,6 +2,8 @@ package org.apereo.cas.authentication.handler.support;
 
 import lombok.val;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.AbstractAuthenticationHandler;
 import org.apereo.cas.authentication.AuthenticationHandlerExecutionResult;
@@ -13,7 +15,9 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.http.HttpClient;
 
 import javax.security.auth.login.FailedLoginException;
+import java.net.URL;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 
 /**
  * Class to validate the credential presented by communicating with the web
@@ -23,6 +27,10 @@ import java.security.GeneralSecurityException;
  * This class is concerned with ensuring that the protocol is HTTPS and that a
  * response is returned. The SSL handshake that occurs automatically by opening
  * a connection does the heavy process of authenticating.
+ * <p>
+ * Callback urls that are verified may be remembered for a while, so that repeated
+ * proxy requests do not contact the callback endpoint again just to verify it.
+ * The server is still authenticated by the SSL handshake that delivers the proxy-granting ticket.
  *
  * @author Scott Battaglia
 
@@ -30,9 +38,13 @@ import java.security.GeneralSecurityException;
  */
 @Slf4j
 public class HttpBasedServiceCredentialsAuthenticationHandler extends AbstractAuthenticationHandler {
+    private static final long MAX_CACHE_SIZE = 10_000;
+
     /** Instance of Apache Commons HttpClient. */
     private final HttpClient httpClient;
 
+    private Cache<String, Boolean> verifiedCallbackUrls;
+
     /**
      * Instantiates a new Abstract authentication handler.
      *
@@ -60,12 +72,45 @@ public class HttpBasedServiceCredentialsAuthenticationHandler extends AbstractAu
 
         LOGGER.debug("Attempting to authenticate [{}]", httpCredential);
         val callbackUrl = httpCredential.getCallbackUrl();
-        if (!this.httpClient.isValidEndPoint(callbackUrl)) {
-            throw new FailedLoginException(callbackUrl.toExternalForm() + " sent an unacceptable response status code");
+        val cacheKey = getCacheKey(callbackUrl);
+        if (this.verifiedCallbackUrls != null && this.verifiedCallbackUrls.getIfPresent(cacheKey) != null) {
+            LOGGER.debug("Callback url [{}] is verified already", callbackUrl);
+        } else {
+            if (!this.httpClient.isValidEndPoint(callbackUrl)) {
+                throw new FailedLoginException(callbackUrl.toExternalForm() + " sent an unacceptable response status code");
+            }
+            if (this.verifiedCallbackUrls != null) {
+                this.verifiedCallbackUrls.put(cacheKey, Boolean.TRUE);
+            }
         }
         return new DefaultAuthenticationHandlerExecutionResult(this, httpCredential, this.principalFactory.createPrincipal(httpCredential.getId()));
     }
 
+    /**
+     * Sets how long verified callback urls are remembered.
+     * A zero or negative duration turns off the cache.
+     *
+     * @param expiration the expiration
+     */
+    public void setCallbackCacheExpiration(final Duration expiration) {
+        if (expiration.isZero() || expiration.isNegative()) {
+            this.verifiedCallbackUrls = null;
+        } else {
+            this.verifiedCallbackUrls = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHE_SIZE)
+                .expireAfterWrite(expiration)
+                .build();
+        }
+    }
+
+    /**
+     * Callback urls are remembered by their scheme, host, port and path; query strings are ignored.
+     */
+    private static String getCacheKey(final URL callbackUrl) {
+        val port = callbackUrl.getPort() > 0 ? callbackUrl.getPort() : callbackUrl.getDefaultPort();
+        return callbackUrl.getProtocol().toLowerCase() + "://" + callbackUrl.getHost().toLowerCase() + ':' + port + callbackUrl.getPath();
+    }
+
     /**
      *
      * @return true if the credential provided are not null and the credential
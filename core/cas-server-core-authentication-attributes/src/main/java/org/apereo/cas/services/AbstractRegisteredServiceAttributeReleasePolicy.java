@@ -1,5 +1,7 @@
 package org.apereo.cas.services;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -99,6 +101,28 @@ public abstract class AbstractRegisteredServiceAttributeReleasePolicy implements
 
     @Override
     public Map<String, Object> getAttributes(final Principal principal, final Service selectedService, final RegisteredService registeredService) {
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            return releaseAttributes(principal, selectedService, registeredService);
+        } finally {
+            sample.stop(getAttributeReleaseTimer(registeredService));
+        }
+    }
+
+    /**
+     * Gets the timer that records the release time of this policy for the given service.
+     *
+     * @param registeredService the registered service
+     * @return the timer
+     */
+    protected Timer getAttributeReleaseTimer(final RegisteredService registeredService) {
+        return Metrics.timer("cas.services.attributeRelease",
+            "service", StringUtils.defaultIfBlank(registeredService.getName(), String.valueOf(registeredService.getServiceId())),
+            "policy", getClass().getSimpleName());
+    }
+
+    private Map<String, Object> releaseAttributes(final Principal principal, final Service selectedService,
+                                                  final RegisteredService registeredService) {
         LOGGER.debug("Initiating attributes release phase for principal [{}] accessing service [{}] defined by registered service [{}]...",
             principal.getId(), selectedService.getId(), registeredService.getServiceId());
         LOGGER.debug("Locating principal attributes for [{}]", principal.getId());
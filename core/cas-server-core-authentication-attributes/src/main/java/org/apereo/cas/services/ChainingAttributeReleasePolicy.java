@@ -14,6 +14,7 @@ import lombok.Setter;
 
 /**
  * This is {@link ChainingAttributeReleasePolicy}.
+ * Release time is recorded by each policy in the chain, and not by the chain itself.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -28,6 +29,11 @@ public class ChainingAttributeReleasePolicy implements RegisteredServiceAttribut
 
     private List<RegisteredServiceAttributeReleasePolicy> policies = new ArrayList<>();
 
+    @Override
+    public void initialize() {
+        this.policies.forEach(RegisteredServiceAttributeReleasePolicy::initialize);
+    }
+
     @Override
     public Map<String, Object> getAttributes(final Principal p, final Service selectedService, final RegisteredService service) {
         val attributes = new HashMap<String, Object>();
@@ -1,15 +1,15 @@
 package org.apereo.cas.services;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.cas.authentication.principal.Principal;
 
+import javax.persistence.Transient;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,16 +26,36 @@ import java.util.TreeMap;
 @Slf4j
 @ToString(callSuper = true)
 @Getter
-@Setter
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
 public class ReturnAllowedAttributeReleasePolicy extends AbstractRegisteredServiceAttributeReleasePolicy {
 
     private static final long serialVersionUID = -5771481877391140569L;
 
     private List<String> allowedAttributes = new ArrayList<>();
 
+    /**
+     * Allowed attribute names, indexed case-insensitively, precomputed once per policy.
+     */
+    @JsonIgnore
+    @Transient
+    @ToString.Exclude
+    private transient volatile Map<String, List<String>> allowedAttributesIndex;
+
+    public ReturnAllowedAttributeReleasePolicy(final List<String> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+    }
+
+    public void setAllowedAttributes(final List<String> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+        this.allowedAttributesIndex = null;
+    }
+
+    @Override
+    public void initialize() {
+        this.allowedAttributesIndex = buildAllowedAttributesIndex();
+    }
+
     @Override
     public Map<String, Object> getAttributesInternal(final Principal principal, final Map<String, Object> attrs, final RegisteredService service) {
         return authorizeReleaseOfAllowedAttributes(attrs);
@@ -48,18 +68,35 @@ public class ReturnAllowedAttributeReleasePolicy extends AbstractRegisteredServi
      * @return the map
      */
     protected Map<String, Object> authorizeReleaseOfAllowedAttributes(final Map<String, Object> attrs) {
-        val resolvedAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        resolvedAttributes.putAll(attrs);
-        val attributesToRelease = new HashMap<String, Object>();
-        getAllowedAttributes()
-            .stream()
-            .map(attr -> new Object[]{attr, resolvedAttributes.get(attr)})
-            .filter(pair -> pair[1] != null)
-            .forEach(attribute -> {
-                LOGGER.debug("Found attribute [{}] in the list of allowed attributes", attribute[0]);
-                attributesToRelease.put((String) attribute[0], attribute[1]);
-            });
+        val index = getAllowedAttributesIndex();
+        val attributesToRelease = new HashMap<String, Object>(index.size());
+        attrs.forEach((name, value) -> {
+            val allowed = index.get(name);
+            if (allowed != null && value != null) {
+                allowed.forEach(attr -> {
+                    LOGGER.debug("Found attribute [{}] in the list of allowed attributes", attr);
+                    attributesToRelease.put(attr, value);
+                });
+            }
+        });
         return attributesToRelease;
     }
 
+    private Map<String, List<String>> getAllowedAttributesIndex() {
+        var index = this.allowedAttributesIndex;
+        if (index == null) {
+            index = buildAllowedAttributesIndex();
+            this.allowedAttributesIndex = index;
+        }
+        return index;
+    }
+
+    private Map<String, List<String>> buildAllowedAttributesIndex() {
+        val index = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        if (getAllowedAttributes() != null) {
+            getAllowedAttributes().forEach(attr -> index.computeIfAbsent(attr, k -> new ArrayList<>(1)).add(attr));
+        }
+        LOGGER.trace("Compiled allowed attributes [{}] for release", index.keySet());
+        return index;
+    }
 }
@@ -1,24 +1,28 @@
 package org.apereo.cas.services;
 
-import lombok.val;
-
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
+import lombok.val;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.ScriptingUtils;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import javax.persistence.Transient;
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
-import lombok.Setter;
 
 /**
  * Return a collection of allowed attributes for the principal, but additionally,
@@ -31,7 +35,6 @@ import lombok.Setter;
 @ToString(callSuper = true)
 @Setter
 @EqualsAndHashCode(callSuper = true)
-@AllArgsConstructor
 @NoArgsConstructor
 public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServiceAttributeReleasePolicy {
 
@@ -39,6 +42,24 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
 
     private Map<String, Object> allowedAttributes = new TreeMap<>();
 
+    /**
+     * Attribute mapping definitions, resolved once per policy.
+     */
+    @JsonIgnore
+    @Transient
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private transient volatile List<MappedAttributeDefinition> mappedAttributeDefinitions;
+
+    public ReturnMappedAttributeReleasePolicy(final Map<String, Object> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+    }
+
+    public void setAllowedAttributes(final Map<String, Object> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+        this.mappedAttributeDefinitions = null;
+    }
+
     /**
      * Gets the allowed attributes.
      *
@@ -48,79 +69,67 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
         return new TreeMap<>(this.allowedAttributes);
     }
 
+    @Override
+    public void initialize() {
+        this.mappedAttributeDefinitions = buildMappedAttributeDefinitions();
+    }
+
     @Override
     public Map<String, Object> getAttributesInternal(final Principal principal, final Map<String, Object> attrs, final RegisteredService service) {
-        val resolvedAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        val resolvedAttributes = new TreeMap<String, Object>(String.CASE_INSENSITIVE_ORDER);
         resolvedAttributes.putAll(attrs);
-        val attributesToRelease = new HashMap<String, Object>();
-        /*
-         * Map each entry in the allowed list into an array first
-         * by the original key, value and the original entry itself.
-         * Then process the array to populate the map for allowed attributes
-         */
-        this.allowedAttributes.entrySet().forEach(entry -> {
-            val attributeName = entry.getKey();
-            val mappedAttributes = CollectionUtils.wrap(entry.getValue());
-            LOGGER.debug("Attempting to map allowed attribute name [{}]", attributeName);
-            val attributeValue = resolvedAttributes.get(attributeName);
-            mappedAttributes.forEach(mapped -> {
-                val mappedAttributeName = mapped.toString();
-                LOGGER.debug("Mapping attribute [{}] to [{}] with value [{}]", attributeName, mappedAttributeName, attributeValue);
-                mapSingleAttributeDefinition(attributeName, mappedAttributeName, attributeValue, resolvedAttributes, attributesToRelease);
-            });
+        val definitions = getMappedAttributeDefinitions();
+        val attributesToRelease = new HashMap<String, Object>(definitions.size());
+        definitions.forEach(definition -> {
+            LOGGER.debug("Attempting to map allowed attribute name [{}]", definition.getAttributeName());
+            definition.map(resolvedAttributes, attributesToRelease);
         });
         return attributesToRelease;
     }
 
-    private static void mapSingleAttributeDefinition(final String attributeName, final String mappedAttributeName,
-                                                     final Object attributeValue, final Map<String, Object> resolvedAttributes,
-                                                     final Map<String, Object> attributesToRelease) {
-        val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(mappedAttributeName);
-        val matcherFile = ScriptingUtils.getMatcherForExternalGroovyScript(mappedAttributeName);
-        if (matcherInline.find()) {
-            LOGGER.debug("Mapped attribute [{}] is an inlined groovy script", mappedAttributeName);
-            processInlineGroovyAttribute(resolvedAttributes, attributesToRelease, matcherInline, attributeName);
-        } else if (matcherFile.find()) {
-            LOGGER.debug("Mapped attribute [{}] is an external groovy script", mappedAttributeName);
-            processFileBasedGroovyAttributes(resolvedAttributes, attributesToRelease, matcherFile, attributeName);
-        } else {
-            if (attributeValue != null) {
-                LOGGER.debug("Found attribute [{}] in the list of allowed attributes, mapped to the name [{}]",
-                    attributeName, mappedAttributeName);
-                attributesToRelease.put(mappedAttributeName, attributeValue);
-            } else {
-                LOGGER.warn("Could not find value for mapped attribute [{}] that is based off of [{}] in the allowed attributes list. "
-                    + "Ensure the original attribute [{}] is retrieved and contains at least a single value. Attribute [{}] "
-                    + "will and can not be released without the presence of a value.", mappedAttributeName, attributeName,
-                    attributeName, mappedAttributeName);
-            }
+    private List<MappedAttributeDefinition> getMappedAttributeDefinitions() {
+        var definitions = this.mappedAttributeDefinitions;
+        if (definitions == null) {
+            definitions = buildMappedAttributeDefinitions();
+            this.mappedAttributeDefinitions = definitions;
         }
+        return definitions;
     }
 
-    private static void processFileBasedGroovyAttributes(final Map<String, Object> resolvedAttributes,
-                                                         final Map<String, Object> attributesToRelease,
-                                                         final Matcher matcherFile, final String key) {
-        try {
-            LOGGER.debug("Found groovy script to execute for attribute mapping [{}]", key);
-            val file = new File(matcherFile.group(2));
-            val script = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
-            val result = getGroovyAttributeValue(script, resolvedAttributes);
-            if (result != null) {
-                LOGGER.debug("Mapped attribute [{}] to [{}] from script", key, result);
-                attributesToRelease.put(key, result);
-            } else {
-                LOGGER.warn("Groovy-scripted attribute returned no value for [{}]", key);
-            }
-        } catch (final IOException e) {
-            LOGGER.error(e.getMessage(), e);
+    /**
+     * Map each entry in the allowed list into a definition first
+     * by the original key and each of its mapped names. Inline and external
+     * groovy scripts are detected here once rather than on every release.
+     */
+    private List<MappedAttributeDefinition> buildMappedAttributeDefinitions() {
+        val definitions = new ArrayList<MappedAttributeDefinition>();
+        if (this.allowedAttributes != null) {
+            this.allowedAttributes.forEach((attributeName, value) -> CollectionUtils.wrap(value).forEach(mapped -> {
+                val mappedAttributeName = mapped.toString();
+                val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(mappedAttributeName);
+                val matcherFile = ScriptingUtils.getMatcherForExternalGroovyScript(mappedAttributeName);
+                if (matcherInline.find()) {
+                    LOGGER.debug("Mapped attribute [{}] is an inlined groovy script", mappedAttributeName);
+                    definitions.add(new InlineGroovyMappedAttributeDefinition(attributeName, matcherInline.group(1)));
+                } else if (matcherFile.find()) {
+                    LOGGER.debug("Mapped attribute [{}] is an external groovy script", mappedAttributeName);
+                    definitions.add(new FileGroovyMappedAttributeDefinition(attributeName, new File(matcherFile.group(2))));
+                } else {
+                    definitions.add(new MappedAttributeDefinition(attributeName, mappedAttributeName));
+                }
+            }));
         }
+        LOGGER.trace("Compiled [{}] attribute mapping definition(s)", definitions.size());
+        return definitions;
     }
 
-    private static void processInlineGroovyAttribute(final Map<String, Object> resolvedAttributes,
-                                                     final Map<String, Object> attributesToRelease,
-                                                     final Matcher matcherInline, final String attributeName) {
-        LOGGER.debug("Found inline groovy script to execute for attribute mapping [{}]", attributeName);
-        val result = getGroovyAttributeValue(matcherInline.group(1), resolvedAttributes);
+    private static Object getGroovyAttributeValue(final String groovyScript, final Map<String, Object> resolvedAttributes) {
+        val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
+        return ScriptingUtils.executeGroovyShellScript(groovyScript, args, Object.class);
+    }
+
+    private static void releaseScriptedAttribute(final String attributeName, final Object result,
+                                                 final Map<String, Object> attributesToRelease) {
         if (result != null) {
             LOGGER.debug("Mapped attribute [{}] to [{}] from script", attributeName, result);
             attributesToRelease.put(attributeName, result);
@@ -129,9 +138,66 @@ public class ReturnMappedAttributeReleasePolicy extends AbstractRegisteredServic
         }
     }
 
-    private static Object getGroovyAttributeValue(final String groovyScript, final Map<String, Object> resolvedAttributes) {
-        val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
-        return ScriptingUtils.executeGroovyShellScript(groovyScript, args, Object.class);
+    /**
+     * Renames a single allowed attribute to its mapped name.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static class MappedAttributeDefinition {
+        private final String attributeName;
+
+        private final String mappedAttributeName;
+
+        void map(final Map<String, Object> resolvedAttributes, final Map<String, Object> attributesToRelease) {
+            val attributeValue = resolvedAttributes.get(this.attributeName);
+            if (attributeValue != null) {
+                LOGGER.debug("Found attribute [{}] in the list of allowed attributes, mapped to the name [{}]",
+                    this.attributeName, this.mappedAttributeName);
+                attributesToRelease.put(this.mappedAttributeName, attributeValue);
+            } else {
+                LOGGER.warn("Could not find value for mapped attribute [{}] that is based off of [{}] in the allowed attributes list. "
+                    + "Ensure the original attribute [{}] is retrieved and contains at least a single value. Attribute [{}] "
+                    + "will and can not be released without the presence of a value.", this.mappedAttributeName, this.attributeName,
+                    this.attributeName, this.mappedAttributeName);
+            }
+        }
     }
 
+    /**
+     * Produces the attribute value from an inline groovy script.
+     */
+    private static class InlineGroovyMappedAttributeDefinition extends MappedAttributeDefinition {
+        private final String script;
+
+        InlineGroovyMappedAttributeDefinition(final String attributeName, final String script) {
+            super(attributeName, attributeName);
+            this.script = script;
+        }
+
+        @Override
+        void map(final Map<String, Object> resolvedAttributes, final Map<String, Object> attributesToRelease) {
+            LOGGER.debug("Found inline groovy script to execute for attribute mapping [{}]", getAttributeName());
+            releaseScriptedAttribute(getAttributeName(), getGroovyAttributeValue(this.script, resolvedAttributes), attributesToRelease);
+        }
+    }
+
+    /**
+     * Produces the attribute value from an external groovy script file.
+     */
+    private static class FileGroovyMappedAttributeDefinition extends MappedAttributeDefinition {
+        private final Resource scriptResource;
+
+        FileGroovyMappedAttributeDefinition(final String attributeName, final File scriptFile) {
+            super(attributeName, attributeName);
+            this.scriptResource = new FileSystemResource(scriptFile);
+        }
+
+        @Override
+        void map(final Map<String, Object> resolvedAttributes, final Map<String, Object> attributesToRelease) {
+            LOGGER.debug("Found groovy script to execute for attribute mapping [{}]", getAttributeName());
+            val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
+            val result = ScriptingUtils.executeGroovyShellScript(this.scriptResource, args, Object.class);
+            releaseScriptedAttribute(getAttributeName(), result, attributesToRelease);
+        }
+    }
 }
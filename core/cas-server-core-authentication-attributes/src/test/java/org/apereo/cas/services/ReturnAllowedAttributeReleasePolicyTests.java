@@ -5,6 +5,8 @@ import lombok.val;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.apereo.cas.CoreAttributesTestUtils;
+import org.apereo.cas.util.CollectionUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -12,6 +14,7 @@ import org.junit.runners.JUnit4;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import static org.junit.Assert.*;
 
@@ -35,4 +38,35 @@ public class ReturnAllowedAttributeReleasePolicyTests {
         val policyRead = MAPPER.readValue(JSON_FILE, ReturnAllowedAttributeReleasePolicy.class);
         assertEquals(policyWritten, policyRead);
     }
+
+    @Test
+    public void verifyAllowedAttributesAreReleasedCaseInsensitively() {
+        val policy = new ReturnAllowedAttributeReleasePolicy(CollectionUtils.wrapList("UID", "mail"));
+        policy.initialize();
+        val principalAttributes = new HashMap<String, Object>();
+        principalAttributes.put("uid", "casuser");
+        principalAttributes.put("Mail", "casuser@example.org");
+        principalAttributes.put("phone", "123456789");
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", principalAttributes);
+        val attributes = policy.getAttributes(principal, CoreAttributesTestUtils.getService(),
+            CoreAttributesTestUtils.getRegisteredService());
+        assertEquals("casuser", attributes.get("UID"));
+        assertEquals("casuser@example.org", attributes.get("mail"));
+        assertFalse(attributes.containsKey("phone"));
+    }
+
+    @Test
+    public void verifyReleasePlanIsRebuiltWhenAllowedAttributesChange() {
+        val policy = new ReturnAllowedAttributeReleasePolicy(CollectionUtils.wrapList("uid"));
+        policy.initialize();
+        policy.setAllowedAttributes(CollectionUtils.wrapList("phone"));
+        val principalAttributes = new HashMap<String, Object>();
+        principalAttributes.put("uid", "casuser");
+        principalAttributes.put("phone", "123456789");
+        val principal = CoreAttributesTestUtils.getPrincipal("casuser", principalAttributes);
+        val attributes = policy.getAttributes(principal, CoreAttributesTestUtils.getService(),
+            CoreAttributesTestUtils.getRegisteredService());
+        assertTrue(attributes.containsKey("phone"));
+        assertFalse(attributes.containsKey("uid"));
+    }
 }
@@ -19,6 +19,7 @@ import org.apereo.cas.authentication.principal.resolvers.ProxyingPrincipalResolv
 import org.apereo.cas.authentication.support.password.PasswordEncoderUtils;
 import org.apereo.cas.authentication.support.password.PasswordPolicyConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.services.persondir.IPersonAttributeDao;
@@ -67,9 +68,11 @@ public class CasCoreAuthenticationHandlersConfiguration {
     @ConditionalOnProperty(prefix = "cas.sso", name = "proxyAuthnEnabled", havingValue = "true", matchIfMissing = true)
     @Bean
     public AuthenticationHandler proxyAuthenticationHandler() {
-        return new HttpBasedServiceCredentialsAuthenticationHandler(null, servicesManager,
+        val handler = new HttpBasedServiceCredentialsAuthenticationHandler(null, servicesManager,
             proxyPrincipalFactory(), Integer.MIN_VALUE,
             supportsTrustStoreSslSocketFactoryHttpClient);
+        handler.setCallbackCacheExpiration(Beans.newDuration(casProperties.getTicket().getPgt().getCallbackCacheExpiration()));
+        return handler;
     }
 
     @ConditionalOnMissingBean(name = "proxyPrincipalFactory")
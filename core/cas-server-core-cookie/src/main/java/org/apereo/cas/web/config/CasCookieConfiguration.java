@@ -66,8 +66,11 @@ public class CasCookieConfiguration {
         }
 
         if (enabled) {
-            return new TicketGrantingCookieCipherExecutor(crypto.getEncryption().getKey(),
+            val cipher = new TicketGrantingCookieCipherExecutor(crypto.getEncryption().getKey(),
                 crypto.getSigning().getKey(), crypto.getAlg());
+            val tgc = casProperties.getTgc();
+            cipher.cacheDecodedValues(Beans.newDuration(tgc.getDecodedValueCacheTimeToLive()), tgc.getDecodedValueCacheMaximumSize());
+            return cipher;
         }
 
         LOGGER.warn("Ticket-granting cookie encryption/signing is turned off. This "
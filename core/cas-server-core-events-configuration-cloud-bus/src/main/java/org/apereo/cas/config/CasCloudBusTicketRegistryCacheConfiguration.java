@@ -0,0 +1,40 @@
+package org.apereo.cas.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.listener.CasCloudBusTicketRegistryCacheBus;
+import org.apereo.cas.support.events.ticket.CasTicketRegistryCacheInvalidationRemoteEvent;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is {@link CasCloudBusTicketRegistryCacheConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Configuration("casCloudBusTicketRegistryCacheConfiguration")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@RemoteApplicationEventScan(basePackageClasses = CasTicketRegistryCacheInvalidationRemoteEvent.class)
+@Slf4j
+public class CasCloudBusTicketRegistryCacheConfiguration {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private ServiceMatcher serviceMatcher;
+
+    @ConditionalOnMissingBean(name = "ticketRegistryCacheBus")
+    @Bean
+    public TicketRegistryCacheBus ticketRegistryCacheBus() {
+        return new CasCloudBusTicketRegistryCacheBus(this.applicationEventPublisher, this.serviceMatcher);
+    }
+}
@@ -0,0 +1,68 @@
+package org.apereo.cas.support.events.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.support.events.ticket.CasTicketRegistryCacheInvalidationRemoteEvent;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * This is {@link CasCloudBusTicketRegistryCacheBus} that sends ticket cache invalidation events
+ * to other CAS nodes over the cloud bus, and evicts tickets from local caches when
+ * such events are received from other nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CasCloudBusTicketRegistryCacheBus implements TicketRegistryCacheBus {
+    private final Set<Listener> listeners = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ServiceMatcher serviceMatcher;
+
+    @Override
+    public void publishInvalidation(final String ticketId) {
+        LOGGER.trace("Publishing cache invalidation event for ticket [{}]", ticketId);
+        this.eventPublisher.publishEvent(new CasTicketRegistryCacheInvalidationRemoteEvent(this, this.serviceMatcher.getServiceId(), ticketId));
+    }
+
+    @Override
+    public void publishInvalidationOfAll() {
+        LOGGER.trace("Publishing cache invalidation event for all tickets");
+        this.eventPublisher.publishEvent(new CasTicketRegistryCacheInvalidationRemoteEvent(this, this.serviceMatcher.getServiceId(), null));
+    }
+
+    @Override
+    public void subscribe(final Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Handle cache invalidation event when issued by the cloud bus.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleCacheInvalidationEvent(final CasTicketRegistryCacheInvalidationRemoteEvent event) {
+        if (this.serviceMatcher.isFromSelf(event)) {
+            return;
+        }
+        LOGGER.debug("Received event [{}]", event);
+        synchronized (this.listeners) {
+            if (event.getTicketId() == null) {
+                this.listeners.forEach(Listener::invalidateAll);
+            } else {
+                this.listeners.forEach(listener -> listener.invalidate(event.getTicketId()));
+            }
+        }
+    }
+}
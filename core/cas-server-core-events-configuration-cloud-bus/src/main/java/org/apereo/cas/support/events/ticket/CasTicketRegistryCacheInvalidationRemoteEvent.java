@@ -0,0 +1,28 @@
+package org.apereo.cas.support.events.ticket;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+/**
+ * This is {@link CasTicketRegistryCacheInvalidationRemoteEvent} that is sent over the cloud bus
+ * when a ticket is changed on a CAS node, so other nodes can evict it from their local ticket caches.
+ * An event without a ticket id asks for all tickets to be evicted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class CasTicketRegistryCacheInvalidationRemoteEvent extends RemoteApplicationEvent {
+    private static final long serialVersionUID = -2162432861383146287L;
+
+    private String ticketId;
+
+    public CasTicketRegistryCacheInvalidationRemoteEvent(final Object source, final String originService, final String ticketId) {
+        super(source, originService);
+        this.ticketId = ticketId;
+    }
+}
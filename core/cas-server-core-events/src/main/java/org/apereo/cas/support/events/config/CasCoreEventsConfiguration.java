@@ -1,17 +1,25 @@
 package org.apereo.cas.support.events.config;
 
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRecordListener;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.DefaultCasEventListener;
 import org.apereo.cas.support.events.web.CasEventsReportEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is {@link CasCoreEventsConfiguration}.
  *
@@ -23,9 +31,20 @@ import org.springframework.context.annotation.Configuration;
 @Slf4j
 public class CasCoreEventsConfiguration {
 
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    private ObjectProvider<List<CasEventRecordListener>> casEventRecordListeners;
+
     @Bean
     public DefaultCasEventListener defaultCasEventListener() {
-        return new DefaultCasEventListener(casEventRepository());
+        val writeBehind = casProperties.getEvents().getWriteBehind();
+        val repository = writeBehind.isEnabled()
+            ? new AsynchronousCasEventRepository(casEventRepository(), writeBehind.getQueueCapacity(),
+            writeBehind.getBatchSize(), writeBehind.isDropOnOverflow())
+            : casEventRepository();
+        return new DefaultCasEventListener(repository, casEventRecordListeners.getIfAvailable(ArrayList::new));
     }
 
     @ConditionalOnMissingBean(name = "casEventRepository")
@@ -0,0 +1,225 @@
+package org.apereo.cas.support.events.dao;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.support.events.CasEventRepository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This is {@link AsynchronousCasEventRepository} that decorates an events repository
+ * with a write-behind queue. Events are accepted into a bounded queue and are handed off
+ * to the underlying repository in batches by a background thread, so that a slow events store
+ * does not add to the latency of the request that produced the event. When the queue is full,
+ * events are either saved synchronously or dropped, based on the configured overflow policy.
+ * Queries are always passed onto the underlying repository, and may not reflect events
+ * that are still pending in the queue. The size of the queue along with the number of flushed,
+ * overflowed, dropped and failed events are registered as metrics under {@code cas.events.queue}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(of = {"casEventRepository", "batchSize", "dropOnOverflow"})
+public class AsynchronousCasEventRepository implements CasEventRepository, AutoCloseable {
+    private static final String METRIC_NAME_PREFIX = "cas.events.queue";
+
+    @Getter
+    private final CasEventRepository casEventRepository;
+
+    private final BlockingQueue<CasEvent> queue;
+
+    private final int batchSize;
+
+    private final boolean dropOnOverflow;
+
+    private final AtomicLong flushedEvents = new AtomicLong();
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private final AtomicLong overflowedEvents = new AtomicLong();
+
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public AsynchronousCasEventRepository(final CasEventRepository casEventRepository, final int queueCapacity,
+                                          final int batchSize, final boolean dropOnOverflow) {
+        this.casEventRepository = casEventRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.dropOnOverflow = dropOnOverflow;
+        this.writer = new Thread(this::writeEvents, getClass().getSimpleName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+        registerMetrics();
+    }
+
+    @Override
+    public void save(final CasEvent event) {
+        if (this.queue.offer(event)) {
+            return;
+        }
+        this.overflowedEvents.incrementAndGet();
+        if (this.dropOnOverflow) {
+            this.droppedEvents.incrementAndGet();
+            LOGGER.warn("Events queue is full; dropping event [{}] for [{}]", event.getType(), event.getPrincipalId());
+        } else {
+            LOGGER.debug("Events queue is full; saving event [{}] for [{}] directly", event.getType(), event.getPrincipalId());
+            this.casEventRepository.save(event);
+        }
+    }
+
+    @Override
+    public void saveAll(final Collection<CasEvent> events) {
+        events.forEach(this::save);
+    }
+
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    public long getFlushedEvents() {
+        return this.flushedEvents.get();
+    }
+
+    public long getDroppedEvents() {
+        return this.droppedEvents.get();
+    }
+
+    public long getOverflowedEvents() {
+        return this.overflowedEvents.get();
+    }
+
+    public long getFailedEvents() {
+        return this.failedEvents.get();
+    }
+
+    /**
+     * Save all pending events into the underlying repository.
+     */
+    public void flush() {
+        val batch = new ArrayList<CasEvent>(this.batchSize);
+        while (this.queue.drainTo(batch, this.batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stop accepting queued events and flush those that are pending.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        try {
+            this.writer.join(Duration.ofSeconds(5).toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        LOGGER.debug("Closed events queue after flushing [{}] event(s); dropped [{}] and failed to save [{}] event(s)",
+            this.flushedEvents.get(), this.droppedEvents.get(), this.failedEvents.get());
+    }
+
+    private void registerMetrics() {
+        val repository = this.casEventRepository.getClass().getSimpleName();
+        Gauge.builder(METRIC_NAME_PREFIX + ".size", this, AsynchronousCasEventRepository::getQueueSize)
+            .tag("repository", repository)
+            .register(Metrics.globalRegistry);
+        registerCounter("flushed", AsynchronousCasEventRepository::getFlushedEvents, repository);
+        registerCounter("overflowed", AsynchronousCasEventRepository::getOverflowedEvents, repository);
+        registerCounter("dropped", AsynchronousCasEventRepository::getDroppedEvents, repository);
+        registerCounter("failed", AsynchronousCasEventRepository::getFailedEvents, repository);
+    }
+
+    private void registerCounter(final String name, final ToDoubleFunction<AsynchronousCasEventRepository> count, final String repository) {
+        FunctionCounter.builder(METRIC_NAME_PREFIX + '.' + name, this, count)
+            .tag("repository", repository)
+            .register(Metrics.globalRegistry);
+    }
+
+    private void writeEvents() {
+        val batch = new ArrayList<CasEvent>(this.batchSize);
+        while (this.running) {
+            try {
+                val event = this.queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    batch.add(event);
+                    this.queue.drainTo(batch, this.batchSize - 1);
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.trace("Events queue writer is interrupted");
+            }
+        }
+    }
+
+    private void writeBatch(final Collection<CasEvent> batch) {
+        try {
+            LOGGER.trace("Saving batch of [{}] event(s); [{}] event(s) remain queued", batch.size(), this.queue.size());
+            this.casEventRepository.saveAll(new ArrayList<>(batch));
+            this.flushedEvents.addAndGet(batch.size());
+        } catch (final Exception e) {
+            this.failedEvents.addAndGet(batch.size());
+            LOGGER.error("Unable to save batch of [{}] event(s): [{}]", batch.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Collection<? extends CasEvent> load() {
+        return this.casEventRepository.load();
+    }
+
+    @Override
+    public Collection<CasEvent> load(final ZonedDateTime dateTime) {
+        return this.casEventRepository.load(dateTime);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return this.casEventRepository.getEventsOfTypeForPrincipal(type, principal);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final ZonedDateTime dateTime) {
+        return this.casEventRepository.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsOfType(final String type) {
+        return this.casEventRepository.getEventsOfType(type);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return this.casEventRepository.getEventsOfType(type, dateTime);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsForPrincipal(final String id) {
+        return this.casEventRepository.getEventsForPrincipal(id);
+    }
+
+    @Override
+    public Collection<CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return this.casEventRepository.getEventsForPrincipal(id, dateTime);
+    }
+}
@@ -3,14 +3,15 @@ package org.apereo.cas.support.events.listener;
 import lombok.val;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.support.events.AbstractCasEvent;
+import org.apereo.cas.support.events.CasEventRecordListener;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.authentication.CasAuthenticationPolicyFailureEvent;
 import org.apereo.cas.support.events.authentication.CasAuthenticationTransactionFailureEvent;
 import org.apereo.cas.support.events.authentication.adaptive.CasRiskyAuthenticationDetectedEvent;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
 import org.apereo.cas.util.AsciiArtUtils;
@@ -18,9 +19,13 @@ import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.serialization.TicketIdSanitizationUtils;
 import org.apereo.cas.web.support.WebUtils;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * This is {@link DefaultCasEventListener} that attempts to consume CAS events
  * upon various authentication events. Event data is persisted into a repository
@@ -30,12 +35,23 @@ import org.springframework.context.event.EventListener;
  * @since 5.0.0
  */
 @Slf4j
-@RequiredArgsConstructor
 @Getter
-public class DefaultCasEventListener {
+public class DefaultCasEventListener implements DisposableBean {
 
     private final CasEventRepository casEventRepository;
 
+    private final Collection<CasEventRecordListener> casEventRecordListeners;
+
+    public DefaultCasEventListener(final CasEventRepository casEventRepository) {
+        this(casEventRepository, new ArrayList<>(0));
+    }
+
+    public DefaultCasEventListener(final CasEventRepository casEventRepository,
+                                   final Collection<CasEventRecordListener> casEventRecordListeners) {
+        this.casEventRepository = casEventRepository;
+        this.casEventRecordListeners = casEventRecordListeners;
+    }
+
     /**
      * Handle application ready event.
      *
@@ -59,7 +75,7 @@ public class DefaultCasEventListener {
             dto.setCreationTime(event.getTicketGrantingTicket().getCreationTime().toString());
             dto.putId(TicketIdSanitizationUtils.sanitize(event.getTicketGrantingTicket().getId()));
             dto.setPrincipalId(event.getTicketGrantingTicket().getAuthentication().getPrincipal().getId());
-            this.casEventRepository.save(dto);
+            recordCasEvent(dto);
         }
     }
 
@@ -74,7 +90,7 @@ public class DefaultCasEventListener {
             val dto = prepareCasEvent(event);
             dto.setPrincipalId(event.getCredential().getId());
             dto.putId(CasAuthenticationPolicyFailureEvent.class.getSimpleName());
-            this.casEventRepository.save(dto);
+            recordCasEvent(dto);
         }
     }
 
@@ -89,7 +105,7 @@ public class DefaultCasEventListener {
             val dto = prepareCasEvent(event);
             dto.setPrincipalId(event.getAuthentication().getPrincipal().getId());
             dto.putId(CasAuthenticationPolicyFailureEvent.class.getSimpleName());
-            this.casEventRepository.save(dto);
+            recordCasEvent(dto);
         }
     }
 
@@ -104,10 +120,32 @@ public class DefaultCasEventListener {
             val dto = prepareCasEvent(event);
             dto.putId(event.getService().getName());
             dto.setPrincipalId(event.getAuthentication().getPrincipal().getId());
-            this.casEventRepository.save(dto);
+            recordCasEvent(dto);
         }
     }
 
+    /**
+     * Flush events that are queued for writing, if any.
+     */
+    @Override
+    public void destroy() {
+        if (this.casEventRepository instanceof AsynchronousCasEventRepository) {
+            ((AsynchronousCasEventRepository) this.casEventRepository).close();
+        }
+    }
+
+    private void recordCasEvent(final CasEvent event) {
+        this.casEventRepository.save(event);
+        this.casEventRecordListeners.forEach(listener -> {
+            try {
+                listener.onEventRecorded(event);
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to notify [{}] of recorded event [{}]: [{}]", listener, event.getType(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        });
+    }
+
     private static CasEvent prepareCasEvent(final AbstractCasEvent event) {
         val dto = new CasEvent();
         dto.setType(event.getClass().getCanonicalName());
@@ -0,0 +1,91 @@
+package org.apereo.cas.support.events;
+
+import lombok.val;
+import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link AsynchronousCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class AsynchronousCasEventRepositoryTests {
+
+    private static CasEvent getCasEvent(final int id) {
+        val dto = new CasEvent();
+        dto.setType("type");
+        dto.setPrincipalId("casuser");
+        dto.putId(String.valueOf(id));
+        return dto;
+    }
+
+    @Test
+    public void verifyEventsFlushedInBatches() {
+        val delegate = new BatchRecordingCasEventRepository();
+        val repository = new AsynchronousCasEventRepository(delegate, 1000, 10, false);
+        IntStream.range(0, 50).forEach(i -> repository.save(getCasEvent(i)));
+        repository.close();
+        assertEquals(50, delegate.load().size());
+        assertEquals(50, repository.getFlushedEvents());
+        assertEquals(0, repository.getQueueSize());
+        assertTrue(delegate.getBatches().stream().allMatch(size -> size <= 10));
+    }
+
+    @Test
+    public void verifyEventsDroppedOnOverflow() {
+        val delegate = new BatchRecordingCasEventRepository();
+        val repository = new AsynchronousCasEventRepository(delegate, 1, 1, true);
+        repository.close();
+        repository.save(getCasEvent(1));
+        repository.save(getCasEvent(2));
+        assertEquals(1, repository.getDroppedEvents());
+        assertEquals(1, repository.getQueueSize());
+    }
+
+    @Test
+    public void verifyEventsSavedOnOverflow() {
+        val delegate = new BatchRecordingCasEventRepository();
+        val repository = new AsynchronousCasEventRepository(delegate, 1, 1, false);
+        repository.close();
+        repository.save(getCasEvent(1));
+        repository.save(getCasEvent(2));
+        assertEquals(0, repository.getDroppedEvents());
+        assertEquals(1, repository.getOverflowedEvents());
+        assertEquals(1, delegate.load().size());
+    }
+
+    private static class BatchRecordingCasEventRepository extends AbstractCasEventRepository {
+        private final Collection<CasEvent> events = new CopyOnWriteArrayList<>();
+
+        private final Collection<Integer> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void save(final CasEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void saveAll(final Collection<CasEvent> events) {
+            batches.add(events.size());
+            this.events.addAll(events);
+        }
+
+        @Override
+        public Collection<? extends CasEvent> load() {
+            return events;
+        }
+
+        Collection<Integer> getBatches() {
+            return batches;
+        }
+    }
+}
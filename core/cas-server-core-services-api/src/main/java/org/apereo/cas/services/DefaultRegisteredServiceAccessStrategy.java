@@ -3,6 +3,7 @@ package org.apereo.cas.services;
 import lombok.val;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,11 +14,17 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 
 import javax.persistence.PostLoad;
+import javax.persistence.Transient;
 import java.net.URI;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DefaultRegisteredServiceAccessStrategy}
@@ -94,6 +101,17 @@ public class DefaultRegisteredServiceAccessStrategy implements RegisteredService
      */
     protected boolean caseInsensitive;
 
+    /**
+     * Attribute value patterns compiled from required and rejected attribute rules,
+     * keyed by the rule values from which they are compiled.
+     */
+    @JsonIgnore
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<Set<String>, Pattern> attributeValuePatterns;
+
     /**
      * Instantiates a new Default registered service authorization strategy.
      * By default, rules indicate that services are both enabled
@@ -145,6 +163,27 @@ public class DefaultRegisteredServiceAccessStrategy implements RegisteredService
             new DefaultRegisteredServiceDelegatedAuthenticationPolicy());
     }
 
+    @Override
+    public void initialize() {
+        this.attributeValuePatterns = null;
+        Stream.of(this.requiredAttributes, this.rejectedAttributes)
+            .filter(Objects::nonNull)
+            .flatMap(attributes -> attributes.values().stream())
+            .filter(Objects::nonNull)
+            .forEach(this::getAttributeValuePattern);
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isPrincipalAccessDecisionCacheable() {
+        return true;
+    }
+
+    public void setCaseInsensitive(final boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        this.attributeValuePatterns = null;
+    }
+
     /**
      * Expose underlying attributes for auditing purposes.
      *
@@ -280,18 +319,40 @@ public class DefaultRegisteredServiceAccessStrategy implements RegisteredService
      * @return the boolean
      */
     protected boolean requiredAttributesFoundInMap(final Map<String, Object> principalAttributes, final Map<String, Set<String>> requiredAttributes) {
-        val difference = requiredAttributes.keySet().stream().filter(a -> principalAttributes.keySet().contains(a)).collect(Collectors.toSet());
+        val difference = requiredAttributes.keySet().stream().filter(principalAttributes::containsKey).collect(Collectors.toSet());
         if (this.requireAllAttributes && difference.size() < requiredAttributes.size()) {
             return false;
         }
         return difference.stream().anyMatch(key -> {
             val values = requiredAttributes.get(key);
             val availableValues = CollectionUtils.toCollection(principalAttributes.get(key));
-            val pattern = RegexUtils.concatenate(values, this.caseInsensitive);
+            val pattern = getAttributeValuePattern(values);
             if (pattern != RegexUtils.MATCH_NOTHING_PATTERN) {
-                return availableValues.stream().map(Object::toString).anyMatch(pattern.asPredicate());
+                val predicate = pattern.asPredicate();
+                return availableValues.stream().map(Object::toString).anyMatch(predicate);
             }
             return availableValues.stream().anyMatch(values::contains);
         });
     }
+
+    /**
+     * Gets the pattern compiled from the given attribute values, compiling it once if necessary.
+     *
+     * @param values the attribute values
+     * @return the pattern
+     */
+    protected Pattern getAttributeValuePattern(final Set<String> values) {
+        var patterns = this.attributeValuePatterns;
+        if (patterns == null) {
+            patterns = new ConcurrentHashMap<>();
+            this.attributeValuePatterns = patterns;
+        }
+        var pattern = patterns.get(values);
+        if (pattern == null) {
+            pattern = RegexUtils.concatenate(values, this.caseInsensitive);
+            LOGGER.trace("Compiled attribute values [{}] into pattern [{}]", values, pattern.pattern());
+            patterns.put(new HashSet<>(values), pattern);
+        }
+        return pattern;
+    }
 }
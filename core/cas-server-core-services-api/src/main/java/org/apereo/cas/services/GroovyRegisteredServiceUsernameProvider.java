@@ -8,7 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.util.CollectionUtils;
@@ -16,7 +15,6 @@ import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.ScriptingUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -55,8 +53,8 @@ public class GroovyRegisteredServiceUsernameProvider extends BaseRegisteredServi
         try {
             LOGGER.debug("Found groovy script to execute");
             val resourceFrom = ResourceUtils.getResourceFrom(scriptFile);
-            val script = IOUtils.toString(resourceFrom.getInputStream(), StandardCharsets.UTF_8);
-            val result = getGroovyAttributeValue(principal, script);
+            val args = CollectionUtils.wrap("attributes", principal.getAttributes(), "id", principal.getId(), "logger", LOGGER);
+            val result = ScriptingUtils.executeGroovyShellScript(resourceFrom, (Map) args, Object.class);
             if (result != null) {
                 LOGGER.debug("Found username [{}] from script [{}]", result, scriptFile);
                 return result.toString();
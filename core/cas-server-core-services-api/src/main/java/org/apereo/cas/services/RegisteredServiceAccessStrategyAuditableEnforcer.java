@@ -2,20 +2,54 @@ package org.apereo.cas.services;
 
 import lombok.val;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.audit.AuditableContext;
 import org.apereo.cas.audit.AuditableExecutionResult;
 import org.apereo.cas.audit.BaseAuditableExecution;
+import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.PrincipalException;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * This is {@link RegisteredServiceAccessStrategyAuditableEnforcer}.
+ * Positive decisions of access strategies that are
+ * {@link RegisteredServiceAccessStrategy#isPrincipalAccessDecisionCacheable() cacheable}
+ * may be remembered for a short while, keyed by the registered service and its access strategy
+ * along with a fingerprint of the principal and the very attributes the strategy is asked to evaluate,
+ * i.e. the attributes released by the policy where requested, so that repeated enforcement
+ * for the same authentication skips re-evaluating the strategy.
  *
  * @author Dmitriy Kopylenko
  * @author Misagh Moayyed
  * @since 5.3.0
  */
+@Slf4j
 public class RegisteredServiceAccessStrategyAuditableEnforcer extends BaseAuditableExecution {
+    private final Cache<String, Boolean> accessDecisions;
+
+    public RegisteredServiceAccessStrategyAuditableEnforcer() {
+        this(Duration.ZERO, 0);
+    }
+
+    public RegisteredServiceAccessStrategyAuditableEnforcer(final Duration accessDecisionExpiration, final long maximumSize) {
+        if (accessDecisionExpiration.isZero() || accessDecisionExpiration.isNegative() || maximumSize <= 0) {
+            this.accessDecisions = null;
+        } else {
+            this.accessDecisions = Caffeine.newBuilder()
+                .expireAfterWrite(accessDecisionExpiration)
+                .maximumSize(maximumSize)
+                .build();
+        }
+    }
+
     @Override
     @Audit(action = "SERVICE_ACCESS_ENFORCEMENT",
         actionResolverName = "SERVICE_ACCESS_ENFORCEMENT_ACTION_RESOLVER",
@@ -25,8 +59,8 @@ public class RegisteredServiceAccessStrategyAuditableEnforcer extends BaseAudita
         if (context.getServiceTicket().isPresent() && context.getAuthenticationResult().isPresent() && registeredService.isPresent()) {
             val result = AuditableExecutionResult.of(context);
             try {
-                RegisteredServiceAccessStrategyUtils.ensurePrincipalAccessIsAllowedForService(context.getServiceTicket().get(),
-                    context.getAuthenticationResult().get(), registeredService.get());
+                ensurePrincipalAccessIsAllowedForService(context.getServiceTicket().get().getService(),
+                    registeredService.get(), context.getAuthenticationResult().get().getAuthentication(), true);
             } catch (final PrincipalException e) {
                 result.setException(e);
             }
@@ -39,9 +73,9 @@ public class RegisteredServiceAccessStrategyAuditableEnforcer extends BaseAudita
             val result = AuditableExecutionResult.of(service.get(),
                 registeredService.get(), ticketGrantingTicket.get());
             try {
-                RegisteredServiceAccessStrategyUtils.ensurePrincipalAccessIsAllowedForService(service.get(),
+                ensurePrincipalAccessIsAllowedForService(service.get(),
                     registeredService.get(),
-                    ticketGrantingTicket.get(),
+                    ticketGrantingTicket.get().getRoot().getAuthentication(),
                     context.getRetrievePrincipalAttributesFromReleasePolicy().orElse(Boolean.TRUE));
             } catch (final PrincipalException e) {
                 result.setException(e);
@@ -53,7 +87,7 @@ public class RegisteredServiceAccessStrategyAuditableEnforcer extends BaseAudita
         if (service.isPresent() && registeredService.isPresent() && authentication.isPresent()) {
             val result = AuditableExecutionResult.of(authentication.get(), service.get(), registeredService.get());
             try {
-                RegisteredServiceAccessStrategyUtils.ensurePrincipalAccessIsAllowedForService(service.get(),
+                ensurePrincipalAccessIsAllowedForService(service.get(),
                     registeredService.get(),
                     authentication.get(),
                     context.getRetrievePrincipalAttributesFromReleasePolicy().orElse(Boolean.TRUE));
@@ -85,4 +119,39 @@ public class RegisteredServiceAccessStrategyAuditableEnforcer extends BaseAudita
 
         throw new UnauthorizedServiceException(UnauthorizedServiceException.CODE_UNAUTHZ_SERVICE, "Service unauthorized");
     }
+
+    private void ensurePrincipalAccessIsAllowedForService(final Service service,
+                                                          final RegisteredService registeredService,
+                                                          final Authentication authentication,
+                                                          final boolean retrievePrincipalAttributesFromReleasePolicy) {
+        RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(service, registeredService);
+        val principalId = authentication.getPrincipal().getId();
+        val attributes = RegisteredServiceAccessStrategyUtils.getPrincipalAttributesForAccessStrategy(service,
+            registeredService, authentication, retrievePrincipalAttributesFromReleasePolicy);
+        val decisionKey = getAccessDecisionKey(registeredService, principalId, attributes);
+        if (decisionKey != null && this.accessDecisions.getIfPresent(decisionKey) != null) {
+            LOGGER.trace("Reusing cached access decision for service [{}] and principal [{}]", service.getId(), principalId);
+            return;
+        }
+        RegisteredServiceAccessStrategyUtils.ensurePrincipalAccessIsAllowedForService(service, registeredService, principalId, attributes);
+        if (decisionKey != null) {
+            this.accessDecisions.put(decisionKey, Boolean.TRUE);
+        }
+    }
+
+    private String getAccessDecisionKey(final RegisteredService registeredService,
+                                        final String principalId,
+                                        final Map<String, Object> attributes) {
+        if (this.accessDecisions == null) {
+            return null;
+        }
+        val accessStrategy = registeredService.getAccessStrategy();
+        if (accessStrategy == null || !accessStrategy.isPrincipalAccessDecisionCacheable()) {
+            return null;
+        }
+        val fingerprint = DigestUtils.sha256(principalId + new TreeMap<>(attributes));
+        return String.valueOf(registeredService.getId())
+            + ':' + accessStrategy.hashCode()
+            + ':' + fingerprint;
+    }
 }
@@ -121,15 +121,34 @@ public class RegisteredServiceAccessStrategyUtils {
                                                          final boolean retrievePrincipalAttributesFromReleasePolicy)
         throws UnauthorizedServiceException, PrincipalException {
         ensureServiceAccessIsAllowed(service, registeredService);
+        val attributes = getPrincipalAttributesForAccessStrategy(service, registeredService,
+            authentication, retrievePrincipalAttributesFromReleasePolicy);
+        ensurePrincipalAccessIsAllowedForService(service, registeredService, authentication.getPrincipal().getId(), attributes);
+    }
 
+    /**
+     * Collect the attributes that are handed over to the access strategy of the registered service
+     * in order to authorize the principal, which are the principal attributes, as released by the policy
+     * if requested, along with the authentication attributes.
+     *
+     * @param service                                      the service
+     * @param registeredService                            the registered service
+     * @param authentication                               the authentication
+     * @param retrievePrincipalAttributesFromReleasePolicy retrieve attributes from release policy or simply rely on the principal attributes
+     * @return the attributes
+     */
+    static Map<String, Object> getPrincipalAttributesForAccessStrategy(final Service service,
+                                                                       final RegisteredService registeredService,
+                                                                       final Authentication authentication,
+                                                                       final boolean retrievePrincipalAttributesFromReleasePolicy) {
         val principal = authentication.getPrincipal();
         val principalAttrs =
             retrievePrincipalAttributesFromReleasePolicy && registeredService != null && registeredService.getAttributeReleasePolicy() != null
                 ? registeredService.getAttributeReleasePolicy().getAttributes(principal, service, registeredService)
-                : authentication.getPrincipal().getAttributes();
+                : principal.getAttributes();
         val attributes = new HashMap<String, Object>(principalAttrs);
         attributes.putAll(authentication.getAttributes());
-        ensurePrincipalAccessIsAllowedForService(service, registeredService, principal.getId(), attributes);
+        return attributes;
     }
 
     /**
@@ -2,6 +2,7 @@ package org.apereo.cas.services;
 
 import lombok.val;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -37,6 +38,12 @@ public class RemoteEndpointServiceAccessStrategy extends DefaultRegisteredServic
 
     private String acceptableResponseCodes;
 
+    @JsonIgnore
+    @Override
+    public boolean isPrincipalAccessDecisionCacheable() {
+        return false;
+    }
+
     @Override
     public boolean doPrincipalAttributesAllowServiceAccess(final String principal, final Map<String, Object> principalAttributes) {
         try {
@@ -4,13 +4,11 @@ import lombok.val;
 
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
 import org.apereo.cas.services.RegisteredServiceAttributeFilter;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.ScriptingUtils;
-import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import org.springframework.core.io.FileSystemResource;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -64,15 +62,14 @@ public class RegisteredServiceScriptedAttributeFilter implements RegisteredServi
     }
 
     private static Map<String, Object> filterFileBasedGroovyAttributeValues(final Map<String, Object> resolvedAttributes, final String scriptFile) {
-        try {
-            LOGGER.debug("Found groovy script file to execute [{}]", scriptFile);
-            val script = FileUtils.readFileToString(new File(scriptFile), StandardCharsets.UTF_8);
-            val attributesToRelease = getGroovyAttributeValue(script, resolvedAttributes);
-            return attributesToRelease;
-        } catch (final IOException e) {
-            LOGGER.error(e.getMessage(), e);
+        LOGGER.debug("Found groovy script file to execute [{}]", scriptFile);
+        val resource = new FileSystemResource(scriptFile);
+        if (!resource.exists()) {
+            LOGGER.error("Groovy script file [{}] does not exist", scriptFile);
+            return new HashMap<>(0);
         }
-        return new HashMap<>(0);
+        val args = CollectionUtils.wrap("attributes", resolvedAttributes, "logger", LOGGER);
+        return ScriptingUtils.executeGroovyShellScript(resource, args, Map.class);
     }
 
 }
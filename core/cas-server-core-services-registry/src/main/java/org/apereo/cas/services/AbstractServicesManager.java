@@ -13,6 +13,7 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.RequestScopedLookupContext;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEvent;
@@ -22,10 +23,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,13 +40,30 @@ import java.util.stream.Stream;
 @Slf4j
 public abstract class AbstractServicesManager implements ServicesManager, InitializingBean {
 
+    /**
+     * Lookup context namespace for registered services.
+     */
+    public static final String LOOKUP_NAMESPACE = "services";
+
     private static final long serialVersionUID = -8581398063126547772L;
 
     private final ServiceRegistry serviceRegistry;
 
     private final transient ApplicationEventPublisher eventPublisher;
 
-    private Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
+    private volatile Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
+
+    /**
+     * Fingerprints of the services held here, as of the time they were cached,
+     * used to detect definitions that were modified in place.
+     */
+    private final Map<Long, Integer> serviceFingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Version of the service registry that is reflected by the services held here,
+     * used to ask the registry only for changes on the next load.
+     */
+    private long serviceRegistryVersion = -1;
 
     public AbstractServicesManager(final ServiceRegistry serviceRegistry,
                                    final ApplicationEventPublisher eventPublisher) {
@@ -83,7 +101,10 @@ public abstract class AbstractServicesManager implements ServicesManager, Initia
         if (StringUtils.isBlank(serviceId)) {
             return null;
         }
+        return RequestScopedLookupContext.lookup(LOOKUP_NAMESPACE, serviceId, () -> findServiceMatching(serviceId));
+    }
 
+    private RegisteredService findServiceMatching(final String serviceId) {
         val service = getCandidateServicesToMatch(serviceId)
             .stream()
             .filter(r -> r.matches(serviceId))
@@ -156,7 +177,9 @@ public abstract class AbstractServicesManager implements ServicesManager, Initia
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
             this.serviceRegistry.delete(service);
             this.services.remove(service.getId());
-            deleteInternal(service);
+            this.serviceFingerprints.remove(service.getId());
+            RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+            updateRegisteredServiceIndexes(Collections.singletonList(service), new ArrayList<>(0));
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service));
         }
         return service;
@@ -177,8 +200,9 @@ public abstract class AbstractServicesManager implements ServicesManager, Initia
     public synchronized RegisteredService save(final RegisteredService registeredService, final boolean publishEvent) {
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
         val r = this.serviceRegistry.save(registeredService);
-        this.services.put(r.getId(), r);
-        saveInternal(registeredService);
+        cacheRegisteredService(r, this.services);
+        RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+        updateRegisteredServiceIndexes(new ArrayList<>(0), Collections.singletonList(r));
 
         if (publishEvent) {
             publishEvent(new CasRegisteredServiceSavedEvent(this, r));
@@ -193,32 +217,168 @@ public abstract class AbstractServicesManager implements ServicesManager, Initia
 
     /**
      * Load services that are provided by the DAO.
+     * If the registry is able to report changes since the last load, only those are applied.
+     * Otherwise, all services are loaded and compared against what is already held here,
+     * so that only new, modified or removed services are applied.
+     * Either way, the indexes of the services manager are only updated for the services that changed.
      */
     @Scheduled(initialDelayString = "${cas.serviceRegistry.schedule.startDelay:20000}",
         fixedDelayString = "${cas.serviceRegistry.schedule.repeatInterval:60000}")
     @Override
-    public Collection<RegisteredService> load() {
-        LOGGER.debug("Loading services from [{}]", this.serviceRegistry);
-        this.services = this.serviceRegistry.load()
+    public synchronized Collection<RegisteredService> load() {
+        val changes = this.serviceRegistry.getChangesSince(this.serviceRegistryVersion);
+        if (changes.isPresent()) {
+            loadChanges(changes.get());
+        } else {
+            loadAll();
+        }
+        evaluateExpiredServiceDefinitions();
+        return services.values();
+    }
+
+    private void loadChanges(final RegisteredServiceChangeSet changes) {
+        LOGGER.debug("Loading changes from [{}] since version [{}]", this.serviceRegistry, this.serviceRegistryVersion);
+        val deletedServices = changes.getDeletedServices()
             .stream()
-            .collect(Collectors.toConcurrentMap(r -> {
+            .map(this.services::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        val savedServices = changes.getSavedServices()
+            .stream()
+            .filter(this::isRegisteredServiceModified)
+            .collect(Collectors.toList());
+        this.serviceRegistryVersion = changes.getVersion();
+        if (!deletedServices.isEmpty() || !savedServices.isEmpty()) {
+            val loadedServices = new ConcurrentHashMap<Long, RegisteredService>(this.services);
+            deletedServices.forEach(r -> {
+                LOGGER.debug("Removing registered service [{}]", r.getServiceId());
+                loadedServices.remove(r.getId());
+                this.serviceFingerprints.remove(r.getId());
+            });
+            savedServices.forEach(r -> cacheRegisteredService(r, loadedServices));
+            publishRegisteredServices(loadedServices, deletedServices, savedServices);
+            LOGGER.info("Applied [{}] saved and [{}] deleted service(s) from [{}].",
+                savedServices.size(), deletedServices.size(), this.serviceRegistry.getName());
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
+        }
+    }
+
+    private void loadAll() {
+        LOGGER.debug("Loading services from [{}]", this.serviceRegistry);
+        val version = this.serviceRegistry.getVersion();
+        val loadedServices = new ConcurrentHashMap<Long, RegisteredService>();
+        val savedServices = new ArrayList<RegisteredService>();
+        this.serviceRegistry.load().forEach(r -> {
+            if (isRegisteredServiceModified(r)) {
                 LOGGER.debug("Adding registered service [{}]", r.getServiceId());
-                return r.getId();
-            }, Function.identity(), (r, s) -> s == null ? r : s));
+                cacheRegisteredService(r, loadedServices);
+                savedServices.add(r);
+            } else {
+                loadedServices.put(r.getId(), this.services.get(r.getId()));
+            }
+        });
+        val deletedServices = this.services.values()
+            .stream()
+            .filter(r -> !loadedServices.containsKey(r.getId()))
+            .collect(Collectors.toList());
+        this.serviceFingerprints.keySet().retainAll(loadedServices.keySet());
+        publishRegisteredServices(loadedServices, deletedServices, savedServices);
         loadInternal();
+        this.serviceRegistryVersion = version;
         publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
-        evaluateExpiredServiceDefinitions();
         LOGGER.info("Loaded [{}] service(s) from [{}].", this.services.size(), this.serviceRegistry.getName());
-        return services.values();
     }
 
     @Override
     public synchronized void deleteAll() {
         this.services.forEach((k, v) -> delete(v));
         this.services.clear();
+        this.serviceFingerprints.clear();
         publishEvent(new CasRegisteredServicesDeletedEvent(this));
     }
 
+    /**
+     * Replace the services held here with the given services in one step,
+     * and apply the services that changed to the indexes of the services manager.
+     *
+     * @param loadedServices  the loaded services
+     * @param deletedServices the services that are no longer present
+     * @param savedServices   the services that are new or modified
+     */
+    private void publishRegisteredServices(final Map<Long, RegisteredService> loadedServices,
+                                           final Collection<RegisteredService> deletedServices,
+                                           final Collection<RegisteredService> savedServices) {
+        this.services = loadedServices;
+        RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+        updateRegisteredServiceIndexes(deletedServices, savedServices);
+    }
+
+    /**
+     * Apply deleted and saved services to the indexes of the services manager.
+     * Saved services that have already expired are removed from the indexes rather than added.
+     *
+     * @param deletedServices the deleted services
+     * @param savedServices   the saved services
+     */
+    private void updateRegisteredServiceIndexes(final Collection<RegisteredService> deletedServices,
+                                                final Collection<RegisteredService> savedServices) {
+        if (deletedServices.isEmpty() && savedServices.isEmpty()) {
+            return;
+        }
+        val activeServices = savedServices.stream()
+            .collect(Collectors.partitioningBy(getRegisteredServicesFilteringPredicate()));
+        val removedServices = new ArrayList<RegisteredService>(deletedServices);
+        removedServices.addAll(activeServices.get(Boolean.FALSE));
+        updateInternal(removedServices, activeServices.get(Boolean.TRUE));
+    }
+
+    /**
+     * Determine whether the given service is new or differs from the definition held here,
+     * including definitions whose evaluation order or content was modified in place.
+     *
+     * @param registeredService the registered service
+     * @return true if the service must be cached again
+     */
+    private boolean isRegisteredServiceModified(final RegisteredService registeredService) {
+        val current = this.services.get(registeredService.getId());
+        return current == null
+            || current.getEvaluationOrder() != registeredService.getEvaluationOrder()
+            || !Objects.equals(this.serviceFingerprints.get(registeredService.getId()), registeredService.hashCode())
+            || !registeredService.equals(current);
+    }
+
+    /**
+     * Initialize the given service and hold on to it, replacing any previous definition with the same id.
+     *
+     * @param registeredService the registered service
+     * @param registeredServices the services to add the registered service to
+     */
+    private void cacheRegisteredService(final RegisteredService registeredService, final Map<Long, RegisteredService> registeredServices) {
+        initializeRegisteredServicePolicies(registeredService);
+        registeredService.initialize();
+        registeredServices.put(registeredService.getId(), registeredService);
+        this.serviceFingerprints.put(registeredService.getId(), registeredService.hashCode());
+    }
+
+    /**
+     * Precompute the attribute release policy of the service once as it's loaded,
+     * so that subsequent releases can reuse the same release plan.
+     *
+     * @param registeredService the registered service
+     */
+    private void initializeRegisteredServicePolicies(final RegisteredService registeredService) {
+        val policy = registeredService.getAttributeReleasePolicy();
+        if (policy != null) {
+            LOGGER.trace("Initializing attribute release policy for registered service [{}]", registeredService.getServiceId());
+            policy.initialize();
+        }
+        val accessStrategy = registeredService.getAccessStrategy();
+        if (accessStrategy != null) {
+            LOGGER.trace("Initializing access strategy for registered service [{}]", registeredService.getServiceId());
+            accessStrategy.initialize();
+        }
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         this.services.values()
             .stream()
@@ -311,25 +471,22 @@ public abstract class AbstractServicesManager implements ServicesManager, Initia
     protected abstract Collection<RegisteredService> getCandidateServicesToMatch(String serviceId);
 
     /**
-     * Delete internal.
-     *
-     * @param service the service
+     * Load internal, invoked once all services are loaded from the registry
+     * and the indexes are updated with the services that changed.
      */
-    protected void deleteInternal(final RegisteredService service) {
+    protected void loadInternal() {
     }
 
     /**
-     * Save internal.
+     * Update internal, invoked whenever services are saved, deleted or loaded, with only
+     * the services that changed. Services are identified by their id, since a service
+     * may have been modified in place since it was indexed.
      *
-     * @param service the service
-     */
-    protected void saveInternal(final RegisteredService service) {
-    }
-
-    /**
-     * Load internal.
+     * @param deletedServices the services to remove from the indexes
+     * @param savedServices   the services to add to the indexes, replacing any previous definition with the same id
      */
-    protected void loadInternal() {
+    protected void updateInternal(final Collection<RegisteredService> deletedServices,
+                                  final Collection<RegisteredService> savedServices) {
     }
 
     private void publishEvent(final ApplicationEvent event) {
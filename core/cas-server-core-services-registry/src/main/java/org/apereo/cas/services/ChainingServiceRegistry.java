@@ -1,14 +1,19 @@
 package org.apereo.cas.services;
 
 import com.google.common.base.Predicates;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -21,8 +26,19 @@ import java.util.stream.Collectors;
 @Getter
 @Slf4j
 public class ChainingServiceRegistry extends AbstractServiceRegistry {
+    private static final int MAXIMUM_TRACKED_VERSIONS = 100;
+
     private final Collection<ServiceRegistry> serviceRegistries;
 
+    /**
+     * Versions of this registry, mapped to the versions of the chained registries at the time.
+     */
+    @Getter(AccessLevel.NONE)
+    private final NavigableMap<Long, List<Long>> registryVersions = new TreeMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private long version;
+
     @Override
     public RegisteredService save(final RegisteredService registeredService) {
         serviceRegistries.forEach(registry -> registry.save(registeredService));
@@ -47,6 +63,56 @@ public class ChainingServiceRegistry extends AbstractServiceRegistry {
             .collect(Collectors.toList());
     }
 
+    /**
+     * The chain is only able to track changes if all chained registries can.
+     *
+     * @return the version, or a negative value if changes are not tracked.
+     */
+    @Override
+    public synchronized long getVersion() {
+        return getVersionOf(serviceRegistries.stream()
+            .map(ServiceRegistry::getVersion)
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    public synchronized Optional<RegisteredServiceChangeSet> getChangesSince(final long version) {
+        val previousVersions = this.registryVersions.get(version);
+        if (previousVersions == null) {
+            return Optional.empty();
+        }
+        val savedServices = new ArrayList<RegisteredService>();
+        val deletedServices = new ArrayList<Long>();
+        val currentVersions = new ArrayList<Long>();
+        val registries = new ArrayList<ServiceRegistry>(this.serviceRegistries);
+        for (var i = 0; i < registries.size(); i++) {
+            val changes = registries.get(i).getChangesSince(previousVersions.get(i));
+            if (!changes.isPresent()) {
+                return Optional.empty();
+            }
+            savedServices.addAll(changes.get().getSavedServices());
+            deletedServices.addAll(changes.get().getDeletedServices());
+            currentVersions.add(changes.get().getVersion());
+        }
+        return Optional.of(new RegisteredServiceChangeSet(getVersionOf(currentVersions), savedServices, deletedServices));
+    }
+
+    private long getVersionOf(final List<Long> versions) {
+        if (versions.size() != this.serviceRegistries.size() || versions.stream().anyMatch(v -> v < 0)) {
+            return -1;
+        }
+        val lastVersion = this.registryVersions.lastEntry();
+        if (lastVersion != null && lastVersion.getValue().equals(versions)) {
+            return lastVersion.getKey();
+        }
+        this.version++;
+        this.registryVersions.put(this.version, versions);
+        while (this.registryVersions.size() > MAXIMUM_TRACKED_VERSIONS) {
+            this.registryVersions.pollFirstEntry();
+        }
+        return this.version;
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
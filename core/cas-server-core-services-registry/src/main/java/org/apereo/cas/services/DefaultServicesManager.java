@@ -1,11 +1,13 @@
 package org.apereo.cas.services;
 
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collection;
-import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
@@ -17,7 +19,7 @@ import java.util.concurrent.ConcurrentSkipListSet;
 public class DefaultServicesManager extends AbstractServicesManager {
     private static final long serialVersionUID = -8581398063126547772L;
 
-    private Set<RegisteredService> orderedServices = new ConcurrentSkipListSet<>();
+    private volatile ConcurrentSkipListSet<RegisteredService> orderedServices = new ConcurrentSkipListSet<>();
 
     public DefaultServicesManager(final ServiceRegistry serviceRegistry, final ApplicationEventPublisher eventPublisher) {
         super(serviceRegistry, eventPublisher);
@@ -28,18 +30,19 @@ public class DefaultServicesManager extends AbstractServicesManager {
         return this.orderedServices;
     }
 
+    /**
+     * Copy the ordered services, replace the services that changed and swap the copy in at once,
+     * so lookups never observe a partially updated set of services.
+     */
     @Override
-    protected void deleteInternal(final RegisteredService service) {
-        this.orderedServices.remove(service);
-    }
-
-    @Override
-    protected void saveInternal(final RegisteredService service) {
-        this.orderedServices = new ConcurrentSkipListSet<>(getAllServices());
-    }
-
-    @Override
-    protected void loadInternal() {
-        this.orderedServices = new ConcurrentSkipListSet<>(getAllServices());
+    protected void updateInternal(final Collection<RegisteredService> deletedServices,
+                                  final Collection<RegisteredService> savedServices) {
+        val ids = Stream.concat(deletedServices.stream(), savedServices.stream())
+            .map(RegisteredService::getId)
+            .collect(Collectors.toSet());
+        val services = new ConcurrentSkipListSet<RegisteredService>(this.orderedServices);
+        services.removeIf(r -> ids.contains(r.getId()));
+        services.addAll(savedServices);
+        this.orderedServices = services;
     }
 }
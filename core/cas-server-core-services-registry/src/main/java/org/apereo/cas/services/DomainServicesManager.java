@@ -8,12 +8,16 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ServicesManager} interface that organizes services by domain into
@@ -30,7 +34,12 @@ public class DomainServicesManager extends AbstractServicesManager {
 
     private static final String DEFAULT_DOMAIN_NAME = "default";
 
-    private final Map<String, TreeSet<RegisteredService>> domains = new ConcurrentHashMap<>();
+    private volatile Map<String, TreeSet<RegisteredService>> domains = new ConcurrentHashMap<>();
+
+    /**
+     * Domain each indexed service is organized under, keyed by service id.
+     */
+    private final Map<Long, String> serviceDomains = new ConcurrentHashMap<>();
 
     /**
      * This regular expression is used to strip the domain form the serviceId that is set in
@@ -43,12 +52,6 @@ public class DomainServicesManager extends AbstractServicesManager {
         super(serviceRegistry, eventPublisher);
     }
 
-    @Override
-    protected void deleteInternal(final RegisteredService service) {
-        val domain = extractDomain(service.getServiceId());
-        this.domains.get(domain).remove(service);
-    }
-
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
         val mappedDomain = StringUtils.isNotBlank(serviceId) ? extractDomain(serviceId) : StringUtils.EMPTY;
@@ -65,17 +68,32 @@ public class DomainServicesManager extends AbstractServicesManager {
         return registeredServices;
     }
 
+    /**
+     * Copy the domains whose services changed, replace the services that changed in the copies
+     * and swap them in at once, so lookups never observe a partially updated set of domains.
+     */
     @Override
-    protected void saveInternal(final RegisteredService service) {
-        addToDomain(service, this.domains);
-    }
-
-    @Override
-    protected void loadInternal() {
-        val localDomains = new ConcurrentHashMap<String, TreeSet<RegisteredService>>();
-        getAllServices().forEach(r -> addToDomain(r, localDomains));
-        this.domains.clear();
-        this.domains.putAll(localDomains);
+    protected void updateInternal(final Collection<RegisteredService> deletedServices,
+                                  final Collection<RegisteredService> savedServices) {
+        val ids = Stream.concat(deletedServices.stream(), savedServices.stream())
+            .map(RegisteredService::getId)
+            .collect(Collectors.toSet());
+        val localDomains = new ConcurrentHashMap<String, TreeSet<RegisteredService>>(this.domains);
+        val copiedDomains = new HashSet<String>();
+        ids.stream()
+            .map(this.serviceDomains::remove)
+            .filter(Objects::nonNull)
+            .forEach(domain -> copyDomain(domain, localDomains, copiedDomains).removeIf(r -> ids.contains(r.getId())));
+        savedServices.forEach(r -> {
+            val domain = extractDomain(r.getServiceId());
+            LOGGER.debug("Added service [{}] mapped to domain definition [{}]", r, domain);
+            copyDomain(domain, localDomains, copiedDomains).add(r);
+            this.serviceDomains.put(r.getId(), domain);
+        });
+        copiedDomains.stream()
+            .filter(domain -> localDomains.get(domain).isEmpty())
+            .forEach(localDomains::remove);
+        this.domains = localDomains;
     }
 
     @Override
@@ -85,7 +103,8 @@ public class DomainServicesManager extends AbstractServicesManager {
 
     @Override
     public Collection<RegisteredService> getServicesForDomain(final String domain) {
-        return this.domains.containsKey(domain) ? this.domains.get(domain) : new ArrayList<>();
+        val services = this.domains.get(domain);
+        return services != null ? services : new ArrayList<>();
     }
 
 
@@ -100,13 +119,12 @@ public class DomainServicesManager extends AbstractServicesManager {
         return match.matches() ? domain : "default";
     }
 
-    private void addToDomain(final RegisteredService r, final Map<String, TreeSet<RegisteredService>> map) {
-        val domain = extractDomain(r.getServiceId());
-        val services = map.containsKey(domain)
-            ? map.get(domain)
-            : new TreeSet<RegisteredService>();
-        LOGGER.debug("Added service [{}] mapped to domain definition [{}]", r, domain);
-        services.add(r);
-        map.put(domain, services);
+    private static TreeSet<RegisteredService> copyDomain(final String domain, final Map<String, TreeSet<RegisteredService>> domains,
+                                                         final Set<String> copiedDomains) {
+        if (copiedDomains.add(domain)) {
+            val services = domains.get(domain);
+            domains.put(domain, services != null ? new TreeSet<>(services) : new TreeSet<>());
+        }
+        return domains.get(domain);
     }
 }
@@ -1,6 +1,5 @@
 package org.apereo.cas.services;
 
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
@@ -8,8 +7,8 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
-import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -23,15 +22,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ToString
 @Setter
-@NoArgsConstructor
-@RequiredArgsConstructor
 public class InMemoryServiceRegistry extends AbstractServiceRegistry {
 
-    private final List<RegisteredService> registeredServices = new ArrayList<>();
-    
+    private final List<RegisteredService> registeredServices;
+
+    @ToString.Exclude
+    private final RegisteredServiceChangeLog changeLog = new RegisteredServiceChangeLog();
+
+    public InMemoryServiceRegistry() {
+        this(new ArrayList<>());
+    }
+
+    public InMemoryServiceRegistry(final List<RegisteredService> registeredServices) {
+        this.registeredServices = registeredServices;
+    }
+
     @Override
     public boolean delete(final RegisteredService registeredService) {
-        return this.registeredServices.remove(registeredService);
+        val result = this.registeredServices.remove(registeredService);
+        if (result) {
+            this.changeLog.record(registeredService.getId());
+        }
+        return result;
     }
 
     @Override
@@ -64,9 +76,20 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
             this.registeredServices.remove(svc);
         }
         this.registeredServices.add(registeredService);
+        this.changeLog.record(registeredService.getId());
         return registeredService;
     }
 
+    @Override
+    public long getVersion() {
+        return this.changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<RegisteredServiceChangeSet> getChangesSince(final long version) {
+        return this.changeLog.getChangesSince(version, this::findServiceById);
+    }
+
     /**
      * This isn't super-fast but we don't expect thousands of services.
      *
@@ -0,0 +1,100 @@
+package org.apereo.cas.services;
+
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.LongFunction;
+
+/**
+ * This is {@link RegisteredServiceChangeLog} that allows service registries
+ * to keep track of the identifiers of service definitions that are saved or deleted,
+ * keyed by a monotonically increasing version. Only a bounded number of changes is retained;
+ * requests for changes that are older than the retained history, or history that is reset
+ * as a result of a full reload, cannot be answered and force callers to reload instead.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString
+public class RegisteredServiceChangeLog {
+    private static final int DEFAULT_MAXIMUM_CHANGES = 1000;
+
+    private final int maximumChanges;
+
+    private final NavigableMap<Long, Long> changes = new TreeMap<>();
+
+    private long version;
+
+    private long oldestKnownVersion;
+
+    public RegisteredServiceChangeLog() {
+        this(DEFAULT_MAXIMUM_CHANGES);
+    }
+
+    public RegisteredServiceChangeLog(final int maximumChanges) {
+        this.maximumChanges = maximumChanges;
+    }
+
+    public synchronized long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Record a change to the service definition with the given identifier.
+     *
+     * @param serviceId the numeric service id
+     * @return the version assigned to this change
+     */
+    public synchronized long record(final long serviceId) {
+        this.version++;
+        this.changes.put(this.version, serviceId);
+        while (this.changes.size() > this.maximumChanges) {
+            this.oldestKnownVersion = this.changes.pollFirstEntry().getKey();
+        }
+        return this.version;
+    }
+
+    /**
+     * Discard all recorded changes, typically once the registry is fully reloaded.
+     * Changes can only be collected from this point forward.
+     */
+    public synchronized void reset() {
+        this.changes.clear();
+        this.oldestKnownVersion = this.version;
+    }
+
+    /**
+     * Collect the changes recorded after the given version. Every changed service id is resolved
+     * to its current definition; those that no longer resolve are reported as deleted.
+     *
+     * @param sinceVersion the version to start from
+     * @param resolver     the function to find the current definition of a service by its id
+     * @return the change set, or empty if the version is unknown to this log
+     */
+    public synchronized Optional<RegisteredServiceChangeSet> getChangesSince(final long sinceVersion,
+                                                                             final LongFunction<RegisteredService> resolver) {
+        if (sinceVersion < this.oldestKnownVersion || sinceVersion > this.version) {
+            LOGGER.debug("Changes since version [{}] are unknown; recorded versions range from [{}] to [{}]",
+                sinceVersion, this.oldestKnownVersion, this.version);
+            return Optional.empty();
+        }
+        val saved = new ArrayList<RegisteredService>();
+        val deleted = new ArrayList<Long>();
+        new LinkedHashSet<>(this.changes.tailMap(sinceVersion, false).values()).forEach(id -> {
+            val service = resolver.apply(id);
+            if (service == null) {
+                deleted.add(id);
+            } else {
+                saved.add(service);
+            }
+        });
+        return Optional.of(new RegisteredServiceChangeSet(this.version, saved, deleted));
+    }
+}
@@ -1,5 +1,8 @@
 package org.apereo.cas.services.resource;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +12,8 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceChangeLog;
+import org.apereo.cas.services.RegisteredServiceChangeSet;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
 import org.apereo.cas.services.replication.NoOpRegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
@@ -19,24 +24,32 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.io.PathWatcherService;
+import org.apereo.cas.util.serialization.SerializationUtils;
 import org.apereo.cas.util.serialization.StringSerializer;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -54,6 +67,8 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private static final String PATTERN_REGISTERED_SERVICE_FILE_NAME = "(\\w+)-(\\d+)\\.";
 
+    private static final int DEFAULT_LOAD_THREADS = 4;
+
     private static final BinaryOperator<RegisteredService> LOG_DUPLICATE_AND_RETURN_FIRST_ONE = (s1, s2) -> {
         BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
         return s1;
@@ -82,6 +97,31 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private RegisteredServiceResourceNamingStrategy resourceNamingStrategy;
 
+    /**
+     * Changes made to the service map, reported to callers that watch this registry for changes.
+     */
+    private final RegisteredServiceChangeLog changeLog = new RegisteredServiceChangeLog();
+
+    /**
+     * Service definitions parsed from each file, keyed by the file path.
+     */
+    @ToString.Exclude
+    private final Map<String, ParsedResource> parsedResources = new ConcurrentHashMap<>();
+
+    /**
+     * Number of threads used to parse service definition files in parallel.
+     */
+    @Setter
+    private int loadThreads = DEFAULT_LOAD_THREADS;
+
+    /**
+     * File that holds the binary snapshot of parsed service definitions, if any.
+     */
+    @Setter
+    private File snapshotFile;
+
+    private boolean snapshotConsulted;
+
     public AbstractResourceBasedServiceRegistry(final Resource configDirectory,
                                                 final Collection<StringSerializer<RegisteredService>> serializers,
                                                 final ApplicationEventPublisher eventPublisher) throws Exception {
@@ -215,6 +255,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
         val f = getRegisteredServiceFileName(service);
         publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
+        this.parsedResources.remove(f.getAbsolutePath());
         val result = !f.exists() || f.delete();
         if (!result) {
             LOGGER.warn("Failed to delete service definition file [{}]", f.getCanonicalPath());
@@ -234,24 +275,185 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      */
     protected void removeRegisteredService(final RegisteredService service) {
         this.serviceMap.remove(service.getId());
+        this.changeLog.record(service.getId());
+    }
+
+    /**
+     * Changes can only be tracked if definitions are watched on disk, and are not replicated
+     * across nodes. Otherwise, changes are only discovered by reloading the entire directory.
+     *
+     * @return the version, or a negative value if changes are not tracked.
+     */
+    @Override
+    public long getVersion() {
+        if (this.serviceRegistryConfigWatcher == null
+            || !(this.registeredServiceReplicationStrategy instanceof NoOpRegisteredServiceReplicationStrategy)) {
+            return -1;
+        }
+        return this.changeLog.getVersion();
+    }
+
+    @Override
+    public Optional<RegisteredServiceChangeSet> getChangesSince(final long version) {
+        if (getVersion() < 0) {
+            return Optional.empty();
+        }
+        return this.changeLog.getChangesSince(version, id -> this.serviceMap.get(id));
     }
 
     @Override
     public synchronized List<RegisteredService> load() {
+        this.changeLog.reset();
+        if (!this.snapshotConsulted) {
+            this.snapshotConsulted = true;
+            if (loadSnapshot()) {
+                this.serviceMap = getRegisteredServicesFromParsedResources();
+                LOGGER.info("Loaded [{}] service(s) from snapshot [{}]. Service definitions in [{}] will be validated in the background",
+                    this.serviceMap.size(), this.snapshotFile, this.serviceRegistryDirectory);
+                validateSnapshotInBackground();
+                return publishLoadedRegisteredServices();
+            }
+        }
+        this.serviceMap = loadRegisteredServicesFromResources();
+        return publishLoadedRegisteredServices();
+    }
+
+    private List<RegisteredService> publishLoadedRegisteredServices() {
+        val services = new ArrayList<RegisteredService>(this.serviceMap.values());
+        val results =
+            this.registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(services, this);
+        results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service)));
+        return results;
+    }
+
+    /**
+     * Load registered services from all files in the service registry directory.
+     * Only files that have changed since they were last parsed are parsed again.
+     *
+     * @return the registered services, mapped by their id
+     */
+    private Map<Long, RegisteredService> loadRegisteredServicesFromResources() {
         val files = FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), new String[]{getExtension()}, true);
-        this.serviceMap = files
+        val changedFiles = files
+            .stream()
+            .filter(this::isResourceModified)
+            .collect(Collectors.toList());
+        parseResources(changedFiles);
+
+        val paths = files.stream().map(File::getAbsolutePath).collect(Collectors.toSet());
+        val removed = this.parsedResources.keySet().retainAll(paths);
+        if (removed || !changedFiles.isEmpty()) {
+            writeSnapshot();
+        }
+        return getRegisteredServicesFromParsedResources();
+    }
+
+    private Map<Long, RegisteredService> getRegisteredServicesFromParsedResources() {
+        return this.parsedResources.values()
             .stream()
-            .map(this::load)
-            .filter(Objects::nonNull)
+            .map(ParsedResource::getServices)
             .flatMap(Collection::stream)
             .sorted()
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
                 LOG_DUPLICATE_AND_RETURN_FIRST_ONE, LinkedHashMap::new));
-        val services = new ArrayList<RegisteredService>(this.serviceMap.values());
-        val results =
-            this.registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(services, this);
-        results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service)));
-        return results;
+    }
+
+    private boolean isResourceModified(final File file) {
+        val parsed = this.parsedResources.get(file.getAbsolutePath());
+        return parsed == null || parsed.getLastModified() != file.lastModified() || parsed.getLength() != file.length();
+    }
+
+    private void parseResources(final Collection<File> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Parsing [{}] service definition file(s) from [{}]", files.size(), this.serviceRegistryDirectory);
+        if (this.loadThreads <= 1 || files.size() == 1) {
+            files.forEach(this::parseResource);
+            return;
+        }
+        val pool = new ForkJoinPool(Math.min(this.loadThreads, files.size()));
+        try {
+            pool.submit(() -> files.parallelStream().forEach(this::parseResource)).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void parseResource(final File file) {
+        val lastModified = file.lastModified();
+        val length = file.length();
+        val services = new ArrayList<RegisteredService>(load(file));
+        this.parsedResources.put(file.getAbsolutePath(), new ParsedResource(lastModified, length, services));
+    }
+
+    private boolean loadSnapshot() {
+        if (this.snapshotFile == null || !this.snapshotFile.exists()) {
+            return false;
+        }
+        try (val in = new BufferedInputStream(Files.newInputStream(this.snapshotFile.toPath()))) {
+            val snapshot = (Map<String, ParsedResource>) SerializationUtils.deserialize(in, HashMap.class);
+            this.parsedResources.putAll(snapshot);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to load service definitions from snapshot [{}]: [{}]", this.snapshotFile, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            this.parsedResources.clear();
+        }
+        return false;
+    }
+
+    private void writeSnapshot() {
+        if (this.snapshotFile == null) {
+            return;
+        }
+        val snapshot = this.snapshotFile.getAbsoluteFile();
+        val tempFile = new File(snapshot.getParentFile(), snapshot.getName() + ".tmp");
+        try {
+            FileUtils.forceMkdirParent(snapshot);
+            try (val out = new BufferedOutputStream(Files.newOutputStream(tempFile.toPath()))) {
+                SerializationUtils.serialize(new HashMap<>(this.parsedResources), out);
+            }
+            Files.move(tempFile.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Stored snapshot of [{}] service definition file(s) at [{}]", this.parsedResources.size(), snapshot);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to store service definitions snapshot at [{}]: [{}]", snapshot, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    private void validateSnapshotInBackground() {
+        val thread = new Thread(this::validateSnapshot, getClass().getSimpleName() + "-SnapshotValidator");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Check the loaded snapshot against service definition files,
+     * and record whatever has changed so it can be picked up by the next reload.
+     * Changed definitions are passed through the replication strategy,
+     * as they would be if they were loaded from the files in the first place.
+     */
+    private synchronized void validateSnapshot() {
+        val previousServices = this.serviceMap;
+        val currentServices = loadRegisteredServicesFromResources();
+        this.serviceMap = currentServices;
+        val removedServices = previousServices.keySet()
+            .stream()
+            .filter(id -> !currentServices.containsKey(id))
+            .collect(Collectors.toList());
+        val changedServices = currentServices.values()
+            .stream()
+            .filter(r -> !r.equals(previousServices.get(r.getId())))
+            .map(RegisteredService::getId)
+            .collect(Collectors.toList());
+        if (!removedServices.isEmpty() || !changedServices.isEmpty()) {
+            publishLoadedRegisteredServices();
+        }
+        removedServices.forEach(this.changeLog::record);
+        changedServices.forEach(this.changeLog::record);
+        LOGGER.info("Validated service definitions snapshot against [{}]; [{}] service(s) changed and [{}] removed",
+            this.serviceRegistryDirectory, changedServices.size(), removedServices.size());
     }
 
     /**
@@ -320,6 +522,8 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
                 LOGGER.debug("Found existing service definition by id [{}]. Saving...", service.getId());
             }
             this.serviceMap.put(service.getId(), service);
+            this.parsedResources.remove(f.getAbsolutePath());
+            this.changeLog.record(service.getId());
             LOGGER.debug("Saved service to [{}]", f.getCanonicalPath());
         } catch (final IOException e) {
             throw new IllegalArgumentException("IO error opening file stream.", e);
@@ -330,6 +534,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     @Override
     public void update(final RegisteredService service) {
         this.serviceMap.put(service.getId(), service);
+        this.changeLog.record(service.getId());
     }
 
     /**
@@ -379,4 +584,20 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      * @return the extension
      */
     protected abstract String getExtension();
+
+    /**
+     * Service definitions parsed from a single file, along with the file
+     * attributes used to tell whether the file has changed since.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class ParsedResource implements Serializable {
+        private static final long serialVersionUID = 6414187392155843221L;
+
+        private final long lastModified;
+
+        private final long length;
+
+        private final List<RegisteredService> services;
+    }
 }
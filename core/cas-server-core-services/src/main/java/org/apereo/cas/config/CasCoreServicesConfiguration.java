@@ -18,6 +18,7 @@ import org.apereo.cas.authentication.principal.ShibbolethCompatiblePersistentIdG
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceResponseBuilder;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ChainingServiceRegistry;
 import org.apereo.cas.services.DefaultServiceRegistryExecutionPlan;
 import org.apereo.cas.services.DefaultServicesManager;
@@ -117,7 +118,10 @@ public class CasCoreServicesConfiguration {
     @Bean
     @RefreshScope
     public AuditableExecution registeredServiceAccessStrategyEnforcer() {
-        return new RegisteredServiceAccessStrategyAuditableEnforcer();
+        val registry = casProperties.getServiceRegistry();
+        return new RegisteredServiceAccessStrategyAuditableEnforcer(
+            Beans.newDuration(registry.getAccessDecisionCacheExpiration()),
+            registry.getAccessDecisionCacheMaximumSize());
     }
 
     @ConditionalOnMissingBean(name = "servicesManager")
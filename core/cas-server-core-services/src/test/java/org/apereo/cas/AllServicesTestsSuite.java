@@ -20,6 +20,7 @@ import org.apereo.cas.services.PrincipalAttributeRegisteredServiceUsernameProvid
 import org.apereo.cas.services.RefuseRegisteredServiceProxyPolicyTests;
 import org.apereo.cas.services.RegexMatchingRegisteredServiceProxyPolicyTests;
 import org.apereo.cas.services.RegexRegisteredServiceTests;
+import org.apereo.cas.services.RegisteredServiceAccessStrategyAuditableEnforcerTests;
 import org.apereo.cas.services.RegisteredServiceAuthenticationHandlerResolverTests;
 import org.apereo.cas.services.RegisteredServicePublicKeyImplTests;
 import org.apereo.cas.services.RemoteEndpointServiceAccessStrategyTests;
@@ -58,6 +59,7 @@ import org.junit.runners.Suite;
         RefuseRegisteredServiceProxyPolicyTests.class,
         GroovyRegisteredServiceUsernameProviderTests.class,
         RegisteredServiceAuthenticationHandlerResolverTests.class,
+        RegisteredServiceAccessStrategyAuditableEnforcerTests.class,
         SimpleServiceTests.class,
         RegisteredServiceMappedRegexAttributeFilterTests.class,
         RegisteredServiceRegexAttributeFilterTests.class,
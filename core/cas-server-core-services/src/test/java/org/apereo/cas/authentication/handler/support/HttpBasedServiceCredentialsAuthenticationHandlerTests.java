@@ -5,6 +5,7 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,8 +13,11 @@ import org.junit.Before;
 import org.junit.rules.ExpectedException;
 
 import javax.security.auth.login.FailedLoginException;
+import java.net.URL;
+import java.time.Duration;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Scott Battaglia
@@ -76,4 +80,19 @@ public class HttpBasedServiceCredentialsAuthenticationHandlerTests {
         this.thrown.expect(FailedLoginException.class);
         this.authenticationHandler.authenticate(RegisteredServiceTestUtils.getHttpBasedServiceCredentials("https://www.ja-sig.org"));
     }
+
+    @Test
+    public void verifyVerifiedCallbackUrlIsCached() throws Exception {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.isValidEndPoint(any(URL.class))).thenReturn(true);
+        this.authenticationHandler = new HttpBasedServiceCredentialsAuthenticationHandler("", null, null, null, httpClient);
+        this.authenticationHandler.setCallbackCacheExpiration(Duration.ofMinutes(1));
+
+        assertNotNull(this.authenticationHandler.authenticate(RegisteredServiceTestUtils.getHttpBasedServiceCredentials("https://app.example.org/proxy?id=1")));
+        assertNotNull(this.authenticationHandler.authenticate(RegisteredServiceTestUtils.getHttpBasedServiceCredentials("https://APP.example.org:443/proxy?id=2")));
+        verify(httpClient, times(1)).isValidEndPoint(any(URL.class));
+
+        assertNotNull(this.authenticationHandler.authenticate(RegisteredServiceTestUtils.getHttpBasedServiceCredentials("https://app.example.org/other")));
+        verify(httpClient, times(2)).isValidEndPoint(any(URL.class));
+    }
 }
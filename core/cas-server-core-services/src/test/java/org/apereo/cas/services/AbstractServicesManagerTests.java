@@ -7,7 +7,9 @@ import org.junit.Test;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -61,4 +63,106 @@ public abstract class AbstractServicesManagerTests {
         this.servicesManager.save(r);
         assertNotNull(this.servicesManager.findServiceBy(1000));
     }
+
+    @Test
+    public void verifyLoadAppliesRegistryChanges() {
+        val r = new RegexRegisteredService();
+        r.setId(3000);
+        r.setName("registryChange");
+        r.setServiceId("https://changes.example.org.+");
+        this.serviceRegistry.save(r);
+        assertNull(this.servicesManager.findServiceBy(3000));
+
+        this.servicesManager.load();
+        assertNotNull(this.servicesManager.findServiceBy(3000));
+        assertNotNull(this.servicesManager.findServiceBy("https://changes.example.org/app"));
+
+        this.serviceRegistry.delete(r);
+        this.servicesManager.load();
+        assertNull(this.servicesManager.findServiceBy(3000));
+        assertNull(this.servicesManager.findServiceBy("https://changes.example.org/app"));
+    }
+
+    @Test
+    public void verifyServiceModifiedInPlaceIsReordered() {
+        val r = new RegexRegisteredService();
+        r.setId(4000);
+        r.setName(TEST);
+        r.setServiceId("https://reordered.example.org.+");
+        this.servicesManager.save(r);
+
+        r.setEvaluationOrder(1);
+        r.setServiceId("https://modified.example.org.+");
+        this.servicesManager.save(r);
+        assertNull(this.servicesManager.findServiceBy("https://reordered.example.org/app"));
+        assertNotNull(this.servicesManager.findServiceBy("https://modified.example.org/app"));
+        assertEquals(1, this.servicesManager.findServiceBy(svc -> svc.getId() == 4000).size());
+    }
+
+    @Test
+    public void verifyFullLoadPicksUpServiceModifiedInPlace() {
+        val r = new RegexRegisteredService();
+        r.setId(6000);
+        r.setName(TEST);
+        r.setServiceId("https://original.example.org.+");
+        this.serviceRegistry = mock(ServiceRegistry.class);
+        when(this.serviceRegistry.load()).thenReturn(Arrays.asList(r));
+        when(this.serviceRegistry.getChangesSince(anyLong())).thenReturn(Optional.empty());
+        this.servicesManager = getServicesManagerInstance();
+        this.servicesManager.load();
+        assertNotNull(this.servicesManager.findServiceBy("https://original.example.org/app"));
+
+        r.setServiceId("https://modified.example.org.+");
+        this.servicesManager.load();
+        assertNull(this.servicesManager.findServiceBy("https://original.example.org/app"));
+        assertNotNull(this.servicesManager.findServiceBy("https://modified.example.org/app"));
+    }
+
+    @Test
+    public void verifyIndexesUpdatedWithoutFullReload() {
+        val manager = spy((AbstractServicesManager) getServicesManagerInstance());
+        manager.load();
+        clearInvocations(manager);
+
+        val r = new RegexRegisteredService();
+        r.setId(7000);
+        r.setName(TEST);
+        r.setServiceId("https://delta.example.org.+");
+        manager.save(r);
+        assertNotNull(manager.findServiceBy("https://delta.example.org/app"));
+        manager.delete(r);
+        assertNull(manager.findServiceBy("https://delta.example.org/app"));
+        verify(manager, never()).getAllServices();
+
+        val change = new RegexRegisteredService();
+        change.setId(7100);
+        change.setName(TEST);
+        change.setServiceId("https://registry.example.org.+");
+        this.serviceRegistry.save(change);
+        manager.load();
+        assertNotNull(manager.findServiceBy("https://registry.example.org/app"));
+        assertNotNull(manager.findServiceBy("serviceId"));
+        verify(manager, times(1)).getAllServices();
+    }
+
+    @Test
+    public void verifyChainingRegistryReportsChanges() {
+        val registry = new InMemoryServiceRegistry();
+        val chain = new ChainingServiceRegistry(Arrays.asList(registry, new InMemoryServiceRegistry()));
+        val version = chain.getVersion();
+        assertTrue(version >= 0);
+
+        val r = new RegexRegisteredService();
+        r.setId(5000);
+        r.setName(TEST);
+        r.setServiceId(TEST);
+        registry.save(r);
+
+        val changes = chain.getChangesSince(version);
+        assertTrue(changes.isPresent());
+        assertEquals(1, changes.get().getSavedServices().size());
+        assertTrue(changes.get().getDeletedServices().isEmpty());
+        assertTrue(chain.getChangesSince(changes.get().getVersion()).get().isEmpty());
+        assertFalse(chain.getChangesSince(Long.MAX_VALUE).isPresent());
+    }
 }
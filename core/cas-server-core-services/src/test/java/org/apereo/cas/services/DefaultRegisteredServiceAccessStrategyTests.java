@@ -267,6 +267,28 @@ public class DefaultRegisteredServiceAccessStrategyTests {
         assertEquals(strategyWritten, strategyRead);
     }
 
+    @Test
+    public void checkCompiledPatternsHonorCaseInsensitivity() {
+        val authz = new DefaultRegisteredServiceAccessStrategy();
+        authz.setRequiredAttributes(Collections.singletonMap(CN, Collections.singleton("CAS")));
+        authz.initialize();
+        assertFalse(authz.doPrincipalAttributesAllowServiceAccess(TEST, getPrincipalAttributes()));
+        authz.setCaseInsensitive(true);
+        assertTrue(authz.doPrincipalAttributesAllowServiceAccess(TEST, getPrincipalAttributes()));
+    }
+
+    @Test
+    public void checkCompiledPatternsFollowChangedRules() {
+        val authz = new DefaultRegisteredServiceAccessStrategy();
+        val reqs = new HashMap<String, Set<String>>();
+        reqs.put(CN, Collections.singleton(CAS));
+        authz.setRequiredAttributes(reqs);
+        authz.initialize();
+        assertTrue(authz.doPrincipalAttributesAllowServiceAccess(TEST, getPrincipalAttributes()));
+        reqs.put(CN, Collections.singleton("SSO"));
+        assertFalse(authz.doPrincipalAttributesAllowServiceAccess(TEST, getPrincipalAttributes()));
+    }
+
     private static Map<String, Set<String>> getRequiredAttributes() {
         val map = new HashMap<String, Set<String>>();
         map.put(CN, Stream.of(CAS, "SSO").collect(Collectors.toSet()));
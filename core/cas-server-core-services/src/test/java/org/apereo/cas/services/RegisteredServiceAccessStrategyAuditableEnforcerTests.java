@@ -0,0 +1,104 @@
+package org.apereo.cas.services;
+
+import lombok.val;
+
+import org.apereo.cas.audit.AuditableContext;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RegisteredServiceAccessStrategyAuditableEnforcerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class RegisteredServiceAccessStrategyAuditableEnforcerTests {
+
+    @Test
+    public void verifyCacheableDecisionIsReused() {
+        val strategy = getAccessStrategy(true);
+        val enforcer = new RegisteredServiceAccessStrategyAuditableEnforcer(Duration.ofMinutes(1), 100);
+        val context = getAuditableContext(strategy);
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        verify(strategy, times(1)).doPrincipalAttributesAllowServiceAccess(anyString(), anyMap());
+    }
+
+    @Test
+    public void verifyNonCacheableDecisionIsEvaluated() {
+        val strategy = getAccessStrategy(false);
+        val enforcer = new RegisteredServiceAccessStrategyAuditableEnforcer(Duration.ofMinutes(1), 100);
+        val context = getAuditableContext(strategy);
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        verify(strategy, times(2)).doPrincipalAttributesAllowServiceAccess(anyString(), anyMap());
+    }
+
+    @Test(expected = UnauthorizedServiceException.class)
+    public void verifyDisabledServiceIsRejectedWithCachedDecision() {
+        val strategy = getAccessStrategy(true);
+        val enforcer = new RegisteredServiceAccessStrategyAuditableEnforcer(Duration.ofMinutes(1), 100);
+        val context = getAuditableContext(strategy);
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        when(strategy.isServiceAccessAllowed()).thenReturn(false);
+        enforcer.execute(context);
+    }
+
+    @Test
+    public void verifyDecisionsAreNotCachedByDefault() {
+        val strategy = getAccessStrategy(true);
+        val enforcer = new RegisteredServiceAccessStrategyAuditableEnforcer();
+        val context = getAuditableContext(strategy);
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        verify(strategy, times(2)).doPrincipalAttributesAllowServiceAccess(anyString(), anyMap());
+    }
+
+    @Test
+    public void verifyDecisionIsKeyedOnReleasedAttributes() {
+        val strategy = getAccessStrategy(true);
+        val enforcer = new RegisteredServiceAccessStrategyAuditableEnforcer(Duration.ofMinutes(1), 100);
+        val policy = mock(RegisteredServiceAttributeReleasePolicy.class);
+        when(policy.getAttributes(any(), any(), any()))
+            .thenReturn(CollectionUtils.wrap("memberOf", "staff"))
+            .thenReturn(CollectionUtils.wrap("memberOf", "staff"))
+            .thenReturn(CollectionUtils.wrap("memberOf", "faculty"));
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        registeredService.setAccessStrategy(strategy);
+        registeredService.setAttributeReleasePolicy(policy);
+        val context = AuditableContext.builder()
+            .service(RegisteredServiceTestUtils.getService())
+            .registeredService(registeredService)
+            .authentication(RegisteredServiceTestUtils.getAuthentication())
+            .retrievePrincipalAttributesFromReleasePolicy(Boolean.TRUE)
+            .build();
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        assertFalse(enforcer.execute(context).isExecutionFailure());
+        verify(strategy, times(2)).doPrincipalAttributesAllowServiceAccess(anyString(), anyMap());
+    }
+
+    private static RegisteredServiceAccessStrategy getAccessStrategy(final boolean cacheable) {
+        val strategy = mock(RegisteredServiceAccessStrategy.class);
+        when(strategy.isServiceAccessAllowed()).thenReturn(true);
+        when(strategy.isPrincipalAccessDecisionCacheable()).thenReturn(cacheable);
+        when(strategy.doPrincipalAttributesAllowServiceAccess(anyString(), anyMap())).thenReturn(true);
+        return strategy;
+    }
+
+    private static AuditableContext getAuditableContext(final RegisteredServiceAccessStrategy strategy) {
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        registeredService.setAccessStrategy(strategy);
+        return AuditableContext.builder()
+            .service(RegisteredServiceTestUtils.getService())
+            .registeredService(registeredService)
+            .authentication(RegisteredServiceTestUtils.getAuthentication())
+            .retrievePrincipalAttributesFromReleasePolicy(Boolean.FALSE)
+            .build();
+    }
+}
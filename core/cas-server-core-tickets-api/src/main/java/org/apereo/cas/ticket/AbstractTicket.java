@@ -18,6 +18,8 @@ import javax.persistence.Column;
 import javax.persistence.Id;
 import javax.persistence.Lob;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
@@ -98,6 +100,16 @@ public abstract class AbstractTicket implements Ticket, TicketState {
     @Column(name = "EXPIRED", nullable = false)
     private Boolean expired = Boolean.FALSE;
 
+    /**
+     * The time after which this ticket is known to be expired, as calculated
+     * by the expiration policy when the ticket was last stored. Kept in its own indexed column
+     * so that expired tickets can be found and removed in bulk without loading them.
+     */
+    @Column(name = "EXPIRATION_TIME")
+    @JsonIgnore
+    @Getter
+    private ZonedDateTime expirationTime;
+
 
     public AbstractTicket(@NonNull final String id, @NonNull final ExpirationPolicy expirationPolicy) {
         this.id = id;
@@ -127,6 +139,19 @@ public abstract class AbstractTicket implements Ticket, TicketState {
         return this.expired;
     }
 
+    /**
+     * Calculate the expiration time of this ticket before it is stored.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void calculateExpirationTime() {
+        if (isExpiredInternal()) {
+            this.expirationTime = ZonedDateTime.now(ZoneOffset.UTC);
+        } else {
+            this.expirationTime = this.expirationPolicy.getMaximumExpirationTime(this);
+        }
+    }
+
     @Override
     public int compareTo(final Ticket o) {
         return getId().compareTo(o.getId());
@@ -17,6 +17,7 @@ import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -31,7 +32,10 @@ import javax.persistence.Table;
  * @since 3.0.0
  */
 @Entity
-@Table(name = "SERVICETICKET")
+@Table(name = "SERVICETICKET", indexes = {
+    @Index(columnList = "EXPIRATION_TIME"),
+    @Index(columnList = "ticketGrantingTicket_ID")
+})
 @DiscriminatorColumn(name = "TYPE")
 @DiscriminatorValue(ServiceTicket.PREFIX)
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
@@ -19,6 +19,7 @@ import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -38,7 +39,10 @@ import java.util.List;
  * @since 3.0.0
  */
 @Entity
-@Table(name = "TICKETGRANTINGTICKET")
+@Table(name = "TICKETGRANTINGTICKET", indexes = {
+    @Index(columnList = "EXPIRATION_TIME"),
+    @Index(columnList = "ticketGrantingTicket_ID")
+})
 @DiscriminatorColumn(name = "TYPE")
 @DiscriminatorValue(TicketGrantingTicket.PREFIX)
 @JsonIgnoreProperties(ignoreUnknown = true)
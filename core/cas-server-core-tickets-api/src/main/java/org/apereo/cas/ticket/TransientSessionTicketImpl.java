@@ -15,6 +15,7 @@ import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.Table;
 import java.io.Serializable;
@@ -38,7 +39,7 @@ import java.util.Map;
 @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class)
 @Entity
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
-@Table(name = "TRANSIENTSESSIONTICKET")
+@Table(name = "TRANSIENTSESSIONTICKET", indexes = @Index(columnList = "EXPIRATION_TIME"))
 @DiscriminatorColumn(name = "TYPE")
 @DiscriminatorValue(TransientSessionTicket.PREFIX)
 public class TransientSessionTicketImpl extends AbstractTicket implements TransientSessionTicket {
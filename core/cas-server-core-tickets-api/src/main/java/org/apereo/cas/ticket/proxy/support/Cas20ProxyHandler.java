@@ -4,14 +4,20 @@ import lombok.val;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.HttpBasedServiceCredential;
+import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyHandler;
 import org.apereo.cas.util.http.HttpClient;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Proxy Handler to handle the default callback functionality of CAS 2.0.
@@ -19,18 +25,32 @@ import org.apereo.cas.util.http.HttpClient;
  * The default behavior as defined in the CAS 2 Specification is to callback the
  * URL provided and give it a pgtIou and a pgtId.
  * </p>
+ * <p>
+ * Services that are tagged with the {@code proxyCallbackAsynchronousDelivery} property
+ * may have the pgtIou and pgtId delivered in the background, once the pgtIou is returned to the service.
+ * Such services must be prepared to wait for the callback when they look up the pgtId.
+ * </p>
  *
  * @author Scott Battaglia
  * @since 3.0.0
  */
 @Slf4j
 @RequiredArgsConstructor
-public class Cas20ProxyHandler implements ProxyHandler {
+public class Cas20ProxyHandler implements ProxyHandler, DisposableBean {
     private static final int BUFFER_LENGTH_ADDITIONAL_CHARGE = 15;
 
     private final HttpClient httpClient;
     private final UniqueTicketIdGenerator uniqueTicketIdGenerator;
 
+    /**
+     * Delivers callbacks in the background; may be null if asynchronous delivery is turned off.
+     */
+    private final ExecutorService executorService;
+
+    public Cas20ProxyHandler(final HttpClient httpClient, final UniqueTicketIdGenerator uniqueTicketIdGenerator) {
+        this(httpClient, uniqueTicketIdGenerator, null);
+    }
+
     @Override
     public String handle(final Credential credential, final TicketGrantingTicket proxyGrantingTicketId) {
         val serviceCredentials = (HttpBasedServiceCredential) credential;
@@ -58,7 +78,23 @@ public class Cas20ProxyHandler implements ProxyHandler {
             .append('=')
             .append(proxyGrantingTicketId);
 
-        if (this.httpClient.isValidEndPoint(stringBuffer.toString())) {
+        val callback = stringBuffer.toString();
+        if (isAsynchronousDeliveryAllowed(serviceCredentials)) {
+            try {
+                this.executorService.execute(() -> {
+                    if (this.httpClient.isValidEndPoint(callback)) {
+                        LOGGER.debug("Sent ProxyIou of [{}] asynchronously for service: [{}]", proxyIou, serviceCredentials);
+                    } else {
+                        LOGGER.warn("Failed to send ProxyIou of [{}] asynchronously for service: [{}]", proxyIou, serviceCredentials);
+                    }
+                });
+                return proxyIou;
+            } catch (final RejectedExecutionException e) {
+                LOGGER.debug("Asynchronous delivery of ProxyIou of [{}] is rejected; delivering it synchronously", proxyIou);
+            }
+        }
+
+        if (this.httpClient.isValidEndPoint(callback)) {
             LOGGER.debug("Sent ProxyIou of [{}] for service: [{}]", proxyIou, serviceCredentials);
             return proxyIou;
         }
@@ -71,4 +107,16 @@ public class Cas20ProxyHandler implements ProxyHandler {
     public boolean canHandle(final Credential credential) {
         return true;
     }
+
+    @Override
+    public void destroy() {
+        if (this.executorService != null) {
+            this.executorService.shutdown();
+        }
+    }
+
+    private boolean isAsynchronousDeliveryAllowed(final HttpBasedServiceCredential credential) {
+        return this.executorService != null && credential.getService() != null
+            && RegisteredServiceProperties.PROXY_CALLBACK_ASYNCHRONOUS_DELIVERY.isAssignedTo(credential.getService(), BooleanUtils::toBoolean);
+    }
 }
@@ -121,13 +121,8 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return deleteTickets(tickets.stream());
     }
 
-    /**
-     * Delete tickets.
-     *
-     * @param tickets the tickets
-     * @return the total number of deleted tickets
-     */
-    protected int deleteTickets(final Stream<String> tickets) {
+    @Override
+    public int deleteTickets(final Stream<String> tickets) {
         return tickets.mapToInt(this::deleteTicket).sum();
     }
 
@@ -8,6 +8,7 @@ import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.apereo.cas.util.scheduling.ScheduledJobShard;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
@@ -30,6 +31,25 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
 
     @Override
     public void clean() {
+        clean(0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Since shards are disjoint, the cleanup lock is only
+     * obtained when the registry is cleaned as a whole.
+     */
+    @Override
+    public void clean(final int shardIndex, final int shardCount) {
+        val shard = new ScheduledJobShard(shardIndex, shardCount);
+        if (shard.isSharded()) {
+            if (isCleanerSupported()) {
+                LOGGER.debug("Cleaning tickets assigned to [{}]", shard);
+                cleanInternal(shard);
+            }
+            return;
+        }
         try {
             if (!isCleanerSupported()) {
                 LOGGER.trace("Ticket registry cleaner is not supported by [{}]. No cleaner processes will run.", getClass().getSimpleName());
@@ -42,7 +62,7 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
                 return;
             }
             LOGGER.debug("Acquired lock. Proceeding with cleanup.");
-            cleanInternal();
+            cleanInternal(shard);
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         } finally {
@@ -54,9 +74,12 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner, Seri
 
     /**
      * Clean tickets.
+     *
+     * @param shard the shard whose tickets should be cleaned
      */
-    protected void cleanInternal() {
+    protected void cleanInternal(final ScheduledJobShard shard) {
         val ticketsDeleted = ticketRegistry.getTicketsStream()
+            .filter(ticket -> shard.owns(ticket.getId()))
             .filter(Ticket::isExpired)
             .mapToInt(this::cleanTicket)
             .sum();
@@ -0,0 +1,37 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
+
+/**
+ * This is {@link DefaultTicketUsageTracker} that writes each use of a ticket
+ * back into the ticket registry immediately.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultTicketUsageTracker implements TicketUsageTracker {
+    private final TicketRegistry ticketRegistry;
+
+    @Override
+    public void update(final Ticket ticket) {
+        TicketState.class.cast(ticket).update();
+        if (ticket.isExpired()) {
+            LOGGER.debug("Ticket [{}] has expired after its last use and will be removed", ticket.getId());
+            this.ticketRegistry.deleteTicket(ticket.getId());
+        } else {
+            this.ticketRegistry.updateTicket(ticket);
+        }
+    }
+
+    @Override
+    public void track(final Ticket ticket) {
+        if (ticket != null) {
+            this.ticketRegistry.updateTicket(ticket);
+        }
+    }
+}
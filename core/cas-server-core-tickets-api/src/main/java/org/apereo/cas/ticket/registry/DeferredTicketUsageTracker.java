@@ -0,0 +1,252 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.ticket.AbstractTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketState;
+import org.apereo.cas.ticket.support.MultiTimeUseOrTimeoutExpirationPolicy;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link DeferredTicketUsageTracker} that keeps the usage counts and last-used timestamps
+ * of tickets in memory, and writes them into the ticket registry in the background, so that a ticket used
+ * many times in a short period of time is written once per flush rather than once per use.
+ * Pending usage is written no later than the configured staleness allows. Tickets that are close to
+ * their usage limit, or whose idle time-out is not longer than the allowed staleness, are written immediately,
+ * as are tickets that expire as a result of being used.
+ * <p>
+ * When pending usage is written, the ticket is read again from the registry and only its usage state is updated,
+ * so that changes made to the ticket in the meantime by other operations are not lost. Usage state is
+ * only coalesced for uses that take place on this node; concurrent uses on other nodes are subject to the same
+ * last-write-wins semantics that apply when usage is written immediately.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(of = {"ticketRegistry", "maximumStaleness", "remainingUsesThreshold", "maximumPendingTickets"})
+public class DeferredTicketUsageTracker implements TicketUsageTracker, AutoCloseable {
+    @Getter
+    private final TicketRegistry ticketRegistry;
+
+    private final Duration maximumStaleness;
+
+    private final int remainingUsesThreshold;
+
+    private final int maximumPendingTickets;
+
+    private final Map<String, PendingUsage> pendingUsages = new ConcurrentHashMap<>();
+
+    private final AtomicLong recordedUses = new AtomicLong();
+
+    private final AtomicLong writtenTickets = new AtomicLong();
+
+    private final AtomicLong failedTickets = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler;
+
+    public DeferredTicketUsageTracker(final TicketRegistry ticketRegistry, final Duration maximumStaleness,
+                                      final int remainingUsesThreshold, final int maximumPendingTickets) {
+        this.ticketRegistry = ticketRegistry;
+        this.maximumStaleness = maximumStaleness;
+        this.remainingUsesThreshold = Math.max(0, remainingUsesThreshold);
+        this.maximumPendingTickets = Math.max(1, maximumPendingTickets);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            val thread = new Thread(runnable, getClass().getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        val delay = Math.max(1, maximumStaleness.toMillis());
+        this.scheduler.scheduleWithFixedDelay(this::flush, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void update(final Ticket ticket) {
+        this.pendingUsages.computeIfPresent(ticket.getId(), (id, usage) -> usage.applyTo(ticket, 0));
+        TicketState.class.cast(ticket).update();
+        this.recordedUses.incrementAndGet();
+        if (ticket.isExpired()) {
+            LOGGER.debug("Ticket [{}] has expired after its last use and will be removed", ticket.getId());
+            this.pendingUsages.remove(ticket.getId());
+            this.ticketRegistry.deleteTicket(ticket.getId());
+            return;
+        }
+        record(ticket);
+    }
+
+    @Override
+    public void track(final Ticket ticket) {
+        if (ticket == null) {
+            return;
+        }
+        this.pendingUsages.computeIfPresent(ticket.getId(), (id, usage) -> usage.applyTo(ticket, 1));
+        record(ticket);
+    }
+
+    @Override
+    public void flush() {
+        val ticketIds = new ArrayList<String>(this.pendingUsages.keySet());
+        if (!ticketIds.isEmpty()) {
+            LOGGER.trace("Writing usage state of [{}] ticket(s) into the ticket registry", ticketIds.size());
+        }
+        ticketIds.forEach(ticketId -> {
+            val usage = this.pendingUsages.remove(ticketId);
+            if (usage != null) {
+                write(ticketId, usage);
+            }
+        });
+    }
+
+    /**
+     * Stop the background writer and write all usage state that is pending.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdown();
+        try {
+            this.scheduler.awaitTermination(Duration.ofSeconds(5).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        LOGGER.debug("Recorded [{}] ticket use(s) with [{}] write(s) into the ticket registry; [{}] write(s) failed",
+            this.recordedUses.get(), this.writtenTickets.get(), this.failedTickets.get());
+    }
+
+    public int getPendingTickets() {
+        return this.pendingUsages.size();
+    }
+
+    public long getRecordedUses() {
+        return this.recordedUses.get();
+    }
+
+    public long getWrittenTickets() {
+        return this.writtenTickets.get();
+    }
+
+    public long getFailedTickets() {
+        return this.failedTickets.get();
+    }
+
+    private void record(final Ticket ticket) {
+        val usage = this.pendingUsages.compute(ticket.getId(),
+            (id, pending) -> pending == null ? new PendingUsage(ticket) : pending.merge(ticket));
+        if (requiresImmediateWrite(ticket)) {
+            LOGGER.trace("Usage state of ticket [{}] is written into the ticket registry immediately", ticket.getId());
+            writePending(ticket.getId());
+        } else if (this.pendingUsages.size() > this.maximumPendingTickets) {
+            LOGGER.debug("Number of tickets with pending usage state exceeds [{}]", this.maximumPendingTickets);
+            writePending(ticket.getId());
+        } else {
+            LOGGER.trace("Deferred usage state of ticket [{}] with [{}] use(s)", ticket.getId(), usage.getCountOfUses());
+        }
+    }
+
+    private boolean requiresImmediateWrite(final Ticket ticket) {
+        val policy = ticket.getExpirationPolicy();
+        if (policy == null) {
+            return true;
+        }
+        if (policy instanceof MultiTimeUseOrTimeoutExpirationPolicy) {
+            val remainingUses = MultiTimeUseOrTimeoutExpirationPolicy.class.cast(policy).getNumberOfUses() - ticket.getCountOfUses();
+            if (remainingUses <= this.remainingUsesThreshold) {
+                return true;
+            }
+            return isShorterThanStaleness(policy.getTimeToLive());
+        }
+        return isShorterThanStaleness(policy.getTimeToIdle());
+    }
+
+    private boolean isShorterThanStaleness(final Long idleTimeout) {
+        return idleTimeout != null && idleTimeout > 0 && idleTimeout <= this.maximumStaleness.getSeconds();
+    }
+
+    private void writePending(final String ticketId) {
+        val usage = this.pendingUsages.remove(ticketId);
+        if (usage != null) {
+            write(ticketId, usage);
+        }
+    }
+
+    private void write(final String ticketId, final PendingUsage usage) {
+        try {
+            val current = this.ticketRegistry.getTicket(ticketId);
+            if (current == null) {
+                LOGGER.debug("Ticket [{}] is no longer found in the ticket registry; usage state is discarded", ticketId);
+                return;
+            }
+            if (current != usage.getTicket()) {
+                usage.applyTo(current, 0);
+            }
+            if (current.isExpired()) {
+                LOGGER.debug("Ticket [{}] has expired and will be removed", ticketId);
+                this.ticketRegistry.deleteTicket(ticketId);
+            } else {
+                this.ticketRegistry.updateTicket(current);
+            }
+            this.writtenTickets.incrementAndGet();
+        } catch (final Exception e) {
+            this.failedTickets.incrementAndGet();
+            LOGGER.error("Unable to write usage state of ticket [{}]: [{}]", ticketId, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Usage state of a ticket that is yet to be written into the registry.
+     */
+    @Getter
+    private static class PendingUsage {
+        private Ticket ticket;
+
+        private int countOfUses;
+
+        private ZonedDateTime lastTimeUsed;
+
+        private ZonedDateTime previousTimeUsed;
+
+        PendingUsage(final Ticket ticket) {
+            merge(ticket);
+        }
+
+        PendingUsage merge(final Ticket ticket) {
+            val state = TicketState.class.cast(ticket);
+            this.ticket = ticket;
+            this.countOfUses = Math.max(this.countOfUses, state.getCountOfUses());
+            if (this.lastTimeUsed == null || (state.getLastTimeUsed() != null && state.getLastTimeUsed().isAfter(this.lastTimeUsed))) {
+                this.previousTimeUsed = state.getPreviousTimeUsed();
+                this.lastTimeUsed = state.getLastTimeUsed();
+            }
+            return this;
+        }
+
+        /**
+         * Carry the usage state over onto a copy of the ticket that may have been read
+         * from the registry before the pending usage state was written.
+         */
+        PendingUsage applyTo(final Ticket target, final int additionalUses) {
+            if (target instanceof AbstractTicket) {
+                val ticket = AbstractTicket.class.cast(target);
+                ticket.setCountOfUses(Math.max(ticket.getCountOfUses(), this.countOfUses + additionalUses));
+                if (this.lastTimeUsed != null && (ticket.getLastTimeUsed() == null || this.lastTimeUsed.isAfter(ticket.getLastTimeUsed()))) {
+                    ticket.setPreviousTimeUsed(this.previousTimeUsed);
+                    ticket.setLastTimeUsed(this.lastTimeUsed);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.apereo.cas.ticket.registry;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link NearCacheTicketRegistry} that decorates a remote ticket registry
+ * with a small local cache of recently read and written tickets, so that reading the same ticket
+ * several times in the course of a single flow does not require a round trip to the registry each time.
+ * Only tickets whose prefixes are explicitly configured are cached. Cached tickets expire after a short time-to-live,
+ * and changes made on this node are published onto the {@link TicketRegistryCacheBus} so that other nodes
+ * can evict the ticket from their own caches.
+ * <p>
+ * Tickets are mutable, so the cache only ever hands out copies of the tickets it holds; concurrent requests
+ * that read the same ticket never share and modify the same instance. The decorated registry should be exposed
+ * as a bean of its own, so that it is proxied and initialized by the container (i.e. transactions); the container
+ * is then also in charge of destroying it. Otherwise, destroying this registry destroys the decorated registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(of = {"ticketRegistry", "ticketTypes"})
+public class NearCacheTicketRegistry implements TicketRegistry, TicketRegistryCacheBus.Listener, DisposableBean {
+    @Getter
+    private final TicketRegistry ticketRegistry;
+
+    private final Set<String> ticketTypes;
+
+    private final TicketRegistryCacheBus cacheBus;
+
+    private final Cache<String, Ticket> cache;
+
+    private final boolean destroyTicketRegistry;
+
+    public NearCacheTicketRegistry(final TicketRegistry ticketRegistry, final Collection<String> ticketTypes,
+                                   final Duration timeToLive, final long maximumSize,
+                                   final TicketRegistryCacheBus cacheBus) {
+        this(ticketRegistry, ticketTypes, timeToLive, maximumSize, cacheBus, true);
+    }
+
+    public NearCacheTicketRegistry(final TicketRegistry ticketRegistry, final Collection<String> ticketTypes,
+                                   final Duration timeToLive, final long maximumSize,
+                                   final TicketRegistryCacheBus cacheBus, final boolean destroyTicketRegistry) {
+        this.ticketRegistry = ticketRegistry;
+        this.destroyTicketRegistry = destroyTicketRegistry;
+        this.ticketTypes = new LinkedHashSet<>(ticketTypes);
+        this.cacheBus = cacheBus;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, this.cache, "ticketRegistryNearCache");
+        this.cacheBus.subscribe(this);
+    }
+
+    @Override
+    public void invalidate(final String ticketId) {
+        LOGGER.trace("Evicting ticket [{}] from the near-cache", ticketId);
+        this.cache.invalidate(ticketId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        LOGGER.trace("Evicting all tickets from the near-cache");
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        invalidateAll();
+        if (this.destroyTicketRegistry && this.ticketRegistry instanceof DisposableBean) {
+            LOGGER.trace("Destroying ticket registry [{}]", this.ticketRegistry);
+            ((DisposableBean) this.ticketRegistry).destroy();
+        }
+    }
+
+    @Override
+    public void addTicket(final Ticket ticket) {
+        this.ticketRegistry.addTicket(ticket);
+        cacheTicket(ticket);
+    }
+
+    @Override
+    public void addTickets(final Stream<? extends Ticket> tickets) {
+        val ticketsToAdd = tickets.collect(Collectors.toList());
+        this.ticketRegistry.addTickets(ticketsToAdd.stream());
+        ticketsToAdd.forEach(this::cacheTicket);
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId) {
+        if (!isCacheable(ticketId)) {
+            return this.ticketRegistry.getTicket(ticketId);
+        }
+        val cachedTicket = this.cache.getIfPresent(ticketId);
+        if (cachedTicket != null) {
+            if (!cachedTicket.isExpired()) {
+                LOGGER.trace("Found ticket [{}] in the near-cache", ticketId);
+                return SerializationUtils.clone(cachedTicket);
+            }
+            invalidate(ticketId);
+        }
+        val ticket = this.ticketRegistry.getTicket(ticketId);
+        if (ticket != null && !ticket.isExpired()) {
+            this.cache.put(ticketId, SerializationUtils.clone(ticket));
+        }
+        return ticket;
+    }
+
+    @Override
+    public <T extends Ticket> T getTicket(final String ticketId, @NonNull final Class<T> clazz) {
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        return (T) ticket;
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket) {
+        val result = this.ticketRegistry.updateTicket(ticket);
+        cacheTicket(ticket);
+        this.cacheBus.publishInvalidation(ticket.getId());
+        return result;
+    }
+
+    @Override
+    public int deleteTicket(final String ticketId) {
+        val ticketIds = getTicketAndDescendantIds(ticketId);
+        val count = this.ticketRegistry.deleteTicket(ticketId);
+        ticketIds.forEach(this::invalidateAndPublish);
+        return count;
+    }
+
+    @Override
+    public int deleteTickets(final Stream<String> ticketIds) {
+        val ticketsToDelete = ticketIds.collect(Collectors.toList());
+        val ticketIdsToInvalidate = ticketsToDelete.stream()
+            .flatMap(id -> getTicketAndDescendantIds(id).stream())
+            .collect(Collectors.toList());
+        val count = this.ticketRegistry.deleteTickets(ticketsToDelete.stream());
+        ticketIdsToInvalidate.forEach(this::invalidateAndPublish);
+        return count;
+    }
+
+    @Override
+    public long deleteAll() {
+        val count = this.ticketRegistry.deleteAll();
+        invalidateAll();
+        this.cacheBus.publishInvalidationOfAll();
+        return count;
+    }
+
+    @Override
+    public Collection<Ticket> getTickets() {
+        return this.ticketRegistry.getTickets();
+    }
+
+    @Override
+    public Stream<Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return this.ticketRegistry.getTickets(predicate);
+    }
+
+    @Override
+    public Stream<Ticket> getTicketsStream() {
+        return this.ticketRegistry.getTicketsStream();
+    }
+
+    @Override
+    public long sessionCount() {
+        return this.ticketRegistry.sessionCount();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return this.ticketRegistry.serviceTicketCount();
+    }
+
+    private Collection<String> getTicketAndDescendantIds(final String ticketId) {
+        val ticketIds = new ArrayList<String>();
+        ticketIds.add(ticketId);
+        val ticket = this.cache.getIfPresent(ticketId);
+        if (ticket instanceof TicketGrantingTicket) {
+            ticketIds.addAll(((TicketGrantingTicket) ticket).getDescendantTickets());
+        }
+        return ticketIds;
+    }
+
+    private void invalidateAndPublish(final String ticketId) {
+        invalidate(ticketId);
+        this.cacheBus.publishInvalidation(ticketId);
+    }
+
+    private void cacheTicket(final Ticket ticket) {
+        if (isCacheable(ticket.getId())) {
+            this.cache.put(ticket.getId(), SerializationUtils.clone(ticket));
+        }
+    }
+
+    private boolean isCacheable(final String ticketId) {
+        return StringUtils.isNotBlank(ticketId)
+            && this.ticketTypes.stream().anyMatch(type -> ticketId.startsWith(type + '-'));
+    }
+}
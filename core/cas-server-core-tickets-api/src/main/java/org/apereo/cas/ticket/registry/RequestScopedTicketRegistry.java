@@ -0,0 +1,128 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.RequestScopedLookupContext;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link RequestScopedTicketRegistry} that memoizes ticket lookups
+ * in the {@link RequestScopedLookupContext} of the current request, so that the same ticket
+ * is only read from the underlying registry once per request. Tickets that are added or updated
+ * through this registry are recorded in the context, and deleted tickets are forgotten,
+ * so that later lookups in the same request observe the change. Tickets that are not found are not memoized,
+ * since some components write tickets directly to the underlying registry. Those components may still observe
+ * a ticket that was changed in the underlying registry in the same request, which is why request-scoped lookups
+ * must be explicitly turned on. Outside of a request, all operations are passed onto the underlying registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiredArgsConstructor
+@ToString(of = "ticketRegistry")
+public class RequestScopedTicketRegistry implements TicketRegistry {
+    /**
+     * Lookup context namespace for tickets.
+     */
+    public static final String LOOKUP_NAMESPACE = "tickets";
+
+    @Getter
+    private final TicketRegistry ticketRegistry;
+
+    @Override
+    public void addTicket(final Ticket ticket) {
+        this.ticketRegistry.addTicket(ticket);
+        RequestScopedLookupContext.put(LOOKUP_NAMESPACE, ticket.getId(), ticket);
+    }
+
+    @Override
+    public void addTickets(final Stream<? extends Ticket> tickets) {
+        val ticketsToAdd = tickets.collect(Collectors.toList());
+        this.ticketRegistry.addTickets(ticketsToAdd.stream());
+        ticketsToAdd.forEach(ticket -> RequestScopedLookupContext.put(LOOKUP_NAMESPACE, ticket.getId(), ticket));
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId) {
+        return RequestScopedLookupContext.lookup(LOOKUP_NAMESPACE, ticketId, () -> this.ticketRegistry.getTicket(ticketId), false);
+    }
+
+    @Override
+    public <T extends Ticket> T getTicket(final String ticketId, @NonNull final Class<T> clazz) {
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type " + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        return (T) ticket;
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket) {
+        val result = this.ticketRegistry.updateTicket(ticket);
+        RequestScopedLookupContext.put(LOOKUP_NAMESPACE, ticket.getId(), ticket);
+        return result;
+    }
+
+    @Override
+    public int deleteTicket(final String ticketId) {
+        try {
+            return this.ticketRegistry.deleteTicket(ticketId);
+        } finally {
+            RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+        }
+    }
+
+    @Override
+    public int deleteTickets(final Stream<String> ticketIds) {
+        try {
+            return this.ticketRegistry.deleteTickets(ticketIds);
+        } finally {
+            RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+        }
+    }
+
+    @Override
+    public long deleteAll() {
+        try {
+            return this.ticketRegistry.deleteAll();
+        } finally {
+            RequestScopedLookupContext.evictAll(LOOKUP_NAMESPACE);
+        }
+    }
+
+    @Override
+    public Collection<Ticket> getTickets() {
+        return this.ticketRegistry.getTickets();
+    }
+
+    @Override
+    public Stream<Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return this.ticketRegistry.getTickets(predicate);
+    }
+
+    @Override
+    public Stream<Ticket> getTicketsStream() {
+        return this.ticketRegistry.getTicketsStream();
+    }
+
+    @Override
+    public long sessionCount() {
+        return this.ticketRegistry.sessionCount();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return this.ticketRegistry.serviceTicketCount();
+    }
+}
@@ -0,0 +1,65 @@
+package org.apereo.cas.ticket.registry;
+
+/**
+ * This is {@link TicketRegistryCacheBus} that notifies other CAS nodes
+ * of tickets that have changed, so they can be evicted from their local caches.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public interface TicketRegistryCacheBus {
+
+    /**
+     * Notify other nodes that the given ticket has changed.
+     *
+     * @param ticketId the ticket id
+     */
+    void publishInvalidation(String ticketId);
+
+    /**
+     * Notify other nodes that all tickets have changed.
+     */
+    void publishInvalidationOfAll();
+
+    /**
+     * Register a local cache that should be notified when tickets are changed on other nodes.
+     *
+     * @param listener the listener
+     */
+    default void subscribe(final Listener listener) {
+    }
+
+    /**
+     * Cache bus that does not notify any other node.
+     *
+     * @return the ticket registry cache bus
+     */
+    static TicketRegistryCacheBus noOp() {
+        return new TicketRegistryCacheBus() {
+            @Override
+            public void publishInvalidation(final String ticketId) {
+            }
+
+            @Override
+            public void publishInvalidationOfAll() {
+            }
+        };
+    }
+
+    /**
+     * Local cache of tickets that receives notifications from the bus.
+     */
+    interface Listener {
+        /**
+         * Evict the ticket from the local cache.
+         *
+         * @param ticketId the ticket id
+         */
+        void invalidate(String ticketId);
+
+        /**
+         * Evict all tickets from the local cache.
+         */
+        void invalidateAll();
+    }
+}
@@ -13,6 +13,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.TicketState;
 
+import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -90,6 +91,13 @@ public abstract class BaseDelegatingExpirationPolicy extends AbstractCasExpirati
         return policy.isExpired(ticketState);
     }
 
+    @Override
+    public ZonedDateTime getMaximumExpirationTime(final TicketState ticketState) {
+        return getExpirationPolicyFor(ticketState)
+            .map(policy -> policy.getMaximumExpirationTime(ticketState))
+            .orElse(null);
+    }
+
     /**
      * Checks the given ticketState and gets the timeToLive for the relevant expiration policy.
      *
@@ -88,6 +88,17 @@ public class TicketGrantingTicketExpirationPolicy extends AbstractCasExpirationP
         return ZonedDateTime.now(ZoneOffset.UTC);
     }
 
+    @Override
+    public ZonedDateTime getMaximumExpirationTime(final TicketState ticketState) {
+        val expirationTime = ticketState.getCreationTime().plus(this.maxTimeToLiveInSeconds, ChronoUnit.SECONDS);
+        val lastTimeUsed = ticketState.getLastTimeUsed();
+        if (lastTimeUsed == null) {
+            return expirationTime;
+        }
+        val expirationTimeKill = lastTimeUsed.plus(this.timeToKillInSeconds, ChronoUnit.SECONDS);
+        return expirationTimeKill.isBefore(expirationTime) ? expirationTimeKill : expirationTime;
+    }
+
     @Override
     public Long getTimeToLive() {
         return this.maxTimeToLiveInSeconds;
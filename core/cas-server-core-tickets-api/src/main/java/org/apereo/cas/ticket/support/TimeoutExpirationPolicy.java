@@ -68,6 +68,15 @@ public class TimeoutExpirationPolicy extends AbstractCasExpirationPolicy {
         return expired;
     }
 
+    @Override
+    public ZonedDateTime getMaximumExpirationTime(final TicketState ticketState) {
+        val lastTimeUsed = ticketState.getLastTimeUsed();
+        if (lastTimeUsed == null) {
+            return null;
+        }
+        return lastTimeUsed.plus(this.timeToKillInSeconds, ChronoUnit.SECONDS);
+    }
+
     @JsonIgnore
     @Override
     public Long getTimeToLive() {
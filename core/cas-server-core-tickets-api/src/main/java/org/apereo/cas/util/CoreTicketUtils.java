@@ -5,7 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.registry.NearCacheTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 
@@ -69,4 +74,41 @@ public class CoreTicketUtils {
             + "ticket registry tickets, and verify the chosen ticket registry does support this behavior.");
         return CipherExecutor.noOp();
     }
+
+    /**
+     * Decorate the ticket registry with a near-cache, if one is enabled.
+     *
+     * @param ticketRegistry the ticket registry
+     * @param nearCache      the near cache settings
+     * @param cacheBus       the cache bus
+     * @return the ticket registry
+     */
+    public static TicketRegistry newNearCacheTicketRegistry(final TicketRegistry ticketRegistry,
+                                                            final TicketRegistryProperties.NearCache nearCache,
+                                                            final TicketRegistryCacheBus cacheBus) {
+        return newNearCacheTicketRegistry(ticketRegistry, nearCache, cacheBus, true);
+    }
+
+    /**
+     * Decorate the ticket registry with a near-cache, if one is enabled.
+     *
+     * @param ticketRegistry        the ticket registry
+     * @param nearCache             the near cache settings
+     * @param cacheBus              the cache bus
+     * @param destroyTicketRegistry whether destroying the near-cache should destroy the ticket registry as well;
+     *                              false if the ticket registry is a bean whose lifecycle is managed by the container.
+     * @return the ticket registry
+     */
+    public static TicketRegistry newNearCacheTicketRegistry(final TicketRegistry ticketRegistry,
+                                                            final TicketRegistryProperties.NearCache nearCache,
+                                                            final TicketRegistryCacheBus cacheBus,
+                                                            final boolean destroyTicketRegistry) {
+        if (!nearCache.isEnabled()) {
+            return ticketRegistry;
+        }
+        LOGGER.debug("Ticket registry [{}] will cache tickets of types [{}] locally",
+            ticketRegistry.getClass().getSimpleName(), nearCache.getTicketTypes());
+        return new NearCacheTicketRegistry(ticketRegistry, nearCache.getTicketTypes(),
+            Beans.newDuration(nearCache.getTimeToLive()), nearCache.getMaximumSize(), cacheBus, destroyTicketRegistry);
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.core.CasJavaClientProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
 import org.apereo.cas.ticket.ExpirationPolicy;
@@ -36,9 +37,13 @@ import org.apereo.cas.ticket.proxy.support.Cas20ProxyHandler;
 import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.DefaultTicketUsageTracker;
+import org.apereo.cas.ticket.registry.DeferredTicketUsageTracker;
+import org.apereo.cas.ticket.registry.RequestScopedTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpLockingStrategy;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.ticket.support.AlwaysExpiresExpirationPolicy;
 import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
@@ -82,6 +87,10 @@ import java.net.HttpURLConnection;
 import java.net.URLConnection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link CasCoreTicketsConfiguration}.
@@ -97,6 +106,8 @@ import java.util.Map;
 @AutoConfigureAfter(value = {CasCoreUtilConfiguration.class, CasCoreTicketIdGeneratorsConfiguration.class})
 @Slf4j
 public class CasCoreTicketsConfiguration implements TransactionManagementConfigurer {
+    private static final int PROXY_CALLBACK_QUEUE_FACTOR = 10;
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -252,7 +263,11 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
     @Bean
     @ConditionalOnProperty(prefix = "cas.sso", name = "proxyAuthnEnabled", havingValue = "true", matchIfMissing = true)
     public ProxyHandler proxy20Handler() {
-        return new Cas20ProxyHandler(httpClient.getIfAvailable(), proxy20TicketUniqueIdGenerator());
+        val poolSize = casProperties.getTicket().getPgt().getAsyncCallbackPoolSize();
+        final ExecutorService executor = poolSize > 0
+            ? new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(poolSize * PROXY_CALLBACK_QUEUE_FACTOR))
+            : null;
+        return new Cas20ProxyHandler(httpClient.getIfAvailable(), proxy20TicketUniqueIdGenerator(), executor);
     }
 
     @ConditionalOnMissingBean(name = "ticketRegistry")
@@ -273,7 +288,18 @@ public class CasCoreTicketsConfiguration implements TransactionManagementConfigu
     @ConditionalOnMissingBean(name = "defaultTicketRegistrySupport")
     @Bean
     public TicketRegistrySupport defaultTicketRegistrySupport() {
-        return new DefaultTicketRegistrySupport(ticketRegistry);
+        return new DefaultTicketRegistrySupport(new RequestScopedTicketRegistry(ticketRegistry));
+    }
+
+    @ConditionalOnMissingBean(name = "ticketUsageTracker")
+    @Bean
+    public TicketUsageTracker ticketUsageTracker() {
+        val usage = casProperties.getTicket().getRegistry().getUsageTracking();
+        if (usage.isDeferred()) {
+            return new DeferredTicketUsageTracker(ticketRegistry, Beans.newDuration(usage.getMaximumStaleness()),
+                usage.getRemainingUsesThreshold(), usage.getMaximumPendingTickets());
+        }
+        return new DefaultTicketUsageTracker(ticketRegistry);
     }
 
     @ConditionalOnMissingBean(name = "grantingTicketExpirationPolicy")
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import lombok.val;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.logout.LogoutManager;
@@ -10,6 +11,8 @@ import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -44,6 +47,10 @@ public class CasCoreTicketsSchedulingConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("scheduledJobExecutor")
+    private ObjectProvider<ScheduledJobExecutor> scheduledJobExecutor;
+
     @ConditionalOnMissingBean(name = "ticketRegistryCleaner")
     @Bean
     @Autowired
@@ -68,7 +75,9 @@ public class CasCoreTicketsSchedulingConfiguration {
     @RefreshScope
     public TicketRegistryCleanerScheduler ticketRegistryCleanerScheduler(@Qualifier("ticketRegistryCleaner") 
                                                                          final TicketRegistryCleaner ticketRegistryCleaner) {
-        return new TicketRegistryCleanerScheduler(ticketRegistryCleaner);
+        val coordinated = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isCoordinated();
+        return new TicketRegistryCleanerScheduler(ticketRegistryCleaner,
+            scheduledJobExecutor.getIfAvailable(ScheduledJobExecutor::new), coordinated);
     }
 
 
@@ -78,18 +87,26 @@ public class CasCoreTicketsSchedulingConfiguration {
      * we need to create a separate scheduler component that simply invokes it
      * so that {@link Scheduled} annotations can be processed and not interfere
      * with transaction semantics of the cleaner.
+     * When coordinated, the cleaner either runs on one node at a time
+     * or, if shards are defined, on all nodes each cleaning its own shard.
      */
+    @RequiredArgsConstructor
     public static class TicketRegistryCleanerScheduler {
         private final TicketRegistryCleaner ticketRegistryCleaner;
 
+        private final ScheduledJobExecutor scheduledJobExecutor;
+
+        private final boolean coordinated;
+
         public TicketRegistryCleanerScheduler(final TicketRegistryCleaner ticketRegistryCleaner) {
-            this.ticketRegistryCleaner = ticketRegistryCleaner;
+            this(ticketRegistryCleaner, new ScheduledJobExecutor(), false);
         }
 
         @Scheduled(initialDelayString = "${cas.ticket.registry.cleaner.schedule.startDelay:PT30S}",
                 fixedDelayString = "${cas.ticket.registry.cleaner.schedule.repeatInterval:PT120S}")
         public void run() {
-            this.ticketRegistryCleaner.clean();
+            this.scheduledJobExecutor.executeSharded("ticketRegistryCleaner", this.coordinated,
+                shard -> this.ticketRegistryCleaner.clean(shard.getIndex(), shard.getCount()));
         }
     }
 }
@@ -5,9 +5,12 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.HttpBasedServiceCredential;
+import org.apereo.cas.services.DefaultRegisteredServiceProperty;
+import org.apereo.cas.services.RegisteredServiceProperty;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
 import org.junit.Test;
 import org.junit.Before;
@@ -15,6 +18,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -66,4 +72,26 @@ public class Cas20ProxyHandlerTests {
         assertNull(this.handler.handle(new HttpBasedServiceCredential(new URL("http://www.rutgers.edu"),
             CoreAuthenticationTestUtils.getRegisteredService("https://some.app.edu")), proxyGrantingTicket));
     }
+
+    @Test
+    public void verifyAsynchronousDelivery() throws Exception {
+        val httpClient = mock(HttpClient.class);
+        val delivered = new CountDownLatch(1);
+        when(httpClient.isValidEndPoint(anyString())).thenAnswer(invocation -> {
+            delivered.countDown();
+            return false;
+        });
+        this.handler = new Cas20ProxyHandler(httpClient, new DefaultUniqueTicketIdGenerator(), Executors.newSingleThreadExecutor());
+
+        val service = CoreAuthenticationTestUtils.getRegisteredService("https://some.app.edu");
+        assertNull(this.handler.handle(new HttpBasedServiceCredential(new URL("https://www.google.com/"), service), proxyGrantingTicket));
+
+        val prop = new DefaultRegisteredServiceProperty();
+        prop.addValue("true");
+        when(service.getProperties()).thenReturn(CollectionUtils.wrap(
+            RegisteredServiceProperty.RegisteredServiceProperties.PROXY_CALLBACK_ASYNCHRONOUS_DELIVERY.getPropertyName(), prop));
+        assertNotNull(this.handler.handle(new HttpBasedServiceCredential(new URL("https://www.google.com/"), service), proxyGrantingTicket));
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        this.handler.destroy();
+    }
 }
@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.support.TimeoutExpirationPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DeferredTicketUsageTrackerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class DeferredTicketUsageTrackerTests {
+    private TicketRegistry ticketRegistry;
+
+    private DeferredTicketUsageTracker tracker;
+
+    @Before
+    public void initialize() {
+        this.ticketRegistry = spy(new DefaultTicketRegistry());
+        this.tracker = new DeferredTicketUsageTracker(this.ticketRegistry, Duration.ofHours(1), 1, 100);
+    }
+
+    @After
+    public void cleanup() {
+        this.tracker.close();
+    }
+
+    private static TicketGrantingTicket getTicketGrantingTicket(final ExpirationPolicy policy) {
+        return new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication(), policy);
+    }
+
+    @Test
+    public void verifyUsesAreCoalesced() {
+        val tgt = getTicketGrantingTicket(new TimeoutExpirationPolicy(28_800));
+        this.ticketRegistry.addTicket(tgt);
+        for (var i = 0; i < 5; i++) {
+            this.tracker.update(tgt);
+        }
+        verify(this.ticketRegistry, never()).updateTicket(any(Ticket.class));
+        assertEquals(1, this.tracker.getPendingTickets());
+
+        this.tracker.flush();
+        verify(this.ticketRegistry, times(1)).updateTicket(tgt);
+        assertEquals(5, this.ticketRegistry.getTicket(tgt.getId()).getCountOfUses());
+        assertEquals(0, this.tracker.getPendingTickets());
+        assertEquals(5, this.tracker.getRecordedUses());
+        assertEquals(1, this.tracker.getWrittenTickets());
+    }
+
+    @Test
+    public void verifyStaleCopiesAccumulateUses() {
+        val registry = mock(TicketRegistry.class);
+        val stored = getTicketGrantingTicket(new TimeoutExpirationPolicy(28_800));
+        when(registry.getTicket(stored.getId())).thenReturn(stored);
+
+        try (val deferred = new DeferredTicketUsageTracker(registry, Duration.ofHours(1), 1, 100)) {
+            for (var i = 1; i <= 3; i++) {
+                val copy = getTicketGrantingTicket(new TimeoutExpirationPolicy(28_800));
+                deferred.update(copy);
+                assertEquals(i, copy.getCountOfUses());
+            }
+            deferred.flush();
+            verify(registry, times(1)).updateTicket(stored);
+            assertEquals(3, stored.getCountOfUses());
+        }
+    }
+
+    @Test
+    public void verifyTicketsNearUsageLimitAreWrittenImmediately() {
+        val tgt = getTicketGrantingTicket(new MultiTimeUseOrTimeoutExpirationPolicy(3, 28_800));
+        this.ticketRegistry.addTicket(tgt);
+
+        this.tracker.update(tgt);
+        verify(this.ticketRegistry, never()).updateTicket(any(Ticket.class));
+
+        this.tracker.update(tgt);
+        verify(this.ticketRegistry, times(1)).updateTicket(tgt);
+        assertEquals(0, this.tracker.getPendingTickets());
+
+        this.tracker.update(tgt);
+        verify(this.ticketRegistry).deleteTicket(tgt.getId());
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+    }
+
+    @Test
+    public void verifyShortIdleTimeoutIsWrittenImmediately() {
+        val tgt = getTicketGrantingTicket(new TimeoutExpirationPolicy(60));
+        this.ticketRegistry.addTicket(tgt);
+        this.tracker.update(tgt);
+        verify(this.ticketRegistry, times(1)).updateTicket(tgt);
+    }
+
+    @Test
+    public void verifyRemovedTicketIsDiscarded() {
+        val tgt = getTicketGrantingTicket(new TimeoutExpirationPolicy(28_800));
+        this.ticketRegistry.addTicket(tgt);
+        this.tracker.track(tgt);
+        this.ticketRegistry.deleteTicket(tgt.getId());
+
+        this.tracker.flush();
+        verify(this.ticketRegistry, never()).updateTicket(any(Ticket.class));
+        assertEquals(0, this.tracker.getWrittenTickets());
+    }
+}
@@ -0,0 +1,117 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link NearCacheTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class NearCacheTicketRegistryTests {
+    private TicketRegistry delegate;
+
+    private TicketRegistryCacheBus cacheBus;
+
+    private NearCacheTicketRegistry ticketRegistry;
+
+    @Before
+    public void initialize() {
+        this.delegate = spy(new DefaultTicketRegistry());
+        this.cacheBus = mock(TicketRegistryCacheBus.class);
+        this.ticketRegistry = new NearCacheTicketRegistry(this.delegate,
+            Collections.singletonList(TicketGrantingTicket.PREFIX), Duration.ofMinutes(1), 100, this.cacheBus);
+    }
+
+    private static TicketGrantingTicket getTicketGrantingTicket(final String id) {
+        return new TicketGrantingTicketImpl(id, CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+    }
+
+    @Test
+    public void verifyCachedTicketIsReadLocally() {
+        val tgt = getTicketGrantingTicket("TGT-1");
+        this.ticketRegistry.addTicket(tgt);
+        val cached = this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(tgt, cached);
+        assertNotSame(tgt, cached);
+        assertNotSame(cached, this.ticketRegistry.getTicket(tgt.getId()));
+        verify(this.delegate, never()).getTicket(tgt.getId());
+    }
+
+    @Test
+    public void verifyCachedTicketIsNotShared() {
+        val tgt = getTicketGrantingTicket("TGT-1");
+        this.ticketRegistry.addTicket(tgt);
+        tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            new NeverExpiresExpirationPolicy(), false, true);
+        val cached = this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertTrue(cached.getServices().isEmpty());
+        cached.markTicketExpired();
+        assertFalse(this.ticketRegistry.getTicket(tgt.getId()).isExpired());
+    }
+
+    @Test
+    public void verifyDestroyDelegatesToRegistry() throws Exception {
+        val registry = mock(TicketRegistry.class, withSettings().extraInterfaces(DisposableBean.class));
+        new NearCacheTicketRegistry(registry, Collections.singletonList(TicketGrantingTicket.PREFIX),
+            Duration.ofMinutes(1), 100, this.cacheBus).destroy();
+        verify((DisposableBean) registry).destroy();
+
+        val managedRegistry = mock(TicketRegistry.class, withSettings().extraInterfaces(DisposableBean.class));
+        new NearCacheTicketRegistry(managedRegistry, Collections.singletonList(TicketGrantingTicket.PREFIX),
+            Duration.ofMinutes(1), 100, this.cacheBus, false).destroy();
+        verify((DisposableBean) managedRegistry, never()).destroy();
+    }
+
+    @Test
+    public void verifyUncachedTicketIsReadFromRegistry() {
+        val tgt = getTicketGrantingTicket("TGT-1");
+        this.ticketRegistry.addTicket(tgt);
+        val st = tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            new NeverExpiresExpirationPolicy(), false, true);
+        this.ticketRegistry.addTicket(st);
+        this.ticketRegistry.getTicket(st.getId(), ServiceTicket.class);
+        this.ticketRegistry.getTicket(st.getId(), ServiceTicket.class);
+        verify(this.delegate, times(2)).getTicket(st.getId());
+    }
+
+    @Test
+    public void verifyChangesArePublished() {
+        val tgt = getTicketGrantingTicket("TGT-1");
+        this.ticketRegistry.addTicket(tgt);
+        this.ticketRegistry.updateTicket(tgt);
+        verify(this.cacheBus).publishInvalidation(tgt.getId());
+
+        this.ticketRegistry.deleteTicket(tgt.getId());
+        verify(this.cacheBus, times(2)).publishInvalidation(tgt.getId());
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+
+        this.ticketRegistry.deleteAll();
+        verify(this.cacheBus).publishInvalidationOfAll();
+    }
+
+    @Test
+    public void verifyInvalidationEvictsTicket() {
+        val tgt = getTicketGrantingTicket("TGT-1");
+        this.ticketRegistry.addTicket(tgt);
+        this.ticketRegistry.invalidate(tgt.getId());
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId()));
+        verify(this.delegate).getTicket(tgt.getId());
+    }
+}
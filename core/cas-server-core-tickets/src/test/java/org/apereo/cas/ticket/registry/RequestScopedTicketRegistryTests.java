@@ -0,0 +1,86 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.RequestScopedLookupContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RequestScopedTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class RequestScopedTicketRegistryTests {
+    private TicketRegistry delegate;
+
+    private RequestScopedTicketRegistry ticketRegistry;
+
+    @Before
+    public void initialize() {
+        this.delegate = spy(new DefaultTicketRegistry());
+        this.ticketRegistry = new RequestScopedTicketRegistry(this.delegate);
+    }
+
+    @After
+    public void cleanup() {
+        RequestScopedLookupContext.end();
+    }
+
+    private static TicketGrantingTicket getTicketGrantingTicket() {
+        return new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+    }
+
+    @Test
+    public void verifyLookupsOutsideOfRequest() {
+        val tgt = getTicketGrantingTicket();
+        this.delegate.addTicket(tgt);
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+        verify(this.delegate, times(2)).getTicket(tgt.getId());
+    }
+
+    @Test
+    public void verifyLookupsMemoizedInRequest() {
+        val tgt = getTicketGrantingTicket();
+        this.delegate.addTicket(tgt);
+        val context = RequestScopedLookupContext.begin();
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId()));
+        assertNull(this.ticketRegistry.getTicket("TGT-unknown"));
+        assertNull(this.ticketRegistry.getTicket("TGT-unknown"));
+        verify(this.delegate, times(1)).getTicket(tgt.getId());
+        verify(this.delegate, times(2)).getTicket("TGT-unknown");
+        assertEquals(3, context.getBackendLookups());
+        assertEquals(1, context.getSavedLookups());
+    }
+
+    @Test
+    public void verifyMissesNotMemoizedInRequest() {
+        RequestScopedLookupContext.begin();
+        val tgt = getTicketGrantingTicket();
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+        this.delegate.addTicket(tgt);
+        assertNotNull(this.ticketRegistry.getTicket(tgt.getId()));
+    }
+
+    @Test
+    public void verifyWritesObservedInRequest() {
+        RequestScopedLookupContext.begin();
+        val tgt = getTicketGrantingTicket();
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+        this.ticketRegistry.addTicket(tgt);
+        assertSame(tgt, this.ticketRegistry.getTicket(tgt.getId()));
+        this.ticketRegistry.deleteTicket(tgt.getId());
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+    }
+}
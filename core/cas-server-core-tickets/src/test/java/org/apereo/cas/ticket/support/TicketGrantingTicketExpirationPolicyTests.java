@@ -10,6 +10,7 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TicketState;
 import org.joda.time.DateTimeUtils;
 import org.junit.Test;
 import org.junit.Before;
@@ -19,10 +20,12 @@ import org.springframework.test.annotation.DirtiesContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author William G. Thompson, Jr.
@@ -101,6 +104,18 @@ public class TicketGrantingTicketExpirationPolicyTests {
         assertEquals(policy, policyRead);
     }
 
+    @Test
+    public void verifyMaximumExpirationTimeWithoutLastTimeUsed() {
+        val policy = new TicketGrantingTicketExpirationPolicy(100, 10);
+        val ticketState = mock(TicketState.class);
+        val creationTime = ZonedDateTime.now(ZoneOffset.UTC);
+        when(ticketState.getCreationTime()).thenReturn(creationTime);
+        assertEquals(creationTime.plusSeconds(100), policy.getMaximumExpirationTime(ticketState));
+
+        when(ticketState.getLastTimeUsed()).thenReturn(creationTime);
+        assertEquals(creationTime.plusSeconds(10), policy.getMaximumExpirationTime(ticketState));
+    }
+
     private static class MovingTimeTicketExpirationPolicy extends TicketGrantingTicketExpirationPolicy {
         private static final long serialVersionUID = -3901717185202249332L;
 
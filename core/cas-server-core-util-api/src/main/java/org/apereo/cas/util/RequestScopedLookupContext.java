@@ -0,0 +1,167 @@
+package org.apereo.cas.util;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * ThreadLocal based holder that memoizes lookups of tickets, registered services, etc.
+ * for the duration of a single http request. Within one request, the same ticket-granting ticket
+ * or service definition is typically looked up several times by webflow actions, the central authentication service,
+ * access strategy enforcers and audit resolvers; once the lookup context is active, only the first
+ * lookup reaches the backend and the result is handed back to the rest. Empty results are only memoized
+ * if the caller asks for it, i.e. when every write to the backend is known to go through the context.
+ * Components that change the looked up objects must {@link #put(String, Object, Object)} or
+ * {@link #evict(String, Object)} them so that later lookups in the same request observe the change.
+ * <p>
+ * Outside of an active context, lookups always go to the backend.
+ * The context is opened and closed for each request by {@code RequestScopedLookupContextFilter}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@NoArgsConstructor
+public class RequestScopedLookupContext {
+
+    private static final ThreadLocal<RequestScopedLookupContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+    private final Map<String, Map<Object, Optional<Object>>> lookups = new HashMap<>();
+
+    /**
+     * Number of lookups that went to the backend.
+     */
+    @Getter
+    private long backendLookups;
+
+    /**
+     * Number of lookups that were answered by the context.
+     */
+    @Getter
+    private long savedLookups;
+
+    /**
+     * Open a lookup context for the current thread.
+     *
+     * @return the context
+     */
+    public static RequestScopedLookupContext begin() {
+        val context = new RequestScopedLookupContext();
+        CURRENT_CONTEXT.set(context);
+        return context;
+    }
+
+    /**
+     * Close the lookup context of the current thread, if any.
+     *
+     * @return the context that was closed, or null
+     */
+    public static RequestScopedLookupContext end() {
+        val context = CURRENT_CONTEXT.get();
+        CURRENT_CONTEXT.remove();
+        return context;
+    }
+
+    /**
+     * Whether a lookup context is open for the current thread.
+     *
+     * @return true/false
+     */
+    public static boolean isActive() {
+        return CURRENT_CONTEXT.get() != null;
+    }
+
+    /**
+     * Look up the object by its key, going to the backend via the loader
+     * only if the object is not already known to the current context.
+     *
+     * @param <T>       the type parameter
+     * @param namespace the namespace of the key, i.e. tickets or services
+     * @param key       the key
+     * @param loader    the backend lookup
+     * @return the object, or null
+     */
+    public static <T> T lookup(final String namespace, final Object key, final Supplier<T> loader) {
+        return lookup(namespace, key, loader, true);
+    }
+
+    /**
+     * Look up the object by its key, going to the backend via the loader
+     * only if the object is not already known to the current context.
+     *
+     * @param <T>          the type parameter
+     * @param namespace    the namespace of the key, i.e. tickets or services
+     * @param key          the key
+     * @param loader       the backend lookup
+     * @param memoizeEmpty whether an empty result should be remembered as well
+     * @return the object, or null
+     */
+    public static <T> T lookup(final String namespace, final Object key, final Supplier<T> loader, final boolean memoizeEmpty) {
+        val context = CURRENT_CONTEXT.get();
+        if (context == null || key == null) {
+            return loader.get();
+        }
+        val entries = context.getNamespace(namespace);
+        val entry = entries.get(key);
+        if (entry != null) {
+            context.savedLookups++;
+            LOGGER.trace("Found [{}] in lookup context for [{}]", key, namespace);
+            return (T) entry.orElse(null);
+        }
+        context.backendLookups++;
+        val result = loader.get();
+        if (result != null || memoizeEmpty) {
+            entries.put(key, Optional.ofNullable(result));
+        }
+        return result;
+    }
+
+    /**
+     * Record the object under its key in the current context, typically after it was written to the backend.
+     *
+     * @param namespace the namespace
+     * @param key       the key
+     * @param value     the value
+     */
+    public static void put(final String namespace, final Object key, final Object value) {
+        val context = CURRENT_CONTEXT.get();
+        if (context != null && key != null) {
+            context.getNamespace(namespace).put(key, Optional.ofNullable(value));
+        }
+    }
+
+    /**
+     * Forget the object recorded under its key in the current context.
+     *
+     * @param namespace the namespace
+     * @param key       the key
+     */
+    public static void evict(final String namespace, final Object key) {
+        val context = CURRENT_CONTEXT.get();
+        if (context != null) {
+            context.getNamespace(namespace).remove(key);
+        }
+    }
+
+    /**
+     * Forget all objects recorded in the namespace of the current context.
+     *
+     * @param namespace the namespace
+     */
+    public static void evictAll(final String namespace) {
+        val context = CURRENT_CONTEXT.get();
+        if (context != null) {
+            context.lookups.remove(namespace);
+        }
+    }
+
+    private Map<Object, Optional<Object>> getNamespace(final String namespace) {
+        return this.lookups.computeIfAbsent(namespace, k -> new HashMap<>());
+    }
+}
@@ -1,20 +1,19 @@
 package org.apereo.cas.util;
 
 import groovy.lang.Binding;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import groovy.lang.GroovyShell;
+import groovy.lang.Script;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.codehaus.groovy.control.CompilerConfiguration;
+import org.apereo.cas.util.scripting.GroovyScriptCache;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.springframework.core.io.Resource;
 
 import javax.script.Invocable;
 import javax.script.ScriptEngineManager;
-import javax.script.SimpleBindings;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.AccessController;
@@ -44,6 +43,20 @@ public class ScriptingUtils {
      */
     private static final Pattern FILE_GROOVY_PATTERN = RegexUtils.createPattern("(file|classpath):(.+\\.groovy)");
 
+    /**
+     * Compiled groovy scripts shared by all executions.
+     */
+    private static final GroovyScriptCache GROOVY_SCRIPT_CACHE = new GroovyScriptCache();
+
+    /**
+     * Gets the cache of compiled groovy scripts.
+     *
+     * @return the groovy script cache
+     */
+    public static GroovyScriptCache getGroovyScriptCache() {
+        return GROOVY_SCRIPT_CACHE;
+    }
+
     /**
      * Is inline groovy script ?.
      *
@@ -97,24 +110,34 @@ public class ScriptingUtils {
                                                  final Map<String, Object> variables,
                                                  final Class<T> clazz) {
         try {
-            val binding = new Binding();
-            val shell = new GroovyShell(binding);
-            if (variables != null && !variables.isEmpty()) {
-                variables.forEach(binding::setVariable);
-            }
-            if (!binding.hasVariable("logger")) {
-                binding.setVariable("logger", LOGGER);
-            }
-            LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, binding.getVariables());
-
-            val result = shell.evaluate(script);
-            if (result != null && !clazz.isAssignableFrom(result.getClass())) {
-                throw new ClassCastException("Result [" + result
-                    + " is of type " + result.getClass()
-                    + " when we were expecting " + clazz);
-            }
-            return (T) result;
+            LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, variables);
+            val scriptClass = GROOVY_SCRIPT_CACHE.getCompiledScript(script);
+            return runGroovyShellScript(scriptClass, variables, clazz);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return null;
+    }
 
+    /**
+     * Execute groovy shell script whose body is provided by the given resource.
+     * Resources backed by a file are compiled once and recompiled when the file changes.
+     *
+     * @param <T>       the type parameter
+     * @param resource  the resource
+     * @param variables the variables
+     * @param clazz     the clazz
+     * @return the t
+     */
+    public static <T> T executeGroovyShellScript(final Resource resource,
+                                                 final Map<String, Object> variables,
+                                                 final Class<T> clazz) {
+        try {
+            LOGGER.debug("Executing groovy script [{}] with variables [{}]", resource, variables);
+            val scriptClass = resource.isFile() && resource.getFile().exists()
+                ? GROOVY_SCRIPT_CACHE.getCompiledScript(resource.getFile())
+                : GROOVY_SCRIPT_CACHE.getCompiledScript(IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8));
+            return runGroovyShellScript(scriptClass, variables, clazz);
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -186,21 +209,20 @@ public class ScriptingUtils {
             return null;
         }
 
-        val parent = ScriptingUtils.class.getClassLoader();
-        return AccessController.doPrivileged((PrivilegedAction<T>) () -> getGroovyResult(groovyScript, methodName, args, clazz, parent));
+        return AccessController.doPrivileged((PrivilegedAction<T>) () -> getGroovyResult(groovyScript, methodName, args, clazz));
     }
 
     private static <T> T getGroovyResult(final Resource groovyScript, final String methodName,
-                                         final Object[] args, final Class<T> clazz, final ClassLoader parent) {
-        try (val loader = new GroovyClassLoader(parent)) {
+                                         final Object[] args, final Class<T> clazz) {
+        try {
             val groovyFile = groovyScript.getFile();
             if (groovyFile.exists()) {
-                val groovyClass = loader.parseClass(groovyFile);
+                val groovyClass = GROOVY_SCRIPT_CACHE.getCompiledScript(groovyFile);
                 LOGGER.trace("Creating groovy object instance from class [{}]", groovyFile.getCanonicalPath());
 
                 val groovyObject = (GroovyObject) groovyClass.getDeclaredConstructor().newInstance();
                 LOGGER.trace("Executing groovy script's [{}] method, with parameters [{}]", methodName, args);
-                val result = groovyObject.invokeMethod(methodName, args);
+                val result = GROOVY_SCRIPT_CACHE.execute(groovyClass, () -> groovyObject.invokeMethod(methodName, args));
                 LOGGER.trace("Results returned by the groovy script are [{}]", result);
 
                 if (result != null && !clazz.isAssignableFrom(result.getClass())) {
@@ -270,23 +292,8 @@ public class ScriptingUtils {
                                                   final Map<String, Object> variables,
                                                   final Class<T> clazz) {
         try {
-            val engine = new ScriptEngineManager().getEngineByName("groovy");
-            if (engine == null) {
-                LOGGER.warn("Script engine is not available for Groovy");
-                return null;
-            }
-            val binding = new SimpleBindings();
-            if (variables != null && !variables.isEmpty()) {
-                binding.putAll(variables);
-            }
-            if (!binding.containsKey("logger")) {
-                binding.put("logger", LOGGER);
-            }
-            val result = engine.eval(script, binding);
-            if (result != null && !clazz.isAssignableFrom(result.getClass())) {
-                throw new ClassCastException("Result [" + result + " is of type " + result.getClass() + " when we were expecting " + clazz);
-            }
-            return (T) result;
+            val scriptClass = GROOVY_SCRIPT_CACHE.getCompiledScript(script);
+            return runGroovyShellScript(scriptClass, variables, clazz);
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -327,12 +334,7 @@ public class ScriptingUtils {
             }
 
             val script = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
-
-            val clazz = AccessController.doPrivileged((PrivilegedAction<Class<T>>) () -> {
-                val classLoader = new GroovyClassLoader(ScriptingUtils.class.getClassLoader(),
-                    new CompilerConfiguration(), true);
-                return classLoader.parseClass(script);
-            });
+            val clazz = GROOVY_SCRIPT_CACHE.getCompiledScript(script);
 
             LOGGER.debug("Preparing constructor arguments [{}] for resource [{}]", args, resource);
             val ctor = clazz.getDeclaredConstructor(constructorArgs);
@@ -343,13 +345,37 @@ public class ScriptingUtils {
                     + " is of type " + result.getClass()
                     + " when we were expecting " + expectedType);
             }
-            return result;
+            return (T) result;
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
         return null;
     }
 
+    /**
+     * Run the compiled form of the script with its own script instance and binding, so that
+     * concurrent executions of the same script never share state.
+     */
+    private static <T> T runGroovyShellScript(final Class<?> scriptClass, final Map<String, Object> variables, final Class<T> clazz) {
+        val binding = new Binding();
+        if (variables != null && !variables.isEmpty()) {
+            variables.forEach(binding::setVariable);
+        }
+        if (!binding.hasVariable("logger")) {
+            binding.setVariable("logger", LOGGER);
+        }
+        val result = GROOVY_SCRIPT_CACHE.execute(scriptClass, () -> {
+            val instance = (Script) InvokerHelper.createScript(scriptClass, binding);
+            return instance.run();
+        });
+        if (result != null && !clazz.isAssignableFrom(result.getClass())) {
+            throw new ClassCastException("Result [" + result
+                + " is of type " + result.getClass()
+                + " when we were expecting " + clazz);
+        }
+        return (T) result;
+    }
+
     private static String getScriptEngineName(final String scriptFile) {
         if (scriptFile.endsWith(".py")) {
             return "python";
@@ -30,6 +30,10 @@ import java.security.Security;
 @Setter
 @NoArgsConstructor
 public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T, R> {
+    /**
+     * Name of the timer that records encode and decode operations of ciphers.
+     */
+    protected static final String METRIC_NAME = "cas.cipher";
 
     private Key signingKey;
 
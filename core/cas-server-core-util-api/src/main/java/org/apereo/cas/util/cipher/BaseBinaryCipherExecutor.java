@@ -1,5 +1,8 @@
 package org.apereo.cas.util.cipher;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
 import lombok.val;
 
 import lombok.SneakyThrows;
@@ -46,7 +49,11 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     private final SecretKeySpec encryptionKey;
 
-    private final Cipher aesCipher;
+    /**
+     * Cipher instances are not thread-safe; each thread initializes and reuses its own.
+     */
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Cipher> aesCipher = ThreadLocal.withInitial(BaseBinaryCipherExecutor::newCipher);
 
     /**
      * Instantiates a new cryptic ticket cipher executor.
@@ -64,24 +71,39 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
         ensureSigningKeyExists(signingSecretKey, signingKeySize);
         ensureEncryptionKeyExists(encryptionSecretKey, encryptionKeySize);
         this.encryptionKey = new SecretKeySpec(this.encryptionSecretKey, this.secretKeyAlgorithm);
-        this.aesCipher = Cipher.getInstance("AES");
     }
 
     @Override
     @SneakyThrows
     public byte[] encode(final byte[] value, final Object[] parameters) {
-        this.aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey);
-        val result = this.aesCipher.doFinal(value);
-        return sign(result);
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            val cipher = this.aesCipher.get();
+            cipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey);
+            val result = cipher.doFinal(value);
+            return sign(result);
+        } finally {
+            sample.stop(Metrics.timer(METRIC_NAME, "cipher", getName(), "operation", "encode"));
+        }
     }
 
     @Override
     @SneakyThrows
     public byte[] decode(final byte[] value, final Object[] parameters) {
-        val verifiedValue = verifySignature(value);
-        this.aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey);
-        val bytePlainText = aesCipher.doFinal(verifiedValue);
-        return bytePlainText;
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            val verifiedValue = verifySignature(value);
+            val cipher = this.aesCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, this.encryptionKey);
+            return cipher.doFinal(verifiedValue);
+        } finally {
+            sample.stop(Metrics.timer(METRIC_NAME, "cipher", getName(), "operation", "decode"));
+        }
+    }
+
+    @SneakyThrows
+    private static Cipher newCipher() {
+        return Cipher.getInstance("AES");
     }
 
     @SneakyThrows
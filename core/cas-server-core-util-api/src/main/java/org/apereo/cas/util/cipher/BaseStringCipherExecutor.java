@@ -1,11 +1,17 @@
 package org.apereo.cas.util.cipher;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.jose4j.jwe.KeyManagementAlgorithmIdentifiers;
@@ -13,6 +19,7 @@ import org.jose4j.jwe.KeyManagementAlgorithmIdentifiers;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 
 /**
  * The {@link BaseStringCipherExecutor} is the default
@@ -39,6 +46,9 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
 
     private boolean signingEnabled = true;
 
+    @Setter(AccessLevel.NONE)
+    private Cache<String, String> decodedValues;
+
     /**
      * Instantiates a new cipher.
      * <p>Note that in order to customize the encryption algorithms,
@@ -155,21 +165,74 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
         setEncryptionAlgorithm(KeyManagementAlgorithmIdentifiers.RSA_OAEP_256);
     }
 
+    /**
+     * Keep values that are successfully verified and decoded for the given time,
+     * so that decoding the same value again, such as a cookie that is presented
+     * with every request, does not repeat the signature verification and decryption.
+     * Values are keyed by their digest.
+     *
+     * @param timeToLive  the time to keep decoded values
+     * @param maximumSize the maximum number of decoded values to keep
+     */
+    public void cacheDecodedValues(final Duration timeToLive, final long maximumSize) {
+        if (timeToLive.isZero() || timeToLive.isNegative() || maximumSize <= 0) {
+            this.decodedValues = null;
+            return;
+        }
+        this.decodedValues = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(maximumSize)
+            .build();
+        LOGGER.debug("Decoded values of [{}] are kept for [{}]", getName(), timeToLive);
+    }
+
     @Override
     public String encode(final Serializable value, final Object[] parameters) {
-        val encoded = this.encryptionEnabled && this.secretKeyEncryptionKey != null
-            ? EncodingUtils.encryptValueAsJwt(this.secretKeyEncryptionKey, value, this.encryptionAlgorithm, this.contentEncryptionAlgorithmIdentifier)
-            : value.toString();
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            val encoded = this.encryptionEnabled && this.secretKeyEncryptionKey != null
+                ? EncodingUtils.encryptValueAsJwt(this.secretKeyEncryptionKey, value, this.encryptionAlgorithm, this.contentEncryptionAlgorithmIdentifier)
+                : value.toString();
 
-        if (this.signingEnabled) {
-            val signed = sign(encoded.getBytes(StandardCharsets.UTF_8));
-            return new String(signed, StandardCharsets.UTF_8);
+            if (this.signingEnabled) {
+                val signed = sign(encoded.getBytes(StandardCharsets.UTF_8));
+                return new String(signed, StandardCharsets.UTF_8);
+            }
+            return encoded;
+        } finally {
+            sample.stop(Metrics.timer(METRIC_NAME, "cipher", getName(), "operation", "encode"));
         }
-        return encoded;
     }
 
     @Override
     public String decode(final Serializable value, final Object[] parameters) {
+        val cache = this.decodedValues;
+        if (cache == null) {
+            return decodeValue(value);
+        }
+        val key = DigestUtils.sha256(value.toString());
+        val cached = cache.getIfPresent(key);
+        if (cached != null) {
+            LOGGER.trace("Found decoded value for [{}]", getName());
+            return cached;
+        }
+        val decoded = decodeValue(value);
+        if (decoded != null) {
+            cache.put(key, decoded);
+        }
+        return decoded;
+    }
+
+    private String decodeValue(final Serializable value) {
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            return verifyAndDecryptValue(value);
+        } finally {
+            sample.stop(Metrics.timer(METRIC_NAME, "cipher", getName(), "operation", "decode"));
+        }
+    }
+
+    private String verifyAndDecryptValue(final Serializable value) {
         val currentValue = value.toString().getBytes(StandardCharsets.UTF_8);
         val encoded = this.signingEnabled ? verifySignature(currentValue) : currentValue;
 
@@ -0,0 +1,72 @@
+package org.apereo.cas.util.http;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link BoundedMetricTagValues} that maps values such as destination hosts onto metric tag values.
+ * Only the first {@code maximumValues} distinct values are tagged as-is; any other value is tagged
+ * as {@value #OTHER}, which keeps the number of registered meters bounded regardless of the input.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RequiredArgsConstructor
+public class BoundedMetricTagValues {
+    /**
+     * Tag value shared by all values beyond the maximum.
+     */
+    public static final String OTHER = "other";
+
+    private final int maximumValues;
+
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Determine the tag value for the given value, tracking it when first seen.
+     *
+     * @param value the value
+     * @return the value itself, or {@value #OTHER} once the maximum number of values is tracked
+     */
+    public String getTagValue(final String value) {
+        return getTagValue(value, tagValue -> {
+        });
+    }
+
+    /**
+     * Determine the tag value for the given value, tracking it when first seen.
+     *
+     * @param value         the value
+     * @param onNewTagValue invoked once for every tag value that is tracked for the first time
+     * @return the value itself, or {@value #OTHER} once the maximum number of values is tracked
+     */
+    public String getTagValue(final String value, final Consumer<String> onNewTagValue) {
+        if (this.values.contains(value)) {
+            return value;
+        }
+        synchronized (this.values) {
+            if (this.values.contains(value)) {
+                return value;
+            }
+            val tagValue = this.values.size() >= this.maximumValues ? OTHER : value;
+            if (this.values.add(tagValue)) {
+                onNewTagValue.accept(tagValue);
+            }
+            return tagValue;
+        }
+    }
+
+    /**
+     * Determine the tag value for the given value without tracking it.
+     *
+     * @param value the value
+     * @return the value itself if it is tracked, otherwise {@value #OTHER}
+     */
+    public String findTagValue(final String value) {
+        return this.values.contains(value) ? value : OTHER;
+    }
+}
@@ -0,0 +1,122 @@
+package org.apereo.cas.util.http;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link HttpHostCircuitBreaker} that keeps track of failing destination hosts.
+ * Once a host fails the configured number of times in a row, requests to that host are short-circuited
+ * until the open duration has passed. A single trial request is then let through; the circuit is
+ * closed again if it succeeds, and opened again if it fails.
+ * Should the trial request never complete, another one is let through after the open duration.
+ * A failure threshold of zero or less turns off circuit breaking.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class HttpHostCircuitBreaker implements Serializable {
+    private static final long serialVersionUID = -2460539786712237451L;
+
+    private final int failureThreshold;
+
+    private final Duration openDuration;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Determine whether a request to the given host may be sent.
+     *
+     * @param host the host
+     * @return true if the circuit for the host is closed, or a trial request is permitted
+     */
+    public boolean allowRequest(final String host) {
+        if (!isEnabled()) {
+            return true;
+        }
+        val state = this.hosts.get(normalize(host));
+        return state == null || state.allowRequest(System.currentTimeMillis(), this.openDuration.toMillis());
+    }
+
+    /**
+     * Record a successful request to the given host, which closes its circuit.
+     *
+     * @param host the host
+     */
+    public void recordSuccess(final String host) {
+        if (isEnabled()) {
+            this.hosts.remove(normalize(host));
+        }
+    }
+
+    /**
+     * Record a failed request to the given host.
+     *
+     * @param host the host
+     */
+    public void recordFailure(final String host) {
+        if (!isEnabled()) {
+            return;
+        }
+        val state = this.hosts.computeIfAbsent(normalize(host), k -> new HostState());
+        if (state.recordFailure(System.currentTimeMillis(), this.failureThreshold)) {
+            LOGGER.warn("Requests to [{}] failed [{}] time(s) in a row; requests to the host are suspended for [{}]",
+                host, this.failureThreshold, this.openDuration);
+        }
+    }
+
+    private boolean isEnabled() {
+        return this.failureThreshold > 0;
+    }
+
+    private static String normalize(final String host) {
+        return StringUtils.defaultString(host).toLowerCase();
+    }
+
+    /**
+     * Failure count and circuit state of a single host.
+     */
+    private static class HostState implements Serializable {
+        private static final long serialVersionUID = 4136598241235236781L;
+
+        private int failures;
+
+        private long openedAt;
+
+        private boolean trialInProgress;
+
+        synchronized boolean allowRequest(final long now, final long openDurationMillis) {
+            if (this.openedAt == 0) {
+                return true;
+            }
+            if (now - this.openedAt < openDurationMillis) {
+                return false;
+            }
+            this.openedAt = now;
+            this.trialInProgress = true;
+            return true;
+        }
+
+        synchronized boolean recordFailure(final long now, final int threshold) {
+            this.failures++;
+            if (this.trialInProgress || this.openedAt == 0 && this.failures >= threshold) {
+                this.trialInProgress = false;
+                this.openedAt = now;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.apereo.cas.util.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * This is {@link InstrumentedHttpClientConnectionManager} that records how long it takes to lease
+ * a connection from the pool, how often the pool is exhausted, and how many connections are leased,
+ * pending and available for each destination host and for the pool as a whole.
+ * <p>
+ * Every pool is tagged with its own identifier, since several pools may be built for the same client
+ * and gauges that share a name and tags are only registered once.
+ * Only the first {@value #MAX_INSTRUMENTED_HOSTS} destination hosts are tracked individually;
+ * statistics of any other host are recorded under {@value BoundedMetricTagValues#OTHER}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class InstrumentedHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+    private static final String METRIC_NAME_PREFIX = "cas.http.client.pool";
+
+    /**
+     * Number of destination hosts tagged individually.
+     */
+    static final int MAX_INSTRUMENTED_HOSTS = 100;
+
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final String clientName;
+
+    private final String poolName;
+
+    private final BoundedMetricTagValues instrumentedHosts = new BoundedMetricTagValues(MAX_INSTRUMENTED_HOSTS);
+
+    public InstrumentedHttpClientConnectionManager(final Registry<ConnectionSocketFactory> registry, final String clientName) {
+        super(registry);
+        this.clientName = clientName;
+        this.poolName = clientName + '-' + POOL_SEQUENCE.incrementAndGet();
+        registerGauge("total.leased", PoolStats::getLeased, null);
+        registerGauge("total.pending", PoolStats::getPending, null);
+        registerGauge("total.available", PoolStats::getAvailable, null);
+        registerGauge("total.max", PoolStats::getMax, null);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, final Object state) {
+        val host = getInstrumentedHost(route.getTargetHost().getHostName());
+        val request = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(final long timeout, final TimeUnit timeUnit)
+                throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                val sample = Timer.start(Metrics.globalRegistry);
+                try {
+                    return request.get(timeout, timeUnit);
+                } catch (final ConnectionPoolTimeoutException e) {
+                    LOGGER.warn("Timed out waiting for a pooled connection to [{}]; [{}]", route.getTargetHost(), getStats(route));
+                    Metrics.counter(METRIC_NAME_PREFIX + ".exhausted", "client", clientName, "pool", poolName, "host", host).increment();
+                    throw e;
+                } finally {
+                    sample.stop(Metrics.timer(METRIC_NAME_PREFIX + ".lease", "client", clientName, "pool", poolName, "host", host));
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    /**
+     * Determine the host tag for the given destination, registering its gauges when first seen.
+     */
+    private String getInstrumentedHost(final String host) {
+        return this.instrumentedHosts.getTagValue(host, tagValue -> {
+            if (BoundedMetricTagValues.OTHER.equals(tagValue)) {
+                LOGGER.debug("Connection pool [{}] tracks [{}] hosts; statistics of further hosts are recorded as [{}]",
+                    this.poolName, MAX_INSTRUMENTED_HOSTS, tagValue);
+            }
+            registerHostGauges(tagValue);
+        });
+    }
+
+    private void registerHostGauges(final String host) {
+        registerGauge("leased", PoolStats::getLeased, host);
+        registerGauge("pending", PoolStats::getPending, host);
+        registerGauge("available", PoolStats::getAvailable, host);
+        registerGauge("max", PoolStats::getMax, host);
+    }
+
+    /**
+     * Register a gauge for the given statistic. Statistics of a host add up the statistics
+     * of all routes, i.e. schemes and ports, to that host.
+     */
+    private void registerGauge(final String name, final ToIntFunction<PoolStats> statistic, final String host) {
+        val builder = host == null
+            ? Gauge.builder(METRIC_NAME_PREFIX + '.' + name, this, manager -> statistic.applyAsInt(manager.getTotalStats()))
+            : Gauge.builder(METRIC_NAME_PREFIX + '.' + name, this, manager -> manager.getRoutes()
+                .stream()
+                .filter(route -> host.equals(manager.instrumentedHosts.findTagValue(route.getTargetHost().getHostName())))
+                .mapToInt(route -> statistic.applyAsInt(manager.getStats(route)))
+                .sum()).tag("host", host);
+        builder.tag("client", this.clientName).tag("pool", this.poolName).register(Metrics.globalRegistry);
+    }
+}
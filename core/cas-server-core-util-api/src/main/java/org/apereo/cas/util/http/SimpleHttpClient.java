@@ -1,5 +1,7 @@
 package org.apereo.cas.util.http;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,6 +9,7 @@ import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.protocol.HttpClientContext;
@@ -14,11 +17,14 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.FutureRequestExecutionService;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
@@ -28,6 +34,8 @@ import java.util.concurrent.RejectedExecutionException;
 /**
  * Implementation of CAS {@link HttpClient}
  * which delegates requests to a {@link #wrappedHttpClient} instance.
+ * The latency of requests is recorded per destination host and status, up to a bounded
+ * number of each, and requests to hosts that keep failing are short-circuited by the {@link #circuitBreaker}.
  *
  * @author Jerome Leleu
  * @author Scott Battaglia
@@ -44,6 +52,9 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
      */
     private static final long serialVersionUID = -4949380008568071855L;
 
+    private static final String METRIC_NAME = "cas.http.client.requests";
+
+    private static final int MAX_INSTRUMENTED_STATUSES = 50;
 
     /**
      * the acceptable codes supported by this client.
@@ -60,8 +71,33 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
      */
     private final FutureRequestExecutionService requestExecutorService;
 
+    /**
+     * the circuit breaker that tracks failing destination hosts.
+     */
+    private final transient HttpHostCircuitBreaker circuitBreaker;
+
+    /**
+     * the name of this client, used to tag its metrics.
+     */
+    private final String clientName;
+
+    /**
+     * the destination hosts tagged individually on the request metrics of this client.
+     */
+    private final transient BoundedMetricTagValues instrumentedHosts =
+        new BoundedMetricTagValues(InstrumentedHttpClientConnectionManager.MAX_INSTRUMENTED_HOSTS);
+
+    /**
+     * the response codes and failure types tagged individually on the request metrics of this client.
+     */
+    private final transient BoundedMetricTagValues instrumentedStatuses = new BoundedMetricTagValues(MAX_INSTRUMENTED_STATUSES);
+
     @Override
     public boolean sendMessageToEndPoint(final HttpMessage message) {
+        val host = message.getUrl().getHost();
+        if (!isRequestAllowed(host)) {
+            return false;
+        }
         try {
             val request = new HttpPost(message.getUrl().toURI());
             request.addHeader("Content-Type", message.getContentType());
@@ -69,9 +105,30 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
             val entity = new StringEntity(message.getMessage(), ContentType.create(message.getContentType()));
             request.setEntity(entity);
 
-            val handler = (ResponseHandler<Boolean>) response -> response.getStatusLine().getStatusCode() == HttpStatus.SC_OK;
+            val sample = Timer.start(Metrics.globalRegistry);
+            val handler = (ResponseHandler<Boolean>) response -> {
+                val responseCode = response.getStatusLine().getStatusCode();
+                recordResponse(host, sample, responseCode);
+                return responseCode == HttpStatus.SC_OK;
+            };
+            val callback = new FutureCallback<Boolean>() {
+                @Override
+                public void completed(final Boolean result) {
+                }
+
+                @Override
+                public void failed(final Exception e) {
+                    if (e instanceof IOException) {
+                        recordFailure(host, sample, e);
+                    }
+                }
+
+                @Override
+                public void cancelled() {
+                }
+            };
             LOGGER.debug("Created HTTP post message payload [{}]", request);
-            val task = this.requestExecutorService.execute(request, HttpClientContext.create(), handler);
+            val task = this.requestExecutorService.execute(request, HttpClientContext.create(), handler, callback);
             if (message.isAsynchronous()) {
                 return true;
             }
@@ -87,7 +144,10 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
 
     @Override
     public HttpMessage sendMessageToEndPoint(final URL url) {
-        try (val response = this.wrappedHttpClient.execute(new HttpGet(url.toURI()))) {
+        if (!isRequestAllowed(url.getHost())) {
+            return null;
+        }
+        try (val response = executeGet(url)) {
             val responseCode = response.getStatusLine().getStatusCode();
 
             for (val acceptableCode : this.acceptableCodes) {
@@ -129,7 +189,10 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
 
     @Override
     public boolean isValidEndPoint(final URL url) {
-        try (val response = this.wrappedHttpClient.execute(new HttpGet(url.toURI()))) {
+        if (!isRequestAllowed(url.getHost())) {
+            return false;
+        }
+        try (val response = executeGet(url)) {
             val responseCode = response.getStatusLine().getStatusCode();
             val idx = Collections.binarySearch(this.acceptableCodes, responseCode);
             if (idx >= 0) {
@@ -156,6 +219,55 @@ public class SimpleHttpClient implements HttpClient, Serializable, DisposableBea
         return false;
     }
 
+    private CloseableHttpResponse executeGet(final URL url) throws IOException, URISyntaxException {
+        val request = new HttpGet(url.toURI());
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            val response = this.wrappedHttpClient.execute(request);
+            recordResponse(url.getHost(), sample, response.getStatusLine().getStatusCode());
+            return response;
+        } catch (final IOException e) {
+            recordFailure(url.getHost(), sample, e);
+            throw e;
+        }
+    }
+
+    private boolean isRequestAllowed(final String host) {
+        if (this.circuitBreaker.allowRequest(host)) {
+            return true;
+        }
+        LOGGER.warn("Requests to [{}] are suspended after repeated failures; request is not sent", host);
+        Metrics.counter(METRIC_NAME + ".rejected", "client", this.clientName,
+            "host", this.instrumentedHosts.getTagValue(host)).increment();
+        return false;
+    }
+
+    /**
+     * Server errors count as failures of the host, since they typically indicate an endpoint that is down or overloaded.
+     */
+    private void recordResponse(final String host, final Timer.Sample sample, final int responseCode) {
+        recordRequest(host, sample, String.valueOf(responseCode));
+        if (responseCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+            this.circuitBreaker.recordFailure(host);
+        } else {
+            this.circuitBreaker.recordSuccess(host);
+        }
+    }
+
+    private void recordFailure(final String host, final Timer.Sample sample, final Exception e) {
+        recordRequest(host, sample, e.getClass().getSimpleName());
+        this.circuitBreaker.recordFailure(host);
+    }
+
+    /**
+     * Hosts and statuses are capped, since destination urls may come from service definitions and requests.
+     */
+    private void recordRequest(final String host, final Timer.Sample sample, final String status) {
+        sample.stop(Metrics.timer(METRIC_NAME, "client", this.clientName,
+            "host", this.instrumentedHosts.getTagValue(host),
+            "status", this.instrumentedStatuses.getTagValue(status)));
+    }
+
     /**
      * Shutdown the executor service and close the http client.
      */
@@ -2,12 +2,16 @@ package org.apereo.cas.util.http;
 
 import lombok.val;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.ConnectionReuseStrategy;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.client.AuthenticationStrategy;
 import org.apache.http.client.ConnectionBackoffStrategy;
 import org.apache.http.client.CookieStore;
@@ -15,6 +19,7 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.RedirectStrategy;
 import org.apache.http.client.ServiceUnavailableRetryStrategy;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
@@ -29,16 +34,20 @@ import org.apache.http.impl.client.DefaultServiceUnavailableRetryStrategy;
 import org.apache.http.impl.client.FutureRequestExecutionService;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.client.ProxyAuthenticationStrategy;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 
 import javax.net.ssl.HostnameVerifier;
+import java.io.Serializable;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -48,6 +57,9 @@ import java.util.stream.IntStream;
 
 /**
  * The factory to build a {@link SimpleHttpClient}.
+ * Connections are pooled per route, and the connection limits and timeouts
+ * of individual destinations may be tuned via {@link RouteSettings}, so that
+ * a single slow or misbehaving endpoint cannot exhaust the whole pool.
  *
  * @author Jerome Leleu
  * @since 4.1.0
@@ -67,6 +79,10 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
 
     private static final int DEFAULT_TIMEOUT = 5000;
 
+    private static final int HTTP_DEFAULT_PORT = 80;
+
+    private static final int HTTPS_DEFAULT_PORT = 443;
+
     /**
      * The default status codes we accept.
      */
@@ -100,6 +116,27 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
      */
     private int maxConnectionsPerRoute = MAX_CONNECTIONS_PER_ROUTE;
 
+    /**
+     * Connection limits and timeouts for individual destinations.
+     */
+    private List<RouteSettings> routes = new ArrayList<>(0);
+
+    /**
+     * Number of consecutive failures after which requests to a host are suspended.
+     * Zero or less turns off circuit breaking.
+     */
+    private int circuitBreakerFailureThreshold;
+
+    /**
+     * How long requests to a failing host are suspended before a trial request is let through.
+     */
+    private Duration circuitBreakerOpenDuration = Duration.ofSeconds(30);
+
+    /**
+     * Name of the client, used to tag the metrics of its requests and connection pool.
+     */
+    private String clientName = "default";
+
     /**
      * List of HTTP status codes considered valid by the caller.
      */
@@ -185,7 +222,8 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
         val httpClient = buildHttpClient();
         val requestExecutorService = buildRequestExecutorService(httpClient);
         val codes = this.acceptableCodes.stream().sorted().collect(Collectors.toList());
-        return new SimpleHttpClient(codes, httpClient, requestExecutorService);
+        val circuitBreaker = new HttpHostCircuitBreaker(this.circuitBreakerFailureThreshold, this.circuitBreakerOpenDuration);
+        return new SimpleHttpClient(codes, httpClient, requestExecutorService, circuitBreaker, this.clientName);
     }
 
     @Override
@@ -209,7 +247,7 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
         val sslsf = this.sslSocketFactory;
         val registry = RegistryBuilder.<ConnectionSocketFactory>create()
             .register("http", plainsf).register("https", sslsf).build();
-        val connMgmr = new PoolingHttpClientConnectionManager(registry);
+        val connMgmr = new InstrumentedHttpClientConnectionManager(registry, this.clientName);
         connMgmr.setMaxTotal(this.maxPooledConnections);
         connMgmr.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
         connMgmr.setValidateAfterInactivity(DEFAULT_TIMEOUT);
@@ -220,6 +258,20 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
             .setConnectTimeout((int) this.connectionTimeout).setConnectionRequestTimeout((int) this.connectionTimeout)
             .setCircularRedirectsAllowed(this.circularRedirectsAllowed).setRedirectsEnabled(this.redirectsEnabled)
             .setAuthenticationEnabled(this.authenticationEnabled).build();
+        val routeRequestConfigs = new HashMap<String, RequestConfig>();
+        for (val route : this.routes) {
+            val target = getTargetHost(route.getUrl());
+            if (route.getMaxConnections() > 0) {
+                val secure = "https".equalsIgnoreCase(target.getSchemeName());
+                connMgmr.setMaxPerRoute(new HttpRoute(target, null, secure), route.getMaxConnections());
+            }
+            val connectionTimeout = (int) (route.getConnectionTimeout() > 0 ? route.getConnectionTimeout() : this.connectionTimeout);
+            val readTimeout = route.getReadTimeout() > 0 ? route.getReadTimeout() : this.readTimeout;
+            LOGGER.debug("Route [{}] allows [{}] connection(s) with connection timeout [{}] and read timeout [{}]",
+                target, route.getMaxConnections(), connectionTimeout, readTimeout);
+            routeRequestConfigs.put(getRouteKey(target), RequestConfig.copy(requestConfig).setSocketTimeout(readTimeout)
+                .setConnectTimeout(connectionTimeout).setConnectionRequestTimeout(connectionTimeout).build());
+        }
         val builder = HttpClients.custom().setConnectionManager(connMgmr)
             .setDefaultRequestConfig(requestConfig).setSSLSocketFactory(sslsf)
             .setSSLHostnameVerifier(this.hostnameVerifier).setRedirectStrategy(this.redirectionStrategy)
@@ -229,9 +281,35 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
             .setServiceUnavailableRetryStrategy(this.serviceUnavailableRetryStrategy)
             .setProxyAuthenticationStrategy(this.proxyAuthenticationStrategy)
             .setDefaultHeaders(this.defaultHeaders).useSystemProperties();
+        if (!routeRequestConfigs.isEmpty()) {
+            builder.addInterceptorFirst((HttpRequestInterceptor) (request, context) -> {
+                val clientContext = HttpClientContext.adapt(context);
+                val target = clientContext.getTargetHost();
+                if (target != null) {
+                    val config = routeRequestConfigs.get(getRouteKey(target));
+                    if (config != null) {
+                        clientContext.setRequestConfig(config);
+                    }
+                }
+            });
+        }
         return builder.build();
     }
 
+    @SneakyThrows
+    private static HttpHost getTargetHost(final String url) {
+        val u = new URL(url);
+        return new HttpHost(u.getHost(), u.getPort() > 0 ? u.getPort() : u.getDefaultPort(), u.getProtocol());
+    }
+
+    private static String getRouteKey(final HttpHost host) {
+        var port = host.getPort();
+        if (port <= 0) {
+            port = "https".equalsIgnoreCase(host.getSchemeName()) ? HTTPS_DEFAULT_PORT : HTTP_DEFAULT_PORT;
+        }
+        return (host.getSchemeName() + "://" + host.getHostName() + ':' + port).toLowerCase();
+    }
+
     /**
      * Build a {@link FutureRequestExecutionService} from the current properties and a HTTP client.
      *
@@ -256,6 +334,26 @@ public class SimpleHttpClientFactoryBean implements FactoryBean<SimpleHttpClient
         }
     }
 
+    /**
+     * Connection limits and timeouts for a single destination, identified by the scheme, host and port of its url.
+     * Limits and timeouts of zero or less fall back to the defaults of the client.
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RouteSettings implements Serializable {
+        private static final long serialVersionUID = 2962483207937613342L;
+
+        private String url;
+
+        private int maxConnections;
+
+        private long connectionTimeout;
+
+        private int readTimeout;
+    }
+
     /**
      * The type Default http client.
      */
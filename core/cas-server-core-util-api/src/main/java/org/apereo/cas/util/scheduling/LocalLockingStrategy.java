@@ -0,0 +1,31 @@
+package org.apereo.cas.util.scheduling;
+
+import lombok.ToString;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link LocalLockingStrategy} that only coordinates threads of the same node,
+ * preventing a job from overlapping with itself. It is used when no
+ * cluster-wide locking strategy is available, in which case every node runs the job.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@ToString
+public class LocalLockingStrategy implements LockingStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public boolean acquire() {
+        return this.lock.tryLock();
+    }
+
+    @Override
+    public void release() {
+        if (this.lock.isHeldByCurrentThread()) {
+            this.lock.unlock();
+        }
+    }
+}
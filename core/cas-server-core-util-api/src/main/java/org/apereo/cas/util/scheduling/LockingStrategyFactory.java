@@ -0,0 +1,25 @@
+package org.apereo.cas.util.scheduling;
+
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+
+/**
+ * This is {@link LockingStrategyFactory} that produces the lock that
+ * nodes in a cluster contend for before running a given scheduled job.
+ * Implementations are expected to produce locks with a lease that expires
+ * on its own, so that a node that fails while holding the lock does not
+ * prevent others from running the job indefinitely.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@FunctionalInterface
+public interface LockingStrategyFactory {
+
+    /**
+     * Gets the locking strategy for the given job.
+     *
+     * @param jobName the job name
+     * @return the locking strategy
+     */
+    LockingStrategy getLockingStrategy(String jobName);
+}
@@ -0,0 +1,207 @@
+package org.apereo.cas.util.scheduling;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link ScheduledJobExecutor} that runs background maintenance jobs
+ * on behalf of their schedulers. Jobs that operate on state that is shared by all nodes
+ * may be coordinated, in which case nodes contend for a lock produced by the
+ * {@link LockingStrategyFactory} and only the node that obtains it runs the job.
+ * Coordinated jobs that are able to split their work may instead run on all nodes at once,
+ * each node processing its own {@link ScheduledJobShard}. Jobs that maintain state local to each node
+ * are not coordinated and always run. Executions may be delayed by a random jitter to
+ * avoid nodes hitting shared backends at the same instant, in which case they are handed off to a
+ * delayed schedule of their own rather than holding up the thread that triggered them.
+ * Run-time statistics are kept per job, and are registered as metrics under {@code cas.scheduler.job}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(of = {"maximumJitter", "shard"})
+public class ScheduledJobExecutor implements DisposableBean {
+    private final LockingStrategyFactory lockingStrategyFactory;
+
+    @Getter
+    private final Duration maximumJitter;
+
+    @Getter
+    private final ScheduledJobShard shard;
+
+    private final Map<String, LockingStrategy> lockingStrategies = new ConcurrentHashMap<>();
+
+    private final Map<String, ScheduledJobStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final Set<String> pendingJobs = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService jitterScheduler;
+
+    public ScheduledJobExecutor() {
+        this(jobName -> new LocalLockingStrategy(), Duration.ZERO, ScheduledJobShard.all());
+    }
+
+    public ScheduledJobExecutor(final LockingStrategyFactory lockingStrategyFactory, final Duration maximumJitter,
+                                final ScheduledJobShard shard) {
+        this.lockingStrategyFactory = lockingStrategyFactory;
+        this.maximumJitter = maximumJitter;
+        this.shard = shard;
+        if (maximumJitter.toMillis() > 0) {
+            this.jitterScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                val thread = new Thread(r, getClass().getSimpleName());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.jitterScheduler = null;
+        }
+    }
+
+    /**
+     * Run the job. Coordinated jobs only run if this node is able to obtain the job lock.
+     *
+     * @param jobName     the job name
+     * @param coordinated whether the job should run on one node at a time
+     * @param job         the job
+     * @return true if the job ran successfully on this node, or was scheduled to run once the jitter has passed
+     */
+    public boolean execute(final String jobName, final boolean coordinated, final Runnable job) {
+        return executeWithJitter(jobName, () -> executeNow(jobName, coordinated, job));
+    }
+
+    private boolean executeNow(final String jobName, final boolean coordinated, final Runnable job) {
+        if (!coordinated) {
+            return run(jobName, job);
+        }
+        val lock = this.lockingStrategies.computeIfAbsent(jobName, this.lockingStrategyFactory::getLockingStrategy);
+        LOGGER.trace("Attempting to acquire lock [{}] for job [{}]", lock, jobName);
+        if (!lock.acquire()) {
+            LOGGER.debug("Job [{}] is skipped; its lock is held by another node", jobName);
+            getStatistics(jobName).recordSkipped();
+            return false;
+        }
+        try {
+            return run(jobName, job);
+        } finally {
+            try {
+                lock.release();
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to release lock for job [{}]: [{}]", jobName, e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Run a job that is able to split its work. Coordinated jobs run on all nodes
+     * at once, each processing the shard assigned to this node, if more than one shard is defined.
+     * Otherwise, the job is handed the shard that owns all work and runs as a regular job.
+     *
+     * @param jobName     the job name
+     * @param coordinated whether the job should be coordinated across nodes
+     * @param job         the job
+     * @return true if the job ran successfully on this node, or was scheduled to run once the jitter has passed
+     */
+    public boolean executeSharded(final String jobName, final boolean coordinated, final Consumer<ScheduledJobShard> job) {
+        if (coordinated && this.shard.isSharded()) {
+            return executeWithJitter(jobName, () -> {
+                LOGGER.trace("Running job [{}] for shard [{}]", jobName, this.shard);
+                return run(jobName, () -> job.accept(this.shard));
+            });
+        }
+        return execute(jobName, coordinated, () -> job.accept(ScheduledJobShard.all()));
+    }
+
+    /**
+     * Gets the run-time statistics of all jobs that ran, or were skipped, on this node.
+     *
+     * @return the statistics keyed by job name
+     */
+    public Map<String, ScheduledJobStatistics> getStatistics() {
+        return Collections.unmodifiableMap(this.statistics);
+    }
+
+    private ScheduledJobStatistics getStatistics(final String jobName) {
+        return this.statistics.computeIfAbsent(jobName, name -> {
+            val jobStatistics = new ScheduledJobStatistics(name);
+            jobStatistics.bindTo(Metrics.globalRegistry);
+            return jobStatistics;
+        });
+    }
+
+    private boolean run(final String jobName, final Runnable job) {
+        val startTime = ZonedDateTime.now(ZoneOffset.UTC);
+        val start = System.nanoTime();
+        var failed = false;
+        try {
+            job.run();
+        } catch (final Exception e) {
+            failed = true;
+            LOGGER.error("Job [{}] has failed: [{}]", jobName, e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        } finally {
+            val runTime = Duration.ofNanos(System.nanoTime() - start);
+            getStatistics(jobName).recordExecution(startTime, runTime, failed);
+            LOGGER.debug("Job [{}] completed in [{}] ms", jobName, runTime.toMillis());
+        }
+        return !failed;
+    }
+
+    /**
+     * Run the execution right away, or schedule it to run after a random delay if a jitter is defined.
+     * A job is not scheduled again while a previous execution of it is still pending.
+     */
+    private boolean executeWithJitter(final String jobName, final BooleanSupplier execution) {
+        if (this.jitterScheduler == null) {
+            return execution.getAsBoolean();
+        }
+        if (!this.pendingJobs.add(jobName)) {
+            LOGGER.debug("Job [{}] is skipped; a previous execution is still pending", jobName);
+            getStatistics(jobName).recordSkipped();
+            return false;
+        }
+        val delay = ThreadLocalRandom.current().nextLong(this.maximumJitter.toMillis() + 1);
+        LOGGER.trace("Delaying job [{}] by [{}] ms", jobName, delay);
+        try {
+            this.jitterScheduler.schedule(() -> {
+                try {
+                    execution.getAsBoolean();
+                } finally {
+                    this.pendingJobs.remove(jobName);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            this.pendingJobs.remove(jobName);
+            LOGGER.debug("Job [{}] is skipped; the executor is shut down", jobName);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        if (this.jitterScheduler != null) {
+            this.jitterScheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.apereo.cas.util.scheduling;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link ScheduledJobShard} that describes the portion of work
+ * assigned to this node when a scheduled job is split across all nodes in the cluster.
+ * Work items are assigned to shards based on the hash code of their key.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@ToString
+public class ScheduledJobShard implements Serializable {
+    private static final long serialVersionUID = 3826375920381627262L;
+
+    private static final ScheduledJobShard ALL = new ScheduledJobShard(0, 1);
+
+    private final int index;
+
+    private final int count;
+
+    public ScheduledJobShard(final int index, final int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Shard index must be between 0 and the number of shards " + count);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * The shard that owns all work items.
+     *
+     * @return the shard
+     */
+    public static ScheduledJobShard all() {
+        return ALL;
+    }
+
+    /**
+     * Whether the work is split across more than one shard.
+     *
+     * @return true/false
+     */
+    public boolean isSharded() {
+        return this.count > 1;
+    }
+
+    /**
+     * Whether the work item identified by the given key is assigned to this shard.
+     *
+     * @param key the key
+     * @return true/false
+     */
+    public boolean owns(final Object key) {
+        return !isSharded() || Math.floorMod(key.hashCode(), this.count) == this.index;
+    }
+}
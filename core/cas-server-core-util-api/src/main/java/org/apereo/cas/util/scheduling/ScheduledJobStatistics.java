@@ -0,0 +1,112 @@
+package org.apereo.cas.util.scheduling;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link ScheduledJobStatistics} that tracks how often,
+ * and for how long, a scheduled job runs on this node.
+ * Statistics may be bound to a meter registry, tagged by the job name.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@ToString
+@RequiredArgsConstructor
+public class ScheduledJobStatistics implements MeterBinder {
+    private static final String METRIC_NAME_PREFIX = "cas.scheduler.job";
+
+    @Getter
+    private final String jobName;
+
+    private final AtomicLong executions = new AtomicLong();
+
+    private final AtomicLong skipped = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong totalRunTime = new AtomicLong();
+
+    private final AtomicLong lastRunTime = new AtomicLong();
+
+    @Getter
+    private volatile ZonedDateTime lastExecution;
+
+    /**
+     * Record an execution of the job.
+     *
+     * @param startTime the time the job started
+     * @param runTime   the time it took the job to complete
+     * @param failed    whether the job failed
+     */
+    public void recordExecution(final ZonedDateTime startTime, final Duration runTime, final boolean failed) {
+        this.executions.incrementAndGet();
+        if (failed) {
+            this.failures.incrementAndGet();
+        }
+        this.totalRunTime.addAndGet(runTime.toMillis());
+        this.lastRunTime.set(runTime.toMillis());
+        this.lastExecution = startTime;
+    }
+
+    /**
+     * Record that the job was skipped on this node, typically because another node holds the lock.
+     */
+    public void recordSkipped() {
+        this.skipped.incrementAndGet();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder(METRIC_NAME_PREFIX + ".executions", this,
+            ScheduledJobStatistics::getExecutions, s -> s.totalRunTime.get(), TimeUnit.MILLISECONDS)
+            .tag("job", this.jobName)
+            .register(registry);
+        FunctionCounter.builder(METRIC_NAME_PREFIX + ".skipped", this, ScheduledJobStatistics::getSkipped)
+            .tag("job", this.jobName)
+            .register(registry);
+        FunctionCounter.builder(METRIC_NAME_PREFIX + ".failures", this, ScheduledJobStatistics::getFailures)
+            .tag("job", this.jobName)
+            .register(registry);
+        TimeGauge.builder(METRIC_NAME_PREFIX + ".last.run.time", this, TimeUnit.MILLISECONDS, s -> s.lastRunTime.get())
+            .tag("job", this.jobName)
+            .register(registry);
+    }
+
+    public long getExecutions() {
+        return this.executions.get();
+    }
+
+    public long getSkipped() {
+        return this.skipped.get();
+    }
+
+    public long getFailures() {
+        return this.failures.get();
+    }
+
+    public Duration getTotalRunTime() {
+        return Duration.ofMillis(this.totalRunTime.get());
+    }
+
+    public Duration getLastRunTime() {
+        return Duration.ofMillis(this.lastRunTime.get());
+    }
+
+    public Duration getAverageRunTime() {
+        val count = this.executions.get();
+        return count == 0 ? Duration.ZERO : Duration.ofMillis(this.totalRunTime.get() / count);
+    }
+}
@@ -0,0 +1,222 @@
+package org.apereo.cas.util.scripting;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.GroovyClassLoader;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link GroovyScriptCache}. Compiles groovy scripts once and hands out the compiled
+ * classes so that callers can create a fresh script or object instance, along with its own
+ * binding, per invocation without reparsing the source. Compiled classes are keyed by the
+ * digest of the script content; external script files are additionally tracked by path and
+ * are evicted once a change to the file is observed on its parent directory. All directories
+ * are watched by a single watch service and thread, which are started on demand and stopped
+ * when the cache is closed or destroyed as a bean.
+ * Execution time is recorded per script under the {@code cas.scripts.execution} timer.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class GroovyScriptCache implements Closeable, DisposableBean {
+    private static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private static final int DIGEST_ABBREVIATION_LENGTH = 12;
+
+    private final Cache<String, Class<?>> compiledScripts;
+
+    private final Map<String, String> scriptFileDigests = new ConcurrentHashMap<>();
+
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    private final boolean watchScriptFiles;
+
+    private WatchService watchService;
+
+    private Thread watcherThread;
+
+    public GroovyScriptCache() {
+        this(DEFAULT_MAXIMUM_SIZE, true);
+    }
+
+    public GroovyScriptCache(final long maximumSize, final boolean watchScriptFiles) {
+        this.compiledScripts = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.watchScriptFiles = watchScriptFiles;
+    }
+
+    /**
+     * Gets the compiled class for the given script body.
+     *
+     * @param script the script body
+     * @return the compiled class
+     */
+    public Class<?> getCompiledScript(final String script) {
+        val digest = DigestUtils.sha256(script);
+        return this.compiledScripts.get(digest, k -> compile(script, "Script_" + StringUtils.left(k, DIGEST_ABBREVIATION_LENGTH)));
+    }
+
+    /**
+     * Gets the compiled class for the given script file.
+     * The file is read and compiled once, until a change to it is detected.
+     *
+     * @param scriptFile the script file
+     * @return the compiled class
+     */
+    @SneakyThrows
+    public Class<?> getCompiledScript(final File scriptFile) {
+        val path = scriptFile.getCanonicalPath();
+        val digest = this.scriptFileDigests.get(path);
+        if (digest != null) {
+            val compiled = this.compiledScripts.getIfPresent(digest);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+        val script = FileUtils.readFileToString(scriptFile, StandardCharsets.UTF_8);
+        val scriptDigest = DigestUtils.sha256(script);
+        val compiled = this.compiledScripts.get(scriptDigest, k -> compile(script, FilenameUtils.getBaseName(scriptFile.getName())));
+        this.scriptFileDigests.put(path, scriptDigest);
+        watchScriptFile(scriptFile);
+        return compiled;
+    }
+
+    /**
+     * Execute the given function and record its duration for the compiled script.
+     *
+     * @param <T>            the type parameter
+     * @param compiledScript the compiled script
+     * @param execution      the execution
+     * @return the result
+     */
+    public <T> T execute(final Class<?> compiledScript, final Supplier<T> execution) {
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            return execution.get();
+        } finally {
+            sample.stop(Metrics.timer("cas.scripts.execution", "script", compiledScript.getName()));
+        }
+    }
+
+    /**
+     * Evict the compiled form of the given script file.
+     *
+     * @param scriptFile the script file
+     */
+    @SneakyThrows
+    public void evict(final File scriptFile) {
+        val digest = this.scriptFileDigests.remove(scriptFile.getCanonicalPath());
+        if (digest != null) {
+            LOGGER.debug("Evicting compiled groovy script [{}]", scriptFile);
+            if (!this.scriptFileDigests.containsValue(digest)) {
+                this.compiledScripts.invalidate(digest);
+            }
+        }
+    }
+
+    /**
+     * Evict all compiled scripts.
+     */
+    public void clear() {
+        this.scriptFileDigests.clear();
+        this.compiledScripts.invalidateAll();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            IOUtils.closeQuietly(this.watchService);
+            if (this.watcherThread != null) {
+                this.watcherThread.interrupt();
+            }
+            this.watchService = null;
+            this.watcherThread = null;
+            this.watchedDirectories.clear();
+        }
+        clear();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    @SneakyThrows
+    private void watchScriptFile(final File scriptFile) {
+        if (!this.watchScriptFiles) {
+            return;
+        }
+        val directory = scriptFile.getAbsoluteFile().getParentFile();
+        if (directory == null || !directory.isDirectory() || this.watchedDirectories.contains(directory.toPath())) {
+            return;
+        }
+        synchronized (this) {
+            if (this.watchService == null) {
+                this.watchService = directory.toPath().getFileSystem().newWatchService();
+                val service = this.watchService;
+                this.watcherThread = new Thread(() -> watch(service), "GroovyScriptWatcher");
+                this.watcherThread.setDaemon(true);
+                this.watcherThread.start();
+            }
+            if (this.watchedDirectories.add(directory.toPath())) {
+                LOGGER.debug("Watching directory [{}] for changes to groovy scripts", directory);
+                directory.toPath().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+
+    private void watch(final WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                val key = service.take();
+                val directory = (Path) key.watchable();
+                key.pollEvents().forEach(event -> {
+                    if (event.context() instanceof Path) {
+                        evict(directory.resolve((Path) event.context()).toFile());
+                    }
+                });
+                if (!key.reset()) {
+                    LOGGER.debug("Directory [{}] can no longer be watched for changes to groovy scripts", directory);
+                    this.watchedDirectories.remove(directory);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException e) {
+            LOGGER.trace("Stopped watching groovy script directories: [{}]", e.getMessage());
+        }
+    }
+
+    private static Class<?> compile(final String script, final String name) {
+        LOGGER.debug("Compiling groovy script [{}]", name);
+        return AccessController.doPrivileged((PrivilegedAction<Class<?>>) () -> {
+            val classLoader = new GroovyClassLoader(GroovyScriptCache.class.getClassLoader(),
+                new CompilerConfiguration(), true);
+            return classLoader.parseClass(script, name + ".groovy");
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package org.apereo.cas.util.spring.boot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.Lifecycle;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link LazyInitializationBeanFactoryPostProcessor} that marks the beans declared by matching
+ * configuration classes as lazy, so they are only initialized once they are first used rather than at startup.
+ * Beans whose names match one of the eager patterns are left alone, as are infrastructure beans and beans
+ * that must take part in the lifecycle of the application context, such as post-processors and lifecycle beans.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LazyInitializationBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+    private static final Class<?>[] EAGER_TYPES = {BeanPostProcessor.class, BeanFactoryPostProcessor.class,
+        SmartInitializingSingleton.class, Lifecycle.class};
+
+    private final Collection<Pattern> configurationClasses;
+
+    private final Collection<Pattern> eagerBeans;
+
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        var count = 0;
+        for (val beanName : beanFactory.getBeanDefinitionNames()) {
+            val definition = beanFactory.getBeanDefinition(beanName);
+            if (isEligibleForLazyInitialization(beanFactory, beanName, definition)) {
+                LOGGER.trace("Bean [{}] is marked for lazy initialization", beanName);
+                definition.setLazyInit(true);
+                count++;
+            }
+        }
+        LOGGER.info("Marked [{}] bean(s) of optional modules for lazy initialization", count);
+    }
+
+    private boolean isEligibleForLazyInitialization(final ConfigurableListableBeanFactory beanFactory,
+                                                    final String beanName, final BeanDefinition definition) {
+        if (definition.getRole() != BeanDefinition.ROLE_APPLICATION || definition.isAbstract()
+            || definition.isLazyInit() || !definition.isSingleton()) {
+            return false;
+        }
+        if (matches(this.eagerBeans, beanName)) {
+            return false;
+        }
+        val configurationClass = definition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())
+            ? beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName()
+            : definition.getBeanClassName();
+        if (configurationClass == null || !matches(this.configurationClasses, configurationClass)) {
+            return false;
+        }
+        val beanType = resolveBeanType(beanFactory, definition);
+        return beanType != null && Stream.of(EAGER_TYPES).noneMatch(type -> type.isAssignableFrom(beanType));
+    }
+
+    private static Class<?> resolveBeanType(final ConfigurableListableBeanFactory beanFactory, final BeanDefinition definition) {
+        var typeName = definition.getBeanClassName();
+        if (definition instanceof AnnotatedBeanDefinition) {
+            val factoryMethod = ((AnnotatedBeanDefinition) definition).getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                typeName = factoryMethod.getReturnTypeName();
+            }
+        }
+        if (typeName == null) {
+            return null;
+        }
+        try {
+            return ClassUtils.forName(typeName, beanFactory.getBeanClassLoader());
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to resolve bean type [{}]: [{}]", typeName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean matches(final Collection<Pattern> patterns, final String value) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(value).matches());
+    }
+}
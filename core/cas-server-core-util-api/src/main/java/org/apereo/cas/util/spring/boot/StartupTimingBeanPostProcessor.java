@@ -0,0 +1,183 @@
+package org.apereo.cas.util.spring.boot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link StartupTimingBeanPostProcessor} that records how long each bean takes to be created
+ * and initialized, and attributes that time to the configuration class that declares the bean.
+ * The time spent creating the dependencies of a bean is attributed to those dependencies, so that
+ * the time recorded for each bean is its own. A summary of the slowest configuration classes and beans
+ * is logged once the application context is refreshed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class StartupTimingBeanPostProcessor implements InstantiationAwareBeanPostProcessor, ApplicationListener<ContextRefreshedEvent> {
+    private final ThreadLocal<Deque<BeanCreation>> beansInCreation = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<String, BeanTiming> beanTimings = new ConcurrentHashMap<>();
+
+    private final long startTime = System.nanoTime();
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    private final int summarySize;
+
+    @Getter
+    private volatile Duration startupDuration;
+
+    public StartupTimingBeanPostProcessor(final ConfigurableListableBeanFactory beanFactory, final int summarySize) {
+        this.beanFactory = beanFactory;
+        this.summarySize = summarySize;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(final Class<?> beanClass, final String beanName) {
+        this.beansInCreation.get().push(new BeanCreation(beanName, System.nanoTime()));
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        val creations = this.beansInCreation.get();
+        if (creations.stream().noneMatch(creation -> creation.getBeanName().equals(beanName))) {
+            return bean;
+        }
+        var creation = creations.pop();
+        while (!creation.getBeanName().equals(beanName)) {
+            creation = creations.pop();
+        }
+        val elapsed = System.nanoTime() - creation.getStartTime();
+        val parent = creations.peek();
+        if (parent != null) {
+            parent.dependencyTime += elapsed;
+        }
+        val ownTime = Math.max(0, elapsed - creation.dependencyTime);
+        this.beanTimings.merge(beanName, new BeanTiming(beanName, ClassUtils.getUserClass(bean).getName(), getSource(beanName, bean), ownTime, 1),
+            BeanTiming::merge);
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
+        if (event.getApplicationContext().getAutowireCapableBeanFactory() != this.beanFactory || this.startupDuration != null) {
+            return;
+        }
+        this.startupDuration = Duration.ofNanos(System.nanoTime() - this.startTime);
+        this.beansInCreation.remove();
+        LOGGER.info("Application context refreshed in [{}] ms with [{}] bean(s) created",
+            this.startupDuration.toMillis(), this.beanTimings.size());
+        if (this.summarySize > 0) {
+            getConfigurationTimings().entrySet().stream().limit(this.summarySize)
+                .forEach(entry -> LOGGER.info("Configuration [{}] initialized its beans in [{}] ms", entry.getKey(), entry.getValue()));
+            getBeanTimings().stream().limit(this.summarySize)
+                .forEach(timing -> LOGGER.info("Bean [{}] of type [{}] initialized in [{}] ms",
+                    timing.getBeanName(), timing.getBeanType(), timing.getDuration()));
+        }
+    }
+
+    /**
+     * Gets the recorded bean timings, slowest first.
+     *
+     * @return the bean timings
+     */
+    public List<BeanTiming> getBeanTimings() {
+        val timings = new ArrayList<BeanTiming>(this.beanTimings.values());
+        timings.sort(Comparator.comparingLong(BeanTiming::getNanos).reversed());
+        return timings;
+    }
+
+    /**
+     * Gets the time, in milliseconds, spent initializing the beans of each configuration class, slowest first.
+     *
+     * @return the configuration timings
+     */
+    public Map<String, Long> getConfigurationTimings() {
+        val timings = this.beanTimings.values()
+            .stream()
+            .collect(Collectors.groupingBy(BeanTiming::getSource, Collectors.summingLong(BeanTiming::getNanos)));
+        return timings.entrySet()
+            .stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> TimeUnit.NANOSECONDS.toMillis(entry.getValue()),
+                (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * Beans declared by {@code @Bean} methods are attributed to the configuration class that declares them;
+     * all other beans are attributed to their own class.
+     */
+    private String getSource(final String beanName, final Object bean) {
+        if (this.beanFactory.containsBeanDefinition(beanName)) {
+            val factoryBeanName = this.beanFactory.getBeanDefinition(beanName).getFactoryBeanName();
+            if (factoryBeanName != null) {
+                val factoryType = this.beanFactory.getType(factoryBeanName);
+                if (factoryType != null) {
+                    return ClassUtils.getUserClass(factoryType).getName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(bean).getName();
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class BeanCreation {
+        private final String beanName;
+
+        private final long startTime;
+
+        private long dependencyTime;
+    }
+
+    /**
+     * Time spent creating and initializing a bean, excluding the time spent on its dependencies.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class BeanTiming {
+        private final String beanName;
+
+        private final String beanType;
+
+        private final String source;
+
+        private final long nanos;
+
+        private final int count;
+
+        /**
+         * Gets the time spent on the bean in milliseconds.
+         *
+         * @return the duration
+         */
+        public long getDuration() {
+            return TimeUnit.NANOSECONDS.toMillis(this.nanos);
+        }
+
+        private BeanTiming merge(final BeanTiming timing) {
+            return new BeanTiming(this.beanName, this.beanType, this.source, this.nanos + timing.getNanos(), this.count + timing.getCount());
+        }
+    }
+}
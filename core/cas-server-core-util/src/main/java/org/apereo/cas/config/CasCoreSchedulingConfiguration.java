@@ -0,0 +1,47 @@
+package org.apereo.cas.config;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.scheduling.LocalLockingStrategy;
+import org.apereo.cas.util.scheduling.LockingStrategyFactory;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
+import org.apereo.cas.util.scheduling.ScheduledJobShard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This is {@link CasCoreSchedulingConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Configuration("casCoreSchedulingConfiguration")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
+public class CasCoreSchedulingConfiguration {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @ConditionalOnMissingBean(name = "scheduledJobLockingStrategyFactory")
+    @Bean
+    public LockingStrategyFactory scheduledJobLockingStrategyFactory() {
+        return jobName -> new LocalLockingStrategy();
+    }
+
+    @ConditionalOnMissingBean(name = "scheduledJobExecutor")
+    @Bean
+    @Autowired
+    public ScheduledJobExecutor scheduledJobExecutor(@Qualifier("scheduledJobLockingStrategyFactory")
+                                                     final LockingStrategyFactory scheduledJobLockingStrategyFactory) {
+        val scheduler = casProperties.getScheduler();
+        val shard = new ScheduledJobShard(scheduler.getShardIndex(), scheduler.getShardCount());
+        return new ScheduledJobExecutor(scheduledJobLockingStrategyFactory, Beans.newDuration(scheduler.getMaximumJitter()), shard);
+    }
+}
@@ -5,8 +5,10 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CasEmbeddedValueResolver;
 import org.apereo.cas.util.SchedulingUtils;
+import org.apereo.cas.util.ScriptingUtils;
 import org.apereo.cas.util.io.CommunicationsManager;
 import org.apereo.cas.util.io.SmsSender;
+import org.apereo.cas.util.scripting.GroovyScriptCache;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.Converters;
 import org.apereo.cas.util.spring.SpringAwareMessageMessageInterpolator;
@@ -81,6 +83,16 @@ public class CasCoreUtilConfiguration implements InitializingBean {
         return SchedulingUtils.prepScheduledAnnotationBeanPostProcessor(applicationContext);
     }
 
+    /**
+     * Exposes the shared groovy script cache, so that its watcher is stopped when the context is closed.
+     *
+     * @return the groovy script cache
+     */
+    @Bean
+    public GroovyScriptCache groovyScriptCache() {
+        return ScriptingUtils.getGroovyScriptCache();
+    }
+
     @Bean
     public Converter<ZonedDateTime, String> zonedDateTimeToStringConverter() {
         return new Converters.ZonedDateTimeToStringConverter();
@@ -20,10 +20,15 @@ import org.apereo.cas.util.gen.DefaultLongNumericGeneratorTests;
 import org.apereo.cas.util.gen.DefaultRandomStringGeneratorTests;
 import org.apereo.cas.util.gen.HexRandomStringGeneratorTests;
 import org.apereo.cas.util.http.HttpClientMultiThreadedDownloaderTests;
+import org.apereo.cas.util.http.HttpHostCircuitBreakerTests;
 import org.apereo.cas.util.http.HttpMessageTests;
+import org.apereo.cas.util.http.InstrumentedHttpClientConnectionManagerTests;
 import org.apereo.cas.util.http.SimpleHttpClientTests;
 import org.apereo.cas.util.io.CommunicationsManagerTests;
 import org.apereo.cas.util.io.CopyServletOutputStreamTests;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutorTests;
+import org.apereo.cas.util.spring.boot.LazyInitializationBeanFactoryPostProcessorTests;
+import org.apereo.cas.util.spring.boot.StartupTimingBeanPostProcessorTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -43,6 +48,8 @@ import org.junit.runners.Suite;
     RsaKeyPairCipherExecutorTests.class,
     HttpMessageTests.class,
     SimpleHttpClientTests.class,
+    HttpHostCircuitBreakerTests.class,
+    InstrumentedHttpClientConnectionManagerTests.class,
     CommunicationsManagerTests.class,
     CopyServletOutputStreamTests.class,
     Base64RandomStringGeneratorTests.class,
@@ -59,6 +66,9 @@ import org.junit.runners.Suite;
     BinaryCipherExecutorTests.class,
     ResourceUtilsTests.class,
     ScriptingUtilsTests.class,
+    ScheduledJobExecutorTests.class,
+    StartupTimingBeanPostProcessorTests.class,
+    LazyInitializationBeanFactoryPostProcessorTests.class,
     CopyServletOutputStreamTests.class
 })
 public class AllUtilityTestsSuite {
@@ -3,6 +3,7 @@ package org.apereo.cas.util;
 import lombok.val;
 
 import org.apache.commons.io.FileUtils;
+import org.apereo.cas.util.scripting.GroovyScriptCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -10,6 +11,11 @@ import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 
@@ -70,4 +76,75 @@ public class ScriptingUtilsTests {
             throw new AssertionError(e.getMessage(), e);
         }
     }
+
+    @Test
+    public void verifyInlineScriptIsCompiledOnce() {
+        val cache = ScriptingUtils.getGroovyScriptCache();
+        val compiled = cache.getCompiledScript("return name.toUpperCase()");
+        assertSame(compiled, cache.getCompiledScript("return name.toUpperCase()"));
+        assertNotSame(compiled, cache.getCompiledScript("return name.toLowerCase()"));
+    }
+
+    @Test
+    public void verifyCompiledScriptBindingsAreNotShared() {
+        val results = IntStream.range(0, 50)
+            .parallel()
+            .mapToObj(i -> ScriptingUtils.executeGroovyShellScript("return 'user' + index",
+                CollectionUtils.wrap("index", i), String.class))
+            .collect(Collectors.toSet());
+        assertEquals(50, results.size());
+    }
+
+    @Test
+    public void verifyScriptFileIsRecompiledWhenEvicted() throws Exception {
+        val file = File.createTempFile("cached", ".groovy");
+        FileUtils.write(file, "return 'first'", StandardCharsets.UTF_8);
+        try (val cache = new GroovyScriptCache(10, false)) {
+            val compiled = cache.getCompiledScript(file);
+            assertSame(compiled, cache.getCompiledScript(file));
+            FileUtils.write(file, "return 'second'", StandardCharsets.UTF_8);
+            cache.evict(file);
+            assertNotSame(compiled, cache.getCompiledScript(file));
+        }
+    }
+
+    @Test
+    public void verifyScriptDirectoriesShareOneWatcher() throws Exception {
+        val existingWatchers = getScriptWatchers();
+        val first = File.createTempFile("watched", ".groovy");
+        val secondDirectory = new File(FileUtils.getTempDirectory(), "watched-" + UUID.randomUUID());
+        FileUtils.forceMkdir(secondDirectory);
+        val second = new File(secondDirectory, "watched.groovy");
+        FileUtils.write(first, "return 'first'", StandardCharsets.UTF_8);
+        FileUtils.write(second, "return 'second'", StandardCharsets.UTF_8);
+        try (val cache = new GroovyScriptCache(10, true)) {
+            cache.getCompiledScript(first);
+            cache.getCompiledScript(second);
+            val watchers = getScriptWatchers();
+            watchers.removeAll(existingWatchers);
+            assertEquals(1, watchers.size());
+            cache.close();
+            val watcher = watchers.iterator().next();
+            watcher.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(watcher.isAlive());
+        } finally {
+            FileUtils.deleteQuietly(secondDirectory);
+        }
+    }
+
+    private static Set<Thread> getScriptWatchers() {
+        return Thread.getAllStackTraces().keySet()
+            .stream()
+            .filter(thread -> thread.getName().equals("GroovyScriptWatcher"))
+            .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void verifyGroovyResourceShellExecution() throws Exception {
+        val file = File.createTempFile("shell", ".groovy");
+        FileUtils.write(file, "return name", StandardCharsets.UTF_8);
+        val result = ScriptingUtils.executeGroovyShellScript(new FileSystemResource(file),
+            CollectionUtils.wrap("name", "casuser"), String.class);
+        assertEquals("casuser", result);
+    }
 }
@@ -6,7 +6,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.junit.Test;
 
+import java.time.Duration;
+
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link BaseStringCipherExecutor}.
@@ -35,4 +38,22 @@ public class TicketGrantingCookieCipherExecutorTests {
         val result = cipherExecutor.decode(cipherExecutor.encode("CAS Test"));
         assertEquals("CAS Test", result);
     }
+
+    @Test
+    public void verifyDecodedValuesCached() {
+        val cipher = spy(new TicketGrantingCookieCipherExecutor());
+        cipher.cacheDecodedValues(Duration.ofMinutes(1), 10);
+        val encoded = cipher.encode("TGT-1234567890");
+        assertEquals("TGT-1234567890", cipher.decode(encoded));
+        assertEquals("TGT-1234567890", cipher.decode(encoded));
+        verify(cipher, times(1)).verifySignature(any());
+    }
+
+    @Test
+    public void verifyInvalidValuesNotCached() {
+        val cipher = new TicketGrantingCookieCipherExecutor();
+        cipher.cacheDecodedValues(Duration.ofMinutes(1), 10);
+        val encoded = new TicketGrantingCookieCipherExecutor().encode("TGT-1234567890");
+        assertNull(cipher.decode(encoded));
+    }
 }
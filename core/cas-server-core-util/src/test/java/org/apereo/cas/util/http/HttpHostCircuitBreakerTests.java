@@ -0,0 +1,60 @@
+package org.apereo.cas.util.http;
+
+import lombok.val;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link HttpHostCircuitBreakerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class HttpHostCircuitBreakerTests {
+    private static final String HOST = "app.example.org";
+
+    @Test
+    public void verifyCircuitOpensAfterConsecutiveFailures() {
+        val breaker = new HttpHostCircuitBreaker(2, Duration.ofHours(1));
+        breaker.recordFailure(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+        breaker.recordFailure(HOST.toUpperCase());
+        assertFalse(breaker.allowRequest(HOST));
+        assertTrue(breaker.allowRequest("other.example.org"));
+    }
+
+    @Test
+    public void verifySuccessResetsFailures() {
+        val breaker = new HttpHostCircuitBreaker(2, Duration.ofHours(1));
+        breaker.recordFailure(HOST);
+        breaker.recordSuccess(HOST);
+        breaker.recordFailure(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+    }
+
+    @Test
+    public void verifyTrialRequestAfterOpenDuration() {
+        val breaker = new HttpHostCircuitBreaker(1, Duration.ZERO);
+        breaker.recordFailure(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+        breaker.recordFailure(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+        breaker.recordSuccess(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+
+        val suspended = new HttpHostCircuitBreaker(1, Duration.ofHours(1));
+        suspended.recordFailure(HOST);
+        assertFalse(suspended.allowRequest(HOST));
+    }
+
+    @Test
+    public void verifyDisabled() {
+        val breaker = new HttpHostCircuitBreaker(0, Duration.ofHours(1));
+        breaker.recordFailure(HOST);
+        breaker.recordFailure(HOST);
+        assertTrue(breaker.allowRequest(HOST));
+    }
+}
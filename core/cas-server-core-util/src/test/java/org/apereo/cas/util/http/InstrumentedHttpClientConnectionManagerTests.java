@@ -0,0 +1,82 @@
+package org.apereo.cas.util.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link InstrumentedHttpClientConnectionManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class InstrumentedHttpClientConnectionManagerTests {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Before
+    public void initialize() {
+        Metrics.globalRegistry.add(this.registry);
+    }
+
+    @After
+    public void tearDown() {
+        Metrics.globalRegistry.remove(this.registry);
+    }
+
+    @Test
+    public void verifyPoolsOfSameClientReportedSeparately() {
+        val first = newConnectionManager("samePoolClient");
+        first.setMaxTotal(5);
+        val second = newConnectionManager("samePoolClient");
+        second.setMaxTotal(7);
+
+        val gauges = getGauges("cas.http.client.pool.total.max", "samePoolClient");
+        assertEquals(2, gauges.size());
+        assertTrue(gauges.stream().anyMatch(gauge -> gauge.value() == 5));
+        assertTrue(gauges.stream().anyMatch(gauge -> gauge.value() == 7));
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    public void verifyInstrumentedHostsAreCapped() {
+        val manager = newConnectionManager("cappedHostsClient");
+        IntStream.range(0, 150).forEach(i ->
+            manager.requestConnection(new HttpRoute(new HttpHost("host" + i + ".example.org")), null).cancel());
+
+        val gauges = getGauges("cas.http.client.pool.max", "cappedHostsClient");
+        assertEquals(101, gauges.size());
+        assertTrue(gauges.stream().anyMatch(gauge -> "other".equals(gauge.getId().getTag("host"))));
+        manager.shutdown();
+    }
+
+    private static InstrumentedHttpClientConnectionManager newConnectionManager(final String clientName) {
+        val socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory()).build();
+        return new InstrumentedHttpClientConnectionManager(socketFactories, clientName);
+    }
+
+    private List<Gauge> getGauges(final String name, final String clientName) {
+        return this.registry.getMeters()
+            .stream()
+            .filter(meter -> meter instanceof Gauge)
+            .filter(meter -> meter.getId().getName().equals(name) && clientName.equals(meter.getId().getTag("client")))
+            .map(Gauge.class::cast)
+            .collect(Collectors.toList());
+    }
+}
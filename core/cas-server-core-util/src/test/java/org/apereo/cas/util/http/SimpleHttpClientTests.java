@@ -1,19 +1,31 @@
 package org.apereo.cas.util.http;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apereo.cas.util.CollectionUtils;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.security.cert.X509Certificate;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test cases for {@link SimpleHttpClient}.
@@ -55,6 +67,55 @@ public class SimpleHttpClientTests {
         assertTrue(client.isValidEndPoint("https://wrong.host.badssl.com/"));
     }
 
+    @Test
+    public void verifyFailingHostIsSuspended() throws Exception {
+        val clientFactory = new SimpleHttpClientFactoryBean();
+        clientFactory.setCircuitBreakerFailureThreshold(1);
+        clientFactory.setCircuitBreakerOpenDuration(Duration.ofHours(1));
+        val client = clientFactory.getObject();
+        assertFalse(client.isValidEndPoint("http://localhost:1"));
+        assertFalse(client.getCircuitBreaker().allowRequest("localhost"));
+        assertNull(client.sendMessageToEndPoint(new URL("http://localhost:1/logout")));
+        assertTrue(client.getCircuitBreaker().allowRequest("www.google.com"));
+    }
+
+    @Test
+    public void verifyRouteSettings() {
+        val clientFactory = new SimpleHttpClientFactoryBean();
+        clientFactory.setRoutes(CollectionUtils.wrapList(
+            new SimpleHttpClientFactoryBean.RouteSettings("https://www.google.com", 2, 1000, 1000)));
+        val client = clientFactory.getObject();
+        assertTrue(client.isValidEndPoint("https://www.google.com"));
+    }
+
+    @Test
+    public void verifyRequestMetricHostsAreCapped() throws Exception {
+        val registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        try {
+            val wrappedHttpClient = mock(CloseableHttpClient.class);
+            when(wrappedHttpClient.execute(any(HttpUriRequest.class))).thenThrow(new IOException("unreachable"));
+            val client = new SimpleHttpClient(CollectionUtils.wrapList(200), wrappedHttpClient, null,
+                new HttpHostCircuitBreaker(Integer.MAX_VALUE, Duration.ofMinutes(1)), "cappedRequestsClient");
+            IntStream.range(0, 150).forEach(i -> assertFalse(client.isValidEndPoint("http://host" + i + ".example.org")));
+
+            val timers = registry.getMeters()
+                .stream()
+                .filter(meter -> meter instanceof Timer)
+                .filter(meter -> meter.getId().getName().equals("cas.http.client.requests")
+                    && "cappedRequestsClient".equals(meter.getId().getTag("client")))
+                .map(Timer.class::cast)
+                .collect(Collectors.toList());
+            assertEquals(101, timers.size());
+            val other = timers.stream().filter(timer -> "other".equals(timer.getId().getTag("host"))).findFirst();
+            assertTrue(other.isPresent());
+            assertEquals(50, other.get().count());
+            assertEquals("IOException", other.get().getId().getTag("status"));
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+        }
+    }
+
     private static SSLConnectionSocketFactory getFriendlyToAllSSLSocketFactory() throws Exception {
         val trm = new X509TrustManager() {
             @Override
@@ -0,0 +1,123 @@
+package org.apereo.cas.util.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link ScheduledJobExecutorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class ScheduledJobExecutorTests {
+
+    @Test
+    public void verifyCoordinatedJobSkippedWhenLocked() {
+        val lock = new LocalLockingStrategy();
+        val executor = new ScheduledJobExecutor(jobName -> lock, Duration.ZERO, ScheduledJobShard.all());
+        val runs = new AtomicInteger();
+        assertTrue(executor.execute("job", true, runs::incrementAndGet));
+        assertTrue(lock.acquire());
+        val other = new Thread(() -> executor.execute("job", true, runs::incrementAndGet));
+        other.start();
+        try {
+            other.join();
+        } catch (final InterruptedException e) {
+            throw new AssertionError(e);
+        }
+        lock.release();
+        assertEquals(1, runs.get());
+        val statistics = executor.getStatistics().get("job");
+        assertEquals(1, statistics.getExecutions());
+        assertEquals(1, statistics.getSkipped());
+    }
+
+    @Test
+    public void verifyLocalJobAlwaysRuns() {
+        val executor = new ScheduledJobExecutor(jobName -> new LockingStrategy() {
+            @Override
+            public boolean acquire() {
+                return false;
+            }
+
+            @Override
+            public void release() {
+            }
+        }, Duration.ZERO, ScheduledJobShard.all());
+        val runs = new AtomicInteger();
+        assertTrue(executor.execute("job", false, runs::incrementAndGet));
+        assertFalse(executor.execute("job", true, runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void verifyFailuresRecorded() {
+        val executor = new ScheduledJobExecutor();
+        assertFalse(executor.execute("job", true, () -> {
+            throw new IllegalStateException("failed");
+        }));
+        assertEquals(1, executor.getStatistics().get("job").getFailures());
+    }
+
+    @Test
+    public void verifyShardsPartitionWork() {
+        val keys = IntStream.range(0, 100).mapToObj(i -> "TGT-" + i).collect(Collectors.toList());
+        val owned = new ArrayList<String>();
+        IntStream.range(0, 3).forEach(index -> {
+            val executor = new ScheduledJobExecutor(jobName -> new LocalLockingStrategy(), Duration.ZERO, new ScheduledJobShard(index, 3));
+            executor.executeSharded("job", true,
+                shard -> keys.stream().filter(shard::owns).forEach(owned::add));
+        });
+        assertEquals(keys.size(), owned.size());
+        assertTrue(owned.containsAll(keys));
+    }
+
+    @Test
+    public void verifyJitteredJobIsScheduled() throws Exception {
+        val executor = new ScheduledJobExecutor(jobName -> new LocalLockingStrategy(), Duration.ofMillis(50), ScheduledJobShard.all());
+        try {
+            val ran = new CountDownLatch(1);
+            val release = new CountDownLatch(1);
+            assertTrue(executor.execute("job", false, () -> {
+                ran.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertFalse(executor.execute("job", false, () -> {
+            }));
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            assertEquals(1, executor.getStatistics().get("job").getSkipped());
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    public void verifyStatisticsBoundToRegistry() {
+        val statistics = new ScheduledJobStatistics("job");
+        statistics.recordExecution(ZonedDateTime.now(), Duration.ofMillis(20), true);
+        statistics.recordSkipped();
+        val registry = new SimpleMeterRegistry();
+        statistics.bindTo(registry);
+        assertEquals(1, registry.get("cas.scheduler.job.executions").tag("job", "job").functionTimer().count(), 0);
+        assertEquals(1, registry.get("cas.scheduler.job.failures").tag("job", "job").functionCounter().count(), 0);
+        assertEquals(1, registry.get("cas.scheduler.job.skipped").tag("job", "job").functionCounter().count(), 0);
+    }
+}
@@ -0,0 +1,63 @@
+package org.apereo.cas.util.spring.boot;
+
+import lombok.val;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link LazyInitializationBeanFactoryPostProcessorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class LazyInitializationBeanFactoryPostProcessorTests {
+
+    @Test
+    public void verifyOptionalBeansAreInitializedOnFirstUse() {
+        val ctx = new AnnotationConfigApplicationContext();
+        ctx.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor(
+            CollectionUtils.wrapList(Pattern.compile(".+\\$OptionalConfiguration.*")),
+            CollectionUtils.wrapList(Pattern.compile("eager.+"))));
+        ctx.register(OptionalConfiguration.class, CoreConfiguration.class);
+        ctx.refresh();
+        try {
+            val beanFactory = ctx.getBeanFactory();
+            assertFalse(beanFactory.containsSingleton("optionalBean"));
+            assertTrue(beanFactory.containsSingleton("eagerOptionalBean"));
+            assertTrue(beanFactory.containsSingleton("coreBean"));
+
+            assertEquals("optional", ctx.getBean("optionalBean"));
+            assertTrue(beanFactory.containsSingleton("optionalBean"));
+        } finally {
+            ctx.close();
+        }
+    }
+
+    @Configuration("optionalConfiguration")
+    public static class OptionalConfiguration {
+        @Bean
+        public String optionalBean() {
+            return "optional";
+        }
+
+        @Bean
+        public String eagerOptionalBean() {
+            return "eager";
+        }
+    }
+
+    @Configuration("coreConfiguration")
+    public static class CoreConfiguration {
+        @Bean
+        public String coreBean() {
+            return "core";
+        }
+    }
+}
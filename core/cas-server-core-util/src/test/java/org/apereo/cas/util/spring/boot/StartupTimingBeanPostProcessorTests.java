@@ -0,0 +1,74 @@
+package org.apereo.cas.util.spring.boot;
+
+import lombok.val;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link StartupTimingBeanPostProcessorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class StartupTimingBeanPostProcessorTests {
+    private static final long DELAY = 50;
+
+    @Test
+    public void verifyBeanTimingsAreRecorded() {
+        val ctx = new AnnotationConfigApplicationContext();
+        val recorder = new StartupTimingBeanPostProcessor(ctx.getBeanFactory(), 5);
+        ctx.getBeanFactory().addBeanPostProcessor(recorder);
+        ctx.addApplicationListener(recorder);
+        ctx.register(TimedConfiguration.class);
+        ctx.refresh();
+        try {
+            assertNotNull(recorder.getStartupDuration());
+
+            val timings = recorder.getBeanTimings()
+                .stream()
+                .collect(Collectors.toMap(StartupTimingBeanPostProcessor.BeanTiming::getBeanName, Function.identity()));
+            val slowBean = timings.get("slowBean");
+            assertNotNull(slowBean);
+            assertTrue(slowBean.getDuration() >= DELAY);
+            assertEquals(TimedConfiguration.class.getName(), slowBean.getSource());
+
+            val dependentBean = timings.get("dependentBean");
+            assertNotNull(dependentBean);
+            assertTrue(dependentBean.getDuration() < DELAY);
+
+            val configurations = recorder.getConfigurationTimings();
+            assertTrue(configurations.get(TimedConfiguration.class.getName()) >= DELAY);
+        } finally {
+            ctx.close();
+        }
+    }
+
+    @Configuration("timedConfiguration")
+    public static class TimedConfiguration {
+        @Bean
+        public List<String> dependentBean() {
+            return Collections.singletonList(slowBean());
+        }
+
+        @Lazy
+        @Bean
+        public String slowBean() {
+            try {
+                Thread.sleep(DELAY);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.apereo.cas.web.support;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.util.RequestScopedLookupContext;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Servlet Filter that opens a {@link RequestScopedLookupContext} for the request/response processing cycle
+ * and closes it at the end, reporting how many backend lookups the request was able to save.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class RequestScopedLookupContextFilter implements Filter {
+
+    @Override
+    public void doFilter(final ServletRequest servletRequest,
+                         final ServletResponse servletResponse,
+                         final FilterChain filterChain) throws IOException, ServletException {
+        if (RequestScopedLookupContext.isActive()) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+        RequestScopedLookupContext.begin();
+        try {
+            filterChain.doFilter(servletRequest, servletResponse);
+        } finally {
+            val context = RequestScopedLookupContext.end();
+            if (context != null && LOGGER.isDebugEnabled() && context.getSavedLookups() > 0) {
+                val uri = servletRequest instanceof HttpServletRequest
+                    ? ((HttpServletRequest) servletRequest).getRequestURI()
+                    : servletRequest.toString();
+                LOGGER.debug("Request [{}] saved [{}] of [{}] backend lookup(s)", uri,
+                    context.getSavedLookups(), context.getSavedLookups() + context.getBackendLookups());
+            }
+        }
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) {
+        //noop
+    }
+
+    @Override
+    public void destroy() {
+        //noop
+    }
+}
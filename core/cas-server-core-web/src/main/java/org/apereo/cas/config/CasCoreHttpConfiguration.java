@@ -27,6 +27,7 @@ import org.springframework.core.annotation.Order;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.security.KeyStore;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link CasCoreHttpConfiguration}.
@@ -67,11 +68,7 @@ public class CasCoreHttpConfiguration {
     @ConditionalOnMissingBean(name = "httpClient")
     @Bean
     public FactoryBean<SimpleHttpClient> httpClient() {
-        val c = new SimpleHttpClientFactoryBean.DefaultHttpClient();
-        val httpClient = casProperties.getHttpClient();
-        c.setConnectionTimeout(Beans.newDuration(httpClient.getConnectionTimeout()).toMillis());
-        c.setReadTimeout((int) Beans.newDuration(httpClient.getReadTimeout()).toMillis());
-        return c;
+        return buildHttpClientFactoryBean("httpClient");
     }
 
     @ConditionalOnMissingBean(name = "noRedirectHttpClient")
@@ -96,14 +93,31 @@ public class CasCoreHttpConfiguration {
     }
 
     private HttpClient getHttpClient(final boolean redirectEnabled) {
-        val c = new SimpleHttpClientFactoryBean.DefaultHttpClient();
-        val httpClient = casProperties.getHttpClient();
-        c.setConnectionTimeout(Beans.newDuration(httpClient.getConnectionTimeout()).toMillis());
-        c.setReadTimeout((int) Beans.newDuration(httpClient.getReadTimeout()).toMillis());
+        val c = buildHttpClientFactoryBean(redirectEnabled ? "supportsTrustStoreSslSocketFactoryHttpClient" : "noRedirectHttpClient");
         c.setRedirectsEnabled(redirectEnabled);
         c.setCircularRedirectsAllowed(redirectEnabled);
         c.setSslSocketFactory(trustStoreSslSocketFactory());
         c.setHostnameVerifier(hostnameVerifier());
         return c.getObject();
     }
+
+    private SimpleHttpClientFactoryBean buildHttpClientFactoryBean(final String clientName) {
+        val c = new SimpleHttpClientFactoryBean.DefaultHttpClient();
+        val httpClient = casProperties.getHttpClient();
+        c.setClientName(clientName);
+        c.setConnectionTimeout(Beans.newDuration(httpClient.getConnectionTimeout()).toMillis());
+        c.setReadTimeout((int) Beans.newDuration(httpClient.getReadTimeout()).toMillis());
+        c.setMaxPooledConnections(httpClient.getMaxPooledConnections());
+        c.setMaxConnectionsPerRoute(httpClient.getMaxConnectionsPerRoute());
+        c.setRoutes(httpClient.getRoutes()
+            .stream()
+            .filter(route -> StringUtils.isNotBlank(route.getUrl()))
+            .map(route -> new SimpleHttpClientFactoryBean.RouteSettings(route.getUrl(), route.getMaxConnections(),
+                StringUtils.isBlank(route.getConnectionTimeout()) ? 0 : Beans.newDuration(route.getConnectionTimeout()).toMillis(),
+                StringUtils.isBlank(route.getReadTimeout()) ? 0 : (int) Beans.newDuration(route.getReadTimeout()).toMillis()))
+            .collect(Collectors.toList()));
+        c.setCircuitBreakerFailureThreshold(httpClient.getCircuitBreaker().getFailureThreshold());
+        c.setCircuitBreakerOpenDuration(Beans.newDuration(httpClient.getCircuitBreaker().getOpenDuration()));
+        return c;
+    }
 }
@@ -0,0 +1,211 @@
+package org.apereo.cas.web.flow.executor;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.spring.webflow.plugin.Transcoder;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This is {@link CompactWebflowStateTranscoder} that encodes flow state kept on the client
+ * in a compact form. Objects are serialized without the full class descriptors
+ * that standard java serialization writes, only recording class names, and the result
+ * is compressed with a dictionary of terms that commonly appear in CAS flow state,
+ * before it is encrypted and signed. Flow state that is produced by the fallback transcoder
+ * is recognized and passed on to that transcoder to decode, so that conversations
+ * started before switching formats can resume.
+ * <p>
+ * Since class descriptors are not recorded, flow state may only be decoded by a CAS node
+ * that runs the same version of the classes that encoded it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompactWebflowStateTranscoder implements Transcoder {
+    private static final byte FORMAT_MARKER = 0x01;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final byte[] DICTIONARY = String.join(";",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Number",
+        "java.lang.Enum",
+        "java.time.ZonedDateTime",
+        "java.time.Ser",
+        "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableCollection",
+        "java.util.LinkedHashSet",
+        "java.util.HashSet",
+        "java.util.TreeMap",
+        "java.util.LinkedList",
+        "java.util.ArrayList",
+        "java.util.LinkedHashMap",
+        "java.util.HashMap",
+        "org.apereo.cas.services.RegexRegisteredService",
+        "org.apereo.cas.authentication.BasicCredentialMetaData",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.springframework.webflow.execution.FlowExecutionKey",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.apereo.spring.webflow.plugin.ClientFlowExecutionKey",
+        "org.apereo.spring.webflow.plugin.SerializedFlowExecutionState",
+        "authenticationResultBuilder",
+        "authentication",
+        "registeredService",
+        "originalUrl",
+        "service",
+        "credential",
+        "warnCookieValue",
+        "ticketGrantingTicketId",
+        "viewLoginForm",
+        "casLoginView",
+        "realSubmit",
+        "initialFlowSetup",
+        "login").getBytes(StandardCharsets.UTF_8);
+
+    private final CipherBean cipherBean;
+
+    private final Transcoder fallbackTranscoder;
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        val sample = Timer.start(Metrics.globalRegistry);
+        try {
+            val serialized = new ByteArrayOutputStream(BUFFER_SIZE);
+            try (val output = new CompactObjectOutputStream(serialized)) {
+                output.writeObject(o);
+            }
+            val encoded = this.cipherBean.encrypt(deflate(serialized.toByteArray()));
+            LOGGER.trace("Encoded flow state of [{}] byte(s) into [{}] byte(s)", serialized.size(), encoded.length);
+            Metrics.summary("cas.webflow.state.size", "format", "compact").record(encoded.length);
+            return encoded;
+        } finally {
+            sample.stop(Metrics.timer("cas.webflow.state", "operation", "encode", "format", "compact"));
+        }
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        val sample = Timer.start(Metrics.globalRegistry);
+        val decrypted = this.cipherBean.decrypt(encoded);
+        if (decrypted.length == 0 || decrypted[0] != FORMAT_MARKER) {
+            LOGGER.trace("Flow state is not encoded in the compact format; passing it on to [{}]", this.fallbackTranscoder);
+            try {
+                return this.fallbackTranscoder.decode(encoded);
+            } finally {
+                sample.stop(Metrics.timer("cas.webflow.state", "operation", "decode", "format", "default"));
+            }
+        }
+        try (val input = new CompactObjectInputStream(new ByteArrayInputStream(inflate(decrypted)))) {
+            return input.readObject();
+        } catch (final ClassNotFoundException | DataFormatException e) {
+            throw new IOException("Unable to decode flow state", e);
+        } finally {
+            sample.stop(Metrics.timer("cas.webflow.state", "operation", "decode", "format", "compact"));
+        }
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        val deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(data);
+            deflater.finish();
+            val output = new ByteArrayOutputStream(data.length / 2 + 1);
+            output.write(FORMAT_MARKER);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] data) throws DataFormatException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            val output = new ByteArrayOutputStream(data.length * 4);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.needsInput()) {
+                        throw new DataFormatException("Flow state is truncated");
+                    }
+                }
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Object output stream that only records the class name in place of each class descriptor.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+        }
+    }
+
+    /**
+     * Object input stream that rebuilds class descriptors from the local classes named in the stream.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            return ObjectStreamClass.lookupAny(forName(readUTF()));
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws ClassNotFoundException {
+            return forName(desc.getName());
+        }
+
+        private static Class<?> forName(final String name) throws ClassNotFoundException {
+            return ClassUtils.forName(name, ClassUtils.getDefaultClassLoader());
+        }
+    }
+}
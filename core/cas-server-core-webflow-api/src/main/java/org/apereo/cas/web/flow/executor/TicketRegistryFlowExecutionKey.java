@@ -0,0 +1,50 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.webflow.execution.FlowExecutionKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistryFlowExecutionKey} that identifies a flow execution snapshot
+ * stored in the ticket registry by the identifier of the ticket that holds it.
+ * The key also remembers the identifiers of earlier snapshots of the same flow execution,
+ * so they can all be removed once the flow execution ends.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = "ticketId", callSuper = false)
+public class TicketRegistryFlowExecutionKey extends FlowExecutionKey {
+    private static final long serialVersionUID = -3928470184839271057L;
+
+    private final String ticketId;
+
+    private final ArrayList<String> previousTicketIds;
+
+    public TicketRegistryFlowExecutionKey(final String ticketId) {
+        this(ticketId, new ArrayList<>(0));
+    }
+
+    /**
+     * Gets the identifiers of all snapshots of the flow execution, including this one.
+     *
+     * @return the ticket ids
+     */
+    public List<String> getAllTicketIds() {
+        val ids = new ArrayList<String>(this.previousTicketIds);
+        ids.add(this.ticketId);
+        return ids;
+    }
+
+    @Override
+    public String toString() {
+        return this.ticketId;
+    }
+}
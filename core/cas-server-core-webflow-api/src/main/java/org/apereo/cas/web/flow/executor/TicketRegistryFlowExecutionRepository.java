@@ -0,0 +1,169 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.FlowExecutionKeyFactory;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.FlowExecutionLock;
+import org.springframework.webflow.execution.repository.FlowExecutionRepository;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshot;
+import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshotFactory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * This is {@link TicketRegistryFlowExecutionRepository} that keeps flow execution snapshots
+ * in the ticket registry as {@link TransientSessionTicket}s, keyed by the flow execution key.
+ * Since the registry is shared by all CAS nodes, any node is able to resume a flow execution
+ * without the need for sticky or replicated http sessions. Each step of the flow is stored as its own snapshot
+ * that carries the serialized flow execution and its conversation scope, and expires based on the
+ * given expiration policy, unless the flow execution ends and all of its snapshots are removed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryFlowExecutionRepository implements FlowExecutionRepository, FlowExecutionKeyFactory {
+    private static final String PROPERTY_FLOW_ID = "flowId";
+
+    private static final String PROPERTY_SNAPSHOT = "snapshot";
+
+    private static final String PROPERTY_CONVERSATION_SCOPE = "conversationScope";
+
+    private static final String PROPERTY_PREVIOUS_SNAPSHOTS = "previousSnapshots";
+
+    private static final int MAXIMUM_SNAPSHOTS = 30;
+
+    private static final FlowExecutionLock NO_OP_LOCK = new FlowExecutionLock() {
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+    };
+
+    private final UniqueTicketIdGenerator ticketIdGenerator = new DefaultUniqueTicketIdGenerator();
+
+    private final TicketRegistry ticketRegistry;
+
+    private final FlowExecutionSnapshotFactory snapshotFactory;
+
+    private final ExpirationPolicy expirationPolicy;
+
+    @Override
+    public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) {
+        if (!StringUtils.startsWith(encodedKey, TransientSessionTicket.PREFIX + '-')) {
+            throw new BadlyFormattedFlowExecutionKeyException(encodedKey, TransientSessionTicket.PREFIX + "-...");
+        }
+        return new TicketRegistryFlowExecutionKey(encodedKey);
+    }
+
+    @Override
+    public FlowExecutionLock getLock(final FlowExecutionKey key) {
+        return NO_OP_LOCK;
+    }
+
+    @Override
+    public FlowExecution getFlowExecution(final FlowExecutionKey key) {
+        val ticket = this.ticketRegistry.getTicket(key.toString(), TransientSessionTicket.class);
+        if (ticket == null || ticket.isExpired() || !ticket.contains(PROPERTY_SNAPSHOT)) {
+            LOGGER.debug("Flow execution snapshot [{}] cannot be found or has expired", key);
+            throw new NoSuchFlowExecutionException(key, null);
+        }
+        val flowId = ticket.get(PROPERTY_FLOW_ID, String.class);
+        val snapshot = ticket.get(PROPERTY_SNAPSHOT, FlowExecutionSnapshot.class);
+        val conversationScope = ticket.get(PROPERTY_CONVERSATION_SCOPE, LocalAttributeMap.class);
+        val previousTicketIds = ticket.get(PROPERTY_PREVIOUS_SNAPSHOTS, ArrayList.class);
+        val restoredKey = previousTicketIds == null
+            ? new TicketRegistryFlowExecutionKey(ticket.getId())
+            : new TicketRegistryFlowExecutionKey(ticket.getId(), previousTicketIds);
+        LOGGER.trace("Restoring flow execution [{}] of flow [{}]", restoredKey, flowId);
+        return this.snapshotFactory.restoreExecution(snapshot, flowId, restoredKey, conversationScope, this);
+    }
+
+    @Override
+    public void putFlowExecution(final FlowExecution flowExecution) {
+        val ticket = buildFlowExecutionSnapshot(flowExecution);
+        LOGGER.trace("Adding flow execution snapshot [{}] of flow [{}]", ticket.getId(), flowExecution.getDefinition().getId());
+        this.ticketRegistry.addTicket(ticket);
+    }
+
+    @Override
+    public void removeFlowExecution(final FlowExecution flowExecution) {
+        removeAllFlowExecutionSnapshots(flowExecution);
+    }
+
+    @Override
+    public FlowExecutionKey getKey(final FlowExecution execution) {
+        val ticketId = this.ticketIdGenerator.getNewTicketId(TransientSessionTicket.PREFIX);
+        val currentKey = execution.getKey();
+        if (currentKey instanceof TicketRegistryFlowExecutionKey) {
+            val ids = new ArrayList<String>(((TicketRegistryFlowExecutionKey) currentKey).getAllTicketIds());
+            if (ids.size() > MAXIMUM_SNAPSHOTS) {
+                ids.subList(0, ids.size() - MAXIMUM_SNAPSHOTS).clear();
+            }
+            return new TicketRegistryFlowExecutionKey(ticketId, ids);
+        }
+        return new TicketRegistryFlowExecutionKey(ticketId);
+    }
+
+    @Override
+    public void updateFlowExecutionSnapshot(final FlowExecution execution) {
+        val ticket = buildFlowExecutionSnapshot(execution);
+        LOGGER.trace("Updating flow execution snapshot [{}] of flow [{}]", ticket.getId(), execution.getDefinition().getId());
+        this.ticketRegistry.updateTicket(ticket);
+    }
+
+    @Override
+    public void removeFlowExecutionSnapshot(final FlowExecution execution) {
+        val key = execution.getKey();
+        if (key != null) {
+            LOGGER.trace("Removing flow execution snapshot [{}]", key);
+            this.ticketRegistry.deleteTicket(key.toString());
+        }
+    }
+
+    @Override
+    public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
+        val key = execution.getKey();
+        if (key instanceof TicketRegistryFlowExecutionKey) {
+            val ids = ((TicketRegistryFlowExecutionKey) key).getAllTicketIds();
+            LOGGER.trace("Removing [{}] flow execution snapshot(s) of [{}]", ids.size(), key);
+            ids.forEach(this.ticketRegistry::deleteTicket);
+        } else {
+            removeFlowExecutionSnapshot(execution);
+        }
+    }
+
+    /**
+     * Build the snapshot of the flow execution. Keys are never reused across steps of the flow,
+     * so executions that are put are always added to the registry, and executions whose snapshot
+     * is refreshed under the same key are always updated.
+     */
+    private TransientSessionTicket buildFlowExecutionSnapshot(final FlowExecution execution) {
+        val key = (TicketRegistryFlowExecutionKey) execution.getKey();
+        val properties = new HashMap<String, Serializable>();
+        properties.put(PROPERTY_FLOW_ID, execution.getDefinition().getId());
+        properties.put(PROPERTY_SNAPSHOT, this.snapshotFactory.createSnapshot(execution));
+        properties.put(PROPERTY_CONVERSATION_SCOPE, new LocalAttributeMap<>(execution.getConversationScope().asMap()));
+        properties.put(PROPERTY_PREVIOUS_SNAPSHOTS, new ArrayList<>(key.getPreviousTicketIds()));
+        return new TransientSessionTicketImpl(key.getTicketId(), this.expirationPolicy, null, properties);
+    }
+}
@@ -8,9 +8,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.model.webapp.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
 import org.apereo.spring.webflow.plugin.ClientFlowExecutionRepository;
 import org.apereo.spring.webflow.plugin.EncryptedTranscoder;
 import org.apereo.spring.webflow.plugin.Transcoder;
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
@@ -34,6 +37,7 @@ public class WebflowExecutorFactory {
     private final FlowDefinitionRegistry flowDefinitionRegistry;
     private final CipherExecutor webflowCipherExecutor;
     private final FlowExecutionListener[] executionListeners;
+    private final TicketRegistry ticketRegistry;
 
     /**
      * Build flow executor.
@@ -41,6 +45,9 @@ public class WebflowExecutorFactory {
      * @return the flow executor
      */
     public FlowExecutor build() {
+        if (webflowProperties.getSession().isRegistryStorage()) {
+            return buildFlowExecutorViaTicketRegistryExecution();
+        }
         if (webflowProperties.getSession().isStorage()) {
             return buildFlowExecutorViaServerSessionBindingExecution();
         }
@@ -65,6 +72,25 @@ public class WebflowExecutorFactory {
         return new FlowExecutorImpl(this.flowDefinitionRegistry, executionFactory, repository);
     }
 
+    private FlowExecutor buildFlowExecutorViaTicketRegistryExecution() {
+        if (this.ticketRegistry == null) {
+            throw new BeanCreationException("Webflow sessions cannot be stored in the ticket registry, since no ticket registry is defined");
+        }
+        val session = webflowProperties.getSession();
+        val executionFactory = new FlowExecutionImplFactory();
+        executionFactory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
+
+        val flowExecutionSnapshotFactory =
+            new SerializedFlowExecutionSnapshotFactory(executionFactory, this.flowDefinitionRegistry);
+        flowExecutionSnapshotFactory.setCompress(session.isCompress());
+
+        val timeout = Beans.newDuration(session.getRegistryTimeout()).getSeconds();
+        val repository = new TicketRegistryFlowExecutionRepository(this.ticketRegistry,
+            flowExecutionSnapshotFactory, new HardTimeoutExpirationPolicy(timeout));
+        executionFactory.setExecutionKeyFactory(repository);
+        return new FlowExecutorImpl(this.flowDefinitionRegistry, executionFactory, repository);
+    }
+
     private FlowExecutor buildFlowExecutorViaClientFlowExecution() {
         val repository = new ClientFlowExecutionRepository();
         repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
@@ -81,6 +107,10 @@ public class WebflowExecutorFactory {
     @SneakyThrows
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val transcoder = new EncryptedTranscoder(cipherBean);
+        if (webflowProperties.getSession().isCompactClientState()) {
+            return new CompactWebflowStateTranscoder(cipherBean, transcoder);
+        }
+        return transcoder;
     }
 }
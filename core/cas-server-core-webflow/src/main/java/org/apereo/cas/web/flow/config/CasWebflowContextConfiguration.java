@@ -5,6 +5,7 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.web.flow.CasFlowHandlerAdapter;
 import org.apereo.cas.web.flow.CasWebflowConfigurer;
@@ -88,6 +89,10 @@ public class CasWebflowContextConfiguration {
     @Qualifier("webflowCipherExecutor")
     private CipherExecutor webflowCipherExecutor;
 
+    @Autowired
+    @Qualifier("ticketRegistry")
+    private ObjectProvider<TicketRegistry> ticketRegistry;
+
     @Bean
     public ExpressionParser expressionParser() {
         return new WebFlowSpringELExpressionParser(new SpelExpressionParser(), logoutConversionService());
@@ -206,7 +211,8 @@ public class CasWebflowContextConfiguration {
     @Bean
     public FlowExecutor logoutFlowExecutor() {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-            logoutFlowRegistry(), this.webflowCipherExecutor, new FlowExecutionListener[0]);
+            logoutFlowRegistry(), this.webflowCipherExecutor, new FlowExecutionListener[0],
+            ticketRegistry.getIfAvailable());
         return factory.build();
     }
 
@@ -215,7 +221,7 @@ public class CasWebflowContextConfiguration {
     public FlowExecutor loginFlowExecutor() {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
             loginFlowRegistry(), this.webflowCipherExecutor,
-            new FlowExecutionListener[0]);
+            new FlowExecutionListener[0], ticketRegistry.getIfAvailable());
 
         return factory.build();
     }
@@ -0,0 +1,64 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.SneakyThrows;
+import lombok.val;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.spring.webflow.plugin.EncryptedTranscoder;
+import org.junit.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link CompactWebflowStateTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class CompactWebflowStateTranscoderTests {
+    private final WebflowCipherBean cipherBean = new WebflowCipherBean(CipherExecutor.noOp());
+
+    @SneakyThrows
+    private EncryptedTranscoder getFallbackTranscoder() {
+        return new EncryptedTranscoder(cipherBean);
+    }
+
+    private static LocalAttributeMap<Object> getFlowScope() {
+        val scope = new LocalAttributeMap<Object>();
+        scope.put("service", "https://www.example.org");
+        scope.put("credential", new HashMap<>(Collections.singletonMap("username", "casuser")));
+        scope.put("authenticationHandlers", new ArrayList<>(Arrays.asList("handler1", "handler2")));
+        return scope;
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyStateRoundTrips() {
+        val transcoder = new CompactWebflowStateTranscoder(cipherBean, getFallbackTranscoder());
+        val scope = getFlowScope();
+        val encoded = transcoder.encode(scope);
+        assertEquals(scope, transcoder.decode(encoded));
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyStateIsSmaller() {
+        val transcoder = new CompactWebflowStateTranscoder(cipherBean, getFallbackTranscoder());
+        val scope = getFlowScope();
+        assertTrue(transcoder.encode(scope).length < getFallbackTranscoder().encode(scope).length);
+    }
+
+    @Test
+    @SneakyThrows
+    public void verifyFallbackStateDecoded() {
+        val fallback = getFallbackTranscoder();
+        val transcoder = new CompactWebflowStateTranscoder(cipherBean, fallback);
+        val scope = getFlowScope();
+        assertEquals(scope, transcoder.decode(fallback.encode(scope)));
+    }
+}
@@ -0,0 +1,111 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.configuration.model.webapp.WebflowProperties;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.junit.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.FlowDefinition;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
+import org.springframework.webflow.execution.FlowExecutionListener;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
+import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshot;
+import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshotFactory;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TicketRegistryFlowExecutionRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class TicketRegistryFlowExecutionRepositoryTests {
+    private final DefaultTicketRegistry ticketRegistry = new DefaultTicketRegistry();
+
+    private final FlowExecutionSnapshotFactory snapshotFactory = mock(FlowExecutionSnapshotFactory.class);
+
+    private final TicketRegistryFlowExecutionRepository repository =
+        new TicketRegistryFlowExecutionRepository(ticketRegistry, snapshotFactory, new HardTimeoutExpirationPolicy(60));
+
+    private FlowExecution getFlowExecution(final FlowExecutionKey key) {
+        val definition = mock(FlowDefinition.class);
+        when(definition.getId()).thenReturn("login");
+        val execution = mock(FlowExecution.class);
+        when(execution.getKey()).thenReturn(key);
+        when(execution.getDefinition()).thenReturn(definition);
+        when(execution.getConversationScope()).thenReturn(new LocalAttributeMap<>("service", "https://www.example.org"));
+        return execution;
+    }
+
+    @Test
+    public void verifyFlowExecutionStoredAndRestored() {
+        val key = repository.getKey(getFlowExecution(null));
+        val execution = getFlowExecution(key);
+        when(snapshotFactory.createSnapshot(execution)).thenReturn(mock(FlowExecutionSnapshot.class));
+        repository.putFlowExecution(execution);
+        assertNotNull(ticketRegistry.getTicket(key.toString()));
+
+        val parsedKey = repository.parseFlowExecutionKey(key.toString());
+        assertEquals(key, parsedKey);
+        when(snapshotFactory.restoreExecution(any(), eq("login"), eq(parsedKey), any(), any())).thenReturn(execution);
+        assertSame(execution, repository.getFlowExecution(parsedKey));
+    }
+
+    @Test
+    public void verifyAllSnapshotsRemoved() {
+        val firstKey = repository.getKey(getFlowExecution(null));
+        val firstExecution = getFlowExecution(firstKey);
+        when(snapshotFactory.createSnapshot(any())).thenReturn(mock(FlowExecutionSnapshot.class));
+        repository.putFlowExecution(firstExecution);
+
+        val secondKey = (TicketRegistryFlowExecutionKey) repository.getKey(firstExecution);
+        assertNotEquals(firstKey, secondKey);
+        assertTrue(secondKey.getPreviousTicketIds().contains(firstKey.toString()));
+        val secondExecution = getFlowExecution(secondKey);
+        repository.putFlowExecution(secondExecution);
+        assertEquals(2, ticketRegistry.getTickets().size());
+
+        repository.removeFlowExecution(secondExecution);
+        assertTrue(ticketRegistry.getTickets().isEmpty());
+    }
+
+    @Test(expected = NoSuchFlowExecutionException.class)
+    public void verifyUnknownFlowExecution() {
+        repository.getFlowExecution(repository.parseFlowExecutionKey("TST-1-unknown"));
+    }
+
+    @Test(expected = BadlyFormattedFlowExecutionKeyException.class)
+    public void verifyBadlyFormattedKey() {
+        repository.parseFlowExecutionKey("e1s1");
+    }
+
+    @Test
+    public void verifySnapshotsStoredWithoutLookup() {
+        val registry = spy(new DefaultTicketRegistry());
+        val repo = new TicketRegistryFlowExecutionRepository(registry, snapshotFactory, new HardTimeoutExpirationPolicy(60));
+        val execution = getFlowExecution(repo.getKey(getFlowExecution(null)));
+        when(snapshotFactory.createSnapshot(any())).thenReturn(mock(FlowExecutionSnapshot.class));
+        repo.putFlowExecution(execution);
+        repo.updateFlowExecutionSnapshot(execution);
+        verify(registry, times(1)).addTicket(any(Ticket.class));
+        verify(registry, times(1)).updateTicket(any(Ticket.class));
+        verify(registry, never()).getTicket(anyString());
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void verifyRegistryStorageRequiresTicketRegistry() {
+        val properties = new WebflowProperties();
+        properties.getSession().setRegistryStorage(true);
+        new WebflowExecutorFactory(properties, mock(FlowDefinitionRegistry.class),
+            CipherExecutor.noOp(), new FlowExecutionListener[0], null).build();
+    }
+}
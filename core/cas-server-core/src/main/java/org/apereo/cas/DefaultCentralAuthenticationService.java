@@ -21,6 +21,7 @@ import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.UnauthorizedProxyingException;
+import org.apereo.cas.services.UnauthorizedServiceException;
 import org.apereo.cas.services.UnauthorizedSsoServiceException;
 import org.apereo.cas.support.events.ticket.CasProxyGrantingTicketCreatedEvent;
 import org.apereo.cas.support.events.ticket.CasProxyTicketGrantedEvent;
@@ -49,8 +50,12 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Concrete implementation of a {@link CentralAuthenticationService}, and also the
@@ -116,8 +121,44 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
     public ServiceTicket grantServiceTicket(final String ticketGrantingTicketId, final Service service, final AuthenticationResult authenticationResult)
         throws AuthenticationException, AbstractTicketException {
 
-        val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
         val ticketGrantingTicket = getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        enforceServiceTicketPolicies(ticketGrantingTicket, service, authenticationResult);
+        val serviceTicket = createServiceTicket(ticketGrantingTicket, service, authenticationResult);
+        this.ticketRegistry.updateTicket(ticketGrantingTicket);
+        this.ticketRegistry.addTicket(serviceTicket);
+
+        publishServiceTicketGranted(ticketGrantingTicket, serviceTicket);
+        return serviceTicket;
+    }
+
+    @Audit(
+        action = "SERVICE_TICKET",
+        actionResolverName = "GRANT_SERVICE_TICKET_RESOLVER",
+        resourceResolverName = "GRANT_SERVICE_TICKET_RESOURCE_RESOLVER")
+    @Override
+    public List<ServiceTicket> grantServiceTickets(final String ticketGrantingTicketId, final List<Service> services,
+                                                   final AuthenticationResult authenticationResult)
+        throws AuthenticationException, AbstractTicketException {
+
+        val ticketGrantingTicket = getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        services.forEach(service -> enforceServiceTicketPolicies(ticketGrantingTicket, service, authenticationResult));
+        val serviceTickets = services.stream()
+            .map(service -> createServiceTicket(ticketGrantingTicket, service, authenticationResult))
+            .collect(Collectors.toList());
+        this.ticketRegistry.updateTicket(ticketGrantingTicket);
+        this.ticketRegistry.addTickets(serviceTickets.stream());
+
+        serviceTickets.forEach(serviceTicket -> publishServiceTicketGranted(ticketGrantingTicket, serviceTicket));
+        return serviceTickets;
+    }
+
+    /**
+     * Run the access strategy and authentication policy checks that must pass before a service ticket
+     * may be issued for the service. Nothing is recorded on the ticket-granting ticket.
+     */
+    private void enforceServiceTicketPolicies(final TicketGrantingTicket ticketGrantingTicket, final Service service,
+                                              final AuthenticationResult authenticationResult) {
+        val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
         val selectedService = resolveServiceFromAuthenticationRequest(service);
         val registeredService = this.servicesManager.findServiceBy(selectedService);
 
@@ -135,18 +176,22 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
         // Perform security policy check by getting the authentication that satisfies the configured policy
         getAuthenticationSatisfiedByPolicy(currentAuthentication, new ServiceContext(selectedService, registeredService));
+    }
 
+    private ServiceTicket createServiceTicket(final TicketGrantingTicket ticketGrantingTicket, final Service service,
+                                              final AuthenticationResult authenticationResult) {
+        val credentialProvided = authenticationResult != null && authenticationResult.isCredentialProvided();
         val latestAuthentication = ticketGrantingTicket.getRoot().getAuthentication();
         AuthenticationCredentialsThreadLocalBinder.bindCurrent(latestAuthentication);
-        val principal = latestAuthentication.getPrincipal();
         val factory = (ServiceTicketFactory) this.ticketFactory.get(ServiceTicket.class);
-        val serviceTicket = factory.create(ticketGrantingTicket, service, credentialProvided, ServiceTicket.class);
-        this.ticketRegistry.updateTicket(ticketGrantingTicket);
-        this.ticketRegistry.addTicket(serviceTicket);
+        return factory.create(ticketGrantingTicket, service, credentialProvided, ServiceTicket.class);
+    }
 
-        LOGGER.info("Granted ticket [{}] for service [{}] and principal [{}]", serviceTicket.getId(), DigestUtils.abbreviate(service.getId()), principal.getId());
+    private void publishServiceTicketGranted(final TicketGrantingTicket ticketGrantingTicket, final ServiceTicket serviceTicket) {
+        val principal = ticketGrantingTicket.getRoot().getAuthentication().getPrincipal();
+        LOGGER.info("Granted ticket [{}] for service [{}] and principal [{}]", serviceTicket.getId(),
+            DigestUtils.abbreviate(serviceTicket.getService().getId()), principal.getId());
         doPublishEvent(new CasServiceTicketGrantedEvent(this, ticketGrantingTicket, serviceTicket));
-        return serviceTicket;
     }
 
     @Audit(
@@ -248,6 +293,40 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         resourceResolverName = "VALIDATE_SERVICE_TICKET_RESOURCE_RESOLVER")
     @Override
     public Assertion validateServiceTicket(final String serviceTicketId, final Service service) throws AbstractTicketException {
+        val usedServiceTickets = new ArrayList<ServiceTicket>(1);
+        try {
+            return validateServiceTicket(serviceTicketId, service, usedServiceTickets);
+        } finally {
+            writeUsedServiceTickets(usedServiceTickets);
+        }
+    }
+
+    @Audit(
+        action = "SERVICE_TICKET_VALIDATE",
+        actionResolverName = "VALIDATE_SERVICE_TICKET_RESOLVER",
+        resourceResolverName = "VALIDATE_SERVICE_TICKET_RESOURCE_RESOLVER")
+    @Override
+    public Map<String, Assertion> validateServiceTickets(final Map<String, Service> serviceTickets) {
+        val assertions = new LinkedHashMap<String, Assertion>();
+        serviceTickets.forEach((serviceTicketId, service) -> {
+            val usedServiceTickets = new ArrayList<ServiceTicket>(1);
+            try {
+                assertions.put(serviceTicketId, validateServiceTicket(serviceTicketId, service, usedServiceTickets));
+            } catch (final AbstractTicketException | UnauthorizedServiceException | PrincipalException e) {
+                LOGGER.info("Service ticket [{}] cannot be validated for service [{}]: [{}]", serviceTicketId, service, e.getMessage());
+            } finally {
+                writeUsedServiceTickets(usedServiceTickets);
+            }
+        });
+        return assertions;
+    }
+
+    /**
+     * Validate the service ticket without writing its usage state back into the ticket registry.
+     * The service ticket, once located, is collected so the caller can write it back right after validation.
+     */
+    private Assertion validateServiceTicket(final String serviceTicketId, final Service service,
+                                            final Collection<ServiceTicket> usedServiceTickets) throws AbstractTicketException {
 
         if (!isTicketAuthenticityVerified(serviceTicketId)) {
             LOGGER.info("Service ticket [{}] is not a valid ticket issued by CAS.", serviceTicketId);
@@ -327,12 +406,18 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
             return assertion;
         } finally {
+            usedServiceTickets.add(serviceTicket);
+        }
+    }
+
+    private void writeUsedServiceTickets(final Collection<ServiceTicket> usedServiceTickets) {
+        usedServiceTickets.forEach(serviceTicket -> {
             if (serviceTicket.isExpired()) {
-                deleteTicket(serviceTicketId);
+                deleteTicket(serviceTicket.getId());
             } else {
                 this.ticketRegistry.updateTicket(serviceTicket);
             }
-        }
+        });
     }
 
     @Audit(
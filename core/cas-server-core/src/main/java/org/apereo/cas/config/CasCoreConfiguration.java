@@ -20,6 +20,7 @@ import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.registry.RequestScopedTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -107,7 +108,7 @@ public class CasCoreConfiguration {
     public CentralAuthenticationService centralAuthenticationService(
         @Qualifier("authenticationServiceSelectionPlan") final AuthenticationServiceSelectionPlan authenticationServiceSelectionPlan) {
         return new DefaultCentralAuthenticationService(applicationEventPublisher,
-            ticketRegistry.getIfAvailable(),
+            new RequestScopedTicketRegistry(ticketRegistry.getIfAvailable()),
             servicesManager.getIfAvailable(),
             logoutManager.getIfAvailable(),
             ticketFactory.getIfAvailable(),
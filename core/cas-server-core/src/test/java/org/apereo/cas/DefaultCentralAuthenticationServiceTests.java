@@ -24,6 +24,7 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.MockOnlyOneTicketRegistry;
 import org.apereo.cas.validation.Cas20WithoutProxyingValidationSpecification;
 import org.junit.Rule;
@@ -33,6 +34,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.LinkedHashMap;
+
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -262,6 +265,44 @@ public class DefaultCentralAuthenticationServiceTests extends AbstractCentralAut
         getCentralAuthenticationService().validateServiceTicket("google", getService());
     }
 
+    @Test
+    public void verifyGrantAndValidateServiceTicketsInBatch() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val services = CollectionUtils.wrapList(getService(), getService("testDefault"));
+        val serviceTickets = getCentralAuthenticationService().grantServiceTickets(ticketGrantingTicket.getId(), services, ctx);
+        assertEquals(2, serviceTickets.size());
+        serviceTickets.forEach(st -> assertNotNull(getTicketRegistry().getTicket(st.getId())));
+
+        val tickets = new LinkedHashMap<String, Service>();
+        tickets.put(serviceTickets.get(0).getId(), services.get(0));
+        tickets.put(serviceTickets.get(1).getId(), services.get(1));
+        tickets.put("ST-google", getService());
+        val assertions = getCentralAuthenticationService().validateServiceTickets(tickets);
+        assertEquals(2, assertions.size());
+        assertTrue(assertions.containsKey(serviceTickets.get(0).getId()));
+        assertTrue(assertions.containsKey(serviceTickets.get(1).getId()));
+        serviceTickets.forEach(st -> assertNull(getTicketRegistry().getTicket(st.getId())));
+    }
+
+    @Test
+    public void verifyGrantServiceTicketsFailsAuthzRule() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport(),
+            getService("TestServiceAttributeForAuthzFails"));
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val count = getTicketRegistry().serviceTicketCount();
+
+        try {
+            getCentralAuthenticationService().grantServiceTickets(ticketGrantingTicket.getId(),
+                CollectionUtils.wrapList(getService(), getService("TestServiceAttributeForAuthzFails")), ctx);
+            fail("Service tickets should not have been granted");
+        } catch (final PrincipalException e) {
+            assertEquals(count, getTicketRegistry().serviceTicketCount());
+            val tgt = getTicketRegistry().getTicket(ticketGrantingTicket.getId(), TicketGrantingTicket.class);
+            assertTrue(tgt.getServices().isEmpty());
+        }
+    }
+
     @Test
     public void verifyValidateServiceTicketWithoutUsernameAttribute() {
         val cred = CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword();
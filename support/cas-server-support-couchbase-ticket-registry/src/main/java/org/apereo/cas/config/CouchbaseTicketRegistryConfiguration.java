@@ -10,8 +10,10 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.CouchbaseTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -34,6 +36,10 @@ public class CouchbaseTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketRegistryCacheBus")
+    private ObjectProvider<TicketRegistryCacheBus> ticketRegistryCacheBus;
+
     @RefreshScope
     @Bean
     public CouchbaseClientFactory ticketRegistryCouchbaseClientFactory() {
@@ -53,7 +59,8 @@ public class CouchbaseTicketRegistryConfiguration {
         val couchbase = casProperties.getTicket().getRegistry().getCouchbase();
         val c = new CouchbaseTicketRegistry(ticketCatalog, ticketRegistryCouchbaseClientFactory());
         c.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(couchbase.getCrypto(), "couchbase"));
-        return c;
+        return CoreTicketUtils.newNearCacheTicketRegistry(c, casProperties.getTicket().getRegistry().getNearCache(),
+            ticketRegistryCacheBus.getIfAvailable(TicketRegistryCacheBus::noOp));
     }
 
     @Bean
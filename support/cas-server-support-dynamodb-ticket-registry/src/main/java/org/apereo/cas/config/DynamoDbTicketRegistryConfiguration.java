@@ -11,7 +11,9 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistry;
 import org.apereo.cas.ticket.registry.DynamoDbTicketRegistryFacilitator;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -32,14 +34,20 @@ public class DynamoDbTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketRegistryCacheBus")
+    private ObjectProvider<TicketRegistryCacheBus> ticketRegistryCacheBus;
+
     @Autowired
     @RefreshScope
     @Bean
     public TicketRegistry ticketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
         val db = casProperties.getTicket().getRegistry().getDynamoDb();
         val crypto = db.getCrypto();
-        return new DynamoDbTicketRegistry(CoreTicketUtils.newTicketRegistryCipherExecutor(crypto, "dynamoDb"),
+        val registry = new DynamoDbTicketRegistry(CoreTicketUtils.newTicketRegistryCipherExecutor(crypto, "dynamoDb"),
             dynamoDbTicketRegistryFacilitator(ticketCatalog));
+        return CoreTicketUtils.newNearCacheTicketRegistry(registry, casProperties.getTicket().getRegistry().getNearCache(),
+            ticketRegistryCacheBus.getIfAvailable(TicketRegistryCacheBus::noOp));
     }
 
     @Autowired
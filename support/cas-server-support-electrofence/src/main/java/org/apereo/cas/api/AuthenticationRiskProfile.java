@@ -0,0 +1,168 @@
+package org.apereo.cas.api;
+
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is {@link AuthenticationRiskProfile} that aggregates the authentication history
+ * of a principal into weighted histograms of ip addresses, user agents, geolocations
+ * and hours of the day. Each recorded event weighs twice as much as one that occurred
+ * a half-life earlier, so older activity gradually decays. Since scores are calculated
+ * as ratios of weights, decay never needs to be applied to existing entries.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString
+public class AuthenticationRiskProfile implements Serializable {
+    private static final long serialVersionUID = 4393462834028541957L;
+
+    private static final int HOURS_IN_DAY = 24;
+
+    private static final int MAXIMUM_ENTRIES = 100;
+
+    private static final double RESCALE_THRESHOLD = 1.0E100;
+
+    private final long halfLifeInMillis;
+
+    private final Map<String, Double> ipAddresses = new HashMap<>();
+
+    private final Map<String, Double> userAgents = new HashMap<>();
+
+    private final Map<String, Double> geoLocations = new HashMap<>();
+
+    private final double[] hours = new double[HOURS_IN_DAY];
+
+    private long referenceTime = -1;
+
+    private double total;
+
+    public AuthenticationRiskProfile(final Duration halfLife) {
+        this.halfLifeInMillis = Math.max(1, halfLife.toMillis());
+    }
+
+    /**
+     * Record the authentication event into the profile.
+     *
+     * @param event the event
+     */
+    public synchronized void record(final CasEvent event) {
+        val creationTime = event.getCreationTime();
+        val timestamp = creationTime.toInstant().toEpochMilli();
+        if (this.referenceTime < 0) {
+            this.referenceTime = timestamp;
+        }
+        var weight = Math.pow(2, (double) (timestamp - this.referenceTime) / this.halfLifeInMillis);
+        if (weight > RESCALE_THRESHOLD) {
+            rescale(weight);
+            this.referenceTime = timestamp;
+            weight = 1;
+        }
+        this.total += weight;
+        add(this.ipAddresses, StringUtils.lowerCase(event.getClientIpAddress()), weight);
+        add(this.userAgents, StringUtils.lowerCase(event.getAgent()), weight);
+        add(this.geoLocations, getGeoLocationKey(event.getGeoLocation()), weight);
+        this.hours[creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour()] += weight;
+    }
+
+    /**
+     * Whether any events were recorded into this profile.
+     *
+     * @return true/false
+     */
+    public synchronized boolean isEmpty() {
+        return this.total <= 0;
+    }
+
+    public synchronized double getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Gets the weight of events recorded from the given ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the weight
+     */
+    public synchronized double getIpAddressWeight(final String ipAddress) {
+        return this.ipAddresses.getOrDefault(StringUtils.lowerCase(ipAddress), 0D);
+    }
+
+    /**
+     * Gets the weight of events recorded from the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the weight
+     */
+    public synchronized double getUserAgentWeight(final String userAgent) {
+        return this.userAgents.getOrDefault(StringUtils.lowerCase(userAgent), 0D);
+    }
+
+    /**
+     * Gets the weight of events recorded from the given location.
+     *
+     * @param location the location
+     * @return the weight
+     */
+    public synchronized double getGeoLocationWeight(final GeoLocationRequest location) {
+        val key = getGeoLocationKey(location);
+        return key == null ? 0 : this.geoLocations.getOrDefault(key, 0D);
+    }
+
+    /**
+     * Gets the weight of events recorded in UTC hours of the day that fall within the given range, inclusively.
+     *
+     * @param fromHour the starting hour
+     * @param toHour   the ending hour
+     * @return the weight
+     */
+    public synchronized double getHourOfDayWeight(final int fromHour, final int toHour) {
+        var weight = 0D;
+        for (var hour = Math.max(0, fromHour); hour <= Math.min(HOURS_IN_DAY - 1, toHour); hour++) {
+            weight += this.hours[hour];
+        }
+        return weight;
+    }
+
+    private void rescale(final double factor) {
+        LOGGER.trace("Rescaling authentication risk profile weights by [{}]", factor);
+        this.total /= factor;
+        this.ipAddresses.replaceAll((k, v) -> v / factor);
+        this.userAgents.replaceAll((k, v) -> v / factor);
+        this.geoLocations.replaceAll((k, v) -> v / factor);
+        for (var i = 0; i < this.hours.length; i++) {
+            this.hours[i] /= factor;
+        }
+    }
+
+    private static void add(final Map<String, Double> histogram, final String key, final double weight) {
+        if (key == null) {
+            return;
+        }
+        if (!histogram.containsKey(key) && histogram.size() >= MAXIMUM_ENTRIES) {
+            histogram.entrySet()
+                .stream()
+                .min(Map.Entry.comparingByValue())
+                .ifPresent(entry -> histogram.remove(entry.getKey()));
+        }
+        histogram.merge(key, weight, Double::sum);
+    }
+
+    private static String getGeoLocationKey(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isBlank(location.getLatitude()) || StringUtils.isBlank(location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + ',' + location.getLongitude();
+    }
+}
@@ -0,0 +1,19 @@
+package org.apereo.cas.api;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore} that keeps track of
+ * per-principal {@link AuthenticationRiskProfile}s.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public interface AuthenticationRiskProfileStore {
+
+    /**
+     * Gets the risk profile of the given principal.
+     *
+     * @param principal the principal id
+     * @return the profile, which is empty if the principal has no authentication history.
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+}
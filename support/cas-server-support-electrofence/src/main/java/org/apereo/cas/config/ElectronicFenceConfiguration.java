@@ -12,6 +12,8 @@ import org.apereo.cas.api.AuthenticationRiskNotifier;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculator;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculator;
@@ -20,6 +22,7 @@ import org.apereo.cas.impl.engine.DefaultAuthenticationRiskEvaluator;
 import org.apereo.cas.impl.engine.DefaultAuthenticationRiskMitigator;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifier;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStore;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
@@ -107,33 +110,53 @@ public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionP
         return new DefaultAuthenticationRiskMitigator(multifactorAuthenticationContingencyPlan());
     }
 
+    @ConditionalOnMissingBean(name = "authenticationRiskProfileStore")
+    @Bean
+    public DefaultAuthenticationRiskProfileStore authenticationRiskProfileStore() {
+        val risk = casProperties.getAuthn().getAdaptive().getRisk();
+        val profile = risk.getProfile();
+        return new DefaultAuthenticationRiskProfileStore(this.casEventRepository,
+            risk.getDaysInRecentHistory(),
+            Beans.newDuration(profile.getHalfLife()),
+            Beans.newDuration(profile.getExpireAfterWrite()),
+            profile.getMaximumSize());
+    }
+
     @ConditionalOnMissingBean(name = "ipAddressAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator() {
-        return new IpAddressAuthenticationRequestRiskCalculator(this.casEventRepository);
+        val calculator = new IpAddressAuthenticationRequestRiskCalculator(this.casEventRepository);
+        configureRiskCalculator(calculator);
+        return calculator;
     }
 
     @ConditionalOnMissingBean(name = "userAgentAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator() {
-        return new UserAgentAuthenticationRequestRiskCalculator(this.casEventRepository);
+        val calculator = new UserAgentAuthenticationRequestRiskCalculator(this.casEventRepository);
+        configureRiskCalculator(calculator);
+        return calculator;
     }
 
     @ConditionalOnMissingBean(name = "dateTimeAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator() {
-        return new DateTimeAuthenticationRequestRiskCalculator(this.casEventRepository,
+        val calculator = new DateTimeAuthenticationRequestRiskCalculator(this.casEventRepository,
             casProperties.getAuthn().getAdaptive().getRisk().getDateTime().getWindowInHours());
+        configureRiskCalculator(calculator);
+        return calculator;
     }
 
     @ConditionalOnMissingBean(name = "geoLocationAuthenticationRequestRiskCalculator")
     @Bean
     @RefreshScope
     public AuthenticationRequestRiskCalculator geoLocationAuthenticationRequestRiskCalculator() {
-        return new GeoLocationAuthenticationRequestRiskCalculator(this.casEventRepository);
+        val calculator = new GeoLocationAuthenticationRequestRiskCalculator(this.casEventRepository);
+        configureRiskCalculator(calculator);
+        return calculator;
     }
 
     @ConditionalOnMissingBean(name = "authenticationRiskEvaluator")
@@ -163,6 +186,12 @@ public class ElectronicFenceConfiguration implements AuditTrailRecordResolutionP
         return new DefaultAuthenticationRiskEvaluator(calculators);
     }
 
+    private void configureRiskCalculator(final BaseAuthenticationRequestRiskCalculator calculator) {
+        if (casProperties.getAuthn().getAdaptive().getRisk().getProfile().isEnabled()) {
+            calculator.setAuthenticationRiskProfileStore(authenticationRiskProfileStore());
+        }
+    }
+
     private void configureContingencyPlan(final BaseAuthenticationRiskContingencyPlan b) {
         val mail = casProperties.getAuthn().getAdaptive().getRisk().getResponse().getMail();
         if (StringUtils.isNotBlank(mail.getText()) && StringUtils.isNotBlank(mail.getFrom()) && StringUtils.isNotBlank(mail.getSubject())) {
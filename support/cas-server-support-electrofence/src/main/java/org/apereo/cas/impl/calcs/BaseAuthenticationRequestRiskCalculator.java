@@ -1,8 +1,11 @@
 package org.apereo.cas.impl.calcs;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -33,6 +36,13 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      */
     protected CasEventRepository casEventRepository;
 
+    /**
+     * Store of per-principal risk profiles. When defined, scores are calculated
+     * from the principal profile rather than the authentication history.
+     */
+    @Setter
+    protected AuthenticationRiskProfileStore authenticationRiskProfileStore;
+
     @Autowired
     private CasConfigurationProperties casProperties;
 
@@ -45,6 +55,15 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
+        if (this.authenticationRiskProfileStore != null) {
+            val profile = this.authenticationRiskProfileStore.getProfile(principal.getId());
+            if (profile.isEmpty()) {
+                return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
+            }
+            val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
+            LOGGER.debug("Calculated authentication risk score by [{}] from risk profile is [{}]", getClass().getSimpleName(), score);
+            return score;
+        }
         val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
         if (events.isEmpty()) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
@@ -70,6 +89,22 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
         return HIGHEST_RISK_SCORE;
     }
 
+    /**
+     * Calculate score authentication risk score from the risk profile of the principal.
+     *
+     * @param request        the request
+     * @param authentication the authentication
+     * @param service        the service
+     * @param profile        the risk profile of the principal
+     * @return the authentication risk score
+     */
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        return HIGHEST_RISK_SCORE;
+    }
+
     /**
      * Gets cas ticket granting ticket created events.
      *
@@ -97,4 +132,20 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
             .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
         return HIGHEST_RISK_SCORE.subtract(score);
     }
+
+    /**
+     * Gets final averaged score from weights of a risk profile.
+     *
+     * @param weight the weight of matching events
+     * @param total  the total weight of all events
+     * @return the final averaged score
+     */
+    protected BigDecimal getFinalAveragedScore(final double weight, final double total) {
+        if (weight >= total) {
+            return LOWEST_RISK_SCORE;
+        }
+        val score = BigDecimal.valueOf(weight)
+            .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+        return HIGHEST_RISK_SCORE.subtract(score);
+    }
 }
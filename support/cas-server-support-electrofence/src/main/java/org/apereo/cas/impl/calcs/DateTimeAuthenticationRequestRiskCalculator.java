@@ -3,6 +3,7 @@ package org.apereo.cas.impl.calcs;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
@@ -57,4 +58,16 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
         }
         return getFinalAveragedScore(count, events.size());
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
+        val timestamp = ZonedDateTime.now(ZoneOffset.UTC);
+        val hoursFromNow = timestamp.plusHours(windowInHours).getHour();
+        val hoursBeforeNow = timestamp.minusHours(windowInHours).getHour();
+        val weight = profile.getHourOfDayWeight(hoursBeforeNow, hoursFromNow);
+        LOGGER.debug("Weight of authentication events found for [{}] in a [{}]h window: [{}] out of [{}]",
+            timestamp, windowInHours, weight, profile.getTotal());
+        return getFinalAveragedScore(weight, profile.getTotal());
+    }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.impl.calcs;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
@@ -70,4 +71,23 @@ public class GeoLocationAuthenticationRequestRiskCalculator extends BaseAuthenti
         LOGGER.debug("Request does not contain enough geolocation data");
         return HIGHEST_RISK_SCORE;
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
+        var location = WebUtils.getHttpServletRequestGeoLocation(request);
+        if (location == null || !location.isValid()) {
+            val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
+            LOGGER.debug("Locating authentication request based on ip [{}]", remoteAddr);
+            val response = this.geoLocationService.locate(remoteAddr);
+            if (response == null) {
+                LOGGER.debug("Request does not contain enough geolocation data");
+                return HIGHEST_RISK_SCORE;
+            }
+            location = new GeoLocationRequest(response.getLatitude(), response.getLongitude());
+        }
+        val weight = profile.getGeoLocationWeight(location);
+        LOGGER.debug("Weight of authentication events found for [{}]: [{}] out of [{}]", location, weight, profile.getTotal());
+        return getFinalAveragedScore(weight, profile.getTotal());
+    }
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.impl.calcs;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.dao.CasEvent;
@@ -42,4 +43,15 @@ public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthentica
         }
         return getFinalAveragedScore(count, events.size());
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val weight = profile.getIpAddressWeight(remoteAddr);
+        LOGGER.debug("Weight of authentication events found for [{}]: [{}] out of [{}]", remoteAddr, weight, profile.getTotal());
+        return getFinalAveragedScore(weight, profile.getTotal());
+    }
 }
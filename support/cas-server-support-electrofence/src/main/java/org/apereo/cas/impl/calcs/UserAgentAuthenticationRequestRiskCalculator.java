@@ -3,6 +3,7 @@ package org.apereo.cas.impl.calcs;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.dao.CasEvent;
@@ -43,4 +44,15 @@ public class UserAgentAuthenticationRequestRiskCalculator extends BaseAuthentica
         }
         return getFinalAveragedScore(count, events.size());
     }
+
+    @Override
+    protected BigDecimal calculateScore(final HttpServletRequest request,
+                                        final Authentication authentication,
+                                        final RegisteredService service,
+                                        final AuthenticationRiskProfile profile) {
+        val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
+        val weight = profile.getUserAgentWeight(agent);
+        LOGGER.debug("Weight of authentication events found for [{}]: [{}] out of [{}]", agent, weight, profile.getTotal());
+        return getFinalAveragedScore(weight, profile.getTotal());
+    }
 }
@@ -0,0 +1,86 @@
+package org.apereo.cas.impl.profile;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.support.events.CasEventRecordListener;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStore} that keeps risk profiles in memory.
+ * A profile is built from the authentication history found in the {@link CasEventRepository}
+ * the first time it's requested, and is then updated as authentication events are recorded,
+ * until it expires and is built again.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileStore implements AuthenticationRiskProfileStore, CasEventRecordListener {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final long daysInRecentHistory;
+
+    private final Duration halfLife;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileStore(final CasEventRepository casEventRepository,
+                                                 final long daysInRecentHistory,
+                                                 final Duration halfLife,
+                                                 final Duration expireAfterWrite,
+                                                 final long maximumSize) {
+        this.casEventRepository = casEventRepository;
+        this.daysInRecentHistory = daysInRecentHistory;
+        this.halfLife = halfLife;
+        this.profiles = Caffeine.newBuilder()
+            .expireAfterWrite(expireAfterWrite)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return this.profiles.get(principal, this::buildProfile);
+    }
+
+    /**
+     * Update the profile of the event principal, if one is already built.
+     * Profiles that are not yet built will pick up the event from the repository once requested.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onEventRecorded(final CasEvent event) {
+        if (!EVENT_TYPE.equals(event.getType()) || event.getPrincipalId() == null) {
+            return;
+        }
+        val profile = this.profiles.getIfPresent(event.getPrincipalId());
+        if (profile != null) {
+            LOGGER.trace("Recording event [{}] into risk profile of [{}]", event.getId(), event.getPrincipalId());
+            profile.record(event);
+        }
+    }
+
+    private AuthenticationRiskProfile buildProfile(final String principal) {
+        val date = ZonedDateTime.now().minusDays(this.daysInRecentHistory);
+        LOGGER.debug("Building risk profile for [{}] from events of type [{}] since [{}]", principal, EVENT_TYPE, date);
+        val profile = new AuthenticationRiskProfile(this.halfLife);
+        this.casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, date)
+            .stream()
+            .sorted(Comparator.comparing(CasEvent::getCreationTime))
+            .forEach(profile::record);
+        return profile;
+    }
+}
@@ -1,12 +1,15 @@
 package org.apereo.cas;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.api.AuthenticationRiskProfileTests;
 import org.apereo.cas.impl.calcs.DateTimeAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.GeoLocationAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.IpAddressAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.calcs.UserAgentAuthenticationRequestRiskCalculatorTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskEmailNotifierTests;
 import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifierTests;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStoreListenerTests;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStoreTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -23,7 +26,10 @@ import org.junit.runners.Suite;
     IpAddressAuthenticationRequestRiskCalculatorTests.class,
     UserAgentAuthenticationRequestRiskCalculatorTests.class,
     AuthenticationRiskEmailNotifierTests.class,
-    AuthenticationRiskSmsNotifierTests.class
+    AuthenticationRiskSmsNotifierTests.class,
+    AuthenticationRiskProfileTests.class,
+    DefaultAuthenticationRiskProfileStoreTests.class,
+    DefaultAuthenticationRiskProfileStoreListenerTests.class
 })
 @Slf4j
 public class AllTestsSuite {
@@ -0,0 +1,64 @@
+package org.apereo.cas.api;
+
+import lombok.val;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class AuthenticationRiskProfileTests {
+
+    private static CasEvent getEvent(final ZonedDateTime time, final String ipAddress) {
+        val dto = new CasEvent();
+        dto.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        dto.setCreationTime(time.toString());
+        dto.setPrincipalId("casuser");
+        dto.putClientIpAddress(ipAddress);
+        dto.putAgent("Firefox");
+        dto.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return dto;
+    }
+
+    @Test
+    public void verifyEmptyProfile() {
+        val profile = new AuthenticationRiskProfile(Duration.ofDays(15));
+        assertTrue(profile.isEmpty());
+        assertEquals(0, profile.getIpAddressWeight("127.0.0.1"), 0);
+    }
+
+    @Test
+    public void verifyEventsRecorded() {
+        val profile = new AuthenticationRiskProfile(Duration.ofDays(15));
+        val time = ZonedDateTime.of(2018, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        profile.record(getEvent(time, "127.0.0.1"));
+        profile.record(getEvent(time, "127.0.0.1"));
+        assertFalse(profile.isEmpty());
+        assertEquals(profile.getTotal(), profile.getIpAddressWeight("127.0.0.1"), 0.0001);
+        assertEquals(profile.getTotal(), profile.getUserAgentWeight("firefox"), 0.0001);
+        assertEquals(profile.getTotal(), profile.getGeoLocationWeight(new GeoLocationRequest(40.71, -74.005)), 0.0001);
+        assertEquals(profile.getTotal(), profile.getHourOfDayWeight(9, 11), 0.0001);
+        assertEquals(0, profile.getHourOfDayWeight(12, 23), 0);
+    }
+
+    @Test
+    public void verifyOlderEventsDecay() {
+        val profile = new AuthenticationRiskProfile(Duration.ofDays(15));
+        val time = ZonedDateTime.of(2018, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+        profile.record(getEvent(time, "127.0.0.1"));
+        profile.record(getEvent(time.plusDays(15), "192.168.1.1"));
+        assertEquals(2 * profile.getIpAddressWeight("127.0.0.1"), profile.getIpAddressWeight("192.168.1.1"), 0.0001);
+    }
+}
@@ -0,0 +1,32 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.support.events.listener.DefaultCasEventListener;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@TestPropertySource(properties = "cas.authn.adaptive.risk.profile.enabled=true")
+public class DefaultAuthenticationRiskProfileStoreListenerTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier("authenticationRiskProfileStore")
+    private DefaultAuthenticationRiskProfileStore authenticationRiskProfileStore;
+
+    @Autowired
+    @Qualifier("defaultCasEventListener")
+    private DefaultCasEventListener defaultCasEventListener;
+
+    @Test
+    public void verifyStoreIsNotifiedOfRecordedEvents() {
+        assertTrue(defaultCasEventListener.getCasEventRecordListeners().contains(authenticationRiskProfileStore));
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.impl.profile;
+
+import lombok.val;
+
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.CollectionUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class DefaultAuthenticationRiskProfileStoreTests {
+
+    private static CasEvent getEvent(final String type, final String principal, final String ipAddress) {
+        val dto = new CasEvent();
+        dto.setType(type);
+        dto.setCreationTime(ZonedDateTime.now().toString());
+        dto.setPrincipalId(principal);
+        dto.putClientIpAddress(ipAddress);
+        dto.putAgent("Firefox");
+        return dto;
+    }
+
+    private static CasEvent getEvent(final String principal, final String ipAddress) {
+        return getEvent(CasTicketGrantingTicketCreatedEvent.class.getName(), principal, ipAddress);
+    }
+
+    private static DefaultAuthenticationRiskProfileStore getStore(final CasEventRepository repository) {
+        return new DefaultAuthenticationRiskProfileStore(repository, 30,
+            Duration.ofDays(15), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    public void verifyProfileIsSeededFromRepository() {
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any()))
+            .thenReturn(CollectionUtils.wrapList(getEvent("casuser", "127.0.0.1"), getEvent("casuser", "127.0.0.1")));
+        val store = getStore(repository);
+        val profile = store.getProfile("casuser");
+        assertFalse(profile.isEmpty());
+        assertEquals(profile.getTotal(), profile.getIpAddressWeight("127.0.0.1"), 0.0001);
+        assertSame(profile, store.getProfile("casuser"));
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(anyString(), eq("casuser"), any());
+    }
+
+    @Test
+    public void verifyRecordedEventsAccumulateIntoProfile() {
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any()))
+            .thenReturn(CollectionUtils.wrapList(getEvent("casuser", "127.0.0.1")));
+        val store = getStore(repository);
+        val total = store.getProfile("casuser").getTotal();
+
+        store.onEventRecorded(getEvent("casuser", "192.168.1.1"));
+        store.onEventRecorded(getEvent("casuser", "192.168.1.1"));
+        val profile = store.getProfile("casuser");
+        assertTrue(profile.getTotal() > total);
+        assertTrue(profile.getIpAddressWeight("192.168.1.1") > profile.getIpAddressWeight("127.0.0.1"));
+    }
+
+    @Test
+    public void verifyUnrelatedEventsAreIgnored() {
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any()))
+            .thenReturn(CollectionUtils.wrapList(getEvent("casuser", "127.0.0.1")));
+        val store = getStore(repository);
+        val total = store.getProfile("casuser").getTotal();
+
+        store.onEventRecorded(getEvent("SomeOtherEvent", "casuser", "192.168.1.1"));
+        store.onEventRecorded(getEvent("anotheruser", "192.168.1.1"));
+        assertEquals(total, store.getProfile("casuser").getTotal(), 0);
+        assertEquals(0, store.getProfile("casuser").getIpAddressWeight("192.168.1.1"), 0);
+    }
+}
@@ -33,6 +33,25 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
 
     @Override
     public void save(final CasEvent event) {
+        influxDbConnectionFactory.writeBatch(buildPoint(event, System.currentTimeMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All events are written as a single batch of points in line protocol.
+     * Points are timestamped with a nanosecond offset that is unique within the batch,
+     * so that events written at the same instant do not overwrite each other.
+     */
+    @Override
+    public void saveAll(final Collection<CasEvent> events) {
+        val time = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        val points = new ArrayList<Point>(events.size());
+        events.forEach(event -> points.add(buildPoint(event, time + points.size(), TimeUnit.NANOSECONDS)));
+        influxDbConnectionFactory.writeBatch(points.toArray(new Point[0]));
+    }
+
+    private static Point buildPoint(final CasEvent event, final long time, final TimeUnit unit) {
         val builder = Point.measurement(MEASUREMENT);
         ReflectionUtils.doWithFields(CasEvent.class, field -> {
             if (!Modifier.isStatic(field.getModifiers())) {
@@ -45,8 +64,7 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
             }
         });
 
-        val point = builder.time(System.currentTimeMillis(), TimeUnit.MILLISECONDS).build();
-        influxDbConnectionFactory.writeBatch(point);
+        return builder.time(time, unit).build();
     }
 
     @Override
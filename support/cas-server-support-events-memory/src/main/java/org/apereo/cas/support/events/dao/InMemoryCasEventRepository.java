@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +25,11 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
         cache.put(UUID.randomUUID().toString(), event);
     }
 
+    @Override
+    public void saveAll(final Collection<CasEvent> events) {
+        cache.putAll(events.stream().collect(Collectors.toMap(e -> UUID.randomUUID().toString(), Function.identity())));
+    }
+
     @Override
     public Collection<CasEvent> load() {
         return cache.asMap().values();
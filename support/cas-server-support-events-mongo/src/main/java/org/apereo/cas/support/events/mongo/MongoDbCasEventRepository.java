@@ -6,10 +6,13 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import lombok.ToString;
 
@@ -32,6 +35,27 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         this.mongoTemplate.save(event, this.collectionName);
     }
 
+    /**
+     * Insert all events with a single unordered bulk operation.
+     * Events whose identifiers collide with documents that already exist are saved one at a time instead.
+     *
+     * @param events the events
+     */
+    @Override
+    public void saveAll(final Collection<CasEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CasEvent.class, this.collectionName)
+                .insert(new ArrayList<>(events))
+                .execute();
+        } catch (final BulkOperationException e) {
+            LOGGER.debug("Unable to insert [{}] event(s) in bulk; saving events one at a time: [{}]", events.size(), e.getMessage());
+            events.forEach(this::save);
+        }
+    }
+
     @Override
     public Collection<CasEvent> load() {
         return this.mongoTemplate.findAll(CasEvent.class, this.collectionName);
@@ -70,11 +70,6 @@ public class GoogleAuthenticatorAuthenticationHandler extends AbstractPreAndPost
             throw new AccountNotFoundException(uid + " cannot be found in the registry");
         }
 
-        LOGGER.debug("Attempting to locate OTP token [{}] in token repository for [{}]...", otp, uid);
-        if (this.tokenRepository.exists(uid, otp)) {
-            throw new AccountExpiredException(uid + " cannot reuse OTP " + otp + " as it may be expired/invalid");
-        }
-
         LOGGER.debug("Attempting to authorize OTP token [{}]...", otp);
         var isCodeValid = this.googleAuthenticatorInstance.authorize(acct.getSecretKey(), otp);
 
@@ -86,8 +81,10 @@ public class GoogleAuthenticatorAuthenticationHandler extends AbstractPreAndPost
         }
 
         if (isCodeValid) {
-            LOGGER.debug("Validated OTP token [{}] successfully for [{}]", otp, uid);
-            this.tokenRepository.store(new GoogleAuthenticatorToken(otp, uid));
+            LOGGER.debug("Validated OTP token [{}] successfully for [{}]. Recording OTP token in token repository...", otp, uid);
+            if (!this.tokenRepository.storeIfAbsent(new GoogleAuthenticatorToken(otp, uid))) {
+                throw new AccountExpiredException(uid + " cannot reuse OTP " + otp + " as it may be expired/invalid");
+            }
             LOGGER.debug("Creating authentication result and building principal for [{}]", uid);
             return createHandlerResult(tokenCredential, this.principalFactory.createPrincipal(uid));
         }
@@ -0,0 +1,71 @@
+package org.apereo.cas.adaptors.gauth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.authentication.OneTimeToken;
+import org.apereo.cas.otp.repository.token.BaseOneTimeTokenRepository;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link GoogleAuthenticatorRedisTokenRepository} that keeps used tokens inside Redis.
+ * Each token is kept with its own expiration, matching the window in which the token
+ * may be accepted, so tokens are removed by Redis itself and no cleanup is required.
+ * Storing a token is an atomic put-if-absent operation, so a token cannot be accepted
+ * twice even when submitted concurrently to different nodes.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GoogleAuthenticatorRedisTokenRepository extends BaseOneTimeTokenRepository {
+    private static final String CAS_TOKEN_PREFIX = "CAS_GAUTH_TOKEN:";
+
+    private final RedisTemplate<String, OneTimeToken> template;
+    private final long expireTokensInSeconds;
+
+    @Override
+    public void store(final OneTimeToken token) {
+        val redisKey = getTokenRedisKey(token.getUserId(), token.getToken());
+        LOGGER.debug("Storing previously used token [{}] for user [{}]", token, token.getUserId());
+        this.template.boundValueOps(redisKey).set(token, this.expireTokensInSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean storeIfAbsent(final OneTimeToken token) {
+        val redisKey = this.template.getStringSerializer().serialize(getTokenRedisKey(token.getUserId(), token.getToken()));
+        val valueSerializer = (RedisSerializer<OneTimeToken>) this.template.getValueSerializer();
+        val value = valueSerializer.serialize(token);
+        val stored = this.template.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+            .set(redisKey, value, Expiration.seconds(this.expireTokensInSeconds), RedisStringCommands.SetOption.SET_IF_ABSENT));
+        LOGGER.debug("Storing token [{}] for user [{}] resulted in [{}]", token, token.getUserId(), stored);
+        return Boolean.TRUE.equals(stored);
+    }
+
+    @Override
+    public OneTimeToken get(final String uid, final Integer otp) {
+        try {
+            return this.template.boundValueOps(getTokenRedisKey(uid, otp)).get();
+        } catch (final Exception e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    protected void cleanInternal() {
+        LOGGER.debug("Tokens are expired and removed by Redis; no cleanup is required");
+    }
+
+    private static String getTokenRedisKey(final String uid, final Integer otp) {
+        return CAS_TOKEN_PREFIX + uid + ':' + otp;
+    }
+}
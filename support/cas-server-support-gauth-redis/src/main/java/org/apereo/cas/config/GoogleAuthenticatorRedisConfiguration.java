@@ -0,0 +1,54 @@
+package org.apereo.cas.config;
+
+import lombok.val;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.adaptors.gauth.GoogleAuthenticatorRedisTokenRepository;
+import org.apereo.cas.authentication.OneTimeToken;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.otp.repository.token.OneTimeTokenRepository;
+import org.apereo.cas.redis.core.RedisObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * This is {@link GoogleAuthenticatorRedisConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Configuration("googleAuthenticatorRedisConfiguration")
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
+public class GoogleAuthenticatorRedisConfiguration {
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @ConditionalOnMissingBean(name = "redisGoogleAuthenticatorConnectionFactory")
+    @Bean
+    public RedisConnectionFactory redisGoogleAuthenticatorConnectionFactory() {
+        val redis = casProperties.getAuthn().getMfa().getGauth().getRedis();
+        val obj = new RedisObjectFactory();
+        return obj.newRedisConnectionFactory(redis);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "googleAuthenticatorRedisTemplate")
+    public RedisTemplate<String, OneTimeToken> googleAuthenticatorRedisTemplate() {
+        val obj = new RedisObjectFactory();
+        return obj.newRedisTemplate(redisGoogleAuthenticatorConnectionFactory(), String.class, OneTimeToken.class);
+    }
+
+    @Bean
+    public OneTimeTokenRepository oneTimeTokenAuthenticatorTokenRepository() {
+        val gauth = casProperties.getAuthn().getMfa().getGauth();
+        return new GoogleAuthenticatorRedisTokenRepository(googleAuthenticatorRedisTemplate(),
+            gauth.getTimeStepSize() * gauth.getWindowSize());
+    }
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.adaptors.gauth;
+
+import lombok.val;
+
+import org.apereo.cas.adaptors.gauth.token.GoogleAuthenticatorToken;
+import org.apereo.cas.category.RedisCategory;
+import org.apereo.cas.config.GoogleAuthenticatorRedisConfiguration;
+import org.apereo.cas.otp.repository.token.OneTimeTokenRepository;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import redis.embedded.RedisServer;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link GoogleAuthenticatorRedisTokenRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RunWith(SpringRunner.class)
+@Category(RedisCategory.class)
+@SpringBootTest(classes = {
+    GoogleAuthenticatorRedisConfiguration.class,
+    RefreshAutoConfiguration.class})
+@TestPropertySource(locations = {"classpath:/redisgauth.properties"})
+public class GoogleAuthenticatorRedisTokenRepositoryTests {
+
+    private static RedisServer REDIS_SERVER;
+
+    @Autowired
+    @Qualifier("oneTimeTokenAuthenticatorTokenRepository")
+    private OneTimeTokenRepository repository;
+
+    @BeforeClass
+    public static void startRedis() throws Exception {
+        REDIS_SERVER = new RedisServer(6379);
+        REDIS_SERVER.start();
+    }
+
+    @AfterClass
+    public static void stopRedis() {
+        REDIS_SERVER.stop();
+    }
+
+    @Test
+    public void verifyTokenSave() {
+        val token = new GoogleAuthenticatorToken(1234, "casuser");
+        repository.store(token);
+        assertTrue(repository.exists("casuser", 1234));
+        val token2 = repository.get("casuser", 1234);
+        assertEquals(token.getId(), token2.getId());
+        assertFalse(repository.exists("casuser", 4321));
+    }
+
+    @Test
+    public void verifyTokenIsStoredOnlyOnce() {
+        val token = new GoogleAuthenticatorToken(5678, "casuser");
+        assertTrue(repository.storeIfAbsent(token));
+        assertFalse(repository.storeIfAbsent(new GoogleAuthenticatorToken(5678, "casuser")));
+        assertTrue(repository.storeIfAbsent(new GoogleAuthenticatorToken(5678, "someuser")));
+    }
+
+    @Test
+    public void verifyTokenExpires() throws Exception {
+        val token = new GoogleAuthenticatorToken(1111, "casuser");
+        assertTrue(repository.storeIfAbsent(token));
+        Thread.sleep(3_000);
+        assertFalse(repository.exists("casuser", 1111));
+        assertTrue(repository.storeIfAbsent(token));
+    }
+}
@@ -33,6 +33,8 @@ import org.apereo.cas.otp.web.flow.OneTimeTokenAccountCheckRegistrationAction;
 import org.apereo.cas.otp.web.flow.OneTimeTokenAccountSaveRegistrationAction;
 import org.apereo.cas.services.MultifactorAuthenticationProvider;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -73,6 +75,10 @@ public class GoogleAuthenticatorAuthenticationEventExecutionPlanConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("scheduledJobExecutor")
+    private ObjectProvider<ScheduledJobExecutor> scheduledJobExecutor;
+
     @Autowired
     @Qualifier("servicesManager")
     private ServicesManager servicesManager;
@@ -139,7 +145,9 @@ public class GoogleAuthenticatorAuthenticationEventExecutionPlanConfiguration {
     @Autowired
     public OneTimeTokenRepositoryCleaner googleAuthenticatorTokenRepositoryCleaner(@Qualifier("oneTimeTokenAuthenticatorTokenRepository")
                                                                                        final OneTimeTokenRepository oneTimeTokenAuthenticatorTokenRepository) {
-        return new GoogleAuthenticatorOneTimeTokenRepositoryCleaner(oneTimeTokenAuthenticatorTokenRepository);
+        val coordinated = casProperties.getAuthn().getMfa().getGauth().getCleaner().getSchedule().isCoordinated();
+        return new GoogleAuthenticatorOneTimeTokenRepositoryCleaner(oneTimeTokenAuthenticatorTokenRepository,
+            scheduledJobExecutor.getIfAvailable(ScheduledJobExecutor::new), coordinated);
     }
 
     @ConditionalOnMissingBean(name = "googleAuthenticatorAccountRegistry")
@@ -203,15 +211,23 @@ public class GoogleAuthenticatorAuthenticationEventExecutionPlanConfiguration {
      * The type Google authenticator one time token repository cleaner.
      */
     public static class GoogleAuthenticatorOneTimeTokenRepositoryCleaner extends OneTimeTokenRepositoryCleaner {
-        public GoogleAuthenticatorOneTimeTokenRepositoryCleaner(final OneTimeTokenRepository tokenRepository) {
+        private final ScheduledJobExecutor scheduledJobExecutor;
+
+        private final boolean coordinated;
+
+        public GoogleAuthenticatorOneTimeTokenRepositoryCleaner(final OneTimeTokenRepository tokenRepository,
+                                                               final ScheduledJobExecutor scheduledJobExecutor,
+                                                               final boolean coordinated) {
             super(tokenRepository);
+            this.scheduledJobExecutor = scheduledJobExecutor;
+            this.coordinated = coordinated;
         }
 
         @Scheduled(initialDelayString = "${cas.authn.mfa.gauth.cleaner.schedule.startDelay:PT30S}",
             fixedDelayString = "${cas.authn.mfa.gauth.cleaner.schedule.repeatInterval:PT35S}")
         @Override
         public void clean() {
-            super.clean();
+            this.scheduledJobExecutor.execute("googleAuthenticatorTokenRepositoryCleaner", this.coordinated, super::clean);
         }
     }
 }
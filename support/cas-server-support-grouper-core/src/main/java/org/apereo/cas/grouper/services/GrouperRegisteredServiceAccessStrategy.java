@@ -2,6 +2,7 @@ package org.apereo.cas.grouper.services;
 
 import lombok.val;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,12 @@ public class GrouperRegisteredServiceAccessStrategy extends TimeBasedRegisteredS
 
     private GrouperGroupField groupField = GrouperGroupField.NAME;
 
+    @JsonIgnore
+    @Override
+    public boolean isPrincipalAccessDecisionCacheable() {
+        return false;
+    }
+
     @Override
     public boolean doPrincipalAttributesAllowServiceAccess(final String principal, final Map<String, Object> principalAttributes) {
         val allAttributes = new HashMap<String, Object>(principalAttributes);
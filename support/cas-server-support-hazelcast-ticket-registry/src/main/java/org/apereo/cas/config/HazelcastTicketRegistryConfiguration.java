@@ -7,16 +7,23 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.support.HazelcastLockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.InetAddressUtils;
+import org.apereo.cas.util.scheduling.LockingStrategyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +45,7 @@ import java.util.Map;
  * @since 4.2.0
  */
 @Configuration("hazelcastTicketRegistryConfiguration")
+@AutoConfigureBefore(name = "org.apereo.cas.config.CasCoreSchedulingConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 public class HazelcastTicketRegistryConfiguration {
@@ -62,6 +70,16 @@ public class HazelcastTicketRegistryConfiguration {
         return NoOpTicketRegistryCleaner.getInstance();
     }
 
+    @Autowired
+    @Bean
+    @ConditionalOnMissingBean(name = "scheduledJobLockingStrategyFactory")
+    public LockingStrategyFactory scheduledJobLockingStrategyFactory(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
+        val uniqueId = StringUtils.defaultIfEmpty(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+        val lockTimeout = Beans.newDuration(casProperties.getScheduler().getLockTimeout()).getSeconds();
+        val instance = hazelcast(ticketCatalog);
+        return jobName -> new HazelcastLockingStrategy(instance, jobName, uniqueId, lockTimeout);
+    }
+
     @Autowired
     @Bean
     public HazelcastInstance hazelcast(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
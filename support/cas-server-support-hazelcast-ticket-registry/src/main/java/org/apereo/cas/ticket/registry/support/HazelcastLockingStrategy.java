@@ -0,0 +1,57 @@
+package org.apereo.cas.ticket.registry.support;
+
+import com.hazelcast.core.HazelcastInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastLockingStrategy} that implements an exclusive lock
+ * as an entry in a distributed Hazelcast map that expires on its own, keyed by the application identifier.
+ * The lock is held by whoever was able to put the entry, until it is released or expires.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(exclude = "hazelcastInstance")
+@RequiredArgsConstructor
+public class HazelcastLockingStrategy implements LockingStrategy {
+    private static final String MAP_NAME = "casScheduledJobLocks";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final String applicationId;
+
+    private final String uniqueId;
+
+    /**
+     * Amount of time in seconds lock may be held.
+     */
+    private final long lockTimeout;
+
+    @Override
+    public boolean acquire() {
+        try {
+            final Object owner = this.hazelcastInstance.getMap(MAP_NAME)
+                .putIfAbsent(this.applicationId, this.uniqueId, this.lockTimeout, TimeUnit.SECONDS);
+            if (owner == null) {
+                LOGGER.debug("[{}] acquired [{}] lock", this.uniqueId, this.applicationId);
+                return true;
+            }
+            LOGGER.debug("[{}] could not obtain [{}] lock; lock is held by [{}]", this.uniqueId, this.applicationId, owner);
+        } catch (final Exception e) {
+            LOGGER.debug("[{}] failed to obtain [{}] lock", this.uniqueId, this.applicationId, e);
+        }
+        return false;
+    }
+
+    @Override
+    public void release() {
+        if (this.hazelcastInstance.getMap(MAP_NAME).remove(this.applicationId, this.uniqueId)) {
+            LOGGER.debug("Released [{}] lock held by [{}]", this.applicationId, this.uniqueId);
+        }
+    }
+}
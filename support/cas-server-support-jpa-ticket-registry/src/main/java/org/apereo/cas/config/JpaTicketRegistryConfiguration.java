@@ -8,26 +8,36 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.jpa.JpaConfigDataHolder;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.JpaBeans;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.AbstractTicket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.support.JpaLockingStrategy;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.InetAddressUtils;
+import org.apereo.cas.util.scheduling.LockingStrategyFactory;
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -45,6 +55,7 @@ import java.util.stream.Collectors;
  * @since 5.0.0
  */
 @Configuration("jpaTicketRegistryConfiguration")
+@AutoConfigureBefore(name = "org.apereo.cas.config.CasCoreSchedulingConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @EnableTransactionManagement(proxyTargetClass = true)
 @Slf4j
@@ -53,6 +64,13 @@ public class JpaTicketRegistryConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketRegistryCacheBus")
+    private ObjectProvider<TicketRegistryCacheBus> ticketRegistryCacheBus;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
     @Bean
     public List<String> ticketPackagesToScan() {
         val reflections =
@@ -94,13 +112,30 @@ public class JpaTicketRegistryConfiguration {
     @Autowired
     @Bean
     @RefreshScope
-    public TicketRegistry ticketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
+    public TicketRegistry jpaTicketRegistry(@Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         val bean = new JpaTicketRegistry(jpa.getTicketLockType(), ticketCatalog);
         bean.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(jpa.getCrypto(), "jpa"));
         return bean;
     }
 
+    /**
+     * The near-cache, if any, decorates the JPA ticket registry bean rather than the registry instance
+     * so that calls still go through the transactional proxy of the registry. It is marked as primary
+     * so that injecting a ticket registry by type picks the decorated registry.
+     *
+     * @param jpaTicketRegistry the jpa ticket registry
+     * @return the ticket registry
+     */
+    @Autowired
+    @Bean
+    @Primary
+    @RefreshScope
+    public TicketRegistry ticketRegistry(@Qualifier("jpaTicketRegistry") final TicketRegistry jpaTicketRegistry) {
+        return CoreTicketUtils.newNearCacheTicketRegistry(jpaTicketRegistry, casProperties.getTicket().getRegistry().getNearCache(),
+            ticketRegistryCacheBus.getIfAvailable(TicketRegistryCacheBus::noOp), false);
+    }
+
     @Bean
     public LockingStrategy lockingStrategy() {
         val registry = casProperties.getTicket().getRegistry();
@@ -108,4 +143,32 @@ public class JpaTicketRegistryConfiguration {
         return new JpaLockingStrategy("cas-ticket-registry-cleaner", uniqueId,
             Beans.newDuration(registry.getJpa().getJpaLockingTimeout()).getSeconds());
     }
+
+    @Autowired
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketRegistryCleaner")
+    public TicketRegistryCleaner ticketRegistryCleaner(@Qualifier("lockingStrategy") final LockingStrategy lockingStrategy,
+                                                       @Qualifier("logoutManager") final LogoutManager logoutManager,
+                                                       @Qualifier("ticketRegistry") final TicketRegistry ticketRegistry,
+                                                       @Qualifier("ticketCatalog") final TicketCatalog ticketCatalog) {
+        val registry = casProperties.getTicket().getRegistry();
+        if (registry.getCleaner().getSchedule().isEnabled()) {
+            return new JpaTicketRegistryCleaner(lockingStrategy, logoutManager, ticketRegistry,
+                ticketCatalog, registry.getJpa().getCleanupBatchSize());
+        }
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "scheduledJobLockingStrategyFactory")
+    public LockingStrategyFactory scheduledJobLockingStrategyFactory() {
+        val uniqueId = StringUtils.defaultIfEmpty(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+        val lockTimeout = Beans.newDuration(casProperties.getScheduler().getLockTimeout()).getSeconds();
+        val beanFactory = applicationContext.getAutowireCapableBeanFactory();
+        return jobName -> {
+            val strategy = new JpaLockingStrategy(jobName, uniqueId, lockTimeout);
+            beanFactory.autowireBean(strategy);
+            return (LockingStrategy) beanFactory.initializeBean(strategy, jobName + "LockingStrategy");
+        };
+    }
 }
@@ -61,6 +61,16 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         LOGGER.debug("Added ticket [{}] to registry.", ticket);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Tickets are persisted within a single transaction and are flushed together when it commits.
+     */
+    @Override
+    public void addTickets(final Stream<? extends Ticket> tickets) {
+        tickets.forEach(this::addTicket);
+    }
+
     @Override
     public long deleteAll() {
         return this.ticketCatalog.findAll().stream()
@@ -128,20 +138,30 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .flatMap(org.hibernate.query.Query::stream);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only ticket-granting tickets themselves are counted; proxy-granting tickets stored
+     * in the same table are left out. Tickets that have expired but not yet been removed are counted.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public long sessionCount() {
-        val md = this.ticketCatalog.find(TicketGrantingTicket.PREFIX);
-        val sql = String.format("select count(t) from %s t", getTicketEntityName(md));
-        val query = this.entityManager.createQuery(sql);
-        return countToLong(query.getSingleResult());
+        return countTickets(this.ticketCatalog.find(TicketGrantingTicket.PREFIX));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only service tickets themselves are counted; proxy tickets stored in the same table are left out.
+     * Tickets that have expired but not yet been removed are counted.
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public long serviceTicketCount() {
-        val md = this.ticketCatalog.find(ServiceTicket.PREFIX);
-        val sql = String.format("select count(t) from %s t", getTicketEntityName(md));
-        val query = this.entityManager.createQuery(sql);
-        return countToLong(query.getSingleResult());
+        return countTickets(this.ticketCatalog.find(ServiceTicket.PREFIX));
     }
 
     @Override
@@ -167,10 +187,30 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return totalCount != 0;
     }
 
-    private static String getTicketEntityName(final TicketDefinition tk) {
+    /**
+     * Gets ticket entity name.
+     *
+     * @param tk the ticket definition
+     * @return the ticket entity name
+     */
+    static String getTicketEntityName(final TicketDefinition tk) {
         return tk.getImplementationClass().getSimpleName();
     }
 
+    /**
+     * Count tickets of exactly the given type using the discriminator column, leaving out subtypes
+     * that share the same table (i.e. proxy-granting tickets).
+     *
+     * @param md the ticket definition
+     * @return the count
+     */
+    private long countTickets(final TicketDefinition md) {
+        val entityName = getTicketEntityName(md);
+        val sql = String.format("select count(t) from %s t where type(t) = %s", entityName, entityName);
+        val query = this.entityManager.createQuery(sql);
+        return countToLong(query.getSingleResult());
+    }
+
     /**
      * Delete ticket granting tickets int.
      *
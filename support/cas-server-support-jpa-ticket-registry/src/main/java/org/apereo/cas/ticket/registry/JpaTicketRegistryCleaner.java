@@ -0,0 +1,108 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.apereo.cas.util.scheduling.ScheduledJobShard;
+import org.hibernate.LockOptions;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner} that locates expired tickets
+ * using the indexed expiration time recorded by each ticket, instead of loading and evaluating
+ * every ticket in the registry. Tickets that cascade, such as ticket-granting tickets,
+ * are still loaded so that logout can be performed; all other expired tickets are
+ * removed in batches of delete statements. Tickets that were stored without an expiration time
+ * are evaluated individually, as before.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private static final long serialVersionUID = 2372406131683224553L;
+
+    private static final int STREAM_BATCH_SIZE = 100;
+
+    private final transient TicketCatalog ticketCatalog;
+
+    private final int batchSize;
+
+    @PersistenceContext(unitName = "ticketEntityManagerFactory")
+    private transient EntityManager entityManager;
+
+    public JpaTicketRegistryCleaner(final LockingStrategy lockingStrategy, final LogoutManager logoutManager,
+                                    final TicketRegistry ticketRegistry, final TicketCatalog ticketCatalog,
+                                    final int batchSize) {
+        super(lockingStrategy, logoutManager, ticketRegistry);
+        this.ticketCatalog = ticketCatalog;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    @Override
+    protected void cleanInternal(final ScheduledJobShard shard) {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val ticketsDeleted = this.ticketCatalog.findAll()
+            .stream()
+            .mapToInt(definition -> cleanExpiredTickets(definition, shard, now)
+                + cleanTicketsWithoutExpirationTime(definition, shard))
+            .sum();
+        LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+    }
+
+    private int cleanExpiredTickets(final TicketDefinition definition, final ScheduledJobShard shard, final ZonedDateTime now) {
+        val entityName = JpaTicketRegistry.getTicketEntityName(definition);
+        if (definition.getProperties().isCascade()) {
+            val sql = String.format("select t from %s t where type(t) = %s and t.expirationTime < :now", entityName, entityName);
+            val query = (org.hibernate.query.Query<Ticket>) this.entityManager.createQuery(sql, definition.getImplementationClass());
+            query.setParameter("now", now);
+            query.setFetchSize(STREAM_BATCH_SIZE);
+            query.setLockOptions(LockOptions.NONE);
+            return query.stream()
+                .filter(ticket -> shard.owns(ticket.getId()))
+                .mapToInt(this::cleanTicket)
+                .sum();
+        }
+
+        val sql = String.format("select t.id from %s t where type(t) = %s and t.expirationTime < :now", entityName, entityName);
+        val ticketIds = this.entityManager.createQuery(sql, String.class)
+            .setParameter("now", now)
+            .getResultList()
+            .stream()
+            .filter(shard::owns)
+            .collect(Collectors.toList());
+
+        var totalCount = 0;
+        val deleteSql = String.format("delete from %s t where t.id in :ids", entityName);
+        for (var i = 0; i < ticketIds.size(); i += this.batchSize) {
+            val batch = ticketIds.subList(i, Math.min(i + this.batchSize, ticketIds.size()));
+            totalCount += this.entityManager.createQuery(deleteSql)
+                .setParameter("ids", batch)
+                .executeUpdate();
+        }
+        LOGGER.debug("Removed [{}] expired ticket(s) of type [{}]", totalCount, entityName);
+        return totalCount;
+    }
+
+    private int cleanTicketsWithoutExpirationTime(final TicketDefinition definition, final ScheduledJobShard shard) {
+        val entityName = JpaTicketRegistry.getTicketEntityName(definition);
+        val sql = String.format("select t from %s t where type(t) = %s and t.expirationTime is null", entityName, entityName);
+        val query = (org.hibernate.query.Query<Ticket>) this.entityManager.createQuery(sql, definition.getImplementationClass());
+        query.setFetchSize(STREAM_BATCH_SIZE);
+        query.setLockOptions(LockOptions.NONE);
+        return query.stream()
+            .filter(ticket -> shard.owns(ticket.getId()))
+            .filter(Ticket::isExpired)
+            .mapToInt(this::cleanTicket)
+            .sum();
+    }
+}
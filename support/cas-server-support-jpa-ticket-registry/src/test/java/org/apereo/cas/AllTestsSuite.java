@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.monitor.SessionHealthIndicatorJpaTests;
+import org.apereo.cas.ticket.registry.JpaNearCacheTicketRegistryTests;
 import org.apereo.cas.ticket.registry.JpaTicketRegistryTests;
 import org.apereo.cas.ticket.registry.support.JpaLockingStrategyTests;
 import org.junit.runner.RunWith;
@@ -15,7 +16,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({SessionHealthIndicatorJpaTests.class, JpaTicketRegistryTests.class,
-        JpaLockingStrategyTests.class})
+        JpaLockingStrategyTests.class, JpaNearCacheTicketRegistryTests.class})
 @Slf4j
 public class AllTestsSuite {
 }
@@ -0,0 +1,112 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationMetadataConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationPolicyConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationPrincipalConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationServiceSelectionStrategyConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationSupportConfiguration;
+import org.apereo.cas.config.CasCoreConfiguration;
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreServicesAuthenticationConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryConfiguration;
+import org.apereo.cas.config.JpaTicketRegistryConfiguration;
+import org.apereo.cas.config.JpaTicketRegistryTicketCatalogConfiguration;
+import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.config.support.EnvironmentConversionServiceInitializer;
+import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * This is {@link JpaNearCacheTicketRegistryTests}. Tests run outside of a transaction
+ * so that every change has to go through the transactional proxy of the decorated registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    AopAutoConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreAuthenticationConfiguration.class,
+    CasCoreServicesAuthenticationConfiguration.class,
+    CasCoreAuthenticationPrincipalConfiguration.class,
+    CasCoreAuthenticationPolicyConfiguration.class,
+    CasCoreAuthenticationMetadataConfiguration.class,
+    CasCoreAuthenticationSupportConfiguration.class,
+    CasCoreAuthenticationHandlersConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasPersonDirectoryConfiguration.class,
+    CasCoreLogoutConfiguration.class,
+    CasCoreConfiguration.class,
+    CasCoreAuthenticationServiceSelectionStrategyConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    JpaTicketRegistryTicketCatalogConfiguration.class,
+    JpaTicketRegistryConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class})
+@ContextConfiguration(initializers = EnvironmentConversionServiceInitializer.class)
+@TestPropertySource(properties = "cas.ticket.registry.nearCache.enabled=true")
+public class JpaNearCacheTicketRegistryTests {
+
+    @Autowired
+    @Qualifier("ticketRegistry")
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    @Qualifier("jpaTicketRegistry")
+    private TicketRegistry jpaTicketRegistry;
+
+    @Test
+    public void verifyUpdateAndDeleteThroughNearCache() {
+        assertTrue(this.ticketRegistry instanceof NearCacheTicketRegistry);
+
+        val tgt = new TicketGrantingTicketImpl("TGT-near-cache", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+        this.ticketRegistry.addTicket(tgt);
+
+        val cached = this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertNotSame(cached, this.ticketRegistry.getTicket(tgt.getId()));
+        cached.grantServiceTicket("ST-near-cache", RegisteredServiceTestUtils.getService(),
+            new NeverExpiresExpirationPolicy(), false, true);
+        assertTrue(this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class).getServices().isEmpty());
+
+        this.ticketRegistry.updateTicket(cached);
+        val stored = this.jpaTicketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(Collections.singleton("ST-near-cache"), stored.getServices().keySet());
+        assertEquals(Collections.singleton("ST-near-cache"),
+            this.ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class).getServices().keySet());
+
+        assertEquals(1, this.ticketRegistry.deleteTicket(tgt.getId()));
+        assertNull(this.jpaTicketRegistry.getTicket(tgt.getId()));
+        assertNull(this.ticketRegistry.getTicket(tgt.getId()));
+    }
+}
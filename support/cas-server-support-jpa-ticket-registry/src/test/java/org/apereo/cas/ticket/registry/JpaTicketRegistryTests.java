@@ -1,6 +1,8 @@
 package org.apereo.cas.ticket.registry;
 
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasCoreAuthenticationConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationHandlersConfiguration;
 import org.apereo.cas.config.CasCoreAuthenticationMetadataConfiguration;
@@ -22,6 +24,12 @@ import org.apereo.cas.config.JpaTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.config.support.EnvironmentConversionServiceInitializer;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.support.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.support.TimeoutExpirationPolicy;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +44,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
 
 
 /**
@@ -77,6 +88,10 @@ public class JpaTicketRegistryTests extends BaseSpringRunnableTicketRegistryTest
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("ticketRegistryCleaner")
+    private TicketRegistryCleaner ticketRegistryCleaner;
+
     public JpaTicketRegistryTests(final boolean useEncryption) {
         super(useEncryption);
     }
@@ -86,6 +101,20 @@ public class JpaTicketRegistryTests extends BaseSpringRunnableTicketRegistryTest
         return this.ticketRegistry;
     }
 
+    @Test
+    public void verifyExpiredTicketsCleaned() {
+        val tgt = new TicketGrantingTicketImpl("TGT-cleaner", CoreAuthenticationTestUtils.getAuthentication(),
+            new NeverExpiresExpirationPolicy());
+        val st = tgt.grantServiceTicket("ST-cleaner", RegisteredServiceTestUtils.getService(),
+            new TimeoutExpirationPolicy(-5), false, true);
+        this.ticketRegistry.addTicket(tgt);
+        this.ticketRegistry.addTicket(st);
+        this.ticketRegistryCleaner.clean();
+        val ids = this.ticketRegistry.getTickets().stream().map(Ticket::getId).collect(Collectors.toSet());
+        assertTrue(ids.contains(tgt.getId()));
+        assertFalse(ids.contains(st.getId()));
+    }
+
     @Parameterized.Parameters
     public static Collection<Object> getTestParameters() {
         return Arrays.asList(false);
@@ -4,6 +4,7 @@ import lombok.val;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.JsonServiceRegistry;
 import org.apereo.cas.services.ServiceRegistry;
@@ -21,6 +22,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 
+import java.io.File;
+
 /**
  * This is {@link JsonServiceRegistryConfiguration}.
  *
@@ -52,9 +55,15 @@ public class JsonServiceRegistryConfiguration implements ServiceRegistryExecutio
     @SneakyThrows
     public ServiceRegistry jsonServiceRegistry() {
         val registry = casProperties.getServiceRegistry();
-        return new JsonServiceRegistry(registry.getJson().getLocation(),
+        val properties = registry.getJson();
+        val serviceRegistry = new JsonServiceRegistry(properties.getLocation(),
             registry.isWatcherEnabled(), eventPublisher,
             registeredServiceReplicationStrategy, resourceNamingStrategy);
+        serviceRegistry.setLoadThreads(properties.getLoadThreads());
+        if (StringUtils.isNotBlank(properties.getSnapshotLocation())) {
+            serviceRegistry.setSnapshotFile(new File(properties.getSnapshotLocation()));
+        }
+        return serviceRegistry;
     }
 
     @Override
@@ -5,14 +5,18 @@ import lombok.val;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.services.replication.NoOpRegisteredServiceReplicationStrategy;
+import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.resource.DefaultRegisteredServiceResourceNamingStrategy;
 import org.apereo.cas.services.util.DefaultRegisteredServiceJsonSerializer;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,6 +37,9 @@ public class JsonServiceRegistryTests extends AbstractResourceBasedServiceRegist
         super(registeredServiceClass);
     }
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Override
     @SneakyThrows
     public void initializeServiceRegistry() {
@@ -48,6 +55,55 @@ public class JsonServiceRegistryTests extends AbstractResourceBasedServiceRegist
         return Arrays.asList(RegexRegisteredService.class);
     }
 
+    @Test
+    public void verifyServicesLoadFromSnapshot() throws Exception {
+        val directory = temporaryFolder.newFolder("services").toPath();
+        val snapshot = new File(temporaryFolder.getRoot(), "cas-services-snapshot.bin");
+        val registry = new JsonServiceRegistry(directory, false,
+            mock(ApplicationEventPublisher.class),
+            new NoOpRegisteredServiceReplicationStrategy(),
+            new DefaultRegisteredServiceResourceNamingStrategy());
+        registry.setSnapshotFile(snapshot);
+        registry.setLoadThreads(2);
+        for (var i = 0; i < 5; i++) {
+            registry.save(buildRegisteredServiceInstance(i));
+        }
+        assertEquals(5, registry.load().size());
+        assertTrue(snapshot.exists());
+
+        val restarted = new JsonServiceRegistry(directory, false,
+            mock(ApplicationEventPublisher.class),
+            new NoOpRegisteredServiceReplicationStrategy(),
+            new DefaultRegisteredServiceResourceNamingStrategy());
+        restarted.setSnapshotFile(snapshot);
+        val services = restarted.load();
+        assertEquals(5, services.size());
+        assertNotNull(restarted.findServiceById(services.get(0).getId()));
+    }
+
+    @Test
+    public void verifySnapshotValidationUsesReplicationStrategy() throws Exception {
+        val directory = temporaryFolder.newFolder("replicated").toPath();
+        val snapshot = new File(temporaryFolder.getRoot(), "cas-replicated-snapshot.bin");
+        val registry = new JsonServiceRegistry(directory, false,
+            mock(ApplicationEventPublisher.class),
+            new NoOpRegisteredServiceReplicationStrategy(),
+            new DefaultRegisteredServiceResourceNamingStrategy());
+        registry.setSnapshotFile(snapshot);
+        registry.save(buildRegisteredServiceInstance(1));
+        assertEquals(1, registry.load().size());
+        registry.save(buildRegisteredServiceInstance(2));
+
+        val strategy = mock(RegisteredServiceReplicationStrategy.class);
+        when(strategy.updateLoadedRegisteredServicesFromCache(anyList(), any())).thenAnswer(args -> args.getArgument(0));
+        val restarted = new JsonServiceRegistry(directory, false,
+            mock(ApplicationEventPublisher.class), strategy,
+            new DefaultRegisteredServiceResourceNamingStrategy());
+        restarted.setSnapshotFile(snapshot);
+        assertEquals(1, restarted.load().size());
+        verify(strategy, timeout(5000).times(2)).updateLoadedRegisteredServicesFromCache(anyList(), any());
+    }
+
     @Test
     public void verifyLegacyServiceDefinition() throws Exception {
         val resource = new ClassPathResource("Legacy-10000003.json");
@@ -3,7 +3,9 @@ package org.apereo.cas.config;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
@@ -11,11 +13,17 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.MongoDbTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCacheBus;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.support.LockingStrategy;
+import org.apereo.cas.ticket.registry.support.MongoDbLockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.InetAddressUtils;
+import org.apereo.cas.util.scheduling.LockingStrategyFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -30,12 +38,19 @@ import org.springframework.data.mongodb.core.MongoTemplate;
  * @since 5.1.0
  */
 @Configuration("mongoTicketRegistryConfiguration")
+@AutoConfigureBefore(name = "org.apereo.cas.config.CasCoreSchedulingConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 public class MongoDbTicketRegistryConfiguration {
+    private static final String SCHEDULED_JOB_LOCKS_COLLECTION = "casScheduledJobLocks";
+
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("ticketRegistryCacheBus")
+    private ObjectProvider<TicketRegistryCacheBus> ticketRegistryCacheBus;
+
     @RefreshScope
     @Bean
     @Autowired
@@ -43,7 +58,8 @@ public class MongoDbTicketRegistryConfiguration {
         val mongo = casProperties.getTicket().getRegistry().getMongo();
         val registry = new MongoDbTicketRegistry(ticketCatalog, mongoDbTicketRegistryTemplate(), mongo.isDropCollection());
         registry.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo"));
-        return registry;
+        return CoreTicketUtils.newNearCacheTicketRegistry(registry, casProperties.getTicket().getRegistry().getNearCache(),
+            ticketRegistryCacheBus.getIfAvailable(TicketRegistryCacheBus::noOp));
     }
 
     @Autowired
@@ -62,6 +78,15 @@ public class MongoDbTicketRegistryConfiguration {
         return NoOpTicketRegistryCleaner.getInstance();
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "scheduledJobLockingStrategyFactory")
+    public LockingStrategyFactory scheduledJobLockingStrategyFactory() {
+        val uniqueId = StringUtils.defaultIfEmpty(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+        val lockTimeout = Beans.newDuration(casProperties.getScheduler().getLockTimeout()).getSeconds();
+        return jobName -> new MongoDbLockingStrategy(mongoDbTicketRegistryTemplate(), SCHEDULED_JOB_LOCKS_COLLECTION,
+            jobName, uniqueId, lockTimeout);
+    }
+
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
     @Bean
     public MongoTemplate mongoDbTicketRegistryTemplate() {
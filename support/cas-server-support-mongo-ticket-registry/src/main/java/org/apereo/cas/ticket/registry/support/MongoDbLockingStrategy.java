@@ -0,0 +1,74 @@
+package org.apereo.cas.ticket.registry.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * This is {@link MongoDbLockingStrategy} that implements an exclusive lock
+ * as a document in a MongoDb collection, keyed by the application identifier.
+ * The lock is held by whoever inserted the document, until it is released or expires.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(exclude = "mongoTemplate")
+@RequiredArgsConstructor
+public class MongoDbLockingStrategy implements LockingStrategy {
+    private static final String FIELD_ID = "_id";
+
+    private static final String FIELD_UNIQUE_ID = "uniqueId";
+
+    private static final String FIELD_EXPIRATION_DATE = "expirationDate";
+
+    private final MongoOperations mongoTemplate;
+
+    private final String collectionName;
+
+    private final String applicationId;
+
+    private final String uniqueId;
+
+    /**
+     * Amount of time in seconds lock may be held.
+     */
+    private final long lockTimeout;
+
+    @Override
+    public boolean acquire() {
+        try {
+            val now = Instant.now();
+            val expired = new Query(Criteria.where(FIELD_ID).is(this.applicationId).and(FIELD_EXPIRATION_DATE).lt(Date.from(now)));
+            this.mongoTemplate.remove(expired, this.collectionName);
+
+            val lock = new Document(FIELD_ID, this.applicationId)
+                .append(FIELD_UNIQUE_ID, this.uniqueId)
+                .append(FIELD_EXPIRATION_DATE, Date.from(now.plusSeconds(this.lockTimeout)));
+            this.mongoTemplate.insert(lock, this.collectionName);
+            LOGGER.debug("[{}] acquired [{}] lock", this.uniqueId, this.applicationId);
+            return true;
+        } catch (final DuplicateKeyException e) {
+            LOGGER.debug("[{}] could not obtain [{}] lock; lock is held by another node", this.uniqueId, this.applicationId);
+        } catch (final Exception e) {
+            LOGGER.debug("[{}] failed to obtain [{}] lock", this.uniqueId, this.applicationId, e);
+        }
+        return false;
+    }
+
+    @Override
+    public void release() {
+        val query = new Query(Criteria.where(FIELD_ID).is(this.applicationId).and(FIELD_UNIQUE_ID).is(this.uniqueId));
+        this.mongoTemplate.remove(query, this.collectionName);
+        LOGGER.debug("Released [{}] lock held by [{}]", this.applicationId, this.uniqueId);
+    }
+}
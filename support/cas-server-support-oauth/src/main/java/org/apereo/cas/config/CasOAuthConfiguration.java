@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlan;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.audit.AuditableExecution;
@@ -73,6 +74,8 @@ import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.DefaultAccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenCipherExecutor;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenExpirationPolicy;
 import org.apereo.cas.ticket.code.DefaultOAuthCodeFactory;
 import org.apereo.cas.ticket.code.OAuthCodeExpirationPolicy;
@@ -81,6 +84,7 @@ import org.apereo.cas.ticket.refreshtoken.DefaultRefreshTokenFactory;
 import org.apereo.cas.ticket.refreshtoken.OAuthRefreshTokenExpirationPolicy;
 import org.apereo.cas.ticket.refreshtoken.RefreshTokenFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.RandomUtils;
@@ -99,12 +103,14 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -157,6 +163,10 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("ticketUsageTracker")
+    private TicketUsageTracker ticketUsageTracker;
+
     @Autowired
     @Qualifier("ticketGrantingTicketCookieGenerator")
     private ObjectProvider<CookieRetrievingCookieGenerator> ticketGrantingTicketCookieGenerator;
@@ -317,7 +327,44 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
     @Bean
     @RefreshScope
     public OAuth20TokenGenerator oauthTokenGenerator() {
-        return new OAuth20DefaultTokenGenerator(defaultAccessTokenFactory(), defaultRefreshTokenFactory(), ticketRegistry);
+        return new OAuth20DefaultTokenGenerator(defaultAccessTokenFactory(), defaultRefreshTokenFactory(),
+            ticketRegistry, oauthAccessTokenJwtEncoder(), ticketUsageTracker);
+    }
+
+    /**
+     * Access token JWTs are signed with the OpenID Connect keystore when OpenID Connect is present,
+     * in which case the cipher is defined by the OpenID Connect configuration instead.
+     *
+     * @return the cipher executor
+     */
+    @ConditionalOnMissingBean(name = "oauthAccessTokenJwtCipherExecutor")
+    @ConditionalOnMissingClass("org.apereo.cas.oidc.config.OidcConfiguration")
+    @Bean
+    @RefreshScope
+    public CipherExecutor<Serializable, String> oauthAccessTokenJwtCipherExecutor() {
+        val jwt = casProperties.getAuthn().getOauth().getAccessToken().getJwt();
+        if (!jwt.isEnabled()) {
+            return CipherExecutor.noOpOfSerializableToString();
+        }
+        val crypto = jwt.getCrypto();
+        return new OAuth20JwtAccessTokenCipherExecutor(crypto.getEncryption().getKey(),
+            crypto.getSigning().getKey(), crypto.getAlg(), false, true);
+    }
+
+    @ConditionalOnMissingBean(name = "oauthAccessTokenJwtEncoder")
+    @Bean
+    @RefreshScope
+    public OAuth20JwtAccessTokenEncoder oauthAccessTokenJwtEncoder() {
+        val jwt = casProperties.getAuthn().getOauth().getAccessToken().getJwt();
+        return new OAuth20JwtAccessTokenEncoder(
+            oauthAccessTokenJwtCipherExecutor(),
+            webApplicationServiceFactory,
+            oauthPrincipalFactory(),
+            ticketRegistry,
+            servicesManager,
+            casProperties.getAuthn().getOidc().getIssuer(),
+            jwt.isEnabled(),
+            jwt.isRevocationCheckEnabled());
     }
 
     @Bean
@@ -359,7 +406,8 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             centralAuthenticationService,
-            registeredServiceAccessStrategyEnforcer);
+            registeredServiceAccessStrategyEnforcer,
+            oauthAccessTokenJwtEncoder());
     }
 
 
@@ -408,7 +456,9 @@ public class CasOAuthConfiguration implements AuditTrailRecordResolutionPlanConf
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             oauthUserProfileViewRenderer(),
-            oAuth2UserProfileDataCreator());
+            oAuth2UserProfileDataCreator(),
+            oauthAccessTokenJwtEncoder(),
+            ticketUsageTracker);
     }
 
     @ConditionalOnMissingBean(name = "oauthAuthorizationResponseBuilders")
@@ -19,6 +19,7 @@ import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionAccessTokenResponse;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.HttpRequestUtils;
@@ -47,6 +48,7 @@ public class OAuth20IntrospectionEndpointController extends BaseOAuth20Controlle
 
     private final CentralAuthenticationService centralAuthenticationService;
     private final AuditableExecution registeredServiceAccessStrategyEnforcer;
+    private final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder;
 
     public OAuth20IntrospectionEndpointController(final ServicesManager servicesManager,
                                                   final TicketRegistry ticketRegistry,
@@ -57,11 +59,13 @@ public class OAuth20IntrospectionEndpointController extends BaseOAuth20Controlle
                                                   final CasConfigurationProperties casProperties,
                                                   final CookieRetrievingCookieGenerator cookieGenerator,
                                                   final CentralAuthenticationService centralAuthenticationService,
-                                                  final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+                                                  final AuditableExecution registeredServiceAccessStrategyEnforcer,
+                                                  final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder) {
         super(servicesManager, ticketRegistry, accessTokenFactory, principalFactory,
             webApplicationServiceServiceFactory, scopeToAttributesFilter, casProperties, cookieGenerator);
         this.centralAuthenticationService = centralAuthenticationService;
         this.registeredServiceAccessStrategyEnforcer = registeredServiceAccessStrategyEnforcer;
+        this.accessTokenJwtEncoder = accessTokenJwtEncoder;
     }
 
     /**
@@ -104,7 +108,10 @@ public class OAuth20IntrospectionEndpointController extends BaseOAuth20Controlle
                     request.getParameter(OAuth20Constants.TOKEN));
 
                 LOGGER.debug("Located access token [{}] in the request", accessToken);
-                val ticket = this.centralAuthenticationService.getTicket(accessToken, AccessToken.class);
+                val jwtAccessToken = this.accessTokenJwtEncoder.decode(accessToken);
+                val ticket = jwtAccessToken != null
+                    ? jwtAccessToken
+                    : this.centralAuthenticationService.getTicket(accessToken, AccessToken.class);
                 if (ticket != null) {
                     val introspect = createIntrospectionResponse(service, ticket);
                     return new ResponseEntity<>(introspect, HttpStatus.OK);
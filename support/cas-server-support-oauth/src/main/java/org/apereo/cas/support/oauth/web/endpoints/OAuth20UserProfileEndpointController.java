@@ -14,13 +14,15 @@ import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilte
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
-import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.util.Pac4jUtils;
 import org.apereo.cas.web.support.CookieRetrievingCookieGenerator;
 import org.pac4j.core.context.HttpConstants;
+import org.pac4j.core.context.J2EContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -51,6 +53,16 @@ public class OAuth20UserProfileEndpointController extends BaseOAuth20Controller
     private final OAuth20UserProfileDataCreator userProfileDataCreator;
     private final ResponseEntity expiredAccessTokenResponseEntity;
 
+    /**
+     * Decodes access tokens that are issued as JWTs.
+     */
+    private final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder;
+
+    /**
+     * Records the use of access tokens.
+     */
+    private final TicketUsageTracker ticketUsageTracker;
+
     public OAuth20UserProfileEndpointController(final ServicesManager servicesManager,
                                                 final TicketRegistry ticketRegistry,
                                                 final AccessTokenFactory accessTokenFactory,
@@ -60,11 +72,15 @@ public class OAuth20UserProfileEndpointController extends BaseOAuth20Controller
                                                 final CasConfigurationProperties casProperties,
                                                 final CookieRetrievingCookieGenerator cookieGenerator,
                                                 final OAuth20UserProfileViewRenderer userProfileViewRenderer,
-                                                final OAuth20UserProfileDataCreator userProfileDataCreator) {
+                                                final OAuth20UserProfileDataCreator userProfileDataCreator,
+                                                final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder,
+                                                final TicketUsageTracker ticketUsageTracker) {
         super(servicesManager, ticketRegistry, accessTokenFactory, principalFactory,
             webApplicationServiceServiceFactory, scopeToAttributesFilter, casProperties, cookieGenerator);
         this.userProfileViewRenderer = userProfileViewRenderer;
         this.userProfileDataCreator = userProfileDataCreator;
+        this.accessTokenJwtEncoder = accessTokenJwtEncoder;
+        this.ticketUsageTracker = ticketUsageTracker;
         this.expiredAccessTokenResponseEntity = buildUnauthorizedResponseEntity(OAuth20Constants.EXPIRED_ACCESS_TOKEN);
     }
 
@@ -88,6 +104,20 @@ public class OAuth20UserProfileEndpointController extends BaseOAuth20Controller
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
 
+        val jwtAccessToken = this.accessTokenJwtEncoder.decode(accessToken);
+        if (jwtAccessToken == null) {
+            return handleAccessTokenTicket(accessToken, context);
+        }
+        if (casProperties.getLogout().isRemoveDescendantTickets()) {
+            LOGGER.debug("Access token [{}] must be checked against its parent ticket-granting ticket in the ticket registry",
+                jwtAccessToken.getId());
+            return handleAccessTokenTicket(jwtAccessToken.getId(), context);
+        }
+        LOGGER.debug("Validated access token [{}] from its JWT without the ticket registry", jwtAccessToken.getId());
+        return buildUserProfileResponse(jwtAccessToken, context);
+    }
+
+    private ResponseEntity<String> handleAccessTokenTicket(final String accessToken, final J2EContext context) {
         val accessTokenTicket = this.ticketRegistry.getTicket(accessToken, AccessToken.class);
 
         if (accessTokenTicket == null) {
@@ -108,23 +138,16 @@ public class OAuth20UserProfileEndpointController extends BaseOAuth20Controller
                 return expiredAccessTokenResponseEntity;
             }
         }
-        updateAccessTokenUsage(accessTokenTicket);
+        this.ticketUsageTracker.update(accessTokenTicket);
+        return buildUserProfileResponse(accessTokenTicket, context);
+    }
 
+    private ResponseEntity<String> buildUserProfileResponse(final AccessToken accessTokenTicket, final J2EContext context) {
         val map = this.userProfileDataCreator.createFrom(accessTokenTicket, context);
         val value = this.userProfileViewRenderer.render(map, accessTokenTicket);
         return new ResponseEntity<>(value, HttpStatus.OK);
     }
 
-    private void updateAccessTokenUsage(final AccessToken accessTokenTicket) {
-        val accessTokenState = TicketState.class.cast(accessTokenTicket);
-        accessTokenState.update();
-        if (accessTokenTicket.isExpired()) {
-            this.ticketRegistry.deleteTicket(accessTokenTicket.getId());
-        } else {
-            this.ticketRegistry.updateTicket(accessTokenTicket);
-        }
-    }
-
     /**
      * Gets access token from request.
      *
@@ -9,13 +9,14 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRequestDataHolder;
 import org.apereo.cas.ticket.OAuthToken;
 import org.apereo.cas.ticket.TicketGrantingTicket;
-import org.apereo.cas.ticket.TicketState;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.code.OAuthCode;
 import org.apereo.cas.ticket.refreshtoken.RefreshToken;
 import org.apereo.cas.ticket.refreshtoken.RefreshTokenFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.util.function.FunctionUtils;
 
 /**
@@ -44,6 +45,16 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
      */
     protected final TicketRegistry ticketRegistry;
 
+    /**
+     * The encoder that issues access tokens as JWTs, if so configured.
+     */
+    protected final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder;
+
+    /**
+     * Records the use of authorization codes and their ticket-granting tickets.
+     */
+    protected final TicketUsageTracker ticketUsageTracker;
+
     @Override
     public Pair<AccessToken, RefreshToken> generate(final AccessTokenRequestDataHolder holder) {
         LOGGER.debug("Creating refresh token for [{}]", holder.getService());
@@ -61,15 +72,8 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
         LOGGER.debug("Added access token [{}] to registry", accessToken);
 
         if (holder.getToken() instanceof OAuthCode) {
-            val codeState = TicketState.class.cast(holder.getToken());
-            codeState.update();
-
-            if (holder.getToken().isExpired()) {
-                this.ticketRegistry.deleteTicket(holder.getToken().getId());
-            } else {
-                this.ticketRegistry.updateTicket(holder.getToken());
-            }
-            this.ticketRegistry.updateTicket(holder.getTicketGrantingTicket());
+            this.ticketUsageTracker.update(holder.getToken());
+            this.ticketUsageTracker.track(holder.getTicketGrantingTicket());
         }
 
         val refreshToken = FunctionUtils.doIf(holder.isGenerateRefreshToken(),
@@ -79,7 +83,7 @@ public class OAuth20DefaultTokenGenerator implements OAuth20TokenGenerator {
                 return null;
             }).get();
 
-        return Pair.of(accessToken, refreshToken);
+        return Pair.of(this.accessTokenJwtEncoder.encode(accessToken), refreshToken);
     }
 
 
@@ -0,0 +1,36 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenCipherExecutor}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class OAuth20JwtAccessTokenCipherExecutor extends BaseStringCipherExecutor {
+    public OAuth20JwtAccessTokenCipherExecutor(final String secretKeyEncryption,
+                                               final String secretKeySigning,
+                                               final String alg,
+                                               final boolean encryptionEnabled,
+                                               final boolean signingEnabled) {
+        super(secretKeyEncryption, secretKeySigning, alg, encryptionEnabled, signingEnabled);
+    }
+
+    @Override
+    protected String getEncryptionKeySetting() {
+        return "cas.authn.oauth.accessToken.jwt.crypto.encryption.key";
+    }
+
+    @Override
+    protected String getSigningKeySetting() {
+        return "cas.authn.oauth.accessToken.jwt.crypto.signing.key";
+    }
+
+    @Override
+    public String getName() {
+        return "OAuth JWT Access Tokens";
+    }
+}
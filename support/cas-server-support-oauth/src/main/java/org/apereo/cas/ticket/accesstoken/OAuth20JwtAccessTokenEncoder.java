@@ -0,0 +1,217 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenEncoder}. It turns access tokens into signed JWTs
+ * whose identifier claim is the id of the access token in the ticket registry,
+ * and turns such JWTs back into access tokens by verifying their signature and expiration,
+ * so that requests which only read the access token need not consult the ticket registry.
+ * Optionally, decoded tokens may be checked against the ticket registry to find out
+ * whether they were revoked before they expired.
+ * <p>
+ * Since the claims of a signed JWT can be read by anyone holding it, only the principal attributes
+ * that the attribute release policy of the service allows are embedded, and authentication attributes are only
+ * embedded if the policy allows their release. Tokens cannot be extended by their usage, so tokens
+ * expire once their time-to-kill, if shorter than their time-to-live, has passed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class OAuth20JwtAccessTokenEncoder {
+    /**
+     * Claim that carries the principal attributes.
+     */
+    public static final String CLAIM_ATTRIBUTES = "attributes";
+
+    /**
+     * Claim that carries the authentication attributes.
+     */
+    public static final String CLAIM_AUTHENTICATION_ATTRIBUTES = "authenticationAttributes";
+
+    private final CipherExecutor<Serializable, String> cipherExecutor;
+
+    private final ServiceFactory<WebApplicationService> webApplicationServiceServiceFactory;
+
+    private final PrincipalFactory principalFactory;
+
+    private final TicketRegistry ticketRegistry;
+
+    private final ServicesManager servicesManager;
+
+    private final String issuer;
+
+    private final boolean enabled;
+
+    private final boolean revocationCheckEnabled;
+
+    /**
+     * Encode the access token as a JWT.
+     * The access token that is returned carries the JWT as its id, and is not meant to be
+     * tracked by the ticket registry; the given access token remains the one that is.
+     *
+     * @param accessToken the access token
+     * @return the access token whose id is the JWT, or the given access token if JWTs are not enabled
+     */
+    public AccessToken encode(final AccessToken accessToken) {
+        if (!this.enabled) {
+            return accessToken;
+        }
+        val authentication = accessToken.getAuthentication();
+        val principal = authentication.getPrincipal();
+
+        val claims = new JwtClaims();
+        claims.setJwtId(accessToken.getId());
+        claims.setIssuer(this.issuer);
+        claims.setAudience(accessToken.getService().getId());
+        claims.setSubject(principal.getId());
+        claims.setIssuedAt(NumericDate.fromSeconds(accessToken.getCreationTime().toEpochSecond()));
+        claims.setExpirationTime(NumericDate.fromSeconds(accessToken.getCreationTime().toEpochSecond()
+            + getTimeToLive(accessToken.getExpirationPolicy())));
+        claims.setStringClaim(CasProtocolConstants.PARAMETER_SERVICE, accessToken.getService().getId());
+        claims.setStringClaim(OAuth20Constants.SCOPE, String.join(" ", accessToken.getScopes()));
+
+        val registeredService = this.servicesManager.findServiceBy(accessToken.getService());
+        val releasePolicy = registeredService == null ? null : registeredService.getAttributeReleasePolicy();
+        if (releasePolicy != null) {
+            claims.setClaim(CLAIM_ATTRIBUTES, toClaimValues(releasePolicy.getAttributes(principal, accessToken.getService(), registeredService)));
+            if (releasePolicy.isAuthorizedToReleaseAuthenticationAttributes()) {
+                claims.setClaim(CLAIM_AUTHENTICATION_ATTRIBUTES, toClaimValues(authentication.getAttributes()));
+            }
+        } else {
+            LOGGER.debug("No attribute release policy is found for [{}]; no attributes are embedded in the access token JWT",
+                accessToken.getService());
+        }
+
+        val jwt = this.cipherExecutor.encode(claims.toJson());
+        LOGGER.debug("Encoded access token [{}] as a JWT", accessToken.getId());
+        val token = new AccessTokenImpl(jwt, accessToken.getService(), authentication,
+            accessToken.getExpirationPolicy(), accessToken.getTicketGrantingTicket(), accessToken.getScopes());
+        token.setCreationTime(accessToken.getCreationTime());
+        return token;
+    }
+
+    /**
+     * Decode the JWT into an access token, whose id is that of the access token in the ticket registry.
+     *
+     * @param token the token
+     * @return the access token, or null if the token is not a valid JWT, has expired or was revoked.
+     */
+    public AccessToken decode(final String token) {
+        if (!this.enabled || StringUtils.isBlank(token) || token.startsWith(AccessToken.PREFIX + '-')) {
+            return null;
+        }
+        try {
+            val json = this.cipherExecutor.decode(token);
+            if (StringUtils.isBlank(json)) {
+                LOGGER.warn("Unable to verify the signature of the access token JWT");
+                return null;
+            }
+            val claims = JwtClaims.parse(json);
+            if (!StringUtils.equals(this.issuer, claims.getIssuer())) {
+                LOGGER.warn("Access token JWT [{}] was issued by [{}] and not [{}]", claims.getJwtId(), claims.getIssuer(), this.issuer);
+                return null;
+            }
+            val now = NumericDate.now();
+            if (claims.getExpirationTime() == null || !now.isBefore(claims.getExpirationTime())) {
+                LOGGER.warn("Access token JWT [{}] has expired", claims.getJwtId());
+                return null;
+            }
+            if (this.revocationCheckEnabled && this.ticketRegistry.getTicket(claims.getJwtId(), AccessToken.class) == null) {
+                LOGGER.warn("Access token JWT [{}] has been revoked", claims.getJwtId());
+                return null;
+            }
+            return toAccessToken(claims);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to decode access token as a JWT: [{}]", e.getMessage());
+            return null;
+        }
+    }
+
+    private AccessToken toAccessToken(final JwtClaims claims) throws Exception {
+        val issuedAt = ZonedDateTime.ofInstant(Instant.ofEpochSecond(claims.getIssuedAt().getValue()), ZoneOffset.UTC);
+        val timeToLive = claims.getExpirationTime().getValue() - claims.getIssuedAt().getValue();
+
+        val principal = this.principalFactory.createPrincipal(claims.getSubject(),
+            toAttributes(claims.getClaimValue(CLAIM_ATTRIBUTES, Map.class)));
+        val authentication = DefaultAuthenticationBuilder.newInstance()
+            .setPrincipal(principal)
+            .setAuthenticationDate(issuedAt)
+            .setAttributes(toAttributes(claims.getClaimValue(CLAIM_AUTHENTICATION_ATTRIBUTES, Map.class)))
+            .build();
+        val service = this.webApplicationServiceServiceFactory.createService(
+            claims.getStringClaimValue(CasProtocolConstants.PARAMETER_SERVICE));
+        val scopes = Arrays.stream(StringUtils.split(StringUtils.defaultString(claims.getStringClaimValue(OAuth20Constants.SCOPE)), ' '))
+            .collect(Collectors.toSet());
+
+        val accessToken = new AccessTokenImpl(claims.getJwtId(), service, authentication,
+            new HardTimeoutExpirationPolicy(timeToLive), null, scopes);
+        accessToken.setCreationTime(issuedAt);
+        return accessToken;
+    }
+
+    private static long getTimeToLive(final ExpirationPolicy expirationPolicy) {
+        val timeToLive = expirationPolicy.getTimeToLive();
+        if (expirationPolicy instanceof OAuthAccessTokenExpirationPolicy) {
+            val timeToKill = expirationPolicy.getTimeToIdle();
+            if (timeToKill != null && timeToKill > 0 && timeToKill < timeToLive) {
+                return timeToKill;
+            }
+        }
+        return timeToLive;
+    }
+
+    private static Map<String, Object> toClaimValues(final Map<String, Object> attributes) {
+        val values = new LinkedHashMap<String, Object>();
+        attributes.forEach((name, value) -> {
+            if (value instanceof Collection || (value != null && value.getClass().isArray())) {
+                values.put(name, CollectionUtils.toCollection(value)
+                    .stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toList()));
+            } else if (value != null) {
+                values.put(name, value instanceof Number || value instanceof Boolean ? value : String.valueOf(value));
+            }
+        });
+        return values;
+    }
+
+    private static Map<String, Object> toAttributes(final Map<?, ?> claim) {
+        val attributes = new LinkedHashMap<String, Object>();
+        if (claim != null) {
+            claim.forEach((name, value) -> attributes.put(String.valueOf(name), value));
+        }
+        return attributes;
+    }
+}
@@ -18,6 +18,7 @@ import org.apereo.cas.support.oauth.web.audit.AccessTokenGrantRequestAuditResour
 import org.apereo.cas.support.oauth.web.audit.OAuth20UserProfileDataAuditResourceResolverTests;
 import org.apereo.cas.support.oauth.web.views.OAuth20DefaultUserProfileViewRendererFlatTests;
 import org.apereo.cas.support.oauth.web.views.OAuth20DefaultUserProfileViewRendererNestedTests;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoderTests;
 import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuthAccessTokenSovereignExpirationPolicyTests;
 import org.apereo.cas.ticket.refreshtoken.OAuthRefreshTokenExpirationPolicyTests;
@@ -53,7 +54,8 @@ import org.junit.runners.Suite;
     OAuth20DefaultUserProfileViewRendererFlatTests.class,
     OAuth20DefaultUserProfileViewRendererNestedTests.class,
     AccessTokenGrantRequestAuditResourceResolverTests.class,
-    OAuth20UserProfileDataAuditResourceResolverTests.class
+    OAuth20UserProfileDataAuditResourceResolverTests.class,
+    OAuth20JwtAccessTokenEncoderTests.class
 })
 @Slf4j
 public class OAuthTestSuite {
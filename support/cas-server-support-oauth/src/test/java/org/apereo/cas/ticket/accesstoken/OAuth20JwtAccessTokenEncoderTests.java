@@ -0,0 +1,139 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.val;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.RegexRegisteredService;
+import org.apereo.cas.services.ReturnAllowedAttributeReleasePolicy;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.support.HardTimeoutExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+import org.jose4j.jwe.ContentEncryptionAlgorithmIdentifiers;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenEncoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class OAuth20JwtAccessTokenEncoderTests {
+    private static final String ISSUER = "https://sso.example.org/cas/oidc";
+
+    private static final String SERVICE_ID = "https://oauth.example.org";
+
+    @Test
+    public void verifyTokenRoundTrip() {
+        val encoder = newEncoder(mock(TicketRegistry.class), false);
+        val accessToken = newAccessToken();
+        val jwt = encoder.encode(accessToken);
+
+        assertNotEquals(accessToken.getId(), jwt.getId());
+        assertEquals(accessToken.getCreationTime(), jwt.getCreationTime());
+
+        val decoded = encoder.decode(jwt.getId());
+        assertNotNull(decoded);
+        assertEquals(accessToken.getId(), decoded.getId());
+        assertEquals(SERVICE_ID, decoded.getService().getId());
+        assertEquals(CoreAuthenticationTestUtils.CONST_USERNAME, decoded.getAuthentication().getPrincipal().getId());
+        assertEquals(accessToken.getScopes(), decoded.getScopes());
+        assertEquals("value", decoded.getAuthentication().getPrincipal().getAttributes().get("name"));
+        assertFalse(decoded.isExpired());
+    }
+
+    @Test
+    public void verifyOnlyReleasedAttributesEmbedded() {
+        val encoder = newEncoder(mock(TicketRegistry.class), false);
+        val decoded = encoder.decode(encoder.encode(newAccessToken()).getId());
+        assertNotNull(decoded);
+        val attributes = decoded.getAuthentication().getPrincipal().getAttributes();
+        assertTrue(attributes.containsKey("name"));
+        assertFalse(attributes.containsKey("secret"));
+    }
+
+    @Test
+    public void verifyNoAttributesEmbeddedForUnknownService() {
+        val servicesManager = mock(ServicesManager.class);
+        val encoder = newEncoder(mock(TicketRegistry.class), servicesManager, false);
+        val decoded = encoder.decode(encoder.encode(newAccessToken()).getId());
+        assertNotNull(decoded);
+        assertTrue(decoded.getAuthentication().getPrincipal().getAttributes().isEmpty());
+        assertTrue(decoded.getAuthentication().getAttributes().isEmpty());
+    }
+
+    @Test
+    public void verifyTokenExpiresAfterTimeToKill() {
+        val encoder = newEncoder(mock(TicketRegistry.class), false);
+        val accessToken = newAccessToken(new OAuthAccessTokenExpirationPolicy(300, 60));
+        val decoded = encoder.decode(encoder.encode(accessToken).getId());
+        assertNotNull(decoded);
+        assertEquals(Long.valueOf(60), decoded.getExpirationPolicy().getTimeToLive());
+    }
+
+    @Test
+    public void verifyTamperedToken() {
+        val encoder = newEncoder(mock(TicketRegistry.class), false);
+        val jwt = encoder.encode(newAccessToken()).getId();
+        val parts = jwt.split("\\.");
+        val tampered = parts[0] + '.' + parts[1] + "e30." + parts[2];
+        assertNull(encoder.decode(tampered));
+        assertNull(encoder.decode(jwt.substring(0, jwt.length() - 2)));
+    }
+
+    @Test
+    public void verifyRevokedToken() {
+        val registry = mock(TicketRegistry.class);
+        val encoder = newEncoder(registry, true);
+        val accessToken = newAccessToken();
+        val jwt = encoder.encode(accessToken).getId();
+
+        when(registry.getTicket(accessToken.getId(), AccessToken.class)).thenReturn(accessToken);
+        assertNotNull(encoder.decode(jwt));
+
+        when(registry.getTicket(accessToken.getId(), AccessToken.class)).thenReturn(null);
+        assertNull(encoder.decode(jwt));
+    }
+
+    @Test
+    public void verifyOpaqueTokenIgnored() {
+        val encoder = newEncoder(mock(TicketRegistry.class), false);
+        val accessToken = newAccessToken();
+        assertNull(encoder.decode(accessToken.getId()));
+    }
+
+    private static OAuth20JwtAccessTokenEncoder newEncoder(final TicketRegistry registry, final boolean revocationCheckEnabled) {
+        val registeredService = new RegexRegisteredService();
+        registeredService.setServiceId(SERVICE_ID);
+        registeredService.setAttributeReleasePolicy(new ReturnAllowedAttributeReleasePolicy(CollectionUtils.wrapList("name")));
+        val servicesManager = mock(ServicesManager.class);
+        when(servicesManager.findServiceBy(any(Service.class))).thenReturn(registeredService);
+        return newEncoder(registry, servicesManager, revocationCheckEnabled);
+    }
+
+    private static OAuth20JwtAccessTokenEncoder newEncoder(final TicketRegistry registry, final ServicesManager servicesManager,
+                                                           final boolean revocationCheckEnabled) {
+        val cipher = new OAuth20JwtAccessTokenCipherExecutor(null, null,
+            ContentEncryptionAlgorithmIdentifiers.AES_128_CBC_HMAC_SHA_256, false, true);
+        return new OAuth20JwtAccessTokenEncoder(cipher, new WebApplicationServiceFactory(),
+            PrincipalFactoryUtils.newPrincipalFactory(), registry, servicesManager, ISSUER, true, revocationCheckEnabled);
+    }
+
+    private static AccessToken newAccessToken() {
+        return newAccessToken(new HardTimeoutExpirationPolicy(300));
+    }
+
+    private static AccessToken newAccessToken(final ExpirationPolicy expirationPolicy) {
+        val principal = CoreAuthenticationTestUtils.getPrincipal(CoreAuthenticationTestUtils.CONST_USERNAME,
+            CollectionUtils.<String, Object>wrap("name", "value", "secret", "value"));
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(principal);
+        return new AccessTokenImpl("AT-1-" + System.nanoTime(), CoreAuthenticationTestUtils.getService(SERVICE_ID),
+            authentication, expirationPolicy, null, CollectionUtils.wrapSet("openid", "profile"));
+    }
+}
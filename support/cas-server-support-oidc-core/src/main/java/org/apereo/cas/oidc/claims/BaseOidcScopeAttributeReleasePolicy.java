@@ -4,20 +4,23 @@ import lombok.val;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.Maps;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.oidc.claims.mapping.OidcAttributeToScopeClaimMapper;
 import org.apereo.cas.services.AbstractRegisteredServiceAttributeReleasePolicy;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
+import org.springframework.context.ApplicationContext;
 
+import javax.persistence.Transient;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -43,10 +46,33 @@ public abstract class BaseOidcScopeAttributeReleasePolicy extends AbstractRegist
     @JsonIgnore
     private String scopeName;
 
+    /**
+     * Allowed claims mapped to the attribute names that provide their values, resolved once per policy.
+     */
+    @JsonIgnore
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile Map<String, String> claimsToAttributes;
+
     public BaseOidcScopeAttributeReleasePolicy(final String scopeName) {
         this.scopeName = scopeName;
     }
 
+    public void setAllowedAttributes(final List<String> allowedAttributes) {
+        this.allowedAttributes = allowedAttributes;
+        this.claimsToAttributes = null;
+    }
+
+    @Override
+    public void initialize() {
+        val applicationContext = ApplicationContextProvider.getApplicationContext();
+        if (applicationContext != null) {
+            this.claimsToAttributes = buildClaimsToAttributes(applicationContext);
+        }
+    }
+
     @Override
     public Map<String, Object> getAttributesInternal(final Principal principal, final Map<String, Object> attributes, final RegisteredService service) {
         val applicationContext = ApplicationContextProvider.getApplicationContext();
@@ -54,10 +80,26 @@ public abstract class BaseOidcScopeAttributeReleasePolicy extends AbstractRegist
             LOGGER.warn("Could not locate the application context to process attributes");
             return new HashMap<>();
         }
-        val resolvedAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        val resolvedAttributes = new TreeMap<String, Object>(String.CASE_INSENSITIVE_ORDER);
         resolvedAttributes.putAll(attributes);
         val attributesToRelease = Maps.<String, Object>newHashMapWithExpectedSize(attributes.size());
         LOGGER.debug("Attempting to map and filter claims based on resolved attributes [{}]", resolvedAttributes);
+        var mappedClaims = this.claimsToAttributes;
+        if (mappedClaims == null) {
+            mappedClaims = buildClaimsToAttributes(applicationContext);
+            this.claimsToAttributes = mappedClaims;
+        }
+        mappedClaims.forEach((claim, attribute) -> {
+            val value = resolvedAttributes.get(attribute);
+            LOGGER.debug("Using attribute [{}] to locate value [{}] for claim [{}]", attribute, value, claim);
+            if (value != null) {
+                attributesToRelease.put(claim, value);
+            }
+        });
+        return attributesToRelease;
+    }
+
+    private Map<String, String> buildClaimsToAttributes(final ApplicationContext applicationContext) {
         val properties = applicationContext.getBean(CasConfigurationProperties.class);
         val supportedClaims = properties.getAuthn().getOidc().getClaims();
         val allowedClaims = new LinkedHashSet<String>(getAllowedAttributes());
@@ -65,26 +107,19 @@ public abstract class BaseOidcScopeAttributeReleasePolicy extends AbstractRegist
         LOGGER.debug("[{}] is designed to allow claims [{}] for scope [{}]. After cross-checking with "
             + "supported claims [{}], the final collection of allowed attributes is [{}]", getClass().getSimpleName(),
             getAllowedAttributes(), getScopeName(), supportedClaims, allowedClaims);
-        allowedClaims.stream()
-            .map(claim -> mapClaimToAttribute(claim, resolvedAttributes))
-            .filter(p -> p.getValue() != null)
-            .forEach(p -> attributesToRelease.put(p.getKey(), p.getValue()));
-        return attributesToRelease;
-    }
-
-    private Pair<String, Object> mapClaimToAttribute(final String claim, final Map<String, Object> resolvedAttributes) {
-        val applicationContext = ApplicationContextProvider.getApplicationContext();
         val attributeToScopeClaimMapper =
             applicationContext.getBean("oidcAttributeToScopeClaimMapper", OidcAttributeToScopeClaimMapper.class);
-        LOGGER.debug("Attempting to process claim [{}]", claim);
-        if (attributeToScopeClaimMapper.containsMappedAttribute(claim)) {
-            val mappedAttr = attributeToScopeClaimMapper.getMappedAttribute(claim);
-            val value = resolvedAttributes.get(mappedAttr);
-            LOGGER.debug("Found mapped attribute [{}] with value [{}] for claim [{}]", mappedAttr, value, claim);
-            return Pair.of(claim, value);
-        }
-        val value = resolvedAttributes.get(claim);
-        LOGGER.debug("No mapped attribute is defined for claim [{}]; Used [{}] to locate value [{}]", claim, claim, value);
-        return Pair.of(claim, value);
+        val mappedClaims = new LinkedHashMap<String, String>(allowedClaims.size());
+        allowedClaims.forEach(claim -> {
+            if (attributeToScopeClaimMapper.containsMappedAttribute(claim)) {
+                val mappedAttr = attributeToScopeClaimMapper.getMappedAttribute(claim);
+                LOGGER.debug("Found mapped attribute [{}] for claim [{}]", mappedAttr, claim);
+                mappedClaims.put(claim, mappedAttr);
+            } else {
+                LOGGER.debug("No mapped attribute is defined for claim [{}]; Using [{}] to locate its value", claim, claim);
+                mappedClaims.put(claim, claim);
+            }
+        });
+        return mappedClaims;
     }
 }
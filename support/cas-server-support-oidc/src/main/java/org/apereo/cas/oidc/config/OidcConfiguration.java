@@ -8,6 +8,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionStrategy;
@@ -34,6 +35,7 @@ import org.apereo.cas.oidc.profile.OidcRegisteredServicePreProcessorEventListene
 import org.apereo.cas.oidc.profile.OidcUserProfileDataCreator;
 import org.apereo.cas.oidc.token.OidcIdTokenGeneratorService;
 import org.apereo.cas.oidc.token.OidcIdTokenSigningAndEncryptionService;
+import org.apereo.cas.oidc.token.OidcJwtAccessTokenCipherExecutor;
 import org.apereo.cas.oidc.util.OidcAuthorizationRequestSupport;
 import org.apereo.cas.oidc.web.OidcAccessTokenResponseGenerator;
 import org.apereo.cas.oidc.web.OidcCallbackAuthorizeViewResolver;
@@ -72,9 +74,11 @@ import org.apereo.cas.support.oauth.web.views.OAuth20CallbackAuthorizeViewResolv
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.code.OAuthCodeFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.gen.DefaultRandomStringGenerator;
 import org.apereo.cas.util.serialization.StringSerializer;
@@ -108,6 +112,7 @@ import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
 import org.springframework.webflow.execution.Action;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
@@ -142,6 +147,10 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @Qualifier("grantingTicketExpirationPolicy")
     private ExpirationPolicy grantingTicketExpirationPolicy;
 
+    @Autowired
+    @Qualifier("oauthAccessTokenJwtEncoder")
+    private OAuth20JwtAccessTokenEncoder oauthAccessTokenJwtEncoder;
+
     @Autowired
     @Qualifier("oauthTokenGenerator")
     private OAuth20TokenGenerator oauthTokenGenerator;
@@ -227,6 +236,10 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
     @Qualifier("ticketRegistry")
     private TicketRegistry ticketRegistry;
 
+    @Autowired
+    @Qualifier("ticketUsageTracker")
+    private TicketUsageTracker ticketUsageTracker;
+
     @Autowired
     @Qualifier("defaultOAuthCodeFactory")
     private OAuthCodeFactory defaultOAuthCodeFactory;
@@ -341,7 +354,8 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
             centralAuthenticationService,
-            registeredServiceAccessStrategyEnforcer);
+            registeredServiceAccessStrategyEnforcer,
+            oauthAccessTokenJwtEncoder);
     }
 
     @RefreshScope
@@ -356,7 +370,8 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
             profileScopeToAttributesFilter(),
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
-            registeredServiceAccessStrategyEnforcer);
+            registeredServiceAccessStrategyEnforcer,
+            oauthAccessTokenJwtEncoder);
     }
 
     @RefreshScope
@@ -429,7 +444,7 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
             profileScopeToAttributesFilter(),
             casProperties,
             ticketGrantingTicketCookieGenerator.getIfAvailable(),
-            oauthUserProfileViewRenderer, oidcUserProfileDataCreator());
+            oauthUserProfileViewRenderer, oidcUserProfileDataCreator(), oauthAccessTokenJwtEncoder, ticketUsageTracker);
     }
 
     @Bean
@@ -516,6 +531,18 @@ public class OidcConfiguration implements WebMvcConfigurer, CasWebflowExecutionP
         return cache;
     }
 
+    @ConditionalOnMissingBean(name = "oauthAccessTokenJwtCipherExecutor")
+    @Bean
+    @RefreshScope
+    public CipherExecutor<Serializable, String> oauthAccessTokenJwtCipherExecutor() {
+        val oidc = casProperties.getAuthn().getOidc();
+        if (!casProperties.getAuthn().getOauth().getAccessToken().getJwt().isEnabled()) {
+            return CipherExecutor.noOpOfSerializableToString();
+        }
+        oidcJsonWebKeystoreGeneratorService();
+        return new OidcJwtAccessTokenCipherExecutor(oidcDefaultJsonWebKeystoreCache(), oidc.getIssuer());
+    }
+
     @Bean
     public OidcDefaultJsonWebKeystoreCacheLoader oidcDefaultJsonWebKeystoreCacheLoader() {
         return new OidcDefaultJsonWebKeystoreCacheLoader(casProperties.getAuthn().getOidc().getJwksFile());
@@ -0,0 +1,76 @@
+package org.apereo.cas.oidc.token;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.CipherExecutor;
+import org.jose4j.jwa.AlgorithmConstraints;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * This is {@link OidcJwtAccessTokenCipherExecutor}. It signs access token JWTs
+ * with the default CAS keystore, the same way id tokens are signed, so that resource servers
+ * can verify them against the keys published by the JWKS endpoint.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OidcJwtAccessTokenCipherExecutor implements CipherExecutor<Serializable, String> {
+    private final LoadingCache<String, Optional<RsaJsonWebKey>> defaultJsonWebKeystoreCache;
+    private final String issuer;
+
+    @Override
+    @SneakyThrows
+    public String encode(final Serializable value, final Object[] parameters) {
+        val jsonWebKey = getJsonWebKey();
+        if (jsonWebKey.getPrivateKey() == null) {
+            throw new IllegalArgumentException("JSON web key used to sign access tokens has no associated private key");
+        }
+        val jws = new JsonWebSignature();
+        jws.setPayload(value.toString());
+        jws.setKey(jsonWebKey.getPrivateKey());
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+        if (StringUtils.isNotBlank(jsonWebKey.getKeyId())) {
+            jws.setKeyIdHeaderValue(jsonWebKey.getKeyId());
+        }
+        return jws.getCompactSerialization();
+    }
+
+    @Override
+    @SneakyThrows
+    public String decode(final Serializable value, final Object[] parameters) {
+        val jws = new JsonWebSignature();
+        jws.setCompactSerialization(value.toString());
+        jws.setAlgorithmConstraints(new AlgorithmConstraints(AlgorithmConstraints.ConstraintType.WHITELIST,
+            AlgorithmIdentifiers.RSA_USING_SHA256));
+        jws.setKey(getJsonWebKey().getPublicKey());
+        if (jws.verifySignature()) {
+            return jws.getPayload();
+        }
+        LOGGER.debug("Signature of access token could not be verified with the default JSON web key");
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return "OpenID Connect JWT Access Tokens";
+    }
+
+    private RsaJsonWebKey getJsonWebKey() {
+        val jwks = this.defaultJsonWebKeystoreCache.get(this.issuer);
+        if (jwks == null || !jwks.isPresent()) {
+            throw new IllegalArgumentException("No JSON web key is available to sign or verify access tokens");
+        }
+        return jwks.get();
+    }
+}
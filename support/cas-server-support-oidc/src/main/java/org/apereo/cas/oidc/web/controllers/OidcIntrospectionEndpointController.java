@@ -16,6 +16,7 @@ import org.apereo.cas.support.oauth.web.endpoints.OAuth20IntrospectionEndpointCo
 import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionAccessTokenResponse;
 import org.apereo.cas.ticket.accesstoken.AccessToken;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.web.support.CookieRetrievingCookieGenerator;
 import org.springframework.http.MediaType;
@@ -43,10 +44,12 @@ public class OidcIntrospectionEndpointController extends OAuth20IntrospectionEnd
                                                final CasConfigurationProperties casProperties,
                                                final CookieRetrievingCookieGenerator cookieGenerator,
                                                final CentralAuthenticationService centralAuthenticationService,
-                                               final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+                                               final AuditableExecution registeredServiceAccessStrategyEnforcer,
+                                               final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder) {
         super(servicesManager, ticketRegistry, accessTokenFactory, principalFactory,
             webApplicationServiceServiceFactory, scopeToAttributesFilter,
-            casProperties, cookieGenerator, centralAuthenticationService, registeredServiceAccessStrategyEnforcer);
+            casProperties, cookieGenerator, centralAuthenticationService, registeredServiceAccessStrategyEnforcer,
+            accessTokenJwtEncoder);
     }
 
     /**
@@ -14,6 +14,7 @@ import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilte
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.endpoints.BaseOAuth20Controller;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.HttpRequestUtils;
 import org.apereo.cas.util.Pac4jUtils;
@@ -35,6 +36,7 @@ import javax.servlet.http.HttpServletResponse;
 @Slf4j
 public class OidcRevocationEndpointController extends BaseOAuth20Controller {
     private final AuditableExecution registeredServiceAccessStrategyEnforcer;
+    private final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder;
 
     public OidcRevocationEndpointController(final ServicesManager servicesManager,
                                             final TicketRegistry ticketRegistry,
@@ -44,11 +46,13 @@ public class OidcRevocationEndpointController extends BaseOAuth20Controller {
                                             final OAuth20ProfileScopeToAttributesFilter scopeToAttributesFilter,
                                             final CasConfigurationProperties casProperties,
                                             final CookieRetrievingCookieGenerator ticketGrantingTicketCookieGenerator,
-                                            final AuditableExecution registeredServiceAccessStrategyEnforcer) {
+                                            final AuditableExecution registeredServiceAccessStrategyEnforcer,
+                                            final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder) {
         super(servicesManager, ticketRegistry, accessTokenFactory, principalFactory,
             webApplicationServiceServiceFactory, scopeToAttributesFilter,
             casProperties, ticketGrantingTicketCookieGenerator);
         this.registeredServiceAccessStrategyEnforcer = registeredServiceAccessStrategyEnforcer;
+        this.accessTokenJwtEncoder = accessTokenJwtEncoder;
     }
 
     /**
@@ -82,7 +86,8 @@ public class OidcRevocationEndpointController extends BaseOAuth20Controller {
                 && OAuth20Utils.checkClientSecret(registeredService, credentials.getPassword())) {
                 val token = request.getParameter(OidcConstants.TOKEN);
                 LOGGER.debug("Located token [{}] in the revocation request", token);
-                this.ticketRegistry.deleteTicket(token);
+                val jwtAccessToken = this.accessTokenJwtEncoder.decode(token);
+                this.ticketRegistry.deleteTicket(jwtAccessToken != null ? jwtAccessToken.getId() : token);
             }
         } catch (final Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -13,7 +13,9 @@ import org.apereo.cas.support.oauth.web.endpoints.OAuth20UserProfileEndpointCont
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
 import org.apereo.cas.support.oauth.web.views.OAuth20UserProfileViewRenderer;
 import org.apereo.cas.ticket.accesstoken.AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketUsageTracker;
 import org.apereo.cas.web.support.CookieRetrievingCookieGenerator;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,12 +42,14 @@ public class OidcUserProfileEndpointController extends OAuth20UserProfileEndpoin
                                              final CasConfigurationProperties casProperties,
                                              final CookieRetrievingCookieGenerator ticketGrantingTicketCookieGenerator,
                                              final OAuth20UserProfileViewRenderer userProfileViewRenderer,
-                                             final OAuth20UserProfileDataCreator userProfileDataCreator) {
+                                             final OAuth20UserProfileDataCreator userProfileDataCreator,
+                                             final OAuth20JwtAccessTokenEncoder accessTokenJwtEncoder,
+                                             final TicketUsageTracker ticketUsageTracker) {
         super(servicesManager, ticketRegistry, accessTokenFactory,
             principalFactory, webApplicationServiceServiceFactory,
             scopeToAttributesFilter, casProperties,
             ticketGrantingTicketCookieGenerator,
-            userProfileViewRenderer, userProfileDataCreator);
+            userProfileViewRenderer, userProfileDataCreator, accessTokenJwtEncoder, ticketUsageTracker);
     }
 
     @GetMapping(value = '/' + OidcConstants.BASE_OIDC_URL + '/' + OAuth20Constants.PROFILE_URL, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.OneTimeToken;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This is {@link CachingOneTimeTokenRepository}.
@@ -50,6 +51,21 @@ public class CachingOneTimeTokenRepository extends BaseOneTimeTokenRepository {
         }
     }
 
+    @Override
+    public boolean storeIfAbsent(final OneTimeToken token) {
+        val stored = new AtomicBoolean();
+        this.storage.asMap().compute(token.getUserId(), (uid, tokens) -> {
+            final Collection<OneTimeToken> used = tokens == null ? new ArrayList<>() : tokens;
+            if (used.stream().noneMatch(t -> t.getToken().equals(token.getToken()))) {
+                LOGGER.debug("Storing previously used token [{}] for user [{}]", token, uid);
+                used.add(token);
+                stored.set(true);
+            }
+            return used;
+        });
+        return stored.get();
+    }
+
     @Override
     public OneTimeToken get(final String uid, final Integer otp) {
         try {
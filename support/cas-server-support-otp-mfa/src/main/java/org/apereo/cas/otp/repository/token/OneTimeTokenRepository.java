@@ -23,6 +23,22 @@ public interface OneTimeTokenRepository {
      */
     void store(OneTimeToken token);
 
+    /**
+     * Store token/code in the repository, unless it is already there.
+     * Repositories that are able to should check and store the token atomically,
+     * so that concurrent attempts to use the same token cannot both succeed.
+     *
+     * @param token the token
+     * @return true if the token was stored, false if it was already used.
+     */
+    default boolean storeIfAbsent(final OneTimeToken token) {
+        if (exists(token.getUserId(), token.getToken())) {
+            return false;
+        }
+        store(token);
+        return true;
+    }
+
     /**
      * Determine if the otp for user exists in repository.
      *
@@ -78,4 +78,12 @@ public class CachingOneTimeTokenRepositoryTests {
         repository.clean();
         assertTrue(repository.exists("casuser", 1234));
     }
+
+    @Test
+    public void verifyTokenStoredOnlyOnce() {
+        assertTrue(repository.storeIfAbsent(new OneTimeToken(5678, "casuser")));
+        assertFalse(repository.storeIfAbsent(new OneTimeToken(5678, "casuser")));
+        assertTrue(repository.storeIfAbsent(new OneTimeToken(8765, "casuser")));
+        assertTrue(repository.exists("casuser", 8765));
+    }
 }
@@ -3,19 +3,26 @@ package org.apereo.cas.config;
 import lombok.val;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.support.RedisLockingStrategy;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.InetAddressUtils;
+import org.apereo.cas.util.scheduling.LockingStrategyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * This is {@link RedisTicketRegistryConfiguration}.
@@ -24,6 +31,7 @@ import org.springframework.data.redis.core.RedisTemplate;
  * @since 5.0.0
  */
 @Configuration("redisTicketRegistryConfiguration")
+@AutoConfigureBefore(name = "org.apereo.cas.config.CasCoreSchedulingConfiguration")
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @Slf4j
 public class RedisTicketRegistryConfiguration {
@@ -53,4 +61,13 @@ public class RedisTicketRegistryConfiguration {
         r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis"));
         return r;
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "scheduledJobLockingStrategyFactory")
+    public LockingStrategyFactory scheduledJobLockingStrategyFactory() {
+        val uniqueId = StringUtils.defaultIfEmpty(casProperties.getHost().getName(), InetAddressUtils.getCasServerHostName());
+        val lockTimeout = Beans.newDuration(casProperties.getScheduler().getLockTimeout()).getSeconds();
+        val template = new StringRedisTemplate(redisTicketConnectionFactory());
+        return jobName -> new RedisLockingStrategy(template, jobName, uniqueId, lockTimeout);
+    }
 }
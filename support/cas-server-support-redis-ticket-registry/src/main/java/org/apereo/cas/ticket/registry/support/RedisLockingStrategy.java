@@ -0,0 +1,86 @@
+package org.apereo.cas.ticket.registry.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link RedisLockingStrategy} that implements an exclusive lock
+ * as a Redis key that expires on its own, keyed by the application identifier.
+ * The key is set along with its expiration in one atomic {@code SET NX PX} command.
+ * The lock is held by whoever was able to set the key, until it is released or expires.
+ * Releasing the lock checks and deletes the key in one atomic script.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@ToString(exclude = "redisTemplate")
+@RequiredArgsConstructor
+public class RedisLockingStrategy implements LockingStrategy {
+    private static final String KEY_PREFIX = "CAS_LOCK:";
+
+    /**
+     * Deletes the lock only if it is still held by the caller, so that a lock that expired
+     * and was acquired by another node in the meantime is left alone.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String applicationId;
+
+    private final String uniqueId;
+
+    /**
+     * Amount of time in seconds lock may be held.
+     */
+    private final long lockTimeout;
+
+    @Override
+    public boolean acquire() {
+        try {
+            val key = getKey();
+            val serializer = this.redisTemplate.getStringSerializer();
+            val acquired = this.redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.set(serializer.serialize(key), serializer.serialize(this.uniqueId),
+                    Expiration.milliseconds(TimeUnit.SECONDS.toMillis(this.lockTimeout)), RedisStringCommands.SetOption.SET_IF_ABSENT));
+            if (Boolean.TRUE.equals(acquired)) {
+                LOGGER.debug("[{}] acquired [{}] lock", this.uniqueId, this.applicationId);
+                return true;
+            }
+            val expiration = this.redisTemplate.getExpire(key);
+            if (expiration != null && expiration < 0) {
+                LOGGER.debug("Lock [{}] has no expiration, possibly left behind by a failed node; setting it to expire", this.applicationId);
+                this.redisTemplate.expire(key, this.lockTimeout, TimeUnit.SECONDS);
+            }
+            LOGGER.debug("[{}] could not obtain [{}] lock; lock is held by another node", this.uniqueId, this.applicationId);
+        } catch (final Exception e) {
+            LOGGER.debug("[{}] failed to obtain [{}] lock", this.uniqueId, this.applicationId, e);
+        }
+        return false;
+    }
+
+    @Override
+    public void release() {
+        val released = this.redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(getKey()), this.uniqueId);
+        if (released != null && released > 0) {
+            LOGGER.debug("Released [{}] lock held by [{}]", this.applicationId, this.uniqueId);
+        }
+    }
+
+    private String getKey() {
+        return KEY_PREFIX + this.applicationId;
+    }
+}
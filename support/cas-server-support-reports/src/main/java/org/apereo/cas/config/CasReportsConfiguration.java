@@ -10,6 +10,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.spring.boot.StartupTimingBeanPostProcessor;
 import org.apereo.cas.web.report.AuditLogEndpoint;
 import org.apereo.cas.web.report.CasInfoEndpointContributor;
 import org.apereo.cas.web.report.CasReleaseAttributesReportEndpoint;
@@ -18,6 +19,7 @@ import org.apereo.cas.web.report.LoggingConfigurationEndpoint;
 import org.apereo.cas.web.report.RegisteredServicesEndpoint;
 import org.apereo.cas.web.report.SingleSignOnSessionsEndpoint;
 import org.apereo.cas.web.report.SpringWebflowEndpoint;
+import org.apereo.cas.web.report.StartupReportEndpoint;
 import org.apereo.cas.web.report.StatisticsEndpoint;
 import org.apereo.cas.web.report.StatusEndpoint;
 import org.springframework.beans.factory.ObjectProvider;
@@ -27,6 +29,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.condition.Conditi
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -84,6 +87,9 @@ public class CasReportsConfiguration {
     @Qualifier("principalFactory")
     private PrincipalFactory principalFactory;
 
+    @Autowired
+    private ObjectProvider<StartupTimingBeanPostProcessor> startupTimingBeanPostProcessor;
+
     @Bean
     @ConditionalOnEnabledEndpoint
     public SpringWebflowEndpoint springWebflowEndpoint() {
@@ -139,6 +145,13 @@ public class CasReportsConfiguration {
         return new SingleSignOnSessionsEndpoint(centralAuthenticationService, casProperties);
     }
 
+    @Bean
+    @ConditionalOnEnabledEndpoint
+    public StartupReportEndpoint startupReportEndpoint() {
+        return new StartupReportEndpoint(casProperties, startupTimingBeanPostProcessor.getIfAvailable(),
+            (ConfigurableApplicationContext) applicationContext);
+    }
+
     @Bean
     @ConditionalOnEnabledEndpoint
     public StatisticsEndpoint statisticsReportEndpoint() {
@@ -0,0 +1,67 @@
+package org.apereo.cas.web.report;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.spring.boot.StartupTimingBeanPostProcessor;
+import org.apereo.cas.web.BaseCasMvcEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link StartupReportEndpoint} that reports how long the application context took to start,
+ * the time spent initializing the beans of each configuration class and each bean, slowest first,
+ * as well as the lazily-initialized beans that are yet to be used.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@Endpoint(id = "startup-report", enableByDefault = false)
+public class StartupReportEndpoint extends BaseCasMvcEndpoint {
+    private final StartupTimingBeanPostProcessor startupTiming;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    public StartupReportEndpoint(final CasConfigurationProperties casProperties,
+                                 final StartupTimingBeanPostProcessor startupTiming,
+                                 final ConfigurableApplicationContext applicationContext) {
+        super(casProperties);
+        this.startupTiming = startupTiming;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Gets the startup report.
+     *
+     * @return the report
+     */
+    @ReadOperation
+    public Map<String, Object> getReport() {
+        val report = new LinkedHashMap<String, Object>();
+        if (this.startupTiming == null) {
+            report.put("message", "Startup timing is not enabled");
+        } else {
+            val duration = this.startupTiming.getStartupDuration();
+            report.put("startupDuration", duration == null ? null : duration.toMillis());
+            report.put("configurations", this.startupTiming.getConfigurationTimings());
+            report.put("beans", this.startupTiming.getBeanTimings());
+        }
+        val beanFactory = this.applicationContext.getBeanFactory();
+        val pendingLazyBeans = Arrays.stream(beanFactory.getBeanDefinitionNames())
+            .filter(name -> {
+                val definition = beanFactory.getBeanDefinition(name);
+                return definition.isLazyInit() && definition.isSingleton() && !beanFactory.containsSingleton(name);
+            })
+            .sorted()
+            .collect(Collectors.toList());
+        report.put("pendingLazyBeans", pendingLazyBeans);
+        return report;
+    }
+}
@@ -24,6 +24,7 @@ import org.apereo.cas.rest.plan.DefaultServiceTicketResourceEntityResponseFactor
 import org.apereo.cas.rest.plan.RestHttpRequestCredentialFactoryConfigurer;
 import org.apereo.cas.rest.plan.ServiceTicketResourceEntityResponseFactoryConfigurer;
 import org.apereo.cas.rest.plan.ServiceTicketResourceEntityResponseFactoryPlan;
+import org.apereo.cas.support.rest.resources.BatchTicketResource;
 import org.apereo.cas.support.rest.resources.ServiceTicketResource;
 import org.apereo.cas.support.rest.resources.TicketGrantingTicketResource;
 import org.apereo.cas.support.rest.resources.TicketStatusResource;
@@ -56,6 +57,9 @@ import java.util.List;
 public class CasRestConfiguration implements RestHttpRequestCredentialFactoryConfigurer,
     ServiceTicketResourceEntityResponseFactoryConfigurer, AuditTrailRecordResolutionPlanConfigurer {
 
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
     @Autowired
     @Qualifier("centralAuthenticationService")
     private CentralAuthenticationService centralAuthenticationService;
@@ -92,6 +96,15 @@ public class CasRestConfiguration implements RestHttpRequestCredentialFactoryCon
             serviceTicketResourceEntityResponseFactory);
     }
 
+    @Bean
+    public BatchTicketResource batchTicketResource() {
+        return new BatchTicketResource(authenticationSystemSupport.getIfAvailable(),
+            centralAuthenticationService,
+            ticketRegistrySupport,
+            webApplicationServiceFactory,
+            casProperties.getRest().getMaximumBatchSize());
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "serviceTicketResourceEntityResponseFactory")
     @Autowired
@@ -0,0 +1,152 @@
+package org.apereo.cas.support.rest.resources;
+
+import lombok.val;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationCredentialsThreadLocalBinder;
+import org.apereo.cas.authentication.AuthenticationSystemSupport;
+import org.apereo.cas.authentication.DefaultAuthenticationResultBuilder;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RestController} implementation of CAS' REST API
+ * that issues and validates service tickets in batches:
+ * <ul>
+ * <li>{@code POST /v1/tickets/{TGT-id}/batch}</li>
+ * <li>{@code POST /v1/tickets/validate/batch}</li>
+ * </ul>
+ * Service tickets are issued on an all-or-nothing basis for the requested services,
+ * while service tickets that fail validation are reported individually.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RestController("batchTicketResourceRestController")
+@Slf4j
+@AllArgsConstructor
+public class BatchTicketResource {
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private final AuthenticationSystemSupport authenticationSystemSupport;
+    private final CentralAuthenticationService centralAuthenticationService;
+    private final TicketRegistrySupport ticketRegistrySupport;
+    private final ServiceFactory serviceFactory;
+    private final int maximumBatchSize;
+
+    /**
+     * Create new service tickets for the list of services in the request body.
+     *
+     * @param tgtId       ticket granting ticket id URI path param
+     * @param requestBody JSON array of service urls
+     * @return {@link ResponseEntity} representing RESTful response, mapping each service url to its service ticket
+     */
+    @PostMapping(value = "/v1/tickets/{tgtId:.+}/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> createServiceTickets(@PathVariable("tgtId") final String tgtId,
+                                                       @RequestBody final String requestBody) {
+        try {
+            val serviceIds = MAPPER.readValue(requestBody, new TypeReference<List<String>>() {
+            }).stream().distinct().collect(Collectors.toList());
+            verifyBatchSize(serviceIds.size());
+
+            val authn = this.ticketRegistrySupport.getAuthenticationFrom(tgtId);
+            AuthenticationCredentialsThreadLocalBinder.bindCurrent(authn);
+            if (authn == null) {
+                throw new InvalidTicketException(tgtId);
+            }
+            val services = serviceIds.stream()
+                .map(id -> this.serviceFactory.createService(id))
+                .collect(Collectors.toList());
+            val authenticationResult = new DefaultAuthenticationResultBuilder()
+                .collect(authn)
+                .build(this.authenticationSystemSupport.getPrincipalElectionStrategy());
+            val serviceTickets = this.centralAuthenticationService.grantServiceTickets(tgtId, services, authenticationResult);
+
+            val results = new LinkedHashMap<String, String>();
+            for (var i = 0; i < serviceIds.size(); i++) {
+                results.put(serviceIds.get(i), serviceTickets.get(i).getId());
+            }
+            return new ResponseEntity<>(MAPPER.writeValueAsString(results), HttpStatus.OK);
+        } catch (final InvalidTicketException e) {
+            return new ResponseEntity<>(tgtId + " could not be found or is considered invalid", HttpStatus.NOT_FOUND);
+        } catch (final JsonProcessingException | IllegalArgumentException e) {
+            LOGGER.debug(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            AuthenticationCredentialsThreadLocalBinder.clear();
+        }
+    }
+
+    /**
+     * Validate the service tickets in the request body.
+     *
+     * @param requestBody JSON object mapping each service ticket id to the service url it was issued for
+     * @return {@link ResponseEntity} representing RESTful response, mapping each service ticket id to its validation result
+     */
+    @PostMapping(value = "/v1/tickets/validate/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> validateServiceTickets(@RequestBody final String requestBody) {
+        try {
+            val serviceTicketIds = MAPPER.readValue(requestBody, new TypeReference<LinkedHashMap<String, String>>() {
+            });
+            verifyBatchSize(serviceTicketIds.size());
+
+            val serviceTickets = new LinkedHashMap<String, Service>();
+            serviceTicketIds.forEach((ticketId, serviceId) -> serviceTickets.put(ticketId, this.serviceFactory.createService(serviceId)));
+            val assertions = this.centralAuthenticationService.validateServiceTickets(serviceTickets);
+
+            val results = new LinkedHashMap<String, Map<String, Object>>();
+            serviceTicketIds.keySet().forEach(ticketId -> {
+                val result = new LinkedHashMap<String, Object>();
+                val assertion = assertions.get(ticketId);
+                result.put("valid", assertion != null);
+                if (assertion != null) {
+                    val principal = assertion.getPrimaryAuthentication().getPrincipal();
+                    result.put("principal", principal.getId());
+                    result.put("attributes", new HashMap<>(principal.getAttributes()));
+                }
+                results.put(ticketId, result);
+            });
+            return new ResponseEntity<>(MAPPER.writeValueAsString(results), HttpStatus.OK);
+        } catch (final JsonProcessingException | IllegalArgumentException e) {
+            LOGGER.debug(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (final Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            AuthenticationCredentialsThreadLocalBinder.clear();
+        }
+    }
+
+    private void verifyBatchSize(final int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("No service tickets are requested");
+        }
+        if (size > this.maximumBatchSize) {
+            throw new IllegalArgumentException("Number of requested service tickets exceeds the maximum of " + this.maximumBatchSize);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     TicketGrantingTicketResourceTests.class,
     ServiceTicketResourceTests.class,
+    BatchTicketResourceTests.class,
     TicketStatusResourceTests.class,
     UserAuthenticationResourceTests.class
 })
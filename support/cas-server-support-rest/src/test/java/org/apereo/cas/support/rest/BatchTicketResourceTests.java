@@ -0,0 +1,126 @@
+package org.apereo.cas.support.rest;
+
+import lombok.val;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.authentication.AuthenticationManager;
+import org.apereo.cas.authentication.AuthenticationResult;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.DefaultAuthenticationSystemSupport;
+import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
+import org.apereo.cas.authentication.DefaultPrincipalElectionStrategy;
+import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.support.rest.resources.BatchTicketResource;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.validation.Assertion;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link BatchTicketResource}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BatchTicketResourceTests {
+
+    private static final String TICKETS_RESOURCE_URL = "/cas/v1/tickets";
+    private static final String SERVICE1 = "https://app1.example.org";
+    private static final String SERVICE2 = "https://app2.example.org";
+
+    @Mock
+    private CentralAuthenticationService casMock;
+
+    @Mock
+    private TicketRegistrySupport ticketSupport;
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void initialize() {
+        when(ticketSupport.getAuthenticationFrom(anyString())).thenReturn(CoreAuthenticationTestUtils.getAuthentication());
+
+        val publisher = mock(ApplicationEventPublisher.class);
+        val resource = new BatchTicketResource(
+            new DefaultAuthenticationSystemSupport(new DefaultAuthenticationTransactionManager(publisher, mock(AuthenticationManager.class)),
+                new DefaultPrincipalElectionStrategy()),
+            casMock, ticketSupport, new WebApplicationServiceFactory(), 2);
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(resource)
+            .defaultRequest(get("/")
+                .contextPath("/cas")
+                .contentType(MediaType.APPLICATION_JSON))
+            .build();
+    }
+
+    @Test
+    public void verifyServiceTicketsCreated() throws Exception {
+        val st1 = mock(ServiceTicket.class);
+        when(st1.getId()).thenReturn("ST-1");
+        val st2 = mock(ServiceTicket.class);
+        when(st2.getId()).thenReturn("ST-2");
+        when(casMock.grantServiceTickets(anyString(), anyList(), any(AuthenticationResult.class)))
+            .thenReturn(CollectionUtils.wrapList(st1, st2));
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/batch")
+            .content("[\"" + SERVICE1 + "\", \"" + SERVICE2 + "\", \"" + SERVICE1 + "\"]"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"" + SERVICE1 + "\":\"ST-1\",\"" + SERVICE2 + "\":\"ST-2\"}"));
+        verify(casMock).grantServiceTickets(eq("TGT-1"), argThat(services -> services.size() == 2), any(AuthenticationResult.class));
+    }
+
+    @Test
+    public void verifyServiceTicketsForInvalidTicket() throws Exception {
+        when(casMock.grantServiceTickets(anyString(), anyList(), any(AuthenticationResult.class)))
+            .thenThrow(new InvalidTicketException("TGT-1"));
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/batch")
+            .content("[\"" + SERVICE1 + "\"]"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void verifyBatchSizeIsEnforced() throws Exception {
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/batch")
+            .content("[\"" + SERVICE1 + "\", \"" + SERVICE2 + "\", \"https://app3.example.org\"]"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/TGT-1/batch")
+            .content("[]"))
+            .andExpect(status().isBadRequest());
+        verify(casMock, never()).grantServiceTickets(anyString(), anyList(), any(AuthenticationResult.class));
+    }
+
+    @Test
+    public void verifyServiceTicketsValidated() throws Exception {
+        val assertion = mock(Assertion.class);
+        when(assertion.getPrimaryAuthentication()).thenReturn(CoreAuthenticationTestUtils.getAuthentication());
+        when(casMock.validateServiceTickets(anyMap())).thenReturn(CollectionUtils.wrap("ST-1", assertion));
+
+        this.mockMvc.perform(post(TICKETS_RESOURCE_URL + "/validate/batch")
+            .content("{\"ST-1\":\"" + SERVICE1 + "\",\"ST-2\":\"" + SERVICE2 + "\"}"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(startsWith("{\"ST-1\":{\"valid\":true,\"principal\":\""
+                + CoreAuthenticationTestUtils.CONST_USERNAME + '"')))
+            .andExpect(content().string(endsWith("\"ST-2\":{\"valid\":false}}")));
+        verify(casMock).validateServiceTickets(argThat(tickets -> tickets.size() == 2 && tickets.get("ST-2").getId().equals(SERVICE2)));
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas.services;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apereo.cas.authentication.surrogate.SurrogateAuthenticationService;
 
 import java.util.Map;
@@ -13,6 +14,12 @@ import java.util.Map;
 public abstract class BaseSurrogateRegisteredServiceAccessStrategy extends DefaultRegisteredServiceAccessStrategy {
     private static final long serialVersionUID = -3975861635454453130L;
 
+    @JsonIgnore
+    @Override
+    public boolean isPrincipalAccessDecisionCacheable() {
+        return false;
+    }
+
     /**
      * Is surrogate authentication session?.
      *
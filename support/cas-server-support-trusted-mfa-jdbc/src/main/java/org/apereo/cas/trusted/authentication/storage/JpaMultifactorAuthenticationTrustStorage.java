@@ -30,7 +30,7 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
     private transient EntityManager entityManager;
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         try {
             val count = this.entityManager.createQuery("DELETE FROM " + TABLE_NAME + " r where r.recordKey = :key")
                 .setParameter("key", key)
@@ -42,7 +42,7 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
     }
 
     @Override
-    public void expire(final LocalDateTime onOrBefore) {
+    protected void expireInternal(final LocalDateTime onOrBefore) {
         try {
             val count = this.entityManager.createQuery("DELETE FROM " + TABLE_NAME + " r where r.recordDate <= :date")
                 .setParameter("date", onOrBefore)
@@ -81,6 +81,22 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
         return new HashSet<>(0);
     }
 
+    @Override
+    public Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        try {
+            val query = this.entityManager
+                .createQuery("SELECT r FROM " + TABLE_NAME + " r where r.principal = :principal and r.deviceFingerprint = :deviceFingerprint",
+                    MultifactorAuthenticationTrustRecord.class)
+                .setParameter("principal", principal)
+                .setParameter("deviceFingerprint", deviceFingerprint);
+            val results = query.getResultList();
+            return new HashSet<>(results);
+        } catch (final NoResultException e) {
+            LOGGER.info("No trusted authentication records could be found for [{}]", principal);
+        }
+        return new HashSet<>(0);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord setInternal(final MultifactorAuthenticationTrustRecord record) {
         return this.entityManager.merge(record);
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.jpa.JpaConfigDataHolder;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.JpaMultifactorAuthenticationTrustStorage;
@@ -89,6 +90,7 @@ public class JdbcMultifactorAuthnTrustConfiguration {
     public MultifactorAuthenticationTrustStorage mfaTrustEngine() {
         val m = new JpaMultifactorAuthenticationTrustStorage();
         m.setCipherExecutor(this.mfaTrustCipherExecutor);
+        m.setTrustedDeviceCacheExpiration(Beans.newDuration(casProperties.getAuthn().getMfa().getTrusted().getCacheExpiration()));
         return m;
     }
 }
@@ -111,6 +111,18 @@ public class JpaMultifactorAuthenticationTrustStorageTests {
         emptyTrustEngine();
     }
 
+    @Test
+    public void verifyRetrieveByDeviceFingerprint() {
+        mfaTrustEngine.set(MultifactorAuthenticationTrustRecord.newInstance(PRINCIPAL, GEOGRAPHY, DEVICE_FINGERPRINT));
+        mfaTrustEngine.set(MultifactorAuthenticationTrustRecord.newInstance(PRINCIPAL, GEOGRAPHY, "otherDeviceFingerprint"));
+        assertEquals(1, mfaTrustEngine.get(PRINCIPAL, DEVICE_FINGERPRINT).size());
+        assertEquals(1, mfaTrustEngine.get(PRINCIPAL, DEVICE_FINGERPRINT, LocalDateTime.now().minusDays(1)).size());
+        assertThat(mfaTrustEngine.get(PRINCIPAL2, DEVICE_FINGERPRINT), empty());
+
+        emptyTrustEngine();
+        assertThat(mfaTrustEngine.get(PRINCIPAL, DEVICE_FINGERPRINT, LocalDateTime.now().minusDays(1)), empty());
+    }
+
     private void emptyTrustEngine() {
         Stream.of(PRINCIPAL, PRINCIPAL2)
             .map(mfaTrustEngine::get)
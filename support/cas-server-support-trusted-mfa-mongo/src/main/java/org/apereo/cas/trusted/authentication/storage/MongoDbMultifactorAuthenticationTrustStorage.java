@@ -26,7 +26,7 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
     private final MongoOperations mongoTemplate;
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         try {
             val query = new Query();
             query.addCriteria(Criteria.where("recordKey").is(key));
@@ -42,7 +42,7 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
     }
 
     @Override
-    public void expire(final LocalDateTime onOrBefore) {
+    protected void expireInternal(final LocalDateTime onOrBefore) {
         try {
             val query = new Query();
             query.addCriteria(Criteria.where("recordDate").lte(onOrBefore));
@@ -74,6 +74,15 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
         return new HashSet<>(results);
     }
 
+    @Override
+    public Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        val query = new Query();
+        query.addCriteria(Criteria.where("principal").is(principal).and("deviceFingerprint").is(deviceFingerprint));
+        val results =
+            this.mongoTemplate.find(query, MultifactorAuthenticationTrustRecord.class, this.collectionName);
+        return new HashSet<>(results);
+    }
+
     @Override
     protected MultifactorAuthenticationTrustRecord setInternal(final MultifactorAuthenticationTrustRecord record) {
         this.mongoTemplate.save(record, this.collectionName);
@@ -5,6 +5,7 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.MongoDbMultifactorAuthenticationTrustStorage;
@@ -15,7 +16,9 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 
 /**
  * This is {@link MongoDbMultifactorAuthenticationTrustConfiguration}.
@@ -49,6 +52,8 @@ public class MongoDbMultifactorAuthenticationTrustConfiguration {
 
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         factory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        mongoTemplate.indexOps(mongo.getCollection())
+            .ensureIndex(new Index().on("principal", Sort.Direction.ASC).on("deviceFingerprint", Sort.Direction.ASC));
         return mongoTemplate;
     }
 
@@ -61,6 +66,7 @@ public class MongoDbMultifactorAuthenticationTrustConfiguration {
                         mongodb.getCollection(),
                         mongoMfaTrustedAuthnTemplate());
         m.setCipherExecutor(this.mfaTrustCipherExecutor);
+        m.setTrustedDeviceCacheExpiration(Beans.newDuration(casProperties.getAuthn().getMfa().getTrusted().getCacheExpiration()));
         return m;
     }
 }
@@ -36,20 +36,27 @@ public class RestMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
         return getResults(getEndpointUrl(principal));
     }
 
+    @Override
+    public Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        val results = getResults(getEndpointUrl(principal).concat("?deviceFingerprint={deviceFingerprint}"), deviceFingerprint);
+        results.removeIf(entry -> !deviceFingerprint.equals(entry.getDeviceFingerprint()));
+        return results;
+    }
+
     @Override
     public Set<MultifactorAuthenticationTrustRecord> get(final LocalDateTime onOrAfterDate) {
         return getResults(getEndpointUrl(onOrAfterDate.toString()));
     }
 
     @Override
-    public void expire(final LocalDateTime onOrBefore) {
+    protected void expireInternal(final LocalDateTime onOrBefore) {
         val entity = getHttpEntity(onOrBefore);
         restTemplate.exchange(getEndpointUrl(null), HttpMethod.POST, entity, Object.class);
     }
 
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         val entity = getHttpEntity(key);
         restTemplate.exchange(getEndpointUrl(null), HttpMethod.POST, entity, Object.class);
     }
@@ -64,9 +71,9 @@ public class RestMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
         return null;
     }
 
-    private Set<MultifactorAuthenticationTrustRecord> getResults(final String url) {
+    private Set<MultifactorAuthenticationTrustRecord> getResults(final String url, final Object... uriVariables) {
         val entity = getHttpEntity(null);
-        val responseEntity = restTemplate.exchange(url, HttpMethod.GET, entity, MultifactorAuthenticationTrustRecord[].class);
+        val responseEntity = restTemplate.exchange(url, HttpMethod.GET, entity, MultifactorAuthenticationTrustRecord[].class, uriVariables);
         if (responseEntity.getStatusCode() == HttpStatus.OK) {
             val results = responseEntity.getBody();
             return Stream.of(results).collect(Collectors.toSet());
@@ -5,6 +5,7 @@ import lombok.val;
 import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.CipherExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.authentication.storage.RestMultifactorAuthenticationTrustStorage;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +39,7 @@ public class RestMultifactorAuthenticationTrustConfiguration {
     public MultifactorAuthenticationTrustStorage mfaTrustEngine() {
         val m = new RestMultifactorAuthenticationTrustStorage(new RestTemplate(), casProperties);
         m.setCipherExecutor(this.mfaTrustCipherExecutor);
+        m.setTrustedDeviceCacheExpiration(Beans.newDuration(casProperties.getAuthn().getMfa().getTrusted().getCacheExpiration()));
         return m;
     }
 }
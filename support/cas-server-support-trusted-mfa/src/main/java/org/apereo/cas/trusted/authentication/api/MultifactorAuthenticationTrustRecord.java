@@ -17,6 +17,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,7 +30,8 @@ import java.time.temporal.ChronoUnit;
  * @since 5.0.0
  */
 @Entity
-@Table(name = "MultifactorAuthenticationTrustRecord")
+@Table(name = "MultifactorAuthenticationTrustRecord",
+    indexes = @Index(name = "MFA_TRUST_PRINCIPAL_DEVICE_IDX", columnList = "principal,deviceFingerprint"))
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Slf4j
 @ToString
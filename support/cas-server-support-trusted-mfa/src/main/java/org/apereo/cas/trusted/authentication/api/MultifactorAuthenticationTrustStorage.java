@@ -1,7 +1,9 @@
 package org.apereo.cas.trusted.authentication.api;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link MultifactorAuthenticationTrustStorage}.
@@ -50,6 +52,38 @@ public interface MultifactorAuthenticationTrustStorage {
      */
     Set<MultifactorAuthenticationTrustRecord> get(String principal, LocalDateTime onOrAfterDate);
 
+    /**
+     * Get records by device fingerprint.
+     * Storage backends that are able to query by principal and device fingerprint
+     * should override this method to avoid loading all records of the principal.
+     *
+     * @param principal         the principal id
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    default Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return get(principal)
+            .stream()
+            .filter(entry -> deviceFingerprint.equals(entry.getDeviceFingerprint()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Get records by device fingerprint and date.
+     *
+     * @param principal         the principal id
+     * @param deviceFingerprint the device fingerprint
+     * @param onOrAfterDate     the on or after date
+     * @return the records
+     */
+    default Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint,
+                                                          final LocalDateTime onOrAfterDate) {
+        return get(principal, onOrAfterDate)
+            .stream()
+            .filter(entry -> deviceFingerprint.equals(entry.getDeviceFingerprint()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Set trusted record.
      *
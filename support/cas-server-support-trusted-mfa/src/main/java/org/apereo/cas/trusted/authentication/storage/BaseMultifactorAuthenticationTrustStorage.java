@@ -2,6 +2,9 @@ package org.apereo.cas.trusted.authentication.storage;
 
 import lombok.val;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
@@ -12,13 +15,21 @@ import org.apereo.inspektr.audit.annotation.Audit;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 import lombok.ToString;
 import lombok.Setter;
 
 /**
  * This is {@link BaseMultifactorAuthenticationTrustStorage}.
+ * Positive trust decisions for a principal and device fingerprint may be cached locally,
+ * so that repeated logins from a trusted device do not reach out to the storage backend.
+ * Cached records are evicted when they are expired through this storage, once the storage backend
+ * has removed them, so that a concurrent lookup cannot cache them again.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -29,9 +40,31 @@ import lombok.Setter;
 @ToString
 @Setter
 public abstract class BaseMultifactorAuthenticationTrustStorage implements MultifactorAuthenticationTrustStorage {
+    private static final long MAX_CACHE_SIZE = 100_000;
 
     private CipherExecutor<Serializable, String> cipherExecutor;
 
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private Cache<String, MultifactorAuthenticationTrustRecord> trustedDeviceCache;
+
+    /**
+     * Sets how long positive trust decisions are cached.
+     * A zero or negative duration turns off the cache.
+     *
+     * @param expiration the expiration
+     */
+    public void setTrustedDeviceCacheExpiration(final Duration expiration) {
+        if (expiration.isZero() || expiration.isNegative()) {
+            this.trustedDeviceCache = null;
+        } else {
+            this.trustedDeviceCache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHE_SIZE)
+                .expireAfterWrite(expiration)
+                .build();
+        }
+    }
+
     @Audit(action = "TRUSTED_AUTHENTICATION",
         actionResolverName = "TRUSTED_AUTHENTICATION_ACTION_RESOLVER",
         resourceResolverName = "TRUSTED_AUTHENTICATION_RESOURCE_RESOLVER")
@@ -42,20 +75,47 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
         return setInternal(record);
     }
 
+    @Override
+    public void expire(final String key) {
+        try {
+            expireInternal(key);
+        } finally {
+            invalidateTrustedDevices(entry -> StringUtils.equalsIgnoreCase(entry.getRecordKey(), key));
+        }
+    }
+
+    @Override
+    public void expire(final LocalDateTime onOrBefore) {
+        try {
+            expireInternal(onOrBefore);
+        } finally {
+            invalidateTrustedDevices(entry -> !entry.getRecordDate().isAfter(onOrBefore));
+        }
+    }
+
     @Override
     public Set<MultifactorAuthenticationTrustRecord> get(final String principal, final LocalDateTime onOrAfterDate) {
         val res = get(principal);
-        res.removeIf(entry -> {
-            if (entry.getRecordDate().isBefore(onOrAfterDate)) {
-                return true;
-            }
-            val decodedKey = this.cipherExecutor.decode(entry.getRecordKey());
-            val currentKey = MultifactorAuthenticationTrustUtils.generateKey(entry);
-            if (StringUtils.isBlank(decodedKey)) {
-                return true;
+        res.removeIf(entry -> !isRecordValid(entry, onOrAfterDate));
+        return res;
+    }
+
+    @Override
+    public Set<MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint,
+                                                         final LocalDateTime onOrAfterDate) {
+        val cacheKey = principal.concat("@").concat(deviceFingerprint);
+        if (this.trustedDeviceCache != null) {
+            val cached = this.trustedDeviceCache.getIfPresent(cacheKey);
+            if (cached != null && !cached.getRecordDate().isBefore(onOrAfterDate)) {
+                LOGGER.trace("Found cached trusted authentication record for [{}]", principal);
+                return new LinkedHashSet<>(Collections.singleton(cached));
             }
-            return !decodedKey.equals(currentKey);
-        });
+        }
+        val res = get(principal, deviceFingerprint);
+        res.removeIf(entry -> !isRecordValid(entry, onOrAfterDate));
+        if (this.trustedDeviceCache != null && !res.isEmpty()) {
+            this.trustedDeviceCache.put(cacheKey, Collections.max(res));
+        }
         return res;
     }
 
@@ -76,4 +136,36 @@ public abstract class BaseMultifactorAuthenticationTrustStorage implements Multi
      * @return the record
      */
     protected abstract MultifactorAuthenticationTrustRecord setInternal(MultifactorAuthenticationTrustRecord record);
+
+    /**
+     * Expire device by registration key.
+     *
+     * @param key the key
+     */
+    protected abstract void expireInternal(String key);
+
+    /**
+     * Expire records that are on/before the provided date.
+     *
+     * @param onOrBefore the on or before
+     */
+    protected abstract void expireInternal(LocalDateTime onOrBefore);
+
+    private boolean isRecordValid(final MultifactorAuthenticationTrustRecord entry, final LocalDateTime onOrAfterDate) {
+        if (entry.getRecordDate().isBefore(onOrAfterDate)) {
+            return false;
+        }
+        val decodedKey = this.cipherExecutor.decode(entry.getRecordKey());
+        val currentKey = MultifactorAuthenticationTrustUtils.generateKey(entry);
+        if (StringUtils.isBlank(decodedKey)) {
+            return false;
+        }
+        return decodedKey.equals(currentKey);
+    }
+
+    private void invalidateTrustedDevices(final Predicate<MultifactorAuthenticationTrustRecord> predicate) {
+        if (this.trustedDeviceCache != null) {
+            this.trustedDeviceCache.asMap().values().removeIf(predicate);
+        }
+    }
 }
@@ -26,12 +26,12 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
     private final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage;
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         storage.asMap().keySet().removeIf(k -> k.equalsIgnoreCase(key));
     }
 
     @Override
-    public void expire(final LocalDateTime onOrBefore) {
+    protected void expireInternal(final LocalDateTime onOrBefore) {
         val results = storage.asMap()
                 .values()
                 .stream()
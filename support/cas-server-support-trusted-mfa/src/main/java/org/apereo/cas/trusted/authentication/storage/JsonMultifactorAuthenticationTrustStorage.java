@@ -42,13 +42,13 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
     }
 
     @Override
-    public void expire(final String key) {
+    protected void expireInternal(final String key) {
         storage.keySet().removeIf(k -> k.equalsIgnoreCase(key));
         writeTrustedRecordsToResource();
     }
 
     @Override
-    public void expire(final LocalDateTime onOrBefore) {
+    protected void expireInternal(final LocalDateTime onOrBefore) {
         val results = storage
             .values()
             .stream()
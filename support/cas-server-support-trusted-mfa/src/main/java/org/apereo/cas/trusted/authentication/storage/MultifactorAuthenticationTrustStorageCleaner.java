@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apereo.cas.configuration.model.support.mfa.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,28 +30,28 @@ import java.time.LocalDateTime;
 public class MultifactorAuthenticationTrustStorageCleaner {
     private final TrustedDevicesMultifactorProperties trustedProperties;
     private final MultifactorAuthenticationTrustStorage storage;
-    
+    private final ScheduledJobExecutor scheduledJobExecutor;
+
     /**
      * Clean up expired records.
      */
     @Scheduled(initialDelayString = "${cas.authn.mfa.trusted.cleaner.schedule.startDelay:PT10S}",
         fixedDelayString = "${cas.authn.mfa.trusted.cleaner.schedule.repeatInterval:PT60S}")
     public void clean() {
-
-        if (!trustedProperties.getCleaner().getSchedule().isEnabled()) {
+        val schedule = trustedProperties.getCleaner().getSchedule();
+        if (!schedule.isEnabled()) {
             LOGGER.debug("[{}] is disabled. Expired trusted authentication records will not automatically be cleaned up by CAS", getClass().getName());
             return;
         }
+        this.scheduledJobExecutor.execute("mfaTrustStorageCleaner", schedule.isCoordinated(), this::expireRecords);
+    }
 
-        try {
-            LOGGER.debug("Proceeding to clean up expired trusted authentication records...");
-            SpringBeanAutowiringSupport.processInjectionBasedOnCurrentContext(this);
-            val validDate = LocalDateTime.now().minus(trustedProperties.getExpiration(),
-                DateTimeUtils.toChronoUnit(trustedProperties.getTimeUnit()));
-            LOGGER.info("Expiring records that are on/before [{}]", validDate);
-            this.storage.expire(validDate);
-        } catch (final Exception e) {
-            LOGGER.error(e.getMessage(), e);
-        }
+    private void expireRecords() {
+        LOGGER.debug("Proceeding to clean up expired trusted authentication records...");
+        SpringBeanAutowiringSupport.processInjectionBasedOnCurrentContext(this);
+        val validDate = LocalDateTime.now().minus(trustedProperties.getExpiration(),
+            DateTimeUtils.toChronoUnit(trustedProperties.getTimeUnit()));
+        LOGGER.info("Expiring records that are on/before [{}]", validDate);
+        this.storage.expire(validDate);
     }
 }
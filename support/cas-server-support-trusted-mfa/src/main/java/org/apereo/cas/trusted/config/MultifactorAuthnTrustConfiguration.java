@@ -10,6 +10,7 @@ import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
 import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.config.CasCoreUtilConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustCipherExecutor;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
@@ -18,8 +19,10 @@ import org.apereo.cas.trusted.authentication.storage.JsonMultifactorAuthenticati
 import org.apereo.cas.trusted.authentication.storage.MultifactorAuthenticationTrustStorageCleaner;
 import org.apereo.cas.trusted.web.MultifactorTrustedDevicesReportEndpoint;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
 import org.apereo.inspektr.audit.spi.AuditActionResolver;
 import org.apereo.inspektr.audit.spi.AuditResourceResolver;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
@@ -57,6 +60,10 @@ public class MultifactorAuthnTrustConfiguration implements AuditTrailRecordResol
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("scheduledJobExecutor")
+    private ObjectProvider<ScheduledJobExecutor> scheduledJobExecutor;
+
     @ConditionalOnMissingBean(name = "mfaTrustEngine")
     @Bean
     @RefreshScope
@@ -83,6 +90,7 @@ public class MultifactorAuthnTrustConfiguration implements AuditTrailRecordResol
                 return new InMemoryMultifactorAuthenticationTrustStorage(storage);
             }).get();
         m.setCipherExecutor(mfaTrustCipherExecutor());
+        m.setTrustedDeviceCacheExpiration(Beans.newDuration(trusted.getCacheExpiration()));
         return m;
     }
 
@@ -115,7 +123,8 @@ public class MultifactorAuthnTrustConfiguration implements AuditTrailRecordResol
     public MultifactorAuthenticationTrustStorageCleaner mfaTrustStorageCleaner() {
         return new MultifactorAuthenticationTrustStorageCleaner(
             casProperties.getAuthn().getMfa().getTrusted(),
-            mfaTrustEngine());
+            mfaTrustEngine(),
+            scheduledJobExecutor.getIfAvailable(ScheduledJobExecutor::new));
     }
 
     @Override
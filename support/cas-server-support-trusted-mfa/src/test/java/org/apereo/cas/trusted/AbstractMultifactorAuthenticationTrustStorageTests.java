@@ -74,6 +74,30 @@ public abstract class AbstractMultifactorAuthenticationTrustStorageTests {
         assertFalse(mfaTrustEngine.get(record.getPrincipal(), LocalDateTime.now()).isEmpty());
     }
 
+    @Test
+    public void verifyTrustedDeviceLookup() {
+        val record = getMultifactorAuthenticationTrustRecord();
+        record.setDeviceFingerprint("TrustedDevice");
+        mfaTrustEngine.set(record);
+        assertFalse(mfaTrustEngine.get(record.getPrincipal(), "TrustedDevice", LocalDateTime.now()).isEmpty());
+        assertFalse(mfaTrustEngine.get(record.getPrincipal(), "TrustedDevice", LocalDateTime.now()).isEmpty());
+        assertTrue(mfaTrustEngine.get(record.getPrincipal(), "UnknownDevice", LocalDateTime.now()).isEmpty());
+
+        mfaTrustEngine.expire(record.getRecordKey());
+        assertTrue(mfaTrustEngine.get(record.getPrincipal(), "TrustedDevice", LocalDateTime.now()).isEmpty());
+    }
+
+    @Test
+    public void verifyExpiredTrustedDeviceIsNotCached() {
+        val record = getMultifactorAuthenticationTrustRecord();
+        record.setDeviceFingerprint("ExpiredDevice");
+        mfaTrustEngine.set(record);
+        assertFalse(mfaTrustEngine.get(record.getPrincipal(), "ExpiredDevice", LocalDateTime.now()).isEmpty());
+
+        mfaTrustEngine.expire(record.getRecordDate().plusDays(1));
+        assertTrue(mfaTrustEngine.get(record.getPrincipal(), "ExpiredDevice", LocalDateTime.now()).isEmpty());
+    }
+
     protected static MultifactorAuthenticationTrustRecord getMultifactorAuthenticationTrustRecord() {
         val record = new MultifactorAuthenticationTrustRecord();
         record.setDeviceFingerprint("Fingerprint");
@@ -5,6 +5,7 @@ import lombok.val;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.CipherExecutor;
@@ -16,6 +17,8 @@ import org.apereo.cas.adaptors.u2f.storage.U2FJsonResourceDeviceRepository;
 import org.apereo.cas.adaptors.u2f.storage.U2FRestResourceDeviceRepository;
 import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.util.scheduling.ScheduledJobExecutor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -45,6 +48,10 @@ public class U2FConfiguration {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier("scheduledJobExecutor")
+    private ObjectProvider<ScheduledJobExecutor> scheduledJobExecutor;
+
     @ConditionalOnMissingBean(name = "transactionManagerU2f")
     @Bean
     public PlatformTransactionManager transactionManagerU2f() {
@@ -57,7 +64,8 @@ public class U2FConfiguration {
     @ConditionalOnProperty(prefix = "authn.mfa.u2f.cleaner", name = "enabled", havingValue = "true", matchIfMissing = true)
     public U2FDeviceRepositoryCleanerScheduler u2fDeviceRepositoryCleanerScheduler(
             @Qualifier("u2fDeviceRepository") final U2FDeviceRepository storage) {
-        return new U2FDeviceRepositoryCleanerScheduler(storage);
+        val coordinated = casProperties.getAuthn().getMfa().getU2f().getCleaner().getSchedule().isCoordinated();
+        return new U2FDeviceRepositoryCleanerScheduler(storage, scheduledJobExecutor.getIfAvailable(ScheduledJobExecutor::new), coordinated);
     }
 
     @ConditionalOnMissingBean(name = "u2fDeviceRepository")
@@ -97,18 +105,21 @@ public class U2FConfiguration {
     /**
      * The device cleaner scheduler.
      */
+    @RequiredArgsConstructor
     public static class U2FDeviceRepositoryCleanerScheduler {
         private final U2FDeviceRepository repository;
 
-        public U2FDeviceRepositoryCleanerScheduler(final U2FDeviceRepository repository) {
-            this.repository = repository;
-        }
+        private final ScheduledJobExecutor scheduledJobExecutor;
+
+        private final boolean coordinated;
 
         @Scheduled(initialDelayString = "${cas.authn.mfa.u2f.cleaner.schedule.startDelay:PT20S}",
                 fixedDelayString = "${cas.authn.mfa.u2f.cleaner.schedule.repeatInterval:PT15M}")
         public void run() {
-            LOGGER.debug("Starting to clean expired U2F devices from repository");
-            this.repository.clean();
+            this.scheduledJobExecutor.execute("u2fDeviceRepositoryCleaner", this.coordinated, () -> {
+                LOGGER.debug("Starting to clean expired U2F devices from repository");
+                this.repository.clean();
+            });
         }
     }
 
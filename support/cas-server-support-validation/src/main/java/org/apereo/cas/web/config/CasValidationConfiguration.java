@@ -28,9 +28,11 @@ import org.apereo.cas.web.v3.V3ServiceValidateController;
 import org.apereo.cas.web.view.Cas10ResponseView;
 import org.apereo.cas.web.view.Cas20ResponseView;
 import org.apereo.cas.web.view.Cas30ResponseView;
+import org.apereo.cas.web.view.CasXmlStreamingResponseView;
 import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.attributes.InlinedCas30ProtocolAttributesRenderer;
 import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.CasJsonStreamingResponseView;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -170,6 +172,9 @@ public class CasValidationConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "cas2ServiceSuccessView")
     public View cas2ServiceSuccessView() {
+        if (casProperties.getView().getCas2().isStreamResponse()) {
+            return createCas2StreamingResponseView(true);
+        }
         return new Cas20ResponseView(true,
             protocolAttributeEncoder.getIfAvailable(),
             servicesManager,
@@ -184,6 +189,16 @@ public class CasValidationConfiguration {
     public View cas3ServiceJsonView() {
         val authenticationContextAttribute = casProperties.getAuthn().getMfa().getAuthenticationContextAttribute();
         val isReleaseProtocolAttributes = casProperties.getAuthn().isReleaseProtocolAttributes();
+        if (casProperties.getView().getCas3().isStreamResponse()) {
+            return new CasJsonStreamingResponseView(true,
+                protocolAttributeEncoder.getIfAvailable(),
+                servicesManager,
+                authenticationContextAttribute,
+                isReleaseProtocolAttributes,
+                authenticationAttributeReleasePolicy,
+                authenticationServiceSelectionPlan.getIfAvailable(),
+                cas3ProtocolAttributesRenderer());
+        }
         return new Cas30JsonResponseView(true,
             protocolAttributeEncoder.getIfAvailable(),
             servicesManager,
@@ -209,6 +224,9 @@ public class CasValidationConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "cas3ServiceSuccessView")
     public View cas3ServiceSuccessView() {
+        if (casProperties.getView().getCas3().isStreamResponse()) {
+            return createCas3StreamingResponseView(true);
+        }
         val authenticationContextAttribute = casProperties.getAuthn().getMfa().getAuthenticationContextAttribute();
         val isReleaseProtocolAttributes = casProperties.getAuthn().isReleaseProtocolAttributes();
         return new Cas30ResponseView(true,
@@ -248,7 +266,7 @@ public class CasValidationConfiguration {
             authenticationContextValidator,
             cas3ServiceJsonView(),
             cas3ServiceSuccessView(),
-            cas3ServiceFailureView,
+            getCas3ServiceFailureView(),
             casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
             serviceValidationAuthorizers,
             casProperties.getSso().isRenewAuthnEnabled()
@@ -270,7 +288,7 @@ public class CasValidationConfiguration {
             authenticationContextValidator,
             cas3ServiceJsonView(),
             cas3ServiceSuccessView(),
-            cas3ServiceFailureView,
+            getCas3ServiceFailureView(),
             casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
             serviceValidationAuthorizers,
             casProperties.getSso().isRenewAuthnEnabled()
@@ -292,7 +310,7 @@ public class CasValidationConfiguration {
                 authenticationContextValidator,
                 cas3ServiceJsonView(),
                 cas3ServiceSuccessView(),
-                cas3ServiceFailureView,
+                getCas3ServiceFailureView(),
                 casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
                 serviceValidationAuthorizers,
                 casProperties.getSso().isRenewAuthnEnabled()
@@ -310,7 +328,7 @@ public class CasValidationConfiguration {
             authenticationContextValidator,
             cas3ServiceJsonView(),
             cas2ServiceSuccessView(),
-            cas2ServiceFailureView,
+            getCas2ServiceFailureView(),
             casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
             serviceValidationAuthorizers,
             casProperties.getSso().isRenewAuthnEnabled()
@@ -353,7 +371,7 @@ public class CasValidationConfiguration {
                 authenticationContextValidator,
                 cas3ServiceJsonView(),
                 cas3ServiceSuccessView(),
-                cas3ServiceFailureView,
+                getCas3ServiceFailureView(),
                 casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
                 serviceValidationAuthorizers,
                 casProperties.getSso().isRenewAuthnEnabled()
@@ -371,10 +389,48 @@ public class CasValidationConfiguration {
             authenticationContextValidator,
             cas3ServiceJsonView(),
             cas2ServiceSuccessView(),
-            cas2ServiceFailureView,
+            getCas2ServiceFailureView(),
             casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
             serviceValidationAuthorizers,
             casProperties.getSso().isRenewAuthnEnabled()
         );
     }
+
+    private View getCas2ServiceFailureView() {
+        if (casProperties.getView().getCas2().isStreamResponse()) {
+            return createCas2StreamingResponseView(false);
+        }
+        return cas2ServiceFailureView;
+    }
+
+    private View getCas3ServiceFailureView() {
+        if (casProperties.getView().getCas3().isStreamResponse()) {
+            return createCas3StreamingResponseView(false);
+        }
+        return cas3ServiceFailureView;
+    }
+
+    private View createCas2StreamingResponseView(final boolean successResponse) {
+        return new CasXmlStreamingResponseView(successResponse,
+            protocolAttributeEncoder.getIfAvailable(),
+            servicesManager,
+            casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
+            false,
+            casProperties.getAuthn().isReleaseProtocolAttributes(),
+            authenticationAttributeReleasePolicy,
+            authenticationServiceSelectionPlan.getIfAvailable(),
+            cas3ProtocolAttributesRenderer());
+    }
+
+    private View createCas3StreamingResponseView(final boolean successResponse) {
+        return new CasXmlStreamingResponseView(successResponse,
+            protocolAttributeEncoder.getIfAvailable(),
+            servicesManager,
+            casProperties.getAuthn().getMfa().getAuthenticationContextAttribute(),
+            true,
+            casProperties.getAuthn().isReleaseProtocolAttributes(),
+            authenticationAttributeReleasePolicy,
+            authenticationServiceSelectionPlan.getIfAvailable(),
+            cas3ProtocolAttributesRenderer());
+    }
 }
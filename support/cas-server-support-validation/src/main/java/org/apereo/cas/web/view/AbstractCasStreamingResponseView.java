@@ -0,0 +1,107 @@
+package org.apereo.cas.web.view;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link AbstractCasStreamingResponseView}. Renders CAS validation responses
+ * by writing the payload directly to the servlet response, rather than preparing the output model
+ * and delegating to a template-based view. Response attributes are collected and encoded once,
+ * and are never copied into the model.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public abstract class AbstractCasStreamingResponseView extends Cas30ResponseView {
+
+    public AbstractCasStreamingResponseView(final boolean successResponse,
+                                            final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                            final ServicesManager servicesManager,
+                                            final String authenticationContextAttribute,
+                                            final boolean releaseProtocolAttributes,
+                                            final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                            final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                            final CasProtocolAttributesRenderer attributesRenderer,
+                                            final String contentType) {
+        super(successResponse, protocolAttributeEncoder, servicesManager, authenticationContextAttribute, null,
+            releaseProtocolAttributes, authenticationAttributeReleasePolicy, serviceSelectionStrategy, attributesRenderer);
+        setContentType(contentType);
+    }
+
+    @Override
+    @SneakyThrows
+    protected void renderMergedOutputModel(final Map<String, Object> model, final HttpServletRequest request,
+                                           final HttpServletResponse response) {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(getContentType());
+        if (getAssertionFrom(model) != null) {
+            LOGGER.debug("Streaming successful validation response via [{}]", getClass().getSimpleName());
+            writeAuthenticationSuccess(model, response);
+        } else {
+            LOGGER.debug("Streaming failed validation response via [{}]", getClass().getSimpleName());
+            writeAuthenticationFailure(getErrorCodeFrom(model),
+                Objects.toString(model.get(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION), null), response);
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * Gets the final collection of encoded attributes for the response.
+     *
+     * @param model the model
+     * @return the encoded attributes
+     */
+    protected Map<String, Object> getEncodedCasResponseAttributes(final Map<String, Object> model) {
+        val registeredService = getRegisteredServiceFrom(model);
+        val attributes = getCasResponseAttributes(model, registeredService);
+        return this.protocolAttributeEncoder.encodeAttributes(attributes, registeredService);
+    }
+
+    /**
+     * Gets the identifiers of the proxies that participated in the authentication, if any.
+     *
+     * @param model the model
+     * @return the proxies
+     */
+    protected Collection<String> getProxies(final Map<String, Object> model) {
+        return getChainedAuthentications(model)
+            .stream()
+            .map(authn -> authn.getPrincipal().getId())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Write authentication success into the response.
+     *
+     * @param model    the model
+     * @param response the response
+     * @throws Exception the exception
+     */
+    protected abstract void writeAuthenticationSuccess(Map<String, Object> model, HttpServletResponse response) throws Exception;
+
+    /**
+     * Write authentication failure into the response.
+     *
+     * @param code        the code
+     * @param description the description
+     * @param response    the response
+     * @throws Exception the exception
+     */
+    protected abstract void writeAuthenticationFailure(String code, String description, HttpServletResponse response) throws Exception;
+}
@@ -31,7 +31,11 @@ import java.util.Map;
 @Slf4j
 public class Cas30ResponseView extends Cas20ResponseView {
 
-    private final CasProtocolAttributesRenderer attributesRenderer;
+    /**
+     * The attributes renderer.
+     */
+    protected final CasProtocolAttributesRenderer attributesRenderer;
+
     private final boolean releaseProtocolAttributes;
 
     public Cas30ResponseView(final boolean successResponse,
@@ -54,9 +58,30 @@ public class Cas30ResponseView extends Cas20ResponseView {
                                             final HttpServletResponse response) throws Exception {
         super.prepareMergedOutputModel(model, request, response);
 
+        val registeredService = getRegisteredServiceFrom(model);
+        val attributes = getCasResponseAttributes(model, registeredService);
+        putCasResponseAttributesIntoModel(model, attributes, registeredService);
+    }
+
+    /**
+     * Gets the registered service linked to the service in the model.
+     *
+     * @param model the model
+     * @return the registered service
+     */
+    protected RegisteredService getRegisteredServiceFrom(final Map<String, Object> model) {
         val service = authenticationRequestServiceSelectionStrategies.resolveService(getServiceFrom(model));
-        val registeredService = this.servicesManager.findServiceBy(service);
+        return this.servicesManager.findServiceBy(service);
+    }
 
+    /**
+     * Gets the final collection of attributes for the response, before encoding.
+     *
+     * @param model             the model
+     * @param registeredService the registered service
+     * @return the cas response attributes
+     */
+    protected Map<String, Object> getCasResponseAttributes(final Map<String, Object> model, final RegisteredService registeredService) {
         val principalAttributes = getCasPrincipalAttributes(model, registeredService);
         val attributes = new HashMap<String, Object>(principalAttributes);
 
@@ -72,7 +97,7 @@ public class Cas30ResponseView extends Cas20ResponseView {
         decideIfProxyGrantingTicketShouldBeReleasedAsAttribute(attributes, model, registeredService);
 
         LOGGER.debug("Final collection of attributes for the response are [{}].", attributes.keySet());
-        putCasResponseAttributesIntoModel(model, attributes, registeredService);
+        return attributes;
     }
 
     /**
@@ -0,0 +1,106 @@
+package org.apereo.cas.web.view;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.apereo.cas.authentication.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * This is {@link CasXmlStreamingResponseView} that writes CAS2 and CAS3 XML validation
+ * responses directly to the response writer. Attribute formatting is left to the configured
+ * {@link CasProtocolAttributesRenderer}, and attributes are only collected when the view
+ * is set to release attributes, matching the CAS3 (or CAS2 forward-compatible) response.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CasXmlStreamingResponseView extends AbstractCasStreamingResponseView {
+    private static final String XML_CONTENT_TYPE = MediaType.APPLICATION_XML_VALUE + ";charset=UTF-8";
+
+    private final boolean releaseAttributes;
+
+    public CasXmlStreamingResponseView(final boolean successResponse,
+                                       final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                       final ServicesManager servicesManager,
+                                       final String authenticationContextAttribute,
+                                       final boolean releaseAttributes,
+                                       final boolean releaseProtocolAttributes,
+                                       final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                       final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                       final CasProtocolAttributesRenderer attributesRenderer) {
+        super(successResponse, protocolAttributeEncoder, servicesManager, authenticationContextAttribute,
+            releaseProtocolAttributes, authenticationAttributeReleasePolicy, serviceSelectionStrategy,
+            attributesRenderer, XML_CONTENT_TYPE);
+        this.releaseAttributes = releaseAttributes;
+    }
+
+    @Override
+    protected void writeAuthenticationSuccess(final Map<String, Object> model, final HttpServletResponse response) throws IOException {
+        val formattedAttributes = this.releaseAttributes
+            ? this.attributesRenderer.render(getEncodedCasResponseAttributes(model))
+            : null;
+        val proxies = getProxies(model);
+        val pgtIou = getProxyGrantingTicketIou(model);
+
+        val writer = response.getWriter();
+        writer.write("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n");
+        writer.write("    <cas:authenticationSuccess>\n");
+        writeElement(writer, "user", getPrincipal(model).getId());
+        if (pgtIou != null) {
+            writeElement(writer, "proxyGrantingTicket", pgtIou);
+        }
+        if (!proxies.isEmpty()) {
+            writer.write("        <cas:proxies>\n");
+            for (val proxy : proxies) {
+                writer.write("    ");
+                writeElement(writer, "proxy", proxy);
+            }
+            writer.write("        </cas:proxies>\n");
+        }
+        if (formattedAttributes != null && !formattedAttributes.isEmpty()) {
+            writer.write("        <cas:attributes>\n");
+            for (val attribute : formattedAttributes) {
+                writer.write("            ");
+                writer.write(attribute);
+                writer.write('\n');
+            }
+            writer.write("        </cas:attributes>\n");
+        }
+        writer.write("    </cas:authenticationSuccess>\n");
+        writer.write("</cas:serviceResponse>\n");
+    }
+
+    @Override
+    protected void writeAuthenticationFailure(final String code, final String description, final HttpServletResponse response) throws IOException {
+        val writer = response.getWriter();
+        writer.write("<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>\n");
+        writer.write("    <cas:authenticationFailure code=\"");
+        writer.write(StringEscapeUtils.escapeXml10(StringUtils.defaultString(code)));
+        writer.write("\">");
+        writer.write(StringEscapeUtils.escapeXml10(StringUtils.defaultString(description)));
+        writer.write("</cas:authenticationFailure>\n");
+        writer.write("</cas:serviceResponse>\n");
+    }
+
+    private static void writeElement(final Writer writer, final String name, final String value) throws IOException {
+        writer.write("        <cas:");
+        writer.write(name);
+        writer.write('>');
+        writer.write(StringEscapeUtils.escapeXml10(StringUtils.defaultString(value)));
+        writer.write("</cas:");
+        writer.write(name);
+        writer.write(">\n");
+    }
+}
@@ -0,0 +1,97 @@
+package org.apereo.cas.web.view.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.authentication.AuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.ProtocolAttributeEncoder;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.validation.CasProtocolAttributesRenderer;
+import org.apereo.cas.web.view.AbstractCasStreamingResponseView;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is {@link CasJsonStreamingResponseView} that writes CAS3 JSON validation responses
+ * directly to the response output stream via a {@link JsonGenerator}. The produced document
+ * matches the structure rendered by {@link Cas30JsonResponseView}, without building the
+ * intermediate {@link CasJsonServiceResponse} model.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CasJsonStreamingResponseView extends AbstractCasStreamingResponseView {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .findAndRegisterModules();
+
+    public CasJsonStreamingResponseView(final boolean successResponse,
+                                        final ProtocolAttributeEncoder protocolAttributeEncoder,
+                                        final ServicesManager servicesManager,
+                                        final String authenticationContextAttribute,
+                                        final boolean releaseProtocolAttributes,
+                                        final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy,
+                                        final AuthenticationServiceSelectionPlan serviceSelectionStrategy,
+                                        final CasProtocolAttributesRenderer attributesRenderer) {
+        super(successResponse, protocolAttributeEncoder, servicesManager, authenticationContextAttribute,
+            releaseProtocolAttributes, authenticationAttributeReleasePolicy, serviceSelectionStrategy,
+            attributesRenderer, MediaType.APPLICATION_JSON_UTF8_VALUE);
+    }
+
+    @Override
+    protected void writeAuthenticationSuccess(final Map<String, Object> model, final HttpServletResponse response) throws IOException {
+        val attributes = getEncodedCasResponseAttributes(model);
+        val proxies = getProxies(model);
+        val pgtIou = getProxyGrantingTicketIou(model);
+
+        try (val generator = createJsonGenerator(response)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE);
+            generator.writeObjectFieldStart("authenticationSuccess");
+            generator.writeStringField("user", getPrincipal(model).getId());
+            if (pgtIou != null) {
+                generator.writeStringField("proxyGrantingTicket", pgtIou);
+            }
+            if (!proxies.isEmpty()) {
+                generator.writeArrayFieldStart("proxies");
+                for (val proxy : proxies) {
+                    generator.writeString(proxy);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeObjectField("attributes", attributes);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    protected void writeAuthenticationFailure(final String code, final String description, final HttpServletResponse response) throws IOException {
+        try (val generator = createJsonGenerator(response)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart(Cas30JsonResponseView.ATTRIBUTE_NAME_MODEL_SERVICE_RESPONSE);
+            generator.writeObjectFieldStart("authenticationFailure");
+            generator.writeStringField("code", code);
+            generator.writeStringField("description", description);
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static JsonGenerator createJsonGenerator(final HttpServletResponse response) throws IOException {
+        return MAPPER.getFactory()
+            .createGenerator(response.getOutputStream(), JsonEncoding.UTF8)
+            .useDefaultPrettyPrinter();
+    }
+}
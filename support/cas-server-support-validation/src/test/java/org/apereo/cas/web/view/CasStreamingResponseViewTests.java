@@ -0,0 +1,281 @@
+package org.apereo.cas.web.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+import org.apereo.cas.CasProtocolConstants;
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.CipherExecutor;
+import org.apereo.cas.authentication.DefaultAuthenticationAttributeReleasePolicy;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
+import org.apereo.cas.authentication.DefaultMultifactorAuthenticationContextValidator;
+import org.apereo.cas.authentication.DefaultMultifactorTriggerSelectionStrategy;
+import org.apereo.cas.authentication.support.DefaultCasProtocolAttributeEncoder;
+import org.apereo.cas.configuration.model.support.mfa.MultifactorAuthenticationProperties;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.validation.DefaultServiceTicketValidationAuthorizersExecutionPlan;
+import org.apereo.cas.web.AbstractServiceValidateController;
+import org.apereo.cas.web.AbstractServiceValidateControllerTests;
+import org.apereo.cas.web.ServiceValidateController;
+import org.apereo.cas.web.view.attributes.DefaultCas30ProtocolAttributesRenderer;
+import org.apereo.cas.web.view.json.Cas30JsonResponseView;
+import org.apereo.cas.web.view.json.CasJsonStreamingResponseView;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link CasXmlStreamingResponseView} and {@link CasJsonStreamingResponseView}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@DirtiesContext
+@Slf4j
+public class CasStreamingResponseViewTests extends AbstractServiceValidateControllerTests {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int BENCHMARK_WARMUP_ITERATIONS = 200;
+
+    private static final int BENCHMARK_ITERATIONS = 1000;
+
+    /**
+     * The CAS 3 success template shipped with the web application, rendered as the baseline of the benchmark.
+     */
+    private static final String CAS3_SUCCESS_TEMPLATE = "<cas:serviceResponse xmlns:cas='http://www.yale.edu/tp/cas'>"
+        + "<cas:authenticationSuccess>"
+        + "<cas:user th:text=\"${principal.id}\"/>"
+        + "<cas:proxyGrantingTicket th:if=\"${pgtIou}\" th:text=\"${pgtIou}\"/>"
+        + "<cas:proxies th:if=\"${not #lists.isEmpty(chainedAuthentications)}\">"
+        + "<cas:proxy th:each=\"proxy : ${chainedAuthentications}\" th:text=\"${proxy.principal.id}\"/>"
+        + "</cas:proxies>"
+        + "<cas:attributes th:if=\"${not #lists.isEmpty(formattedAttributes)}\">"
+        + "<div th:each=\"attr : ${formattedAttributes}\" th:remove=\"tag\"><div th:utext=\"${attr}\" th:remove=\"tag\"/></div>"
+        + "</cas:attributes>"
+        + "</cas:authenticationSuccess>"
+        + "</cas:serviceResponse>";
+
+    @Autowired
+    @Qualifier("servicesManager")
+    private ServicesManager servicesManager;
+
+    @Autowired
+    @Qualifier("cas3ServiceJsonView")
+    private View cas3ServiceJsonView;
+
+    @Autowired
+    @Qualifier("cas3SuccessView")
+    private View cas3SuccessView;
+
+    @Autowired
+    @Qualifier("cas3ServiceFailureView")
+    private View cas3ServiceFailureView;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public AbstractServiceValidateController getServiceValidateControllerInstance() {
+        return new ServiceValidateController(
+            getValidationSpecification(),
+            getAuthenticationSystemSupport(), getServicesManager(),
+            getCentralAuthenticationService(),
+            getProxyHandler(),
+            getArgumentExtractor(),
+            new DefaultMultifactorTriggerSelectionStrategy(new MultifactorAuthenticationProperties()),
+            new DefaultMultifactorAuthenticationContextValidator("", "OPEN", "test", applicationContext),
+            cas3ServiceJsonView,
+            cas3SuccessView,
+            cas3ServiceFailureView,
+            "authenticationContext",
+            new DefaultServiceTicketValidationAuthorizersExecutionPlan(),
+            true
+        );
+    }
+
+    @Test
+    public void verifyXmlSuccessResponse() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl().getModel();
+        val response = render(getXmlView(true, true), model);
+        val content = response.getContentAsString();
+        assertTrue(response.getContentType().startsWith("application/xml"));
+        assertTrue(content.contains("<cas:authenticationSuccess>"));
+        assertTrue(content.contains("<cas:user>"));
+        assertTrue(content.contains("<cas:proxyGrantingTicket>"));
+        assertTrue(content.contains("<cas:" + CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_AUTHENTICATION_DATE + '>'));
+    }
+
+    @Test
+    public void verifyXmlSuccessResponseWithoutAttributes() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl().getModel();
+        val content = render(getXmlView(true, false), model).getContentAsString();
+        assertTrue(content.contains("<cas:user>"));
+        assertFalse(content.contains("<cas:attributes>"));
+    }
+
+    @Test
+    public void verifyXmlFailureResponse() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket <ST-1> not recognized");
+        val content = render(getXmlView(false, true), model).getContentAsString();
+        assertTrue(content.contains("<cas:authenticationFailure code=\"INVALID_TICKET\">"));
+        assertTrue(content.contains("Ticket &lt;ST-1&gt; not recognized"));
+    }
+
+    @Test
+    public void verifyJsonResponseMatchesModelRendering() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl().getModel();
+        val expected = MAPPER.readTree(render(getJsonView(), model).getContentAsString()).get("serviceResponse");
+        val streamed = MAPPER.readTree(render(getJsonStreamingView(), model).getContentAsString()).get("serviceResponse");
+
+        val expectedSuccess = expected.get("authenticationSuccess");
+        val streamedSuccess = streamed.get("authenticationSuccess");
+        assertEquals(expectedSuccess.get("user"), streamedSuccess.get("user"));
+        assertEquals(expectedSuccess.get("proxyGrantingTicket"), streamedSuccess.get("proxyGrantingTicket"));
+        val expectedAttributes = MAPPER.convertValue(expectedSuccess.get("attributes"), Map.class);
+        val streamedAttributes = MAPPER.convertValue(streamedSuccess.get("attributes"), Map.class);
+        assertEquals(expectedAttributes.keySet(), streamedAttributes.keySet());
+    }
+
+    @Test
+    public void verifyJsonFailureResponse() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_DESCRIPTION, "Ticket not recognized");
+        val response = render(getJsonStreamingView(), model);
+        val failure = MAPPER.readTree(response.getContentAsString()).get("serviceResponse").get("authenticationFailure");
+        assertEquals("INVALID_TICKET", failure.get("code").asText());
+        assertEquals("Ticket not recognized", failure.get("description").asText());
+    }
+
+    @Test
+    public void verifyXmlFailureResponseWithoutDescription() throws Exception {
+        val model = new HashMap<String, Object>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ERROR_CODE, "INVALID_TICKET");
+        val content = render(getXmlView(false, true), model).getContentAsString();
+        assertTrue(content.contains("<cas:authenticationFailure code=\"INVALID_TICKET\"></cas:authenticationFailure>"));
+    }
+
+    /**
+     * Compares the time it takes to render a successful validation response through the model-based views,
+     * i.e. {@link Cas30ResponseView} backed by the CAS 3 template and {@link Cas30JsonResponseView},
+     * with the streaming XML and JSON views. Each view is warmed up first; the timings are logged and
+     * the streaming views may not be slower than twice their model-based counterparts, which leaves room
+     * for the noise of a shared build machine while still catching a regression of the streaming views.
+     */
+    @Test
+    public void verifyStreamingRenderingBenchmark() throws Exception {
+        val model = getModelAndViewUponServiceValidationWithSecurePgtUrl().getModel();
+        val templateView = getTemplateView();
+
+        assertTrue(render(templateView, model).getContentAsString().contains("<cas:user>"));
+        assertTrue(render(getXmlView(true, true), model).getContentAsString().contains("<cas:user>"));
+
+        val templateTime = benchmark(() -> templateView, model);
+        val xmlStreamingTime = benchmark(() -> getXmlView(true, true), model);
+        val jsonTime = benchmark(this::getJsonView, model);
+        val jsonStreamingTime = benchmark(this::getJsonStreamingView, model);
+
+        LOGGER.info("Rendered [{}] validation responses as XML in [{}]ms using the template view and in [{}]ms using the streaming view",
+            BENCHMARK_ITERATIONS, templateTime, xmlStreamingTime);
+        LOGGER.info("Rendered [{}] validation responses as JSON in [{}]ms using the model view and in [{}]ms using the streaming view",
+            BENCHMARK_ITERATIONS, jsonTime, jsonStreamingTime);
+        assertTrue(xmlStreamingTime <= Math.max(templateTime, 1) * 2);
+        assertTrue(jsonStreamingTime <= Math.max(jsonTime, 1) * 2);
+    }
+
+    private static long benchmark(final Supplier<View> viewSupplier, final Map<String, ?> model) throws Exception {
+        val view = viewSupplier.get();
+        for (var i = 0; i < BENCHMARK_WARMUP_ITERATIONS; i++) {
+            render(view, model);
+        }
+        val watch = new StopWatch();
+        watch.start();
+        for (var i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            render(view, model);
+        }
+        watch.stop();
+        return watch.getTime();
+    }
+
+    private static MockHttpServletResponse render(final View view, final Map<String, ?> model) throws Exception {
+        val response = new MockHttpServletResponse();
+        view.render(new HashMap<>(model), new MockHttpServletRequest(), response);
+        return response;
+    }
+
+    private Cas30ResponseView getTemplateView() {
+        val resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.XML);
+        val templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        val templateView = new View() {
+            @Override
+            public String getContentType() {
+                return "application/xml";
+            }
+
+            @Override
+            public void render(final Map<String, ?> model, final HttpServletRequest request,
+                               final HttpServletResponse response) throws Exception {
+                response.setContentType(getContentType());
+                templateEngine.process(CAS3_SUCCESS_TEMPLATE, new Context(request.getLocale(), new HashMap<>(model)), response.getWriter());
+            }
+        };
+        return new Cas30ResponseView(true,
+            new DefaultCasProtocolAttributeEncoder(this.servicesManager, CipherExecutor.noOpOfStringToString()),
+            this.servicesManager, "attribute", templateView, true,
+            new DefaultAuthenticationAttributeReleasePolicy(),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+
+    private CasXmlStreamingResponseView getXmlView(final boolean successResponse, final boolean releaseAttributes) {
+        return new CasXmlStreamingResponseView(successResponse,
+            new DefaultCasProtocolAttributeEncoder(this.servicesManager, CipherExecutor.noOpOfStringToString()),
+            this.servicesManager, "attribute", releaseAttributes, true,
+            new DefaultAuthenticationAttributeReleasePolicy(),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+
+    private CasJsonStreamingResponseView getJsonStreamingView() {
+        return new CasJsonStreamingResponseView(true,
+            new DefaultCasProtocolAttributeEncoder(this.servicesManager, CipherExecutor.noOpOfStringToString()),
+            this.servicesManager, "attribute", true,
+            new DefaultAuthenticationAttributeReleasePolicy(),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+
+    private Cas30JsonResponseView getJsonView() {
+        return new Cas30JsonResponseView(true,
+            new DefaultCasProtocolAttributeEncoder(this.servicesManager, CipherExecutor.noOpOfStringToString()),
+            this.servicesManager, "attribute", true,
+            new DefaultAuthenticationAttributeReleasePolicy(),
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()),
+            new DefaultCas30ProtocolAttributesRenderer());
+    }
+}
@@ -0,0 +1,306 @@
+package org.apereo.cas.adaptors.x509.authentication;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apereo.cas.util.crypto.CertUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CRLDistributionPointManager}. It keeps the CRLs of all distribution points
+ * that have been seen so far, as {@link CompactX509CRL}s, and refreshes them in the background
+ * ahead of their {@code nextUpdate} so that revocation checks do not have to wait for large CRLs
+ * to be downloaded and parsed. Only the first check against a distribution point fetches its CRL inline.
+ * <p>
+ * If a CRL advertises delta CRLs via its freshest CRL extension, the deltas are fetched
+ * along with it and merged into the base CRL; only the merged CRL is kept in memory. Delta CRLs are cumulative,
+ * so newer deltas are merged into the merged CRL until the base CRL itself is refreshed.
+ * If a storage directory is defined, the last good base CRL of each distribution point is kept on disk
+ * and loaded back on startup.
+ * <p>
+ * Concurrent first checks against the same distribution point share a single fetch.
+ * As with the cache-based revocation checker, signatures of fetched CRLs are not verified.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CRLDistributionPointManager implements InitializingBean, DisposableBean {
+    private static final String CRL_FILE_EXTENSION = ".crl";
+
+    private static final String LOCATION_FILE_EXTENSION = ".location";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        val thread = new Thread(runnable, getClass().getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<URI, DistributionPointCRL> distributionPoints = new ConcurrentHashMap<>();
+
+    private final Map<URI, CompletableFuture<DistributionPointCRL>> pendingFetches = new ConcurrentHashMap<>();
+
+    private final CRLFetcher fetcher;
+
+    /**
+     * How long before the {@code nextUpdate} of a CRL it should be refreshed.
+     */
+    private final Duration prefetchLeadTime;
+
+    /**
+     * How often distribution points are examined for refreshes.
+     */
+    private final Duration refreshInterval;
+
+    /**
+     * Directory where the last good CRLs are kept; may be null.
+     */
+    private final File storageDirectory;
+
+    @Override
+    public void afterPropertiesSet() {
+        init();
+    }
+
+    /**
+     * Load CRLs kept on disk and schedule the background refresh.
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    public void init() {
+        loadStoredCRLs();
+        this.scheduler.scheduleWithFixedDelay(this::refresh, 0,
+            this.refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the CRL of the distribution point, fetching it if the distribution point is not known yet.
+     *
+     * @param location the location of the distribution point
+     * @return the crl, or null if none could be fetched
+     * @throws Exception the exception
+     */
+    public X509CRL getCRL(final URI location) throws Exception {
+        val known = this.distributionPoints.get(location);
+        if (known != null) {
+            return known.getCrl();
+        }
+        val future = new CompletableFuture<DistributionPointCRL>();
+        val pending = this.pendingFetches.putIfAbsent(location, future);
+        if (pending != null) {
+            LOGGER.debug("CRL for [{}] is being fetched already. Waiting...", location);
+            return toCRL(awaitFetch(pending));
+        }
+        try {
+            var point = this.distributionPoints.get(location);
+            if (point == null) {
+                point = fetchDistributionPoint(location);
+                if (point != null) {
+                    this.distributionPoints.put(location, point);
+                }
+            }
+            future.complete(point);
+            return toCRL(point);
+        } catch (final Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.pendingFetches.remove(location, future);
+        }
+    }
+
+    /**
+     * Record the CRL of a distribution point, or forget the distribution point if the CRL is null.
+     *
+     * @param location the location
+     * @param crl      the crl
+     */
+    public void addCRL(final URI location, final X509CRL crl) {
+        if (crl == null) {
+            this.distributionPoints.remove(location);
+        } else {
+            this.distributionPoints.put(location, new DistributionPointCRL(CompactX509CRL.of(crl)));
+        }
+    }
+
+    /**
+     * Refresh the CRLs of all known distribution points that are about to expire.
+     * Failures to refresh keep the last good CRL in place.
+     */
+    public void refresh() {
+        this.distributionPoints.forEach((location, point) -> {
+            try {
+                var current = point;
+                if (isDueForRefresh(current.getBaseNextUpdateTime())) {
+                    LOGGER.debug("Refreshing CRL for [{}]", location);
+                    val crl = this.fetcher.fetch(location);
+                    if (crl != null) {
+                        store(location, crl);
+                        current = new DistributionPointCRL(CompactX509CRL.of(crl));
+                        LOGGER.info("Refreshed CRL for [{}] with [{}] revoked certificate(s)", location, current.getCrl().size());
+                    }
+                }
+                this.distributionPoints.replace(location, point, refreshDelta(location, current));
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to refresh CRL for [{}]: [{}]", location, e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    /**
+     * Shutdown scheduler.
+     */
+    public void shutdown() {
+        this.scheduler.shutdown();
+    }
+
+    private DistributionPointCRL fetchDistributionPoint(final URI location) throws Exception {
+        LOGGER.debug("CRL for [{}] is not known. Fetching...", location);
+        val crl = this.fetcher.fetch(location);
+        if (crl == null) {
+            return null;
+        }
+        store(location, crl);
+        return refreshDelta(location, new DistributionPointCRL(CompactX509CRL.of(crl)));
+    }
+
+    private DistributionPointCRL refreshDelta(final URI location, final DistributionPointCRL point) {
+        val locations = point.getCrl().getFreshestCrlLocations();
+        if (locations.isEmpty() || (point.isMerged() && !isDueForRefresh(point.getCrl().getNextUpdateTime()))) {
+            return point;
+        }
+        for (val deltaLocation : locations) {
+            try {
+                val crl = this.fetcher.fetch(deltaLocation);
+                if (crl != null) {
+                    val delta = CompactX509CRL.of(crl);
+                    if (delta.isDelta()) {
+                        LOGGER.debug("Fetched delta CRL for [{}] from [{}]", location, deltaLocation);
+                        return point.merge(delta);
+                    }
+                }
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to fetch delta CRL for [{}] from [{}]: [{}]", location, deltaLocation, e.getMessage());
+            }
+        }
+        return point;
+    }
+
+    private boolean isDueForRefresh(final Long nextUpdate) {
+        return nextUpdate == null || System.currentTimeMillis() >= nextUpdate - this.prefetchLeadTime.toMillis();
+    }
+
+    private static X509CRL toCRL(final DistributionPointCRL point) {
+        return point == null ? null : point.getCrl();
+    }
+
+    private static DistributionPointCRL awaitFetch(final CompletableFuture<DistributionPointCRL> pending) throws Exception {
+        try {
+            return pending.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void store(final URI location, final X509CRL crl) {
+        if (this.storageDirectory == null) {
+            return;
+        }
+        try {
+            val name = DigestUtils.sha256Hex(location.toString());
+            val crlFile = new File(this.storageDirectory, name + CRL_FILE_EXTENSION);
+            val tempFile = File.createTempFile(name, CRL_FILE_EXTENSION, this.storageDirectory);
+            Files.write(tempFile.toPath(), crl.getEncoded());
+            Files.move(tempFile.toPath(), crlFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.write(new File(this.storageDirectory, name + LOCATION_FILE_EXTENSION).toPath(),
+                location.toString().getBytes(StandardCharsets.UTF_8));
+            LOGGER.debug("Stored CRL for [{}] at [{}]", location, crlFile);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to store CRL for [{}]: [{}]", location, e.getMessage());
+        }
+    }
+
+    private void loadStoredCRLs() {
+        if (this.storageDirectory == null) {
+            return;
+        }
+        if (!this.storageDirectory.exists() && !this.storageDirectory.mkdirs()) {
+            LOGGER.warn("Unable to create CRL storage directory [{}]", this.storageDirectory);
+            return;
+        }
+        val files = this.storageDirectory.listFiles((dir, name) -> name.endsWith(LOCATION_FILE_EXTENSION));
+        if (files == null) {
+            return;
+        }
+        for (val locationFile : files) {
+            val name = locationFile.getName().substring(0, locationFile.getName().length() - LOCATION_FILE_EXTENSION.length());
+            val crlFile = new File(this.storageDirectory, name + CRL_FILE_EXTENSION);
+            try (val in = Files.newInputStream(crlFile.toPath())) {
+                val location = URI.create(new String(Files.readAllBytes(locationFile.toPath()), StandardCharsets.UTF_8).trim());
+                val crl = (X509CRL) CertUtils.getCertificateFactory().generateCRL(in);
+                this.distributionPoints.put(location, new DistributionPointCRL(CompactX509CRL.of(crl)));
+                LOGGER.debug("Loaded stored CRL for [{}] from [{}]", location, crlFile);
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to load stored CRL from [{}]: [{}]", crlFile, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The CRL of a distribution point.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class DistributionPointCRL {
+        /**
+         * The base CRL, with the latest delta CRL merged into it, if any.
+         */
+        private final CompactX509CRL crl;
+
+        /**
+         * When the base CRL is due to be updated.
+         */
+        private final Long baseNextUpdateTime;
+
+        /**
+         * Whether a delta CRL was merged into the base CRL.
+         */
+        private final boolean merged;
+
+        DistributionPointCRL(final CompactX509CRL base) {
+            this(base, base.getNextUpdateTime(), false);
+        }
+
+        DistributionPointCRL merge(final CompactX509CRL delta) {
+            val mergedCrl = this.crl.merge(delta);
+            return mergedCrl == this.crl ? this : new DistributionPointCRL(mergedCrl, this.baseNextUpdateTime, true);
+        }
+    }
+}
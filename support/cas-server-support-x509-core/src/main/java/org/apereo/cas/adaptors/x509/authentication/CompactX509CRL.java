@@ -0,0 +1,442 @@
+package org.apereo.cas.adaptors.x509.authentication;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DERIA5String;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.Principal;
+import java.security.PublicKey;
+import java.security.cert.CRLException;
+import java.security.cert.CRLReason;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * This is {@link CompactX509CRL}. It keeps only what is needed to answer revocation
+ * checks for a CRL, i.e. the issuer, the validity period and a sorted index of revoked serial numbers,
+ * rather than the full parsed CRL with its entries and extensions. Serial numbers that fit into
+ * a {@code long} are indexed as primitives, and the rest as {@link BigInteger}s.
+ * <p>
+ * A compact CRL may also represent a delta CRL, which can be merged into its base CRL
+ * via {@link #merge(CompactX509CRL)}. The encoded form of the original CRL is not retained, so operations that
+ * require it, i.e. encoding or signature verification, fail with a {@link CRLException} that callers of
+ * {@link X509CRL} are expected to handle. The signature of a CRL, if it is to be verified, must be verified
+ * on the original CRL before it is compacted.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+@EqualsAndHashCode(callSuper = false, of = {"issuer", "thisUpdateTime", "crlNumber", "deltaBaseCrlNumber"})
+public class CompactX509CRL extends X509CRL {
+
+    private static final byte NO_REASON = -1;
+
+    private final X500Principal issuer;
+
+    @Getter
+    private final long thisUpdateTime;
+
+    @Getter
+    private final Long nextUpdateTime;
+
+    /**
+     * The CRL number, if any.
+     */
+    @Getter
+    private final BigInteger crlNumber;
+
+    /**
+     * The number of the base CRL, if this is a delta CRL.
+     */
+    @Getter
+    private final BigInteger deltaBaseCrlNumber;
+
+    /**
+     * Locations of delta CRLs, as advertised by the freshest CRL extension.
+     */
+    @Getter
+    private final List<String> freshestCrlLocations;
+
+    private final long[] serials;
+
+    private final long[] revocationDates;
+
+    private final byte[] reasons;
+
+    private final BigInteger[] largeSerials;
+
+    private final long[] largeRevocationDates;
+
+    private final byte[] largeReasons;
+
+    private CompactX509CRL(final X500Principal issuer, final long thisUpdateTime, final Long nextUpdateTime,
+                           final BigInteger crlNumber, final BigInteger deltaBaseCrlNumber,
+                           final List<String> freshestCrlLocations,
+                           final SortedMap<BigInteger, CompactX509CRLEntry> entries) {
+        this.issuer = issuer;
+        this.thisUpdateTime = thisUpdateTime;
+        this.nextUpdateTime = nextUpdateTime;
+        this.crlNumber = crlNumber;
+        this.deltaBaseCrlNumber = deltaBaseCrlNumber;
+        this.freshestCrlLocations = freshestCrlLocations;
+
+        val small = entries.values().stream().filter(e -> e.getSerialNumber().bitLength() < Long.SIZE).toArray(CompactX509CRLEntry[]::new);
+        val large = entries.values().stream().filter(e -> e.getSerialNumber().bitLength() >= Long.SIZE).toArray(CompactX509CRLEntry[]::new);
+
+        this.serials = new long[small.length];
+        this.revocationDates = new long[small.length];
+        this.reasons = new byte[small.length];
+        for (var i = 0; i < small.length; i++) {
+            this.serials[i] = small[i].getSerialNumber().longValue();
+            this.revocationDates[i] = small[i].getRevocationTime();
+            this.reasons[i] = small[i].getReasonCode();
+        }
+
+        this.largeSerials = new BigInteger[large.length];
+        this.largeRevocationDates = new long[large.length];
+        this.largeReasons = new byte[large.length];
+        for (var i = 0; i < large.length; i++) {
+            this.largeSerials[i] = large[i].getSerialNumber();
+            this.largeRevocationDates[i] = large[i].getRevocationTime();
+            this.largeReasons[i] = large[i].getReasonCode();
+        }
+    }
+
+    /**
+     * Build a compact CRL from the given CRL.
+     *
+     * @param crl the crl
+     * @return the compact crl
+     */
+    public static CompactX509CRL of(final X509CRL crl) {
+        if (crl instanceof CompactX509CRL) {
+            return (CompactX509CRL) crl;
+        }
+        val entries = new TreeMap<BigInteger, CompactX509CRLEntry>();
+        val revoked = crl.getRevokedCertificates();
+        if (revoked != null) {
+            revoked.forEach(entry -> {
+                val reason = entry.getRevocationReason();
+                entries.put(entry.getSerialNumber(), new CompactX509CRLEntry(entry.getSerialNumber(),
+                    entry.getRevocationDate().getTime(), reason == null ? NO_REASON : (byte) reason.ordinal()));
+            });
+        }
+        val nextUpdate = crl.getNextUpdate();
+        return new CompactX509CRL(crl.getIssuerX500Principal(),
+            crl.getThisUpdate().getTime(),
+            nextUpdate == null ? null : nextUpdate.getTime(),
+            readInteger(crl, Extension.cRLNumber.getId()),
+            readInteger(crl, Extension.deltaCRLIndicator.getId()),
+            readFreshestCrlLocations(crl),
+            entries);
+    }
+
+    /**
+     * Whether this is a delta CRL.
+     *
+     * @return true/false
+     */
+    public boolean isDelta() {
+        return this.deltaBaseCrlNumber != null;
+    }
+
+    /**
+     * Merge the given delta CRL into this CRL, producing a complete CRL that is current
+     * as of the delta. Entries of the delta replace those of this CRL, and entries that are
+     * marked with {@link CRLReason#REMOVE_FROM_CRL} are removed. If the delta does not apply
+     * to this CRL, this CRL is returned as is.
+     *
+     * @param delta the delta crl
+     * @return the merged crl
+     */
+    public CompactX509CRL merge(final CompactX509CRL delta) {
+        if (delta == null || !delta.isDelta() || !this.issuer.equals(delta.getIssuerX500Principal())) {
+            return this;
+        }
+        if (this.crlNumber == null || delta.getDeltaBaseCrlNumber().compareTo(this.crlNumber) > 0) {
+            LOGGER.debug("Delta CRL for [{}] requires base CRL [{}] while the available base CRL is [{}]",
+                this.issuer, delta.getDeltaBaseCrlNumber(), this.crlNumber);
+            return this;
+        }
+        if (delta.getThisUpdateTime() < this.thisUpdateTime) {
+            LOGGER.debug("Delta CRL for [{}] is older than the base CRL", this.issuer);
+            return this;
+        }
+        val entries = getEntries();
+        delta.getEntries().forEach((serial, entry) -> {
+            if (entry.getReasonCode() == CRLReason.REMOVE_FROM_CRL.ordinal()) {
+                entries.remove(serial);
+            } else {
+                entries.put(serial, entry);
+            }
+        });
+        return new CompactX509CRL(this.issuer, delta.getThisUpdateTime(), delta.getNextUpdateTime(),
+            delta.getCrlNumber(), null, this.freshestCrlLocations, entries);
+    }
+
+    /**
+     * Number of revoked certificates in this CRL.
+     *
+     * @return the count
+     */
+    public int size() {
+        return this.serials.length + this.largeSerials.length;
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        if (serialNumber.bitLength() < Long.SIZE) {
+            val index = Arrays.binarySearch(this.serials, serialNumber.longValue());
+            return index < 0 ? null : new CompactX509CRLEntry(serialNumber, this.revocationDates[index], this.reasons[index]);
+        }
+        val index = Arrays.binarySearch(this.largeSerials, serialNumber);
+        return index < 0 ? null : new CompactX509CRLEntry(serialNumber, this.largeRevocationDates[index], this.largeReasons[index]);
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        if (!this.issuer.equals(certificate.getIssuerX500Principal())) {
+            return null;
+        }
+        return getRevokedCertificate(certificate.getSerialNumber());
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate cert) {
+        return cert instanceof X509Certificate && getRevokedCertificate((X509Certificate) cert) != null;
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        if (size() == 0) {
+            return null;
+        }
+        return new HashSet<>(getEntries().values());
+    }
+
+    @Override
+    public X500Principal getIssuerX500Principal() {
+        return this.issuer;
+    }
+
+    @Override
+    public Principal getIssuerDN() {
+        return this.issuer;
+    }
+
+    @Override
+    public Date getThisUpdate() {
+        return new Date(this.thisUpdateTime);
+    }
+
+    @Override
+    public Date getNextUpdate() {
+        return this.nextUpdateTime == null ? null : new Date(this.nextUpdateTime);
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        throw new CRLException("Encoded form is not retained for compact CRLs");
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        throw new CRLException("Encoded form is not retained for compact CRLs");
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException {
+        throw new CRLException("Signature of compact CRLs cannot be verified as the encoded form is not retained");
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException {
+        throw new CRLException("Signature of compact CRLs cannot be verified as the encoded form is not retained");
+    }
+
+    @Override
+    public byte[] getSignature() {
+        return null;
+    }
+
+    @Override
+    public String getSigAlgName() {
+        return null;
+    }
+
+    @Override
+    public String getSigAlgOID() {
+        return null;
+    }
+
+    @Override
+    public byte[] getSigAlgParams() {
+        return null;
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return false;
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return null;
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return null;
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompactX509CRL(issuer=%s, thisUpdate=%s, nextUpdate=%s, crlNumber=%s, delta=%s, size=%s)",
+            this.issuer, getThisUpdate(), getNextUpdate(), this.crlNumber, isDelta(), size());
+    }
+
+    private SortedMap<BigInteger, CompactX509CRLEntry> getEntries() {
+        val entries = new TreeMap<BigInteger, CompactX509CRLEntry>();
+        for (var i = 0; i < this.serials.length; i++) {
+            val serial = BigInteger.valueOf(this.serials[i]);
+            entries.put(serial, new CompactX509CRLEntry(serial, this.revocationDates[i], this.reasons[i]));
+        }
+        for (var i = 0; i < this.largeSerials.length; i++) {
+            entries.put(this.largeSerials[i], new CompactX509CRLEntry(this.largeSerials[i], this.largeRevocationDates[i], this.largeReasons[i]));
+        }
+        return entries;
+    }
+
+    private static BigInteger readInteger(final X509CRL crl, final String oid) {
+        try {
+            val value = crl.getExtensionValue(oid);
+            if (value == null) {
+                return null;
+            }
+            return ASN1Integer.getInstance(ASN1Primitive.fromByteArray(ASN1OctetString.getInstance(value).getOctets())).getValue();
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read extension [{}] from CRL issued by [{}]", oid, crl.getIssuerX500Principal());
+            return null;
+        }
+    }
+
+    private static List<String> readFreshestCrlLocations(final X509CRL crl) {
+        try {
+            val value = crl.getExtensionValue(Extension.freshestCRL.getId());
+            if (value == null) {
+                return Collections.emptyList();
+            }
+            val points = CRLDistPoint.getInstance(ASN1Primitive.fromByteArray(ASN1OctetString.getInstance(value).getOctets()));
+            val locations = new ArrayList<String>();
+            Arrays.stream(points.getDistributionPoints())
+                .map(org.bouncycastle.asn1.x509.DistributionPoint::getDistributionPoint)
+                .filter(name -> name != null && name.getType() == DistributionPointName.FULL_NAME)
+                .flatMap(name -> Arrays.stream(GeneralNames.getInstance(name.getName()).getNames()))
+                .filter(name -> name.getTagNo() == GeneralName.uniformResourceIdentifier)
+                .forEach(name -> locations.add(DERIA5String.getInstance(name.getName()).getString()));
+            return locations;
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read freshest CRL locations from CRL issued by [{}]", crl.getIssuerX500Principal());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * A revoked certificate entry of a {@link CompactX509CRL}.
+     */
+    @Getter
+    @EqualsAndHashCode(callSuper = false, of = "serialNumber")
+    private static class CompactX509CRLEntry extends X509CRLEntry {
+        private final BigInteger serialNumber;
+
+        private final long revocationTime;
+
+        private final byte reasonCode;
+
+        CompactX509CRLEntry(final BigInteger serialNumber, final long revocationTime, final byte reasonCode) {
+            this.serialNumber = serialNumber;
+            this.revocationTime = revocationTime;
+            this.reasonCode = reasonCode;
+        }
+
+        @Override
+        public Date getRevocationDate() {
+            return new Date(this.revocationTime);
+        }
+
+        @Override
+        public CRLReason getRevocationReason() {
+            return this.reasonCode == NO_REASON ? null : CRLReason.values()[this.reasonCode];
+        }
+
+        @Override
+        public byte[] getEncoded() throws CRLException {
+            throw new CRLException("Encoded form is not retained for compact CRL entries");
+        }
+
+        @Override
+        public boolean hasExtensions() {
+            return false;
+        }
+
+        @Override
+        public boolean hasUnsupportedCriticalExtension() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getCriticalExtensionOIDs() {
+            return null;
+        }
+
+        @Override
+        public Set<String> getNonCriticalExtensionOIDs() {
+            return null;
+        }
+
+        @Override
+        public byte[] getExtensionValue(final String oid) {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CompactX509CRLEntry(serialNumber=%s, revocationDate=%s, reason=%s)",
+                this.serialNumber, getRevocationDate(), getRevocationReason());
+        }
+    }
+}
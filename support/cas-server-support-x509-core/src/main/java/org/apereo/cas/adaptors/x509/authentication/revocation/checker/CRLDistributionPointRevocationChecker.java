@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.sf.ehcache.Cache;
 import net.sf.ehcache.Element;
+import org.apereo.cas.adaptors.x509.authentication.CRLDistributionPointManager;
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
@@ -47,6 +48,7 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
     private final Cache crlCache;
     private final CRLFetcher fetcher;
     private final boolean throwOnFetchFailure;
+    private final CRLDistributionPointManager crlManager;
 
     /**
      * Creates a new instance that uses the given cache instance for CRL caching.
@@ -104,6 +106,28 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlManager = null;
+    }
+
+    /**
+     * Instantiates a new CRL distribution point revocation checker
+     * that obtains CRLs from the given manager, which prefetches them in the background.
+     *
+     * @param checkAll             the check all
+     * @param unavailableCRLPolicy the unavailable crl policy
+     * @param expiredCRLPolicy     the expired crl policy
+     * @param crlManager           the crl manager
+     * @param throwOnFetchFailure  the throw on fetch failure
+     */
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final CRLDistributionPointManager crlManager,
+                                                 final boolean throwOnFetchFailure) {
+        super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
+        this.crlCache = null;
+        this.fetcher = null;
+        this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlManager = crlManager;
     }
 
     @Override
@@ -116,9 +140,21 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.get(url);
+            val item = this.crlManager == null ? this.crlCache.get(url) : null;
 
-            if (item != null) {
+            if (this.crlManager != null) {
+                try {
+                    val crl = this.crlManager.getCRL(url);
+                    if (crl != null) {
+                        listOfLocations.add(crl);
+                    }
+                } catch (final Exception e) {
+                    LOGGER.error("Error fetching CRL at [{}]", url, e);
+                    if (this.throwOnFetchFailure) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                }
+            } else if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
                 val encodedCrl = (byte[]) item.getObjectValue();
                 val crlFetched = this.fetcher.fetch(new ByteArrayResource(encodedCrl));
@@ -159,6 +195,10 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
     @Override
     @SneakyThrows
     protected boolean addCRL(final Object id, final X509CRL crl) {
+        if (this.crlManager != null) {
+            this.crlManager.addCRL((URI) id, crl);
+            return crl != null;
+        }
         if (crl == null) {
             LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
             return this.crlCache.remove(id);
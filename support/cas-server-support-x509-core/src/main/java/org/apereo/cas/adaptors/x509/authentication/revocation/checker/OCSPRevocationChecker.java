@@ -0,0 +1,386 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.crypto.CertUtils;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DERIA5String;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.springframework.core.io.UrlResource;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Performs revocation checking by querying the OCSP responder that is named in the
+ * authority information access extension of the certificate, or a fixed responder if one is defined.
+ * Responses are cached per issuer and serial number until their {@code nextUpdate}, up to a maximum number
+ * of responses, and concurrent checks of the same certificate share a single request to the responder.
+ * <p>
+ * Building the OCSP request requires the certificate of the issuer, which is either found
+ * among the configured issuer certificates or downloaded from the CA issuers location of the
+ * authority information access extension. When the OCSP status of a certificate cannot be determined,
+ * the check is passed onto the fallback revocation checker, if any; otherwise the unavailable policy applies.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class OCSPRevocationChecker implements RevocationChecker {
+    private static final String OCSP_REQUEST_CONTENT_TYPE = "application/ocsp-request";
+
+    private static final String OCSP_RESPONSE_CONTENT_TYPE = "application/ocsp-response";
+
+    private final Cache<String, OCSPStatus> responses;
+
+    private final Map<String, CompletableFuture<OCSPStatus>> pendingRequests = new ConcurrentHashMap<>();
+
+    private final Map<X500Principal, X509Certificate> issuerCertificates = new ConcurrentHashMap<>();
+
+    /**
+     * Fixed OCSP responder; if undefined, the responder named by the certificate is used.
+     */
+    private final String responderUrl;
+
+    /**
+     * Connect and read timeout of requests to the responder.
+     */
+    private final Duration timeout;
+
+    /**
+     * How long responses that carry no {@code nextUpdate} are cached.
+     */
+    private final Duration defaultCacheDuration;
+
+    /**
+     * Policy to apply when the OCSP status is unavailable.
+     */
+    private final RevocationPolicy<Void> unavailableOCSPPolicy;
+
+    /**
+     * Checker to consult when the OCSP status is unavailable; may be null.
+     */
+    private final RevocationChecker fallbackRevocationChecker;
+
+    public OCSPRevocationChecker(final Collection<X509Certificate> issuerCertificates, final String responderUrl,
+                                 final Duration timeout, final Duration defaultCacheDuration, final int maximumCacheSize,
+                                 final RevocationPolicy<Void> unavailableOCSPPolicy,
+                                 final RevocationChecker fallbackRevocationChecker) {
+        issuerCertificates.forEach(cert -> this.issuerCertificates.put(cert.getSubjectX500Principal(), cert));
+        this.responderUrl = responderUrl;
+        this.timeout = timeout;
+        this.defaultCacheDuration = defaultCacheDuration;
+        this.responses = Caffeine.newBuilder()
+            .maximumSize(maximumCacheSize)
+            .expireAfter(new OCSPStatusExpirationPolicy())
+            .build();
+        this.unavailableOCSPPolicy = unavailableOCSPPolicy == null ? new DenyRevocationPolicy() : unavailableOCSPPolicy;
+        this.fallbackRevocationChecker = fallbackRevocationChecker;
+    }
+
+    @Override
+    public void check(final X509Certificate cert) throws GeneralSecurityException {
+        if (cert == null) {
+            throw new IllegalArgumentException("Certificate cannot be null.");
+        }
+        LOGGER.debug("Evaluating OCSP status for [{}]", CertUtils.toString(cert));
+        val status = getStatus(cert);
+        if (status == null) {
+            if (this.fallbackRevocationChecker != null) {
+                LOGGER.debug("OCSP status is not available for [{}]. Falling back to [{}]",
+                    CertUtils.toString(cert), this.fallbackRevocationChecker.getClass().getSimpleName());
+                this.fallbackRevocationChecker.check(cert);
+                return;
+            }
+            LOGGER.warn("OCSP status is not available for [{}]", CertUtils.toString(cert));
+            this.unavailableOCSPPolicy.apply(null);
+            return;
+        }
+        if (status.isRevoked()) {
+            LOGGER.warn("OCSP responder reports [{}] as revoked", CertUtils.toString(cert));
+            throw new RevokedCertificateException(status.getRevocationDate(), cert.getSerialNumber(), status.getReason());
+        }
+        LOGGER.debug("OCSP responder reports [{}] as good", CertUtils.toString(cert));
+    }
+
+    /**
+     * Gets the OCSP status of the certificate, from the cache or from the responder.
+     *
+     * @param cert the cert
+     * @return the status, or null if it is unavailable
+     */
+    protected OCSPStatus getStatus(final X509Certificate cert) {
+        val key = cert.getIssuerX500Principal().getName() + ':' + cert.getSerialNumber();
+        val cached = getCachedStatus(key);
+        if (cached != null) {
+            return cached;
+        }
+        val request = new CompletableFuture<OCSPStatus>();
+        val pending = this.pendingRequests.putIfAbsent(key, request);
+        if (pending != null) {
+            LOGGER.trace("Waiting for pending OCSP request for [{}]", key);
+            return pending.join();
+        }
+        var status = (OCSPStatus) null;
+        try {
+            status = getCachedStatus(key);
+            if (status == null) {
+                status = query(cert);
+                if (status != null) {
+                    this.responses.put(key, status);
+                }
+            }
+            return status;
+        } finally {
+            this.pendingRequests.remove(key, request);
+            request.complete(status);
+        }
+    }
+
+    private OCSPStatus getCachedStatus(final String key) {
+        val status = this.responses.getIfPresent(key);
+        if (status != null && !status.isExpired()) {
+            LOGGER.trace("Found cached OCSP status for [{}]", key);
+            return status;
+        }
+        return null;
+    }
+
+    private OCSPStatus query(final X509Certificate cert) {
+        try {
+            val issuer = getIssuerCertificate(cert);
+            if (issuer == null) {
+                LOGGER.warn("Unable to locate issuer certificate for [{}]", CertUtils.toString(cert));
+                return null;
+            }
+            val url = StringUtils.defaultIfBlank(this.responderUrl, getAccessLocation(cert, AccessDescription.id_ad_ocsp));
+            if (StringUtils.isBlank(url)) {
+                LOGGER.debug("No OCSP responder is defined for [{}]", CertUtils.toString(cert));
+                return null;
+            }
+
+            val digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+            val certificateId = new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer), cert.getSerialNumber());
+            val request = new OCSPReqBuilder().addRequest(certificateId).build();
+
+            LOGGER.debug("Querying OCSP responder [{}] for [{}]", url, CertUtils.toString(cert));
+            val response = new OCSPResp(post(url, request.getEncoded()));
+            if (response.getStatus() != OCSPResp.SUCCESSFUL) {
+                LOGGER.warn("OCSP responder [{}] returned status [{}]", url, response.getStatus());
+                return null;
+            }
+            val basicResponse = (BasicOCSPResp) response.getResponseObject();
+            if (!isSignatureValid(basicResponse, issuer)) {
+                LOGGER.warn("OCSP response from [{}] is not signed by the issuer of [{}] or its delegated responder", url, CertUtils.toString(cert));
+                return null;
+            }
+            val now = new Date();
+            for (val single : basicResponse.getResponses()) {
+                if (!certificateId.equals(single.getCertID())) {
+                    continue;
+                }
+                val nextUpdate = single.getNextUpdate();
+                if (nextUpdate != null && nextUpdate.before(now)) {
+                    LOGGER.warn("OCSP response from [{}] expired on [{}]", url, nextUpdate);
+                    return null;
+                }
+                val expiresAt = nextUpdate != null ? nextUpdate.getTime() : now.getTime() + this.defaultCacheDuration.toMillis();
+                val status = single.getCertStatus();
+                if (status == CertificateStatus.GOOD) {
+                    return new OCSPStatus(false, null, null, expiresAt);
+                }
+                if (status instanceof RevokedStatus) {
+                    val revoked = (RevokedStatus) status;
+                    val reason = revoked.hasRevocationReason()
+                        && revoked.getRevocationReason() < RevokedCertificateException.Reason.values().length
+                        ? RevokedCertificateException.Reason.fromCode(revoked.getRevocationReason())
+                        : null;
+                    return new OCSPStatus(true, DateTimeUtils.zonedDateTimeOf(revoked.getRevocationTime()), reason, expiresAt);
+                }
+                LOGGER.warn("OCSP responder [{}] does not know the status of [{}]", url, CertUtils.toString(cert));
+                return null;
+            }
+            LOGGER.warn("OCSP response from [{}] does not cover [{}]", url, CertUtils.toString(cert));
+        } catch (final Exception e) {
+            LOGGER.error("Error querying OCSP status of [{}]: [{}]", CertUtils.toString(cert), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private X509Certificate getIssuerCertificate(final X509Certificate cert) throws Exception {
+        val principal = cert.getIssuerX500Principal();
+        val known = this.issuerCertificates.get(principal);
+        if (known != null) {
+            return known;
+        }
+        val location = getAccessLocation(cert, AccessDescription.id_ad_caIssuers);
+        if (StringUtils.isBlank(location)) {
+            return null;
+        }
+        LOGGER.debug("Fetching issuer certificate of [{}] from [{}]", CertUtils.toString(cert), location);
+        val issuer = CertUtils.readCertificate(new UrlResource(location));
+        cert.verify(issuer.getPublicKey());
+        this.issuerCertificates.put(principal, issuer);
+        return issuer;
+    }
+
+    private boolean isSignatureValid(final BasicOCSPResp response, final X509Certificate issuer) {
+        try {
+            val verifierBuilder = new JcaContentVerifierProviderBuilder();
+            if (response.isSignatureValid(verifierBuilder.build(issuer.getPublicKey()))) {
+                return true;
+            }
+            val issuerVerifier = verifierBuilder.build(issuer.getPublicKey());
+            val now = new Date();
+            for (val responder : response.getCerts()) {
+                if (isDelegatedResponder(responder, now)
+                    && responder.isSignatureValid(issuerVerifier)
+                    && response.isSignatureValid(verifierBuilder.build(responder))) {
+                    return true;
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return false;
+    }
+
+    private static boolean isDelegatedResponder(final X509CertificateHolder responder, final Date now) {
+        if (!responder.isValidOn(now) || responder.getExtensions() == null) {
+            return false;
+        }
+        val usage = ExtendedKeyUsage.fromExtensions(responder.getExtensions());
+        return usage != null && usage.hasKeyPurposeId(KeyPurposeId.id_kp_OCSPSigning);
+    }
+
+    private static String getAccessLocation(final X509Certificate cert, final ASN1ObjectIdentifier accessMethod) {
+        val value = cert.getExtensionValue(Extension.authorityInfoAccess.getId());
+        if (value == null) {
+            return null;
+        }
+        try {
+            val access = AuthorityInformationAccess.getInstance(ASN1Primitive.fromByteArray(ASN1OctetString.getInstance(value).getOctets()));
+            val locations = new ArrayList<String>();
+            for (val description : access.getAccessDescriptions()) {
+                val location = description.getAccessLocation();
+                if (accessMethod.equals(description.getAccessMethod()) && location.getTagNo() == GeneralName.uniformResourceIdentifier) {
+                    locations.add(DERIA5String.getInstance(location.getName()).getString());
+                }
+            }
+            return locations.stream().filter(location -> location.startsWith("http")).findFirst().orElse(null);
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read authority information access extension of [{}]", CertUtils.toString(cert));
+            return null;
+        }
+    }
+
+    private byte[] post(final String url, final byte[] body) throws IOException {
+        val connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout((int) this.timeout.toMillis());
+            connection.setReadTimeout((int) this.timeout.toMillis());
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", OCSP_REQUEST_CONTENT_TYPE);
+            connection.setRequestProperty("Accept", OCSP_RESPONSE_CONTENT_TYPE);
+            try (val out = connection.getOutputStream()) {
+                out.write(body);
+            }
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new IOException("OCSP responder returned HTTP status " + connection.getResponseCode());
+            }
+            try (val in = connection.getInputStream()) {
+                return IOUtils.toByteArray(in);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Expires cached statuses once they should no longer be trusted,
+     * i.e. at their {@code nextUpdate} or after the default cache duration.
+     */
+    private static class OCSPStatusExpirationPolicy implements Expiry<String, OCSPStatus> {
+        @Override
+        public long expireAfterCreate(final String key, final OCSPStatus value, final long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final OCSPStatus value, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final OCSPStatus value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * The OCSP status of a certificate.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    protected static class OCSPStatus {
+        private final boolean revoked;
+
+        private final ZonedDateTime revocationDate;
+
+        private final RevokedCertificateException.Reason reason;
+
+        private final long expiresAt;
+
+        /**
+         * Whether the status should no longer be trusted.
+         *
+         * @return true/false
+         */
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= this.expiresAt;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package org.apereo.cas;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apereo.cas.adaptors.x509.authentication.handler.support.CRLDistributionPointManagerTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.CRLDistributionPointRevocationCheckerTests;
+import org.apereo.cas.adaptors.x509.authentication.handler.support.OCSPRevocationCheckerTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.ResourceCRLRevocationCheckerTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.ThresholdExpiredCRLRevocationPolicyTests;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.X509CredentialsAuthenticationHandlerTests;
@@ -32,7 +34,9 @@ import org.junit.runners.Suite;
     ResourceCRLRevocationCheckerTests.class,
     ThresholdExpiredCRLRevocationPolicyTests.class,
     X509CredentialsAuthenticationHandlerTests.class,
-    CRLDistributionPointRevocationCheckerTests.class})
+    CRLDistributionPointRevocationCheckerTests.class,
+    CRLDistributionPointManagerTests.class,
+    OCSPRevocationCheckerTests.class})
 @Slf4j
 public class AllTestsSuite {
 }
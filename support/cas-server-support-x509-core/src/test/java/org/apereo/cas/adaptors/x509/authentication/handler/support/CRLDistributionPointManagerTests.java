@@ -0,0 +1,105 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import lombok.val;
+import org.apereo.cas.adaptors.x509.authentication.CRLDistributionPointManager;
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.CompactX509CRL;
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.util.crypto.CertUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CRLDistributionPointManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class CRLDistributionPointManagerTests {
+    private static final URI LOCATION = URI.create("http://localhost:8085/userCA.crl");
+
+    private static final String DELTA_LOCATION = "http://localhost:8085/userCA-delta.crl";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static X509CRL getCRL(final String name) throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource(name));
+    }
+
+    private static X509CRL newCRL(final KeyPair keyPair, final long crlNumber, final Long deltaBaseCrlNumber,
+                                  final long serial, final int reason,
+                                  final long otherSerial, final int otherReason) throws Exception {
+        val now = new Date();
+        val builder = new X509v2CRLBuilder(new X500Name("CN=Test CA"), now);
+        builder.setNextUpdate(new Date(now.getTime() + TimeUnit.DAYS.toMillis(1)));
+        builder.addExtension(Extension.cRLNumber, false, new CRLNumber(BigInteger.valueOf(crlNumber)));
+        if (deltaBaseCrlNumber == null) {
+            val name = new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, DELTA_LOCATION));
+            builder.addExtension(Extension.freshestCRL, false,
+                new CRLDistPoint(new DistributionPoint[]{new DistributionPoint(new DistributionPointName(name), null, null)}));
+        } else {
+            builder.addExtension(Extension.deltaCRLIndicator, true, new CRLNumber(BigInteger.valueOf(deltaBaseCrlNumber)));
+        }
+        builder.addCRLEntry(BigInteger.valueOf(serial), now, reason);
+        builder.addCRLEntry(BigInteger.valueOf(otherSerial), now, otherReason);
+        val signer = new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate());
+        return new JcaX509CRLConverter().getCRL(builder.build(signer));
+    }
+
+    @Test
+    public void verifyCompactCRLMatchesFullCRL() throws Exception {
+        val crl = getCRL("userCA-valid.crl");
+        val compact = CompactX509CRL.of(crl);
+        val revoked = CertUtils.readCertificate(new ClassPathResource("user-revoked.crt"));
+        val valid = CertUtils.readCertificate(new ClassPathResource("user-valid.crt"));
+
+        assertNotNull(crl.getRevokedCertificate(revoked));
+        assertEquals(crl.getRevokedCertificate(revoked).getSerialNumber(), compact.getRevokedCertificate(revoked).getSerialNumber());
+        assertNull(compact.getRevokedCertificate(valid));
+        assertEquals(crl.getRevokedCertificates().size(), compact.size());
+        assertEquals(crl.getNextUpdate(), compact.getNextUpdate());
+        assertFalse(compact.isDelta());
+    }
+
+    @Test
+    public void verifyCRLFetchedOnce() throws Exception {
+        val crl = getCRL("userCA-valid.crl");
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(LOCATION)).thenReturn(crl);
+
+        val manager = new CRLDistributionPointManager(fetcher, Duration.ZERO, Duration.ofMinutes(5), null);
+        assertNotNull(manager.getCRL(LOCATION));
+        assertNotNull(manager.getCRL(LOCATION));
+        manager.refresh();
+        verify(fetcher, times(1)).fetch(LOCATION);
+    }
+
+    @Test
+    public void verifyStoredCRLLoadedOnStartup() throws Exception {
+        val crl = getCRL("userCA-valid.crl");
+        val directory = this.temporaryFolder.newFolder();
+        val fetcher = mock(CRLFetcher.class);
+        when(fetcher.fetch(LOCATION)).thenReturn(crl);
+        new CRLDistributionPointManager(fetcher, Duration.ZERO, Duration.ofMinutes(5), directory).getCRL(LOCATION);
+
+        val restarted = mock(CRLFetcher.class);
+        val manager = new CRLDistributionPointManager(restarted, Duration.ZERO, Duration.ofMinutes(5), directory);
+        try {
+            manager.init();
+            assertEquals(CompactX509CRL.of(crl), manager.getCRL(LOCATION));
+            verify(restarted, never()).fetch(LOCATION);
+        } finally {
+            manager.shutdown();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import lombok.val;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.util.MockWebServer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.jcajce.JcaBasicOCSPRespBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigInteger;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link OCSPRevocationCheckerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+public class OCSPRevocationCheckerTests {
+    private static final int PORT = 8094;
+
+    private static final int CONCURRENT_CHECKS = 4;
+
+    private static final String RESPONDER_URL = "http://localhost:" + PORT + "/ocsp";
+
+    private final KeyPair caKeyPair;
+
+    private final X509Certificate caCertificate;
+
+    private final X509Certificate userCertificate;
+
+    public OCSPRevocationCheckerTests() throws Exception {
+        val generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        this.caKeyPair = generator.generateKeyPair();
+        this.caCertificate = newCertificate("CN=OCSP Test CA", this.caKeyPair, BigInteger.ONE, true);
+        this.userCertificate = newCertificate("CN=OCSP Test User", generator.generateKeyPair(), BigInteger.valueOf(42), false);
+    }
+
+    @Test
+    public void verifyGoodCertificate() throws Exception {
+        val checker = newChecker(null);
+        try (val server = newResponder(CertificateStatus.GOOD)) {
+            server.start();
+            checker.check(this.userCertificate);
+        }
+    }
+
+    @Test
+    public void verifyRevokedCertificate() throws Exception {
+        val checker = newChecker(null);
+        try (val server = newResponder(new RevokedStatus(new Date(), 1))) {
+            server.start();
+            checker.check(this.userCertificate);
+            fail("Certificate should have been reported as revoked");
+        } catch (final RevokedCertificateException e) {
+            assertEquals(this.userCertificate.getSerialNumber(), e.getSerial());
+            assertEquals(RevokedCertificateException.Reason.KeyCompromise, e.getReason());
+        }
+    }
+
+    @Test
+    public void verifyResponseIsCached() throws Exception {
+        val checker = newChecker(null);
+        try (val server = newResponder(CertificateStatus.GOOD)) {
+            server.start();
+            checker.check(this.userCertificate);
+        }
+        checker.check(this.userCertificate);
+    }
+
+    @Test
+    public void verifyConcurrentChecksShareOneRequest() throws Exception {
+        val checker = newChecker(null);
+        val response = newResponse(CertificateStatus.GOOD);
+        val requests = new AtomicInteger();
+        val executor = Executors.newFixedThreadPool(CONCURRENT_CHECKS);
+        try (val server = new MockWebServer(PORT, (Function<Socket, Object>) socket -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(500);
+                val out = socket.getOutputStream();
+                out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/ocsp-response\r\nContent-Length: "
+                    + response.length + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                out.write(response);
+            } catch (final Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        })) {
+            server.start();
+            val start = new CountDownLatch(1);
+            val checks = new ArrayList<Future<Object>>();
+            for (var i = 0; i < CONCURRENT_CHECKS; i++) {
+                checks.add(executor.submit(() -> {
+                    start.await();
+                    checker.check(this.userCertificate);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (val check : checks) {
+                check.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, requests.get());
+    }
+
+    @Test(expected = GeneralSecurityException.class)
+    public void verifyUnavailableStatusDenied() throws Exception {
+        newChecker(null).check(this.userCertificate);
+    }
+
+    @Test
+    public void verifyUnavailableStatusFallsBack() throws Exception {
+        val fallback = mock(RevocationChecker.class);
+        newChecker(fallback).check(this.userCertificate);
+        verify(fallback).check(this.userCertificate);
+    }
+
+    @Test
+    public void verifyUnavailableStatusAllowed() throws Exception {
+        new OCSPRevocationChecker(Collections.singletonList(this.caCertificate), null,
+            Duration.ofSeconds(1), Duration.ofMinutes(5), 100, new AllowRevocationPolicy(), null)
+            .check(this.userCertificate);
+    }
+
+    private OCSPRevocationChecker newChecker(final RevocationChecker fallback) {
+        return new OCSPRevocationChecker(Collections.singletonList(this.caCertificate), null,
+            Duration.ofSeconds(1), Duration.ofMinutes(5), 100, new DenyRevocationPolicy(), fallback);
+    }
+
+    private MockWebServer newResponder(final CertificateStatus status) throws Exception {
+        return new MockWebServer(PORT, new ByteArrayResource(newResponse(status)), "application/ocsp-response");
+    }
+
+    private byte[] newResponse(final CertificateStatus status) throws Exception {
+        val digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+        val certificateId = new CertificateID(digestCalculator,
+            new JcaX509CertificateHolder(this.caCertificate), this.userCertificate.getSerialNumber());
+        val now = new Date();
+        val basicResponse = new JcaBasicOCSPRespBuilder(this.caKeyPair.getPublic(), digestCalculator)
+            .addResponse(certificateId, status, now, new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+            .build(new JcaContentSignerBuilder("SHA256withRSA").build(this.caKeyPair.getPrivate()),
+                new X509CertificateHolder[0], now);
+        return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicResponse).getEncoded();
+    }
+
+    private X509Certificate newCertificate(final String subject, final KeyPair keyPair,
+                                           final BigInteger serial, final boolean ca) throws Exception {
+        val now = System.currentTimeMillis();
+        val builder = new JcaX509v3CertificateBuilder(new X500Name("CN=OCSP Test CA"), serial,
+            new Date(now - TimeUnit.DAYS.toMillis(1)), new Date(now + TimeUnit.DAYS.toMillis(1)),
+            new X500Name(subject), keyPair.getPublic());
+        if (ca) {
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+        } else {
+            builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+                new AccessDescription(AccessDescription.id_ad_ocsp,
+                    new GeneralName(GeneralName.uniformResourceIdentifier, RESPONDER_URL))));
+        }
+        val signer = new JcaContentSignerBuilder("SHA256withRSA").build(this.caKeyPair.getPrivate());
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+}
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.sf.ehcache.Cache;
 import org.apache.commons.lang3.StringUtils;
+import org.apereo.cas.adaptors.x509.authentication.CRLDistributionPointManager;
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.X509CredentialsAuthenticationHandler;
@@ -16,6 +17,7 @@ import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectDNPrinci
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectPrincipalResolver;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.NoOpRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.ResourceCRLRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
@@ -29,9 +31,11 @@ import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.model.support.x509.X509Properties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.RegexUtils;
+import org.apereo.cas.util.crypto.CertUtils;
 import org.apereo.services.persondir.IPersonAttributeDao;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -40,8 +44,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.ResourceLoader;
 
+import java.io.File;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -92,6 +98,14 @@ public class X509AuthenticationConfiguration {
     @Bean
     public RevocationChecker crlDistributionPointRevocationChecker() {
         val x509 = casProperties.getAuthn().getX509();
+        if (x509.getCrlPrefetch().isEnabled()) {
+            return new CRLDistributionPointRevocationChecker(
+                x509.isCheckAll(),
+                getRevocationPolicy(x509.getCrlUnavailablePolicy()),
+                getRevocationPolicy(x509.getCrlExpiredPolicy()),
+                crlDistributionPointManager(),
+                x509.isThrowOnFetchFailure());
+        }
         val cache = new Cache("CRL".concat(UUID.randomUUID().toString()),
             x509.getCacheMaxElementsInMemory(),
             x509.isCacheDiskOverflow(),
@@ -108,6 +122,37 @@ public class X509AuthenticationConfiguration {
             x509.isThrowOnFetchFailure());
     }
 
+    @Lazy
+    @Bean
+    public CRLDistributionPointManager crlDistributionPointManager() {
+        val prefetch = casProperties.getAuthn().getX509().getCrlPrefetch();
+        val storageDirectory = StringUtils.isNotBlank(prefetch.getStorageDirectory())
+            ? new File(prefetch.getStorageDirectory())
+            : null;
+        return new CRLDistributionPointManager(crlFetcher(),
+            Beans.newDuration(prefetch.getLeadTime()),
+            Beans.newDuration(prefetch.getRefreshInterval()),
+            storageDirectory);
+    }
+
+    @Bean
+    public RevocationChecker ocspRevocationChecker() {
+        val ocsp = casProperties.getAuthn().getX509().getOcsp();
+        val issuerCertificates = ocsp.getIssuerCertificates()
+            .stream()
+            .map(s -> CertUtils.readCertificate(this.resourceLoader.getResource(s)))
+            .collect(Collectors.toList());
+
+        return new OCSPRevocationChecker(
+            issuerCertificates,
+            ocsp.getResponderUrl(),
+            Beans.newDuration(ocsp.getTimeout()),
+            Beans.newDuration(ocsp.getDefaultCacheDuration()),
+            ocsp.getMaximumCacheSize(),
+            getRevocationPolicy(ocsp.getUnavailablePolicy()),
+            getRevocationCheckerFrom(ocsp.getFallbackRevocationChecker(), null));
+    }
+
     @Bean
     public RevocationChecker noOpRevocationChecker() {
         return new NoOpRevocationChecker();
@@ -183,13 +228,21 @@ public class X509AuthenticationConfiguration {
 
     private RevocationChecker getRevocationCheckerFrom(final X509Properties x509) {
         val checker = x509.getRevocationChecker().trim().toLowerCase();
+        if ("ocsp".equals(checker)) {
+            return ocspRevocationChecker();
+        }
+        return getRevocationCheckerFrom(checker, noOpRevocationChecker());
+    }
+
+    private RevocationChecker getRevocationCheckerFrom(final String type, final RevocationChecker defaultChecker) {
+        val checker = type.trim().toLowerCase();
         if ("resource".equals(checker)) {
             return resourceCrlRevocationChecker();
         }
         if ("crl".equals(checker)) {
             return crlDistributionPointRevocationChecker();
         }
-        return noOpRevocationChecker();
+        return defaultChecker;
     }
 
     @Bean
@@ -4,6 +4,7 @@ import lombok.val;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.ServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryExecutionPlan;
@@ -20,6 +21,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.File;
+
 /**
  * This is {@link YamlServiceRegistryConfiguration}.
  *
@@ -50,9 +53,15 @@ public class YamlServiceRegistryConfiguration implements ServiceRegistryExecutio
     @SneakyThrows
     public ServiceRegistry yamlServiceRegistry() {
         val registry = casProperties.getServiceRegistry();
-        return new YamlServiceRegistry(registry.getYaml().getLocation(),
+        val properties = registry.getYaml();
+        val serviceRegistry = new YamlServiceRegistry(properties.getLocation(),
             registry.isWatcherEnabled(), eventPublisher,
             registeredServiceReplicationStrategy, resourceNamingStrategy);
+        serviceRegistry.setLoadThreads(properties.getLoadThreads());
+        if (StringUtils.isNotBlank(properties.getSnapshotLocation())) {
+            serviceRegistry.setSnapshotFile(new File(properties.getSnapshotLocation()));
+        }
+        return serviceRegistry;
     }
 
     @Override
@@ -13,6 +13,7 @@ import org.apereo.cas.services.web.support.RegisteredServiceResponseHeadersEnfor
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.AuthenticationCredentialsThreadLocalBinderClearingFilter;
+import org.apereo.cas.web.support.RequestScopedLookupContextFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -152,6 +153,17 @@ public class CasFiltersConfiguration {
         return bean;
     }
 
+    @ConditionalOnProperty(prefix = "cas.httpWebRequest", name = "requestScopedLookups", havingValue = "true")
+    @Bean
+    public FilterRegistrationBean requestScopedLookupContextFilter() {
+        val bean = new FilterRegistrationBean();
+        bean.setFilter(new RequestScopedLookupContextFilter());
+        bean.setUrlPatterns(CollectionUtils.wrap("/*"));
+        bean.setName("requestScopedLookupContextFilter");
+        bean.setAsyncSupported(true);
+        return bean;
+    }
+
     @Bean
     public FilterRegistrationBean currentCredentialsAndAuthenticationClearingFilter() {
         val bean = new FilterRegistrationBean();
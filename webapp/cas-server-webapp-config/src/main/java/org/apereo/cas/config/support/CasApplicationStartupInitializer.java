@@ -0,0 +1,64 @@
+package org.apereo.cas.config.support;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.configuration.model.core.startup.StartupProperties;
+import org.apereo.cas.util.spring.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.apereo.cas.util.spring.boot.StartupTimingBeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link CasApplicationStartupInitializer} that prepares the application context
+ * for startup profiling and, when enabled, lazy initialization of beans that belong to optional modules.
+ * Settings are bound directly from the environment, since they must be applied before any bean is created.
+ *
+ * @author Misagh Moayyed
+ * @since 6.0.0
+ */
+@Slf4j
+public class CasApplicationStartupInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    /**
+     * Bean name under which the startup timing recorder is registered.
+     */
+    public static final String BEAN_NAME_STARTUP_TIMING = "casStartupTimingBeanPostProcessor";
+
+    /**
+     * Name of the property source that is only present in the bootstrap context of Spring Cloud.
+     */
+    private static final String BOOTSTRAP_PROPERTY_SOURCE_NAME = "bootstrap";
+
+    @Override
+    public void initialize(final ConfigurableApplicationContext ctx) {
+        val environment = ctx.getEnvironment();
+        if (environment.getPropertySources().contains(BOOTSTRAP_PROPERTY_SOURCE_NAME)) {
+            LOGGER.trace("Skipping startup profiling for the bootstrap application context");
+            return;
+        }
+        val properties = Binder.get(environment)
+            .bind("cas.startup", StartupProperties.class)
+            .orElseGet(StartupProperties::new);
+
+        val beanFactory = ctx.getBeanFactory();
+        val timing = properties.getTiming();
+        if (timing.isEnabled()) {
+            val recorder = new StartupTimingBeanPostProcessor(beanFactory, timing.getSummarySize());
+            beanFactory.addBeanPostProcessor(recorder);
+            beanFactory.registerSingleton(BEAN_NAME_STARTUP_TIMING, recorder);
+            ctx.addApplicationListener(recorder);
+        }
+
+        val lazy = properties.getLazyInitialization();
+        if (lazy.isEnabled()) {
+            LOGGER.info("Beans of optional modules matching [{}] will be initialized lazily, except for [{}]",
+                lazy.getConfigurationClasses(), lazy.getEagerBeans());
+            ctx.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor(
+                lazy.getConfigurationClasses().stream().map(Pattern::compile).collect(Collectors.toList()),
+                lazy.getEagerBeans().stream().map(Pattern::compile).collect(Collectors.toList())));
+        }
+    }
+}